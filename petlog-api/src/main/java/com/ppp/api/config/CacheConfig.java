@@ -1,33 +1,81 @@
 package com.ppp.api.config;
 
-import org.springframework.cache.CacheManager;
+import com.ppp.api.config.cache.CacheInvalidationPublisher;
+import com.ppp.api.config.cache.LayeredCacheManager;
+import com.ppp.api.config.cache.LocalCacheSpec;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import static com.ppp.domain.common.constant.CacheValue.*;
 
 @EnableCaching
 @Configuration
 public class CacheConfig {
+    private static final String CACHE_INVALIDATION_CHANNEL = "cache-invalidation";
+    private static final LocalCacheSpec DEFAULT_LOCAL_CACHE_SPEC = LocalCacheSpec.of(10_000, Duration.ofSeconds(30));
+    private static final int CACHE_REFRESH_POOL_SIZE = 2;
+    private static final int CACHE_REFRESH_QUEUE_CAPACITY = 100;
+
+    @Bean
+    public LayeredCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                            CacheInvalidationPublisher cacheInvalidationPublisher,
+                                            MeterRegistry meterRegistry) {
+        return new LayeredCacheManager(redisCacheManager(redisConnectionFactory), localCacheSpecMap(),
+                DEFAULT_LOCAL_CACHE_SPEC, cacheRefreshExecutor(), cacheInvalidationPublisher, meterRegistry);
+    }
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationPublisher(stringRedisTemplate, CACHE_INVALIDATION_CHANNEL);
+    }
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
-        return RedisCacheManager.RedisCacheManagerBuilder
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            LayeredCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(CACHE_INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    // @Async 기본 실행기와 섞이지 않도록 빈으로 등록하지 않는다.
+    private Executor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(CACHE_REFRESH_POOL_SIZE);
+        executor.setMaxPoolSize(CACHE_REFRESH_POOL_SIZE);
+        executor.setQueueCapacity(CACHE_REFRESH_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory) {
+        RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder
                 .fromConnectionFactory(redisConnectionFactory)
                 .cacheDefaults(defaultRedisCacheConfiguration()
                         .entryTtl(Duration.ofMinutes(60)))
                 .withInitialCacheConfigurations(redisCacheConfigurationMap())
                 .build();
+        redisCacheManager.initializeCaches();
+        return redisCacheManager;
     }
 
     private RedisCacheConfiguration defaultRedisCacheConfiguration() {
@@ -58,9 +106,30 @@ public class CacheConfig {
                 defaultRedisCacheConfiguration().entryTtl(Duration.ofSeconds(70)));
         cacheConfigurationMap.put(SUBSCRIPTION_INFO.getValue(),
                 defaultRedisCacheConfiguration().entryTtl(Duration.ofMinutes(5)));
-        cacheConfigurationMap.put(TOTAL_PUBLIC_DIARY_COUNT.getValue(),
+        cacheConfigurationMap.put(DIARY_VERSION.getValue(),
+                defaultRedisCacheConfiguration().entryTtl(Duration.ofDays(1)));
+        cacheConfigurationMap.put(PET_DIARY_VERSION.getValue(),
+                defaultRedisCacheConfiguration().entryTtl(Duration.ofDays(1)));
+        cacheConfigurationMap.put(GUARDIAN_ROSTER.getValue(),
+                defaultRedisCacheConfiguration().entryTtl(Duration.ofMinutes(60)));
+        cacheConfigurationMap.put(PET_AUTHORITY_VERSION.getValue(),
+                defaultRedisCacheConfiguration().entryTtl(Duration.ofDays(1)));
+        cacheConfigurationMap.put(PET_AUTHORITY.getValue(),
                 defaultRedisCacheConfiguration().entryTtl(Duration.ofMinutes(30)));
         return cacheConfigurationMap;
     }
 
+    private Map<String, LocalCacheSpec> localCacheSpecMap() {
+        Map<String, LocalCacheSpec> localCacheSpecMap = new HashMap<>();
+        localCacheSpecMap.put(PET_SPACE_AUTHORITY.getValue(), LocalCacheSpec.of(20_000, Duration.ofMinutes(1)));
+        localCacheSpecMap.put(DIARY_ACCESS_AUTHORITY.getValue(), LocalCacheSpec.of(20_000, Duration.ofSeconds(10)));
+        localCacheSpecMap.put(SUBSCRIPTION_INFO.getValue(), LocalCacheSpec.of(10_000, Duration.ofSeconds(30)));
+        localCacheSpecMap.put(DIARY_MOST_USED_TERMS.getValue(), LocalCacheSpec.of(100, Duration.ofMinutes(5)));
+        localCacheSpecMap.put(DIARY_VERSION.getValue(), LocalCacheSpec.of(20_000, Duration.ofMinutes(1)));
+        localCacheSpecMap.put(PET_DIARY_VERSION.getValue(), LocalCacheSpec.of(10_000, Duration.ofMinutes(1)));
+        localCacheSpecMap.put(GUARDIAN_ROSTER.getValue(), LocalCacheSpec.of(10_000, Duration.ofMinutes(5)));
+        localCacheSpecMap.put(PET_AUTHORITY_VERSION.getValue(), LocalCacheSpec.of(20_000, Duration.ofMinutes(1)));
+        localCacheSpecMap.put(PET_AUTHORITY.getValue(), LocalCacheSpec.of(20_000, Duration.ofMinutes(5)));
+        return localCacheSpecMap;
+    }
 }
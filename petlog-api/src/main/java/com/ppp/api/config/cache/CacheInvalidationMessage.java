@@ -0,0 +1,34 @@
+package com.ppp.api.config.cache;
+
+import java.util.Optional;
+
+public record CacheInvalidationMessage(String nodeId, Type type, String cacheName, String key) {
+    private static final String DELIMITER = "|";
+
+    public enum Type {
+        EVICT, CLEAR
+    }
+
+    public static CacheInvalidationMessage evict(String nodeId, String cacheName, String key) {
+        return new CacheInvalidationMessage(nodeId, Type.EVICT, cacheName, key);
+    }
+
+    public static CacheInvalidationMessage clear(String nodeId, String cacheName) {
+        return new CacheInvalidationMessage(nodeId, Type.CLEAR, cacheName, "");
+    }
+
+    public String serialize() {
+        return String.join(DELIMITER, nodeId, type.name(), cacheName, key);
+    }
+
+    public static Optional<CacheInvalidationMessage> deserialize(String message) {
+        String[] tokens = message.split("\\" + DELIMITER, 4);
+        if (tokens.length != 4)
+            return Optional.empty();
+        try {
+            return Optional.of(new CacheInvalidationMessage(tokens[0], Type.valueOf(tokens[1]), tokens[2], tokens[3]));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.ppp.api.config.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public void publishEvict(String cacheName, String key) {
+        redisTemplate.convertAndSend(channel, CacheInvalidationMessage.evict(nodeId, cacheName, key).serialize());
+    }
+
+    public void publishClear(String cacheName) {
+        redisTemplate.convertAndSend(channel, CacheInvalidationMessage.clear(nodeId, cacheName).serialize());
+    }
+}
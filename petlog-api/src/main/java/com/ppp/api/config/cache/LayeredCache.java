@@ -0,0 +1,306 @@
+package com.ppp.api.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.NonNull;
+
+import java.lang.reflect.Array;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Slf4j
+public class LayeredCache implements Cache {
+    private static final String LOCAL_TIER = "local";
+    private static final String REMOTE_TIER = "remote";
+    private static final double EARLY_REFRESH_BETA = 1.0;
+
+    private final String name;
+    private final Cache remoteCache;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+    private final Duration timeToLive;
+    private final Executor refreshExecutor;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final TierStatistics localStatistics = new TierStatistics();
+    private final TierStatistics remoteStatistics = new TierStatistics();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
+    private final LongAdder earlyRefreshes = new LongAdder();
+
+    public LayeredCache(String name, Cache remoteCache, LocalCacheSpec localCacheSpec, Duration timeToLive,
+                        Executor refreshExecutor, CacheInvalidationPublisher invalidationPublisher,
+                        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.remoteCache = remoteCache;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localCacheSpec.maximumSize())
+                .expireAfterWrite(localCacheSpec.expireAfterWrite())
+                .build();
+        this.timeToLive = timeToLive;
+        this.refreshExecutor = refreshExecutor;
+        this.invalidationPublisher = invalidationPublisher;
+        localStatistics.register(meterRegistry, name, LOCAL_TIER);
+        remoteStatistics.register(meterRegistry, name, REMOTE_TIER);
+        Gauge.builder("cache.layered.local.size", localCache, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .tag("cache", name)
+                .register(meterRegistry);
+        registerLoadCounter(meterRegistry, loads, "load");
+        registerLoadCounter(meterRegistry, coalescedLoads, "coalesced");
+        registerLoadCounter(meterRegistry, earlyRefreshes, "early_refresh");
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    @NonNull
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(@NonNull Object key) {
+        Object cached = lookup(key, toLocalKey(key));
+        return cached == null ? null : new SimpleValueWrapper(StampedValue.unwrap(cached));
+    }
+
+    private Object lookup(Object key, String localKey) {
+        Object localValue = localCache.getIfPresent(localKey);
+        if (localValue != null) {
+            localStatistics.hit();
+            return localValue;
+        }
+        localStatistics.miss();
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue == null || remoteValue.get() == null) {
+            remoteStatistics.miss();
+            return null;
+        }
+        remoteStatistics.hit();
+        localCache.put(localKey, remoteValue.get());
+        return remoteValue.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, Class<T> type) {
+        ValueWrapper valueWrapper = get(key);
+        if (valueWrapper == null)
+            return null;
+        Object value = valueWrapper.get();
+        if (type != null && !type.isInstance(value))
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        Object cached = lookup(key, localKey);
+        if (cached != null) {
+            if (cached instanceof StampedValue stampedValue && shouldRefreshEarly(stampedValue))
+                refreshAsync(key, localKey, valueLoader);
+            return (T) StampedValue.unwrap(cached);
+        }
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(localKey, loading);
+        if (inFlight != null) {
+            coalescedLoads.increment();
+            return (T) await(inFlight);
+        }
+        try {
+            // 앞선 로딩이 끝난 직후 들어온 경우 다시 계산하지 않는다.
+            Object value = StampedValue.unwrap(localCache.getIfPresent(localKey));
+            if (value == null)
+                value = load(key, localKey, valueLoader);
+            loading.complete(value);
+            return (T) value;
+        } catch (Throwable e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(localKey, loading);
+        }
+    }
+
+    // XFetch: 로딩 비용이 크고 만료가 가까울수록 높은 확률로 만료 전에 미리 갱신한다.
+    private boolean shouldRefreshEarly(StampedValue stampedValue) {
+        double gap = -stampedValue.loadMillis() * EARLY_REFRESH_BETA * Math.log(ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= stampedValue.expiresAt();
+    }
+
+    private void refreshAsync(Object key, String localKey, Callable<?> valueLoader) {
+        CompletableFuture<Object> refreshing = new CompletableFuture<>();
+        if (inFlightLoads.putIfAbsent(localKey, refreshing) != null)
+            return;
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refreshing.complete(load(key, localKey, valueLoader));
+                    earlyRefreshes.increment();
+                } catch (Throwable e) {
+                    log.warn("Class : {}, Method : {}, Cache : {}, Key : {}", this.getClass().getName(),
+                            "refreshAsync", name, localKey, e);
+                    refreshing.completeExceptionally(e);
+                } finally {
+                    inFlightLoads.remove(localKey, refreshing);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightLoads.remove(localKey, refreshing);
+            refreshing.completeExceptionally(e);
+        }
+    }
+
+    private Object load(Object key, String localKey, Callable<?> valueLoader) {
+        long startedAt = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        loads.increment();
+        if (value == null)
+            return null;
+        Object cached = timeToLive.isZero() || timeToLive.isNegative() ? value
+                : new StampedValue(value, (System.nanoTime() - startedAt) / 1_000_000.0,
+                System.currentTimeMillis() + timeToLive.toMillis());
+        remoteCache.put(key, cached);
+        localCache.put(localKey, cached);
+        return value;
+    }
+
+    private static Object await(CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    @Override
+    public void put(@NonNull Object key, Object value) {
+        remoteCache.put(key, value);
+        String localKey = toLocalKey(key);
+        if (value == null)
+            localCache.invalidate(localKey);
+        else
+            localCache.put(localKey, value);
+        invalidationPublisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(@NonNull Object key, Object value) {
+        ValueWrapper existingValue = remoteCache.putIfAbsent(key, value);
+        Object currentValue = existingValue == null ? value : existingValue.get();
+        if (currentValue != null)
+            localCache.put(toLocalKey(key), currentValue);
+        return existingValue == null ? null : new SimpleValueWrapper(StampedValue.unwrap(existingValue.get()));
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        remoteCache.evict(key);
+        String localKey = toLocalKey(key);
+        evictLocal(localKey);
+        invalidationPublisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(@NonNull Object key) {
+        boolean evicted = remoteCache.evictIfPresent(key);
+        String localKey = toLocalKey(key);
+        evictLocal(localKey);
+        invalidationPublisher.publishEvict(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        clearLocal();
+        invalidationPublisher.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remoteCache.invalidate();
+        clearLocal();
+        invalidationPublisher.publishClear(name);
+        return invalidated;
+    }
+
+    public void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    private void registerLoadCounter(MeterRegistry meterRegistry, LongAdder counter, String type) {
+        FunctionCounter.builder("cache.layered.loads", counter, LongAdder::sum)
+                .tags("cache", name, "type", type)
+                .register(meterRegistry);
+    }
+
+    // 로컬 캐시와 노드 간 무효화 메시지에서 쓰는 키로, 컬렉션과 배열은 원소를 콤마로 연결한다.
+    static String toLocalKey(Object key) {
+        if (key instanceof Collection<?> collection)
+            return collection.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+        if (key.getClass().isArray())
+            return IntStream.range(0, Array.getLength(key))
+                    .mapToObj(index -> String.valueOf(Array.get(key, index)))
+                    .collect(Collectors.joining(","));
+        return String.valueOf(key);
+    }
+
+    private static class TierStatistics {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        void hit() {
+            hits.increment();
+        }
+
+        void miss() {
+            misses.increment();
+        }
+
+        double hitRatio() {
+            long hitCount = hits.sum();
+            long total = hitCount + misses.sum();
+            return total == 0 ? 0 : (double) hitCount / total;
+        }
+
+        void register(MeterRegistry meterRegistry, String cacheName, String tier) {
+            FunctionCounter.builder("cache.layered.gets", hits, LongAdder::sum)
+                    .tags("cache", cacheName, "tier", tier, "result", "hit")
+                    .register(meterRegistry);
+            FunctionCounter.builder("cache.layered.gets", misses, LongAdder::sum)
+                    .tags("cache", cacheName, "tier", tier, "result", "miss")
+                    .register(meterRegistry);
+            Gauge.builder("cache.layered.hit.ratio", this, TierStatistics::hitRatio)
+                    .tags("cache", cacheName, "tier", tier)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ppp.api.config.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+@RequiredArgsConstructor
+public class LayeredCacheManager implements CacheManager, MessageListener {
+    private final CacheManager remoteCacheManager;
+    private final Map<String, LocalCacheSpec> localCacheSpecs;
+    private final LocalCacheSpec defaultLocalCacheSpec;
+    private final Executor refreshExecutor;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, LayeredCache> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public Cache getCache(@NonNull String name) {
+        LayeredCache cache = caches.get(name);
+        if (cache != null)
+            return cache;
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null)
+            return null;
+        return caches.computeIfAbsent(name, cacheName -> new LayeredCache(cacheName, remoteCache,
+                localCacheSpecs.getOrDefault(cacheName, defaultLocalCacheSpec), timeToLive(remoteCache),
+                refreshExecutor, invalidationPublisher, meterRegistry));
+    }
+
+    private static Duration timeToLive(Cache remoteCache) {
+        if (remoteCache instanceof RedisCache redisCache)
+            return redisCache.getCacheConfiguration().getTtl();
+        return Duration.ZERO;
+    }
+
+    @Override
+    @NonNull
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        CacheInvalidationMessage.deserialize(new String(message.getBody(), StandardCharsets.UTF_8))
+                .filter(invalidation -> !invalidationPublisher.getNodeId().equals(invalidation.nodeId()))
+                .ifPresent(this::invalidateLocal);
+    }
+
+    private void invalidateLocal(CacheInvalidationMessage invalidation) {
+        LayeredCache cache = caches.get(invalidation.cacheName());
+        if (cache == null)
+            return;
+        if (invalidation.type() == CacheInvalidationMessage.Type.CLEAR)
+            cache.clearLocal();
+        else
+            cache.evictLocal(invalidation.key());
+    }
+}
@@ -0,0 +1,9 @@
+package com.ppp.api.config.cache;
+
+import java.time.Duration;
+
+public record LocalCacheSpec(long maximumSize, Duration expireAfterWrite) {
+    public static LocalCacheSpec of(long maximumSize, Duration expireAfterWrite) {
+        return new LocalCacheSpec(maximumSize, expireAfterWrite);
+    }
+}
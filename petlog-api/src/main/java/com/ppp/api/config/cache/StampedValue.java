@@ -0,0 +1,8 @@
+package com.ppp.api.config.cache;
+
+// 다른 노드도 미리 갱신 여부를 판단할 수 있도록 로딩 시간과 만료 시각을 값과 함께 리모트 캐시에 저장한다.
+public record StampedValue(Object value, double loadMillis, long expiresAt) {
+    static Object unwrap(Object cached) {
+        return cached instanceof StampedValue stampedValue ? stampedValue.value() : cached;
+    }
+}
@@ -1,7 +1,9 @@
 package com.ppp.api.diary.controller;
 
 import com.ppp.api.diary.dto.request.DiaryCommentRequest;
+import com.ppp.api.diary.dto.response.DiaryCommentCursorResponse;
 import com.ppp.api.diary.dto.response.DiaryCommentResponse;
+import com.ppp.api.diary.dto.response.DiaryReCommentCursorResponse;
 import com.ppp.api.diary.dto.response.DiaryReCommentResponse;
 import com.ppp.api.diary.service.DiaryCommentService;
 import com.ppp.api.exception.ExceptionResponse;
@@ -92,6 +94,22 @@ public class DiaryCommentController {
                 .ok(diaryCommentService.displayComments(principalDetails.getUser(), petId, diaryId, page, size));
     }
 
+    @Operation(summary = "커서 기반 댓글 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = DiaryCommentCursorResponse.class))}),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서", content = {@Content(schema = @Schema(implementation = ExceptionResponse.class))}),
+            @ApiResponse(responseCode = "403", description = "기록 공간에 대한 권한 없음", content = {@Content(schema = @Schema(implementation = ExceptionResponse.class))})
+    })
+    @GetMapping(value = "/{diaryId}/comments/cursor")
+    private ResponseEntity<DiaryCommentCursorResponse> displayCommentsByCursor(@PathVariable Long petId,
+                                                                              @PathVariable Long diaryId,
+                                                                              @RequestParam(required = false) String cursor,
+                                                                              @RequestParam(defaultValue = "5") int size,
+                                                                              @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        return ResponseEntity
+                .ok(diaryCommentService.displayCommentsByCursor(principalDetails.getUser(), petId, diaryId, cursor, size));
+    }
+
     @Operation(summary = "댓글 좋아요")
     @ApiResponses({
             @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema())}),
@@ -134,4 +152,20 @@ public class DiaryCommentController {
                                                                            @AuthenticationPrincipal PrincipalDetails principalDetails) {
         return ResponseEntity.ok(diaryCommentService.displayReComments(principalDetails.getUser(), petId, diaryId, ancestorId));
     }
+
+    @Operation(summary = "커서 기반 대댓글 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = DiaryReCommentCursorResponse.class))}),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서", content = {@Content(schema = @Schema(implementation = ExceptionResponse.class))}),
+            @ApiResponse(responseCode = "403", description = "기록 공간에 대한 권한 없음", content = {@Content(schema = @Schema(implementation = ExceptionResponse.class))})
+    })
+    @GetMapping(value = "/{diaryId}/comments/{ancestorId}/recomment/cursor")
+    private ResponseEntity<DiaryReCommentCursorResponse> displayReCommentsByCursor(@PathVariable Long petId,
+                                                                                  @PathVariable Long diaryId,
+                                                                                  @PathVariable Long ancestorId,
+                                                                                  @RequestParam(required = false) String cursor,
+                                                                                  @RequestParam(defaultValue = "20") int size,
+                                                                                  @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        return ResponseEntity.ok(diaryCommentService.displayReCommentsByCursor(principalDetails.getUser(), petId, diaryId, ancestorId, cursor, size));
+    }
 }
@@ -2,6 +2,7 @@ package com.ppp.api.diary.controller;
 
 import com.ppp.api.diary.dto.request.DiaryCreateRequest;
 import com.ppp.api.diary.dto.request.DiaryUpdateRequest;
+import com.ppp.api.diary.dto.response.DiaryCursorResponse;
 import com.ppp.api.diary.dto.response.DiaryDetailResponse;
 import com.ppp.api.diary.dto.response.DiaryGroupByDateResponse;
 import com.ppp.api.diary.service.DiaryService;
@@ -26,6 +27,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -95,27 +97,61 @@ public class DiaryController {
     @Operation(summary = "일기 상세 조회")
     @ApiResponses({
             @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = DiaryDetailResponse.class))}),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 와 일치하여 변경 없음"),
             @ApiResponse(responseCode = "403", description = "기록 공간에 대한 권한 없음", content = {@Content(schema = @Schema(implementation = ExceptionResponse.class))}),
             @ApiResponse(responseCode = "404", description = "일치하는 일기 없음", content = {@Content(schema = @Schema(implementation = ExceptionResponse.class))})
     })
     @GetMapping(value = "/{diaryId}")
     private ResponseEntity<DiaryDetailResponse> displayDiary(@PathVariable Long petId,
                                                              @PathVariable Long diaryId,
-                                                             @AuthenticationPrincipal PrincipalDetails principalDetails) {
-        return ResponseEntity.ok(diaryService.displayDiary(principalDetails.getUser(), petId, diaryId));
+                                                             @AuthenticationPrincipal PrincipalDetails principalDetails,
+                                                             WebRequest webRequest) {
+        String eTag = diaryService.getDiaryETag(principalDetails.getUser(), petId, diaryId);
+        if (webRequest.checkNotModified(eTag))
+            return null;
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(diaryService.displayDiary(principalDetails.getUser(), petId, diaryId));
     }
 
     @Operation(summary = "일기 리스트 조회")
     @ApiResponses({
             @ApiResponse(responseCode = "200", content = {@Content(array = @ArraySchema(schema = @Schema(implementation = DiaryGroupByDateResponse.class)))}),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 와 일치하여 변경 없음"),
             @ApiResponse(responseCode = "403", description = "기록 공간에 대한 권한 없음", content = {@Content(schema = @Schema(implementation = ExceptionResponse.class))})
     })
     @GetMapping
     private ResponseEntity<Slice<DiaryGroupByDateResponse>> displayDiaries(@PathVariable Long petId,
                                                                            @RequestParam(defaultValue = "0") int page,
                                                                            @RequestParam(defaultValue = "5") int size,
-                                                                           @AuthenticationPrincipal PrincipalDetails principalDetails) {
-        return ResponseEntity.ok(diaryService.displayDiaries(principalDetails.getUser(), petId, page, size));
+                                                                           @AuthenticationPrincipal PrincipalDetails principalDetails,
+                                                                           WebRequest webRequest) {
+        String eTag = diaryService.getDiariesETag(principalDetails.getUser(), petId, page, size);
+        if (webRequest.checkNotModified(eTag))
+            return null;
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(diaryService.displayDiaries(principalDetails.getUser(), petId, page, size));
+    }
+
+    @Operation(summary = "커서 기반 일기 리스트 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = DiaryCursorResponse.class))}),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 와 일치하여 변경 없음"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서", content = {@Content(schema = @Schema(implementation = ExceptionResponse.class))})
+    })
+    @GetMapping("/cursor")
+    private ResponseEntity<DiaryCursorResponse> displayDiariesByCursor(@PathVariable Long petId,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(defaultValue = "5") int size,
+                                                                       @AuthenticationPrincipal PrincipalDetails principalDetails,
+                                                                       WebRequest webRequest) {
+        String eTag = diaryService.getDiariesETag(principalDetails.getUser(), petId, cursor, size);
+        if (webRequest.checkNotModified(eTag))
+            return null;
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(diaryService.displayDiariesByCursor(principalDetails.getUser(), petId, cursor, size));
     }
 
     @Operation(summary = "피드 검색 전용 일기 상세 조회")
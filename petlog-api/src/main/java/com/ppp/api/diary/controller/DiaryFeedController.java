@@ -1,5 +1,6 @@
 package com.ppp.api.diary.controller;
 
+import com.ppp.api.diary.dto.response.DiaryFeedCursorResponse;
 import com.ppp.api.diary.dto.response.DiaryFeedResponse;
 import com.ppp.api.diary.service.DiaryFeedService;
 import com.ppp.common.security.PrincipalDetails;
@@ -41,4 +42,37 @@ public class DiaryFeedController {
                                                                      @AuthenticationPrincipal PrincipalDetails principalDetails) {
         return ResponseEntity.ok(diaryFeedService.retrieveDiaryFeed(Optional.ofNullable(principalDetails), page, size));
     }
+
+    @Operation(summary = "커서 기반 랜덤 피드 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = DiaryFeedCursorResponse.class))})
+    })
+    @GetMapping("/sample")
+    private ResponseEntity<DiaryFeedCursorResponse> retrieveSampledDiaryFeed(@RequestParam(required = false) String cursor,
+                                                                             @RequestParam(defaultValue = "5") int size,
+                                                                             @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        return ResponseEntity.ok(diaryFeedService.retrieveSampledDiaryFeed(Optional.ofNullable(principalDetails), cursor, size));
+    }
+
+    @Operation(summary = "인기 피드 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = DiaryFeedCursorResponse.class))})
+    })
+    @GetMapping("/trending")
+    private ResponseEntity<DiaryFeedCursorResponse> retrieveTrendingDiaryFeed(@RequestParam(required = false) String cursor,
+                                                                              @RequestParam(defaultValue = "10") int size,
+                                                                              @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        return ResponseEntity.ok(diaryFeedService.retrieveTrendingDiaryFeed(Optional.ofNullable(principalDetails), cursor, size));
+    }
+
+    @Operation(summary = "구독 피드 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = DiaryFeedCursorResponse.class))})
+    })
+    @GetMapping("/subscriptions")
+    private ResponseEntity<DiaryFeedCursorResponse> retrieveSubscribedDiaryFeed(@RequestParam(required = false) String cursor,
+                                                                                @RequestParam(defaultValue = "10") int size,
+                                                                                @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        return ResponseEntity.ok(diaryFeedService.retrieveSubscribedDiaryFeed(principalDetails.getUser(), cursor, size));
+    }
 }
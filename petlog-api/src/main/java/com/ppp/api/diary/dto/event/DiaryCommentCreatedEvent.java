@@ -7,9 +7,11 @@ import lombok.Getter;
 public class DiaryCommentCreatedEvent {
     private long diaryId;
     private long diaryCommentId;
+    private Long petId;
 
-    public DiaryCommentCreatedEvent(DiaryComment comment) {
+    public DiaryCommentCreatedEvent(DiaryComment comment, Long petId) {
         this.diaryId = comment.getDiary().getId();
+        this.petId = petId;
         this.diaryCommentId = comment.getId();
     }
 }
@@ -8,4 +8,5 @@ import lombok.Getter;
 @AllArgsConstructor
 public class DiaryCommentDeletedEvent {
     private DiaryComment diaryComment;
+    private Long petId;
 }
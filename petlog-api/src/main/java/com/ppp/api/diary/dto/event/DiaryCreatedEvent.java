@@ -1,5 +1,6 @@
 package com.ppp.api.diary.dto.event;
 
+import com.ppp.common.service.ThumbnailSource;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -7,4 +8,6 @@ import lombok.Getter;
 @AllArgsConstructor
 public class DiaryCreatedEvent {
     private long diaryId;
+    private Long petId;
+    private ThumbnailSource thumbnailSource;
 }
@@ -12,10 +12,12 @@ import static com.ppp.domain.diary.constant.DiaryPolicy.DEFAULT_THUMBNAIL_PATH;
 @Getter
 public class DiaryDeletedEvent {
     private final long diaryId;
+    private final Long petId;
     private final List<String> deletedPaths;
 
-    public DiaryDeletedEvent(long diaryId, List<DiaryMedia> deletedDiaryMedias, String deletedThumbnailPath) {
+    public DiaryDeletedEvent(long diaryId, Long petId, List<DiaryMedia> deletedDiaryMedias, String deletedThumbnailPath) {
         this.diaryId = diaryId;
+        this.petId = petId;
         List<String> deletedPaths = new ArrayList<>(deletedDiaryMedias.stream().map(DiaryMedia::getPath).toList());
         if (deletedThumbnailPath != null && !Objects.equals(deletedThumbnailPath, DEFAULT_THUMBNAIL_PATH))
             deletedPaths.add(deletedThumbnailPath);
@@ -8,9 +8,11 @@ import lombok.Getter;
 public class DiaryReCommentCreatedEvent {
     private long diaryId;
     private long ancestorId;
+    private Long petId;
 
-    public DiaryReCommentCreatedEvent(DiaryComment comment) {
+    public DiaryReCommentCreatedEvent(DiaryComment comment, Long petId) {
         this.diaryId = comment.getDiary().getId();
+        this.petId = petId;
         this.ancestorId = comment.getAncestorCommentId();
     }
 }
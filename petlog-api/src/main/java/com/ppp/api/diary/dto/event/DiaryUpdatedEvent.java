@@ -1,5 +1,6 @@
 package com.ppp.api.diary.dto.event;
 
+import com.ppp.common.service.ThumbnailSource;
 import com.ppp.domain.diary.DiaryMedia;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -14,10 +15,15 @@ import static com.ppp.domain.diary.constant.DiaryPolicy.DEFAULT_THUMBNAIL_PATH;
 @AllArgsConstructor
 public class DiaryUpdatedEvent {
     private final long diaryId;
+    private final Long petId;
     private final List<String> deletedPaths;
+    private final ThumbnailSource thumbnailSource;
 
-    public DiaryUpdatedEvent(long diaryId, List<DiaryMedia> deletedDiaryMedias, String deletedThumbnailPath) {
+    public DiaryUpdatedEvent(long diaryId, Long petId, List<DiaryMedia> deletedDiaryMedias, String deletedThumbnailPath,
+                             ThumbnailSource thumbnailSource) {
         this.diaryId = diaryId;
+        this.petId = petId;
+        this.thumbnailSource = thumbnailSource;
         List<String> deletedPaths = new ArrayList<>(deletedDiaryMedias.stream().map(DiaryMedia::getPath).toList());
         if (deletedThumbnailPath != null && !Objects.equals(deletedThumbnailPath, DEFAULT_THUMBNAIL_PATH))
             deletedPaths.add(deletedThumbnailPath);
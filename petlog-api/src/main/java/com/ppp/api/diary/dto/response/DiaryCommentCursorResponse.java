@@ -0,0 +1,23 @@
+package com.ppp.api.diary.dto.response;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Schema(description = "커서 기반 육아 일기 댓글들")
+@Builder
+public record DiaryCommentCursorResponse(
+        @ArraySchema(schema = @Schema(description = "댓글", implementation = DiaryCommentResponse.class))
+        List<DiaryCommentResponse> contents,
+        @Schema(description = "다음 페이지 커서, 더 이상 댓글이 없으면 null")
+        String nextCursor
+) {
+    public static DiaryCommentCursorResponse of(List<DiaryCommentResponse> contents, String nextCursor) {
+        return DiaryCommentCursorResponse.builder()
+                .contents(contents)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.ppp.api.diary.dto.response;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Schema(description = "커서 기반 날짜별 일기들")
+@Builder
+public record DiaryCursorResponse(
+        @ArraySchema(schema = @Schema(description = "날짜별 일기", implementation = DiaryGroupByDateResponse.class))
+        List<DiaryGroupByDateResponse> contents,
+        @Schema(description = "다음 페이지 커서, 더 이상 일기가 없으면 null")
+        String nextCursor
+) {
+    public static DiaryCursorResponse of(List<DiaryGroupByDateResponse> contents, String nextCursor) {
+        return DiaryCursorResponse.builder()
+                .contents(contents)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.ppp.api.diary.dto.response;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Schema(description = "커서 기반 피드")
+@Builder
+public record DiaryFeedCursorResponse(
+        @ArraySchema(schema = @Schema(description = "피드 일기", implementation = DiaryFeedResponse.class))
+        List<DiaryFeedResponse> contents,
+        @Schema(description = "다음 페이지 커서, 더 이상 일기가 없으면 null")
+        String nextCursor
+) {
+    public static DiaryFeedCursorResponse of(List<DiaryFeedResponse> contents, String nextCursor) {
+        return DiaryFeedCursorResponse.builder()
+                .contents(contents)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.ppp.api.diary.dto.response;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Schema(description = "커서 기반 육아 일기 대댓글들")
+@Builder
+public record DiaryReCommentCursorResponse(
+        @ArraySchema(schema = @Schema(description = "대댓글", implementation = DiaryReCommentResponse.class))
+        List<DiaryReCommentResponse> contents,
+        @Schema(description = "다음 페이지 커서, 더 이상 대댓글이 없으면 null")
+        String nextCursor
+) {
+    public static DiaryReCommentCursorResponse of(List<DiaryReCommentResponse> contents, String nextCursor) {
+        return DiaryReCommentCursorResponse.builder()
+                .contents(contents)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.ppp.api.diary.dto.transfer;
+
+import lombok.Builder;
+
+@Builder
+public record DiaryEngagementDto(
+        int commentCount,
+        int likeCount,
+        boolean isCurrentUserLiked
+) {
+    public static DiaryEngagementDto of(int commentCount, int likeCount, boolean isCurrentUserLiked) {
+        return DiaryEngagementDto.builder()
+                .commentCount(commentCount)
+                .likeCount(likeCount)
+                .isCurrentUserLiked(isCurrentUserLiked)
+                .build();
+    }
+}
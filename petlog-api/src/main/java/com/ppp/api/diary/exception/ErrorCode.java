@@ -14,6 +14,7 @@ public enum ErrorCode {
     NOT_DIARY_COMMENT_OWNER(HttpStatus.BAD_REQUEST, "DIARY-0005", "댓글 작성자가 아닙니다."),
     MEDIA_UPLOAD_LIMIT_OVER(HttpStatus.BAD_REQUEST, "DIARY-0006", "허용되는 미디어 수 초과입니다."),
     DIARY_DRAFT_NOT_FOUND(HttpStatus.NOT_FOUND, "DIARY-0007","임시 저장한 일기가 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "DIARY-0008", "유효하지 않은 커서입니다."),
     ;
 
     private final HttpStatus status;
@@ -4,6 +4,7 @@ import com.ppp.api.diary.dto.event.DiaryCommentCreatedEvent;
 import com.ppp.api.diary.dto.event.DiaryCommentDeletedEvent;
 import com.ppp.api.diary.dto.event.DiaryReCommentCreatedEvent;
 import com.ppp.api.diary.service.DiaryCommentRedisService;
+import com.ppp.api.diary.service.DiaryVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -18,18 +19,21 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class DiaryCommentEventHandler {
     private final DiaryCommentRedisService diaryCommentRedisService;
+    private final DiaryVersionService diaryVersionService;
 
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleDiaryCommentCreatedEvent(DiaryCommentCreatedEvent event) {
         CompletableFuture.runAsync(() -> diaryCommentRedisService.setDiaryReCommentCountByCommentId(event.getDiaryCommentId()))
-                .thenRunAsync(() -> diaryCommentRedisService.increaseDiaryCommentCountByDiaryId(event.getDiaryId()));
+                .thenRunAsync(() -> diaryCommentRedisService.increaseDiaryCommentCountByDiaryId(event.getDiaryId()))
+                .whenComplete((result, throwable) -> renewVersions(event.getDiaryId(), event.getPetId()));
     }
 
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleDiaryCommentDeletedEvent(DiaryCommentDeletedEvent event) {
         CompletableFuture.runAsync(() -> diaryCommentRedisService.decreaseDiaryCommentCountByDiaryId(event.getDiaryComment().getDiary().getId()))
+                .whenComplete((result, throwable) -> renewVersions(event.getDiaryComment().getDiary().getId(), event.getPetId()))
                 .thenRunAsync(() -> {if(event.getDiaryComment().isReComment())
                     diaryCommentRedisService.decreaseDiaryReCommentCountByCommentId(event.getDiaryComment().getAncestorCommentId());})
                 .thenRunAsync(() -> diaryCommentRedisService.deleteAllLikeByCommentId(event.getDiaryComment().getId()));
@@ -39,6 +43,12 @@ public class DiaryCommentEventHandler {
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleDiaryReCommentCreatedEvent(DiaryReCommentCreatedEvent event) {
         CompletableFuture.runAsync(() -> diaryCommentRedisService.increaseDiaryReCommentCountByCommentId(event.getAncestorId()))
-                .thenRunAsync(() -> diaryCommentRedisService.increaseDiaryCommentCountByDiaryId(event.getDiaryId()));
+                .thenRunAsync(() -> diaryCommentRedisService.increaseDiaryCommentCountByDiaryId(event.getDiaryId()))
+                .whenComplete((result, throwable) -> renewVersions(event.getDiaryId(), event.getPetId()));
+    }
+
+    private void renewVersions(Long diaryId, Long petId) {
+        diaryVersionService.renewDiaryVersion(diaryId);
+        diaryVersionService.renewPetDiaryVersion(petId);
     }
 }
@@ -4,9 +4,12 @@ import com.ppp.api.diary.dto.event.DiaryCreatedEvent;
 import com.ppp.api.diary.dto.event.DiaryDeletedEvent;
 import com.ppp.api.diary.dto.event.DiaryUpdatedEvent;
 import com.ppp.api.diary.service.DiaryCommentRedisService;
-import com.ppp.api.diary.service.DiaryRedisService;
+import com.ppp.api.diary.service.DiaryFeedPoolService;
+import com.ppp.api.diary.service.DiaryRedisCleanupService;
 import com.ppp.api.diary.service.DiarySearchService;
 import com.ppp.api.diary.service.DiaryService;
+import com.ppp.api.diary.service.DiaryTimelineService;
+import com.ppp.api.diary.service.DiaryVersionService;
 import com.ppp.common.service.FileStorageManageService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +18,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 @Component
@@ -24,29 +28,45 @@ public class DiaryEventHandler {
     private final DiaryService diaryService;
     private final DiarySearchService diarySearchService;
     private final DiaryCommentRedisService diaryCommentRedisService;
-    private final DiaryRedisService diaryRedisService;
+    private final DiaryRedisCleanupService diaryRedisCleanupService;
+    private final DiaryTimelineService diaryTimelineService;
+    private final DiaryFeedPoolService diaryFeedPoolService;
+    private final DiaryVersionService diaryVersionService;
     private final FileStorageManageService fileStorageManageService;
 
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleDiaryCreatedEvent(DiaryCreatedEvent event) {
-        CompletableFuture.runAsync(() -> diarySearchService.save(diaryService.saveThumbnail(event.getDiaryId())))
-                .thenRunAsync(() -> diaryCommentRedisService.setDiaryCommentCountByDiaryId(event.getDiaryId()));
+        CompletableFuture.runAsync(() -> diarySearchService.save(diaryService.saveThumbnail(event.getDiaryId(), event.getThumbnailSource())))
+                .whenComplete((result, throwable) -> diaryVersionService.renewPetDiaryVersion(event.getPetId()))
+                .thenRunAsync(() -> diaryCommentRedisService.setDiaryCommentCountByDiaryId(event.getDiaryId()))
+                .thenRunAsync(() -> diaryTimelineService.pushToSubscribersTimeline(event.getDiaryId()))
+                .thenRunAsync(() -> diaryFeedPoolService.upsert(event.getDiaryId()));
     }
 
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleDiaryUpdatedEvent(DiaryUpdatedEvent event) {
-        CompletableFuture.runAsync(() -> diarySearchService.update(diaryService.saveThumbnail(event.getDiaryId())))
+        CompletableFuture.runAsync(() -> diarySearchService.update(diaryService.saveThumbnail(event.getDiaryId(), event.getThumbnailSource())))
+                .whenComplete((result, throwable) -> {
+                    diaryVersionService.renewDiaryVersion(event.getDiaryId());
+                    diaryVersionService.renewPetDiaryVersion(event.getPetId());
+                })
+                .thenRunAsync(() -> diaryTimelineService.pushToSubscribersTimeline(event.getDiaryId()))
+                .thenRunAsync(() -> diaryFeedPoolService.upsert(event.getDiaryId()))
                 .thenRunAsync(() -> fileStorageManageService.deleteImages(event.getDeletedPaths()));
     }
 
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleDiaryDeletedEvent(DiaryDeletedEvent event) {
-        CompletableFuture.runAsync(() -> diarySearchService.delete(event.getDiaryId()))
-                .thenRunAsync(() -> diaryCommentRedisService.deleteDiaryCommentCountByDiaryId(event.getDiaryId()))
-                .thenRunAsync(() -> diaryRedisService.deleteAllLikeByDiaryId(event.getDiaryId()))
+        CompletableFuture.runAsync(() -> {
+                    diaryVersionService.renewDiaryVersion(event.getDiaryId());
+                    diaryVersionService.renewPetDiaryVersion(event.getPetId());
+                })
+                .thenRunAsync(() -> diarySearchService.delete(event.getDiaryId()))
+                .thenRunAsync(() -> diaryRedisCleanupService.cleanupDiaries(List.of(event.getDiaryId())))
+                .thenRunAsync(() -> diaryTimelineService.removeFromSubscribersTimeline(event.getDiaryId()))
                 .thenRunAsync(() -> fileStorageManageService.deleteImages(event.getDeletedPaths()));
     }
 }
@@ -1,6 +1,10 @@
 package com.ppp.api.diary.service;
 
+import com.ppp.api.user.service.UserOrdinalService;
 import com.ppp.common.client.RedisClient;
+import com.ppp.common.client.RedisWriteBehindBuffer;
+import com.ppp.common.client.SetToggleResult;
+import com.ppp.common.service.CacheManageService;
 import com.ppp.domain.common.constant.Domain;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
@@ -12,6 +16,11 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class DiaryCommentRedisService {
     private final RedisClient redisClient;
+    private final DiaryTrendingService diaryTrendingService;
+    private final RedisWriteBehindBuffer redisWriteBehindBuffer;
+    private final CacheManageService cacheManageService;
+    private final UserOrdinalService userOrdinalService;
+    private final DiaryLikeMigrationService diaryLikeMigrationService;
 
     @Cacheable(value = "diaryCommentCount")
     public Integer getDiaryCommentCountByDiaryId(Long diaryId) {
@@ -31,21 +40,35 @@ public class DiaryCommentRedisService {
 
     @CachePut(value = "diaryCommentCount", unless = "#result == null")
     public Long increaseDiaryCommentCountByDiaryId(Long diaryId) {
+        diaryTrendingService.increaseCommentScore(diaryId);
+        if (redisWriteBehindBuffer.isEnabled()) {
+            redisWriteBehindBuffer.incrementValue(Domain.DIARY_COMMENT, diaryId, 1);
+            return null;
+        }
         return redisClient.incrementValue(Domain.DIARY_COMMENT, diaryId);
     }
 
     @CachePut(value = "diaryCommentCount", unless = "#result == null")
     public Long decreaseDiaryCommentCountByDiaryId(Long diaryId) {
+        diaryTrendingService.decreaseCommentScore(diaryId);
+        if (redisWriteBehindBuffer.isEnabled()) {
+            redisWriteBehindBuffer.incrementValue(Domain.DIARY_COMMENT, diaryId, -1);
+            return null;
+        }
         return redisClient.decrementValue(Domain.DIARY_COMMENT, diaryId);
     }
 
     public boolean isDiaryCommentLikeExistByCommentIdAndUserId(Long commentId, String userId) {
-        return redisClient.isValueExistInSet(Domain.DIARY_COMMENT_LIKE, commentId, userId);
+        diaryLikeMigrationService.migrateCommentLikesIfPending(commentId);
+        return userOrdinalService.findOrdinal(userId)
+                .map(ordinal -> redisClient.isValueExistInSet(Domain.DIARY_COMMENT_LIKE_ORDINAL, commentId, String.valueOf(ordinal)))
+                .orElse(false);
     }
 
     @Cacheable(value = "diaryCommentLikeCount")
     public Integer getLikeCountByCommentId(Long commentId) {
-        Long likeCount = redisClient.getSizeOfSet(Domain.DIARY_COMMENT_LIKE, commentId);
+        diaryLikeMigrationService.migrateCommentLikesIfPending(commentId);
+        Long likeCount = redisClient.getSizeOfSet(Domain.DIARY_COMMENT_LIKE_ORDINAL, commentId);
         assert likeCount != null;
 
         return likeCount.intValue();
@@ -53,8 +76,10 @@ public class DiaryCommentRedisService {
 
     @CachePut(value = "diaryCommentLikeCount", key = "#a0")
     public Integer registerLikeByCommentIdAndUserId(Long commentId, String userId) {
-        redisClient.addValueToSet(Domain.DIARY_COMMENT_LIKE, commentId, userId);
-        Long likeCount = redisClient.getSizeOfSet(Domain.DIARY_COMMENT_LIKE, commentId);
+        diaryLikeMigrationService.migrateCommentLikesIfPending(commentId);
+        redisClient.addValueToSet(Domain.DIARY_COMMENT_LIKE_ORDINAL, commentId,
+                String.valueOf(userOrdinalService.getOrCreateOrdinal(userId)));
+        Long likeCount = redisClient.getSizeOfSet(Domain.DIARY_COMMENT_LIKE_ORDINAL, commentId);
         assert likeCount != null;
 
         return likeCount.intValue();
@@ -62,16 +87,27 @@ public class DiaryCommentRedisService {
 
     @CachePut(value = "diaryCommentLikeCount", key = "#a0")
     public Integer cancelLikeByCommentIdAndUserId(Long commentId, String userId) {
-        redisClient.removeValueToSet(Domain.DIARY_COMMENT_LIKE, commentId, userId);
-        Long likeCount = redisClient.getSizeOfSet(Domain.DIARY_COMMENT_LIKE, commentId);
+        diaryLikeMigrationService.migrateCommentLikesIfPending(commentId);
+        redisClient.removeValueToSet(Domain.DIARY_COMMENT_LIKE_ORDINAL, commentId,
+                String.valueOf(userOrdinalService.getOrCreateOrdinal(userId)));
+        Long likeCount = redisClient.getSizeOfSet(Domain.DIARY_COMMENT_LIKE_ORDINAL, commentId);
         assert likeCount != null;
 
         return likeCount.intValue();
     }
 
+    public boolean toggleLikeByCommentIdAndUserId(Long commentId, String userId) {
+        diaryLikeMigrationService.migrateCommentLikesIfPending(commentId);
+        SetToggleResult result = redisClient.toggleValueInSet(Domain.DIARY_COMMENT_LIKE_ORDINAL, commentId,
+                String.valueOf(userOrdinalService.getOrCreateOrdinal(userId)));
+        cacheManageService.putCachedDiaryCommentLikeCount(commentId, (int) result.size());
+        return result.isAdded();
+    }
+
     @CacheEvict(value = "diaryCommentLikeCount")
     public void deleteAllLikeByCommentId(Long commentId) {
-        redisClient.removeKeyToSet(Domain.DIARY_COMMENT_LIKE, commentId);
+        diaryLikeMigrationService.migrateCommentLikesIfPending(commentId);
+        redisClient.removeKeyToSet(Domain.DIARY_COMMENT_LIKE_ORDINAL, commentId);
     }
 
     @Cacheable(value = "diaryCommentReCommentCount")
@@ -4,20 +4,24 @@ import com.ppp.api.diary.dto.event.DiaryCommentCreatedEvent;
 import com.ppp.api.diary.dto.event.DiaryCommentDeletedEvent;
 import com.ppp.api.diary.dto.event.DiaryReCommentCreatedEvent;
 import com.ppp.api.diary.dto.request.DiaryCommentRequest;
+import com.ppp.api.diary.dto.response.DiaryCommentCursorResponse;
 import com.ppp.api.diary.dto.response.DiaryCommentResponse;
+import com.ppp.api.diary.dto.response.DiaryReCommentCursorResponse;
 import com.ppp.api.diary.dto.response.DiaryReCommentResponse;
 import com.ppp.api.diary.exception.DiaryException;
 import com.ppp.api.diary.validator.DiaryAccessValidator;
+import com.ppp.api.guardian.dto.transfer.GuardianRosterDto;
+import com.ppp.api.guardian.service.GuardianRosterService;
 import com.ppp.api.notification.dto.event.DiaryNotificationEvent;
 import com.ppp.api.notification.dto.event.DiaryReCommentNotificationEvent;
 import com.ppp.api.notification.dto.event.DiaryTagNotificationEvent;
+import com.ppp.common.util.CursorUtil;
 import com.ppp.domain.diary.Diary;
 import com.ppp.domain.diary.DiaryComment;
 import com.ppp.domain.diary.repository.DiaryCommentRepository;
 import com.ppp.domain.diary.repository.DiaryRepository;
 import com.ppp.domain.notification.constant.MessageCode;
 import com.ppp.domain.user.User;
-import com.ppp.domain.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -39,7 +43,7 @@ public class DiaryCommentService {
 
     private final DiaryCommentRepository diaryCommentRepository;
     private final DiaryRepository diaryRepository;
-    private final UserRepository userRepository;
+    private final GuardianRosterService guardianRosterService;
     private final DiaryCommentRedisService diaryCommentRedisService;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final DiaryAccessValidator diaryAccessValidator;
@@ -57,7 +61,7 @@ public class DiaryCommentService {
                 .diary(diary)
                 .user(user)
                 .build());
-        applicationEventPublisher.publishEvent(new DiaryCommentCreatedEvent(savedComment));
+        applicationEventPublisher.publishEvent(new DiaryCommentCreatedEvent(savedComment, petId));
         notifyDiaryComment(diary, user, request.getTaggedUserIds());
         return DiaryCommentResponse.from(savedComment, user.getId());
     }
@@ -71,9 +75,10 @@ public class DiaryCommentService {
 
     private Map<String, String> getTaggedUsersIdNicknameMap(Long petId, List<String> taggedUsers) {
         if (taggedUsers.isEmpty()) return new HashMap<>();
+        GuardianRosterDto roster = guardianRosterService.getRoster(petId);
         Map<String, String> taggedUsersIdNicknameMap = new HashMap<>();
-        userRepository.findByGuardianUsersByPetIdAndUserIdsContaining(petId, taggedUsers)
-                .forEach(taggedUser -> taggedUsersIdNicknameMap.put(taggedUser.getId(), taggedUser.getNickname()));
+        taggedUsers.forEach(taggedUserId -> roster.findActiveMember(taggedUserId)
+                .ifPresent(member -> taggedUsersIdNicknameMap.put(member.userId(), member.nickname())));
         return taggedUsersIdNicknameMap;
     }
 
@@ -99,7 +104,9 @@ public class DiaryCommentService {
         validateModifyComment(comment, user, petId);
 
         comment.delete();
-        applicationEventPublisher.publishEvent(new DiaryCommentDeletedEvent(comment));
+        if (comment.isReComment())
+            diaryCommentRepository.decreaseReplyCount(comment.getAncestorCommentId());
+        applicationEventPublisher.publishEvent(new DiaryCommentDeletedEvent(comment, petId));
     }
 
     public Slice<DiaryCommentResponse> displayComments(User user, Long petId, Long diaryId, int page, int size) {
@@ -110,12 +117,42 @@ public class DiaryCommentService {
     }
 
     private DiaryCommentResponse toDiaryCommentResponse(DiaryComment comment, String userId) {
+        return toDiaryCommentResponse(comment, userId, diaryCommentRedisService.getDiaryReCommentCountByCommentId(comment.getId()));
+    }
+
+    private DiaryCommentResponse toDiaryCommentResponse(DiaryComment comment, String userId, int recommentCount) {
         if (comment.isDeleted())
-            return DiaryCommentResponse.ofDeletedComment(comment.getId(), diaryCommentRedisService.getDiaryReCommentCountByCommentId(comment.getId()));
+            return DiaryCommentResponse.ofDeletedComment(comment.getId(), recommentCount);
         return DiaryCommentResponse.from(comment, userId,
                 diaryCommentRedisService.isDiaryCommentLikeExistByCommentIdAndUserId(comment.getId(), userId),
                 diaryCommentRedisService.getLikeCountByCommentId(comment.getId()),
-                diaryCommentRedisService.getDiaryReCommentCountByCommentId(comment.getId()));
+                recommentCount);
+    }
+
+    public DiaryCommentCursorResponse displayCommentsByCursor(User user, Long petId, Long diaryId, String cursor, int size) {
+        diaryAccessValidator.validateAccessDiary(petId, user.getId(), diaryId);
+
+        List<DiaryComment> comments = diaryCommentRepository.findAncestorCommentsByDiaryIdBefore(
+                diaryId, parseCommentCursor(cursor), PageRequest.of(0, size + 1));
+        return DiaryCommentCursorResponse.of(trimToPage(comments, size).stream()
+                        .map(comment -> toDiaryCommentResponse(comment, user.getId(), comment.getReplyCount()))
+                        .collect(Collectors.toList()),
+                getNextCursor(comments, size));
+    }
+
+    private Long parseCommentCursor(String cursor) {
+        if (CursorUtil.isEmpty(cursor))
+            return Long.MAX_VALUE;
+        return CursorUtil.decodeLong(cursor)
+                .orElseThrow(() -> new DiaryException(INVALID_CURSOR));
+    }
+
+    private List<DiaryComment> trimToPage(List<DiaryComment> comments, int size) {
+        return comments.size() > size ? comments.subList(0, size) : comments;
+    }
+
+    private String getNextCursor(List<DiaryComment> comments, int size) {
+        return comments.size() > size && size > 0 ? CursorUtil.encode(comments.get(size - 1).getId()) : null;
     }
 
     public void likeComment(User user, Long petId, Long commentId) {
@@ -123,10 +160,7 @@ public class DiaryCommentService {
                 .orElseThrow(() -> new DiaryException(DIARY_COMMENT_NOT_FOUND));
         diaryAccessValidator.validateAccessDiary(petId, user.getId(), comment.getDiary());
 
-        if (diaryCommentRedisService.isDiaryCommentLikeExistByCommentIdAndUserId(commentId, user.getId()))
-            diaryCommentRedisService.cancelLikeByCommentIdAndUserId(commentId, user.getId());
-        else
-            diaryCommentRedisService.registerLikeByCommentIdAndUserId(commentId, user.getId());
+        diaryCommentRedisService.toggleLikeByCommentIdAndUserId(commentId, user.getId());
     }
 
     @Transactional
@@ -142,7 +176,8 @@ public class DiaryCommentService {
                 .user(user)
                 .parent(parentComment)
                 .build());
-        applicationEventPublisher.publishEvent(new DiaryReCommentCreatedEvent(savedComment));
+        diaryCommentRepository.increaseReplyCount(savedComment.getAncestorCommentId());
+        applicationEventPublisher.publishEvent(new DiaryReCommentCreatedEvent(savedComment, petId));
 
         notifyDiaryReComment(parentComment, user, request.getTaggedUserIds());
 
@@ -167,4 +202,17 @@ public class DiaryCommentService {
                         diaryCommentRedisService.getLikeCountByCommentId(recomment.getId())))
                 .collect(Collectors.toList());
     }
+
+    public DiaryReCommentCursorResponse displayReCommentsByCursor(User user, Long petId, Long diaryId, Long ancestorId, String cursor, int size) {
+        diaryAccessValidator.validateAccessDiary(petId, user.getId(), diaryId);
+
+        List<DiaryComment> recomments = diaryCommentRepository.findReCommentsByDiaryIdAndAncestorCommentIdBefore(
+                diaryId, ancestorId, parseCommentCursor(cursor), PageRequest.of(0, size + 1));
+        return DiaryReCommentCursorResponse.of(trimToPage(recomments, size).stream()
+                        .map(recomment -> DiaryReCommentResponse.from(recomment, user.getId(),
+                                diaryCommentRedisService.isDiaryCommentLikeExistByCommentIdAndUserId(recomment.getId(), user.getId()),
+                                diaryCommentRedisService.getLikeCountByCommentId(recomment.getId())))
+                        .collect(Collectors.toList()),
+                getNextCursor(recomments, size));
+    }
 }
@@ -0,0 +1,223 @@
+package com.ppp.api.diary.service;
+
+import com.ppp.api.user.service.UserOrdinalService;
+import com.ppp.common.client.RedisClient;
+import com.ppp.domain.common.constant.Domain;
+import com.ppp.domain.diary.DiaryLikeSnapshot;
+import com.ppp.domain.diary.repository.DiaryCounterQuerydslRepository;
+import com.ppp.domain.diary.repository.DiaryLikeSnapshotJdbcRepository;
+import com.ppp.domain.diary.repository.DiaryLikeSnapshotRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.ppp.domain.diary.constant.DiaryPolicy.COUNTER_JOB_CHUNK_SIZE;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiaryCounterSyncService implements MeterBinder {
+    private static final String PROGRESS_KEY = "";
+    private static final String LOCK_KEY = "_LOCK";
+    private static final Duration LOCK_TIMEOUT = Duration.ofHours(1);
+
+    private final DiaryCounterQuerydslRepository diaryCounterQuerydslRepository;
+    private final DiaryLikeSnapshotRepository diaryLikeSnapshotRepository;
+    private final DiaryLikeSnapshotJdbcRepository diaryLikeSnapshotJdbcRepository;
+    private final UserOrdinalService userOrdinalService;
+    private final RedisClient redisClient;
+    private final Map<Stage, LongAdder> processedCounts = newStageMap(LongAdder::new);
+    private final Map<Stage, AtomicLong> cursors = newStageMap(AtomicLong::new);
+    @Value("${diary.counter.rebuild.enabled:false}")
+    private boolean rebuildEnabled;
+
+    enum Stage {
+        REBUILD_COMMENT_COUNT,
+        REBUILD_RE_COMMENT_COUNT,
+        REBUILD_REPLY_COUNT,
+        REBUILD_DIARY_LIKE,
+        REBUILD_DIARY_COMMENT_LIKE,
+        SNAPSHOT_DIARY_LIKE,
+        SNAPSHOT_DIARY_COMMENT_LIKE
+    }
+
+    private record Chunk(long lastId, int size) {
+        private static final Chunk EMPTY = new Chunk(0L, 0);
+
+        private static Chunk of(List<Long> ids) {
+            return ids.isEmpty() ? EMPTY : new Chunk(ids.get(ids.size() - 1), ids.size());
+        }
+    }
+
+    private static <T> Map<Stage, T> newStageMap(Supplier<T> supplier) {
+        Map<Stage, T> stageMap = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values())
+            stageMap.put(stage, supplier.get());
+        return stageMap;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildEnabled)
+            rebuild();
+    }
+
+    public boolean rebuild() {
+        return runLocked("rebuild", () -> {
+            runStage(Stage.REBUILD_COMMENT_COUNT, this::rebuildCommentCounts);
+            runStage(Stage.REBUILD_RE_COMMENT_COUNT, this::rebuildReCommentCounts);
+            runStage(Stage.REBUILD_REPLY_COUNT, this::rebuildReplyCounts);
+            runStage(Stage.REBUILD_DIARY_LIKE, lastId -> restoreLikes(Domain.DIARY_LIKE_ORDINAL, lastId));
+            runStage(Stage.REBUILD_DIARY_COMMENT_LIKE, lastId -> restoreLikes(Domain.DIARY_COMMENT_LIKE_ORDINAL, lastId));
+        });
+    }
+
+    @Scheduled(cron = "${diary.counter.snapshot.cron:0 0 4 * * *}")
+    public boolean snapshot() {
+        return runLocked("snapshot", () -> {
+            runStage(Stage.SNAPSHOT_DIARY_LIKE, lastId -> snapshotLikes(Domain.DIARY_LIKE_ORDINAL, lastId,
+                    diaryCounterQuerydslRepository.findDiaryIdsAfter(lastId, COUNTER_JOB_CHUNK_SIZE)));
+            runStage(Stage.SNAPSHOT_DIARY_COMMENT_LIKE, lastId -> snapshotLikes(Domain.DIARY_COMMENT_LIKE_ORDINAL, lastId,
+                    diaryCounterQuerydslRepository.findCommentIdsAfter(lastId, COUNTER_JOB_CHUNK_SIZE)));
+        });
+    }
+
+    // 잠금 값에 실행마다 다른 토큰을 넣고, 해제할 때 토큰이 같을 때만 지워 다른 서버가 잡은 잠금을 풀지 않는다.
+    private boolean runLocked(String job, Runnable stages) {
+        String token = job + ":" + UUID.randomUUID();
+        if (!redisClient.setValueIfAbsent(Domain.DIARY_COUNTER_JOB, LOCK_KEY, token, LOCK_TIMEOUT))
+            return false;
+        try {
+            long startedAt = System.currentTimeMillis();
+            stages.run();
+            log.info("Class : {}, Method : {}, ElapsedMillis : {}", this.getClass().getName(), job,
+                    System.currentTimeMillis() - startedAt);
+            return true;
+        } finally {
+            redisClient.deleteValueIfEquals(Domain.DIARY_COUNTER_JOB, LOCK_KEY, token);
+        }
+    }
+
+    // 청크마다 마지막 id 를 저장하므로 중간에 중단되면 다음 실행이 그 지점부터 이어서 진행한다.
+    private void runStage(Stage stage, LongFunction<Chunk> processor) {
+        long lastId = redisClient.getValueFromHash(Domain.DIARY_COUNTER_JOB, PROGRESS_KEY, stage.name())
+                .map(Long::parseLong)
+                .orElse(0L);
+        Chunk chunk = processor.apply(lastId);
+        while (chunk.size() > 0) {
+            lastId = chunk.lastId();
+            redisClient.putValueToHash(Domain.DIARY_COUNTER_JOB, PROGRESS_KEY, stage.name(), String.valueOf(lastId));
+            processedCounts.get(stage).add(chunk.size());
+            cursors.get(stage).set(lastId);
+            if (chunk.size() < COUNTER_JOB_CHUNK_SIZE)
+                break;
+            chunk = processor.apply(lastId);
+        }
+        redisClient.deleteValueFromHash(Domain.DIARY_COUNTER_JOB, PROGRESS_KEY, stage.name());
+    }
+
+    private Chunk rebuildCommentCounts(long lastDiaryId) {
+        List<Long> diaryIds = diaryCounterQuerydslRepository.findDiaryIdsAfter(lastDiaryId, COUNTER_JOB_CHUNK_SIZE);
+        if (diaryIds.isEmpty())
+            return Chunk.EMPTY;
+        Map<Long, Long> commentCounts = diaryCounterQuerydslRepository.countCommentsByDiaryIds(diaryIds);
+        redisClient.executePipelined(pipeline -> diaryIds.forEach(diaryId ->
+                pipeline.setValue(Domain.DIARY_COMMENT, diaryId, String.valueOf(commentCounts.getOrDefault(diaryId, 0L)))));
+        return Chunk.of(diaryIds);
+    }
+
+    private Chunk rebuildReCommentCounts(long lastCommentId) {
+        List<Long> commentIds = diaryCounterQuerydslRepository.findAncestorCommentIdsAfter(lastCommentId, COUNTER_JOB_CHUNK_SIZE);
+        if (commentIds.isEmpty())
+            return Chunk.EMPTY;
+        Map<Long, Long> reCommentCounts = diaryCounterQuerydslRepository.countReCommentsByAncestorCommentIds(commentIds);
+        redisClient.executePipelined(pipeline -> commentIds.forEach(commentId ->
+                pipeline.setValue(Domain.DIARY_RE_COMMENT, commentId, String.valueOf(reCommentCounts.getOrDefault(commentId, 0L)))));
+        return Chunk.of(commentIds);
+    }
+
+    // 삭제된 루트 댓글도 답글이 남아 있으면 노출되므로 삭제 여부와 관계없이 답글 수를 채운다.
+    private Chunk rebuildReplyCounts(long lastCommentId) {
+        List<Long> commentIds = diaryCounterQuerydslRepository.findRootCommentIdsAfter(lastCommentId, COUNTER_JOB_CHUNK_SIZE);
+        if (commentIds.isEmpty())
+            return Chunk.EMPTY;
+        diaryCounterQuerydslRepository.updateReplyCounts(commentIds,
+                diaryCounterQuerydslRepository.countReCommentsByAncestorCommentIds(commentIds));
+        return Chunk.of(commentIds);
+    }
+
+    private Chunk restoreLikes(Domain domain, long lastSnapshotId) {
+        List<DiaryLikeSnapshot> snapshots = diaryLikeSnapshotRepository.findByDomainAndIdGreaterThanOrderByIdAsc(
+                domain, lastSnapshotId, PageRequest.of(0, COUNTER_JOB_CHUNK_SIZE));
+        if (snapshots.isEmpty())
+            return Chunk.EMPTY;
+        Map<String, Long> ordinals = userOrdinalService.getOrCreateOrdinals(snapshots.stream()
+                .map(DiaryLikeSnapshot::getUserId)
+                .toList());
+        Map<Long, List<String>> likedOrdinals = snapshots.stream()
+                .collect(Collectors.groupingBy(DiaryLikeSnapshot::getTargetId,
+                        Collectors.mapping(snapshot -> String.valueOf(ordinals.get(snapshot.getUserId())), Collectors.toList())));
+        redisClient.executePipelined(pipeline -> likedOrdinals.forEach((targetId, values) ->
+                pipeline.addValuesToSet(domain, targetId, values)));
+        return new Chunk(snapshots.get(snapshots.size() - 1).getId(), snapshots.size());
+    }
+
+    // 이전 청크의 마지막 id 부터 이번 청크의 마지막 id 까지 구간 전체를 교체하므로 삭제된 대상의 스냅샷도 함께 지워진다.
+    private Chunk snapshotLikes(Domain domain, long lastId, List<Long> targetIds) {
+        long toTargetId = targetIds.size() < COUNTER_JOB_CHUNK_SIZE ? Long.MAX_VALUE : targetIds.get(targetIds.size() - 1);
+        if (targetIds.isEmpty()) {
+            diaryLikeSnapshotJdbcRepository.replaceInRange(domain, lastId, toTargetId, List.of());
+            return Chunk.EMPTY;
+        }
+        List<Object> members = redisClient.executePipelined(pipeline -> targetIds.forEach(targetId ->
+                pipeline.getSet(domain, targetId)));
+        Map<Long, Collection<String>> likedOrdinals = new HashMap<>();
+        for (int i = 0; i < targetIds.size(); i++) {
+            if (members.get(i) instanceof Collection<?> values && !values.isEmpty())
+                likedOrdinals.put(targetIds.get(i), values.stream().map(String::valueOf).toList());
+        }
+        Map<String, String> userIds = userOrdinalService.findUserIdsByOrdinals(likedOrdinals.values().stream()
+                .flatMap(Collection::stream)
+                .collect(Collectors.toSet()));
+        List<DiaryLikeSnapshot> snapshots = new ArrayList<>();
+        likedOrdinals.forEach((targetId, ordinals) -> ordinals.stream()
+                .map(userIds::get)
+                .filter(Objects::nonNull)
+                .forEach(userId -> snapshots.add(new DiaryLikeSnapshot(domain, targetId, userId))));
+        diaryLikeSnapshotJdbcRepository.replaceInRange(domain, lastId, toTargetId, snapshots);
+        return Chunk.of(targetIds);
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        for (Stage stage : Stage.values()) {
+            String tag = stage.name().toLowerCase();
+            FunctionCounter.builder("diary.counter.sync.processed", processedCounts.get(stage), LongAdder::sum)
+                    .tag("stage", tag)
+                    .register(registry);
+            Gauge.builder("diary.counter.sync.cursor", cursors.get(stage), AtomicLong::get)
+                    .tag("stage", tag)
+                    .register(registry);
+        }
+    }
+}
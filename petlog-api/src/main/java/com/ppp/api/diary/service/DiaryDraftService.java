@@ -6,15 +6,12 @@ import com.ppp.api.diary.dto.request.DiaryDraftCreateRequest;
 import com.ppp.api.diary.dto.response.DiaryDraftCheckResponse;
 import com.ppp.api.diary.dto.response.DiaryDraftResponse;
 import com.ppp.api.diary.exception.DiaryException;
-import com.ppp.api.video.exception.ErrorCode;
-import com.ppp.api.video.exception.VideoException;
+import com.ppp.api.video.service.VideoManageService;
 import com.ppp.common.service.FileStorageManageService;
 import com.ppp.domain.common.constant.Domain;
 import com.ppp.domain.diary.DiaryDraft;
 import com.ppp.domain.diary.repository.DiaryDraftRedisRepository;
 import com.ppp.domain.user.User;
-import com.ppp.domain.video.TempVideo;
-import com.ppp.domain.video.repository.TempVideoRedisRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -22,7 +19,6 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 import static com.ppp.api.diary.exception.ErrorCode.DIARY_DRAFT_NOT_FOUND;
@@ -32,7 +28,7 @@ import static com.ppp.api.diary.exception.ErrorCode.DIARY_DRAFT_NOT_FOUND;
 public class DiaryDraftService {
     private final DiaryDraftRedisRepository diaryDraftRedisRepository;
     private final FileStorageManageService fileStorageManageService;
-    private final TempVideoRedisRepository tempVideoRedisRepository;
+    private final VideoManageService videoManageService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     public void createDiaryDraft(Long petId, DiaryDraftCreateRequest request, List<MultipartFile> images, User user) {
@@ -65,11 +61,7 @@ public class DiaryDraftService {
 
     public List<String> uploadVideosIfNeeded(List<String> videoIds, User user) {
         if (videoIds.isEmpty()) return new ArrayList<>();
-        List<TempVideo> tempVideos = videoIds.stream().map(videoId ->
-                tempVideoRedisRepository.findById(videoId).stream()
-                        .filter(video -> Objects.equals(video.getUserId(), user.getId())).findFirst()
-                        .orElseThrow(() -> new VideoException(ErrorCode.NOT_FOUND_VIDEO))).toList();
-        return fileStorageManageService.uploadVideos(tempVideos, Domain.DIARY_DRAFT);
+        return fileStorageManageService.uploadVideos(videoManageService.getCompletedVideos(videoIds, user), Domain.DIARY_DRAFT);
     }
 
     public DiaryDraftCheckResponse checkHasDiaryDraft(Long petId, User user) {
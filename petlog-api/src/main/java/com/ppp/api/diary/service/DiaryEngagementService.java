@@ -0,0 +1,91 @@
+package com.ppp.api.diary.service;
+
+import com.ppp.api.diary.dto.transfer.DiaryEngagementDto;
+import com.ppp.api.user.service.UserOrdinalService;
+import com.ppp.common.client.RedisClient;
+import com.ppp.common.client.RedisWriteBehindBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+import static com.ppp.domain.common.constant.Domain.DIARY_COMMENT;
+import static com.ppp.domain.common.constant.Domain.DIARY_LIKE;
+import static com.ppp.domain.common.constant.Domain.DIARY_LIKE_ORDINAL;
+
+@Service
+@RequiredArgsConstructor
+public class DiaryEngagementService {
+    private final RedisClient redisClient;
+    private final RedisWriteBehindBuffer redisWriteBehindBuffer;
+    private final UserOrdinalService userOrdinalService;
+    private final DiaryLikeMigrationService diaryLikeMigrationService;
+
+    public Map<Long, DiaryEngagementDto> getEngagements(List<Long> diaryIds, String userId) {
+        Map<Long, DiaryEngagementDto> engagements = new HashMap<>();
+        if (diaryIds.isEmpty())
+            return engagements;
+        // 좋아요를 한 번도 누르지 않은 유저는 서수가 없으므로 멤버십 조회를 생략한다.
+        String ordinal = userId == null ? null : userOrdinalService.findOrdinal(userId)
+                .map(String::valueOf)
+                .orElse(null);
+        boolean isOrdinalGiven = ordinal != null;
+        boolean isMigrationPending = diaryLikeMigrationService.isPending();
+        List<Object> results = redisClient.executePipelined(pipeline -> diaryIds.forEach(diaryId -> {
+            pipeline.getValue(DIARY_COMMENT, diaryId);
+            pipeline.getSizeOfSet(DIARY_LIKE_ORDINAL, diaryId);
+            if (isOrdinalGiven)
+                pipeline.isValueExistInSet(DIARY_LIKE_ORDINAL, diaryId, ordinal);
+            if (isMigrationPending)
+                pipeline.hasKey(DIARY_LIKE, diaryId);
+        }));
+        int commandCount = 2 + (isOrdinalGiven ? 1 : 0) + (isMigrationPending ? 1 : 0);
+        List<Long> legacyDiaryIds = new ArrayList<>();
+        for (int i = 0; i < diaryIds.size(); i++) {
+            int offset = i * commandCount;
+            Long diaryId = diaryIds.get(i);
+            if (isMigrationPending && Boolean.TRUE.equals(results.get(offset + commandCount - 1))) {
+                legacyDiaryIds.add(diaryId);
+                continue;
+            }
+            if (isOrdinalGiven)
+                redisWriteBehindBuffer.recordMembership(DIARY_LIKE_ORDINAL, diaryId, ordinal,
+                        Boolean.TRUE.equals(results.get(offset + 2)));
+            engagements.put(diaryId, DiaryEngagementDto.of(
+                    toCount(results.get(offset)) + (int) redisWriteBehindBuffer.getPendingDelta(DIARY_COMMENT, diaryId),
+                    toCount(results.get(offset + 1)) + (int) redisWriteBehindBuffer.getPendingSizeDelta(DIARY_LIKE_ORDINAL, diaryId),
+                    isOrdinalGiven && redisWriteBehindBuffer.getPendingMembership(DIARY_LIKE_ORDINAL, diaryId, ordinal)
+                            .orElse(Boolean.TRUE.equals(results.get(offset + 2)))));
+        }
+        // 이전되지 않은 좋아요가 남은 일기만 옮긴 뒤 다시 조회한다.
+        if (!legacyDiaryIds.isEmpty()) {
+            diaryLikeMigrationService.migrateDiaryLikes(legacyDiaryIds);
+            engagements.putAll(getEngagements(legacyDiaryIds, userId));
+        }
+        return engagements;
+    }
+
+    public DiaryEngagementDto getEngagement(Long diaryId, String userId) {
+        return getEngagements(List.of(diaryId), userId).get(diaryId);
+    }
+
+    public Map<Long, Integer> getCommentCounts(List<Long> diaryIds) {
+        Map<Long, Integer> commentCounts = new HashMap<>();
+        if (diaryIds.isEmpty())
+            return commentCounts;
+        List<Object> results = redisClient.executePipelined(pipeline ->
+                diaryIds.forEach(diaryId -> pipeline.getValue(DIARY_COMMENT, diaryId)));
+        for (int i = 0; i < diaryIds.size(); i++)
+            commentCounts.put(diaryIds.get(i), toCount(results.get(i))
+                    + (int) redisWriteBehindBuffer.getPendingDelta(DIARY_COMMENT, diaryIds.get(i)));
+        return commentCounts;
+    }
+
+    private int toCount(Object result) {
+        if (result == null)
+            return 0;
+        if (result instanceof Number number)
+            return number.intValue();
+        return Integer.parseInt(result.toString());
+    }
+}
@@ -0,0 +1,105 @@
+package com.ppp.api.diary.service;
+
+import com.ppp.domain.diary.dto.PetDiaryDto;
+import com.ppp.domain.diary.repository.DiaryQuerydslRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@RequiredArgsConstructor
+public class DiaryFeedPoolService implements MeterBinder {
+    private final DiaryQuerydslRepository diaryQuerydslRepository;
+    @Value("${diary.feed.pool.size:1000}")
+    private int poolSize;
+    private volatile List<PetDiaryDto> candidates = Collections.emptyList();
+    private volatile Instant lastRefreshedAt;
+
+    @Scheduled(fixedDelayString = "${diary.feed.pool.refresh-interval-ms:60000}")
+    public void refresh() {
+        List<PetDiaryDto> refreshed = diaryQuerydslRepository.findPetsDiariesByIds(
+                diaryQuerydslRepository.findRecentPublicDiaryIds(poolSize));
+        synchronized (this) {
+            candidates = Collections.unmodifiableList(refreshed);
+            lastRefreshedAt = Instant.now();
+        }
+    }
+
+    public List<PetDiaryDto> sample(int size) {
+        List<PetDiaryDto> snapshot = candidates;
+        if (snapshot.isEmpty())
+            return Collections.emptyList();
+        return ThreadLocalRandom.current().ints(0, snapshot.size())
+                .distinct()
+                .limit(Math.min(size, snapshot.size()))
+                .mapToObj(snapshot::get)
+                .toList();
+    }
+
+    public boolean isEmpty() {
+        return candidates.isEmpty();
+    }
+
+    public void upsert(long diaryId) {
+        List<PetDiaryDto> found = diaryQuerydslRepository.findPetsDiariesByIds(List.of(diaryId));
+        if (found.isEmpty()) {
+            remove(diaryId);
+            return;
+        }
+        PetDiaryDto petDiaryDto = found.get(0);
+        synchronized (this) {
+            List<PetDiaryDto> updated = new ArrayList<>(candidates);
+            int index = indexOf(updated, diaryId);
+            if (index >= 0)
+                updated.set(index, petDiaryDto);
+            else
+                updated.add(0, petDiaryDto);
+            candidates = Collections.unmodifiableList(updated.subList(0, Math.min(updated.size(), poolSize)));
+        }
+    }
+
+    public void remove(long diaryId) {
+        synchronized (this) {
+            int index = indexOf(candidates, diaryId);
+            if (index < 0)
+                return;
+            List<PetDiaryDto> updated = new ArrayList<>(candidates);
+            updated.remove(index);
+            candidates = Collections.unmodifiableList(updated);
+        }
+    }
+
+    private int indexOf(List<PetDiaryDto> petDiaryDtos, long diaryId) {
+        for (int i = 0; i < petDiaryDtos.size(); i++) {
+            if (petDiaryDtos.get(i).getDiaryId() == diaryId)
+                return i;
+        }
+        return -1;
+    }
+
+    private double getStalenessSeconds() {
+        Instant refreshedAt = lastRefreshedAt;
+        return refreshedAt == null ? -1 : Duration.between(refreshedAt, Instant.now()).toMillis() / 1000.0;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("diary.feed.pool.size", this, service -> service.candidates.size())
+                .register(registry);
+        Gauge.builder("diary.feed.pool.staleness", this, DiaryFeedPoolService::getStalenessSeconds)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+}
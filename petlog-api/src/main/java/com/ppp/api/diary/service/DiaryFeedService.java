@@ -1,9 +1,13 @@
 package com.ppp.api.diary.service;
 
+import com.ppp.api.diary.dto.response.DiaryFeedCursorResponse;
 import com.ppp.api.diary.dto.response.DiaryFeedResponse;
+import com.ppp.api.diary.dto.transfer.DiaryEngagementDto;
+import com.ppp.api.diary.exception.DiaryException;
 import com.ppp.api.subscription.dto.transfer.SubscriptionInfoDto;
 import com.ppp.api.subscription.service.SubscriptionService;
 import com.ppp.common.security.PrincipalDetails;
+import com.ppp.common.util.CursorUtil;
 import com.ppp.domain.diary.dto.PetDiaryDto;
 import com.ppp.domain.diary.repository.DiaryQuerydslRepository;
 import com.ppp.domain.user.User;
@@ -13,7 +17,9 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.stream.Collectors;
+
+import static com.ppp.api.diary.exception.ErrorCode.INVALID_CURSOR;
+import static com.ppp.domain.diary.constant.DiaryPolicy.FEED_SEEN_OVER_FETCH_FACTOR;
 
 @RequiredArgsConstructor
 @Service
@@ -22,50 +28,167 @@ public class DiaryFeedService {
 
     private final DiaryQuerydslRepository diaryQuerydslRepository;
     private final SubscriptionService subscriptionService;
-    private final DiaryCommentRedisService diaryCommentRedisService;
-    private final DiaryRedisService diaryRedisService;
+    private final DiaryEngagementService diaryEngagementService;
+    private final DiaryTimelineService diaryTimelineService;
+    private final DiaryFeedPoolService diaryFeedPoolService;
+    private final DiaryTrendingService diaryTrendingService;
+    private final DiarySeenFilterService diarySeenFilterService;
 
     public Set<DiaryFeedResponse> retrieveDiaryFeed(Optional<PrincipalDetails> optionalPrincipalDetails, int page, int size) {
         if (optionalPrincipalDetails.isEmpty())
-            return diaryQuerydslRepository.findRandomPetsDiaries(PageRequest.of(page, size))
-                    .stream().map(this::toDiaryFeedResponse).collect(Collectors.toSet());
+            return new HashSet<>(toDiaryFeedResponses(diaryFeedPoolService.isEmpty() ?
+                    diaryQuerydslRepository.findRandomPetsDiaries(PageRequest.of(page, size)) : diaryFeedPoolService.sample(size)));
         User requestdUser = optionalPrincipalDetails.get().getUser();
         return retrieveUsersDiaryFeed(requestdUser, page, size);
     }
 
+    public DiaryFeedCursorResponse retrieveSampledDiaryFeed(Optional<PrincipalDetails> optionalPrincipalDetails, String cursor, int size) {
+        long startDiaryId;
+        long lastDiaryId;
+        if (CursorUtil.isEmpty(cursor)) {
+            startDiaryId = diaryQuerydslRepository.getRandomPublicDiaryIdBound();
+            lastDiaryId = startDiaryId;
+        } else {
+            String[] values = CursorUtil.decode(cursor, 2)
+                    .orElseThrow(() -> new DiaryException(INVALID_CURSOR));
+            startDiaryId = CursorUtil.parseLong(values[0])
+                    .orElseThrow(() -> new DiaryException(INVALID_CURSOR));
+            lastDiaryId = CursorUtil.parseLong(values[1])
+                    .orElseThrow(() -> new DiaryException(INVALID_CURSOR));
+        }
+        if (optionalPrincipalDetails.isEmpty()) {
+            List<Long> diaryIds = diaryQuerydslRepository.findRandomPublicDiaryIds(Collections.emptySet(), startDiaryId, lastDiaryId, size);
+            return DiaryFeedCursorResponse.of(
+                    toDiaryFeedResponses(diaryQuerydslRepository.findPetsDiariesByIds(diaryIds)),
+                    getNextCursor(startDiaryId, diaryIds, size, diaryIds, size));
+        }
+        User requestedUser = optionalPrincipalDetails.get().getUser();
+        SubscriptionInfoDto subscriptionInfo = subscriptionService.getUsersSubscriptionInfo(requestedUser.getId());
+        int candidateSize = size * FEED_SEEN_OVER_FETCH_FACTOR;
+        List<Long> candidateIds = diaryQuerydslRepository.findRandomPublicDiaryIds(subscriptionInfo.blockedPetIds(),
+                startDiaryId, lastDiaryId, candidateSize);
+        List<Long> diaryIds = pickUnseenDiaryIds(requestedUser.getId(), candidateIds, size);
+        return DiaryFeedCursorResponse.of(
+                toDiaryFeedResponses(diaryQuerydslRepository.findPetsDiariesByIds(diaryIds), requestedUser.getId(), subscriptionInfo.subscribedPetIds()),
+                getNextCursor(startDiaryId, candidateIds, candidateSize, diaryIds, size));
+    }
+
+    private List<Long> pickUnseenDiaryIds(String userId, List<Long> candidateIds, int size) {
+        Set<Long> unseenDiaryIds = new HashSet<>(diarySeenFilterService.filterUnseen(userId, candidateIds));
+        Set<Long> pickedDiaryIds = new HashSet<>();
+        candidateIds.stream()
+                .filter(unseenDiaryIds::contains)
+                .limit(size)
+                .forEach(pickedDiaryIds::add);
+        candidateIds.stream()
+                .filter(diaryId -> !unseenDiaryIds.contains(diaryId))
+                .limit(Math.max(0, size - pickedDiaryIds.size()))
+                .forEach(pickedDiaryIds::add);
+        List<Long> diaryIds = candidateIds.stream()
+                .filter(pickedDiaryIds::contains)
+                .toList();
+        diarySeenFilterService.markSeen(userId, diaryIds);
+        return diaryIds;
+    }
+
+    // 후보가 요청한 수보다 적거나 시작 위치에 도달했으면 한 바퀴를 다 돈 것이므로 null 을 반환한다.
+    private String getNextCursor(long startDiaryId, List<Long> candidateIds, int candidateSize, List<Long> diaryIds, int size) {
+        boolean isPageFilled = diaryIds.size() >= size;
+        List<Long> pageIds = isPageFilled ? diaryIds : candidateIds;
+        if (pageIds.isEmpty() || !isPageFilled && candidateIds.size() < candidateSize)
+            return null;
+        long lastDiaryId = pageIds.get(pageIds.size() - 1);
+        return lastDiaryId == startDiaryId ? null : CursorUtil.encode(startDiaryId, lastDiaryId);
+    }
+
+    public DiaryFeedCursorResponse retrieveTrendingDiaryFeed(Optional<PrincipalDetails> optionalPrincipalDetails, String cursor, int size) {
+        long offset = CursorUtil.isEmpty(cursor) ? 0L :
+                CursorUtil.decodeLong(cursor).orElseThrow(() -> new DiaryException(INVALID_CURSOR));
+        List<Long> diaryIds = diaryTrendingService.findTrendingDiaryIds(offset, size);
+        List<PetDiaryDto> petDiaries = diaryQuerydslRepository.findPetsDiariesByIds(diaryIds);
+        List<Long> unavailableDiaryIds = getUnavailableDiaryIds(diaryIds, petDiaries);
+        diaryTrendingService.removeDiaries(unavailableDiaryIds);
+        String nextCursor = diaryIds.size() < size ? null :
+                CursorUtil.encode(offset + diaryIds.size() - unavailableDiaryIds.size());
+        if (optionalPrincipalDetails.isEmpty())
+            return DiaryFeedCursorResponse.of(toDiaryFeedResponses(petDiaries), nextCursor);
+        User requestedUser = optionalPrincipalDetails.get().getUser();
+        SubscriptionInfoDto subscriptionInfo = subscriptionService.getUsersSubscriptionInfo(requestedUser.getId());
+        return DiaryFeedCursorResponse.of(
+                toDiaryFeedResponses(petDiaries.stream()
+                                .filter(dto -> !subscriptionInfo.blockedPetIds().contains(dto.getPetId()))
+                                .toList(),
+                        requestedUser.getId(), subscriptionInfo.subscribedPetIds()),
+                nextCursor);
+    }
+
+    private List<Long> getUnavailableDiaryIds(List<Long> diaryIds, List<PetDiaryDto> petDiaries) {
+        Set<Long> availableDiaryIds = new HashSet<>();
+        petDiaries.forEach(dto -> availableDiaryIds.add(dto.getDiaryId()));
+        return diaryIds.stream()
+                .filter(diaryId -> !availableDiaryIds.contains(diaryId))
+                .toList();
+    }
+
+    private String getNextCursor(List<Long> diaryIds) {
+        if (diaryIds.isEmpty())
+            return null;
+        return CursorUtil.encode(diaryIds.get(diaryIds.size() - 1));
+    }
+
+    public DiaryFeedCursorResponse retrieveSubscribedDiaryFeed(User user, String cursor, int size) {
+        long beforeDiaryId = CursorUtil.isEmpty(cursor) ? Long.MAX_VALUE :
+                CursorUtil.decodeLong(cursor).orElseThrow(() -> new DiaryException(INVALID_CURSOR));
+        SubscriptionInfoDto subscriptionInfo = subscriptionService.getUsersSubscriptionInfo(user.getId());
+        List<Long> diaryIds = diaryTimelineService.findTimelineDiaryIds(user.getId(), subscriptionInfo.subscribedPetIds(), beforeDiaryId, size);
+        return DiaryFeedCursorResponse.of(getSubscribedPetsDiaries(diaryIds, user, subscriptionInfo), getNextCursor(diaryIds));
+    }
+
     private Set<DiaryFeedResponse> retrieveUsersDiaryFeed(User user, int page, int size) {
         SubscriptionInfoDto subscriptionInfo = subscriptionService.getUsersSubscriptionInfo(user.getId());
-        List<DiaryFeedResponse> subscribedPetsDiaries = new ArrayList<>();
-        if (!subscriptionInfo.subscribedPetIds().isEmpty()) {
-            subscribedPetsDiaries = diaryQuerydslRepository
-                    .findSubscribedPetsDiariesBySubscription(subscriptionInfo.subscribedPetIds(), PageRequest.of(page, size / 2))
-                    .stream().map(dto -> toDiaryFeedResponse(dto, user.getId())).toList();
-        }
-        List<DiaryFeedResponse> randomPetDiaries = diaryQuerydslRepository.findRandomPetsDiaries(subscriptionInfo.blockedPetIds(), PageRequest.of(page, size - subscribedPetsDiaries.size()))
-                .stream().map(dto -> toDiaryFeedResponse(dto, user.getId(), subscriptionInfo.subscribedPetIds())).toList();
+        int subscribedSize = size / 2;
+        List<Long> timelineDiaryIds = diaryTimelineService.findTimelineDiaryIds(user.getId(),
+                subscriptionInfo.subscribedPetIds(), Long.MAX_VALUE, (page + 1) * subscribedSize);
+        List<DiaryFeedResponse> subscribedPetsDiaries = getSubscribedPetsDiaries(
+                timelineDiaryIds.stream().skip((long) page * subscribedSize).toList(), user, subscriptionInfo);
+        int randomSize = size - subscribedPetsDiaries.size();
+        List<Long> randomDiaryIds = pickUnseenDiaryIds(user.getId(),
+                diaryQuerydslRepository.findRandomPublicDiaryIds(subscriptionInfo.blockedPetIds(),
+                        diaryQuerydslRepository.getRandomPublicDiaryIdBound(), randomSize * FEED_SEEN_OVER_FETCH_FACTOR),
+                randomSize);
+        List<DiaryFeedResponse> randomPetDiaries = toDiaryFeedResponses(
+                diaryQuerydslRepository.findPetsDiariesByIds(randomDiaryIds), user.getId(), subscriptionInfo.subscribedPetIds());
         Set<DiaryFeedResponse> response = new HashSet<>(subscribedPetsDiaries);
         response.addAll(randomPetDiaries);
         return response;
     }
 
-    private DiaryFeedResponse toDiaryFeedResponse(PetDiaryDto dto, String userId, Set<Long> subscribedPetIds) {
-        return DiaryFeedResponse.from(dto,
-                diaryCommentRedisService.getDiaryCommentCountByDiaryId(dto.getDiaryId()),
-                diaryRedisService.isLikeExistByDiaryIdAndUserId(dto.getDiaryId(), userId),
-                diaryRedisService.getLikeCountByDiaryId(dto.getDiaryId()),
-                subscribedPetIds.contains(dto.getPetId()));
+    private List<DiaryFeedResponse> getSubscribedPetsDiaries(List<Long> diaryIds, User user, SubscriptionInfoDto subscriptionInfo) {
+        return toDiaryFeedResponses(
+                diaryQuerydslRepository.findPetsDiariesByIds(diaryIds).stream()
+                        .filter(dto -> subscriptionInfo.subscribedPetIds().contains(dto.getPetId()))
+                        .toList(),
+                user.getId(), subscriptionInfo.subscribedPetIds());
     }
 
-    private DiaryFeedResponse toDiaryFeedResponse(PetDiaryDto dto, String userId) {
-        return DiaryFeedResponse.from(dto,
-                diaryCommentRedisService.getDiaryCommentCountByDiaryId(dto.getDiaryId()),
-                diaryRedisService.isLikeExistByDiaryIdAndUserId(dto.getDiaryId(), userId),
-                diaryRedisService.getLikeCountByDiaryId(dto.getDiaryId()));
+    private List<DiaryFeedResponse> toDiaryFeedResponses(List<PetDiaryDto> dtos, String userId, Set<Long> subscribedPetIds) {
+        Map<Long, DiaryEngagementDto> engagements = diaryEngagementService.getEngagements(
+                dtos.stream().map(PetDiaryDto::getDiaryId).toList(), userId);
+        return dtos.stream()
+                .map(dto -> {
+                    DiaryEngagementDto engagement = engagements.get(dto.getDiaryId());
+                    return DiaryFeedResponse.from(dto, engagement.commentCount(), engagement.isCurrentUserLiked(),
+                            engagement.likeCount(), subscribedPetIds.contains(dto.getPetId()));
+                }).toList();
     }
 
-    private DiaryFeedResponse toDiaryFeedResponse(PetDiaryDto dto) {
-        return DiaryFeedResponse.from(dto,
-                diaryCommentRedisService.getDiaryCommentCountByDiaryId(dto.getDiaryId()),
-                diaryRedisService.getLikeCountByDiaryId(dto.getDiaryId()));
+    private List<DiaryFeedResponse> toDiaryFeedResponses(List<PetDiaryDto> dtos) {
+        Map<Long, DiaryEngagementDto> engagements = diaryEngagementService.getEngagements(
+                dtos.stream().map(PetDiaryDto::getDiaryId).toList(), null);
+        return dtos.stream()
+                .map(dto -> {
+                    DiaryEngagementDto engagement = engagements.get(dto.getDiaryId());
+                    return DiaryFeedResponse.from(dto, engagement.commentCount(), engagement.likeCount());
+                }).toList();
     }
 }
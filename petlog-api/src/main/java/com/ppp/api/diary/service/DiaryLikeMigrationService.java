@@ -0,0 +1,106 @@
+package com.ppp.api.diary.service;
+
+import com.ppp.api.user.service.UserOrdinalService;
+import com.ppp.common.client.RedisClient;
+import com.ppp.domain.common.constant.Domain;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiaryLikeMigrationService {
+    private static final String NUMERIC_KEY_PATTERN = "[0-9]*";
+    private static final String COMPLETED_KEY = "_MIGRATED";
+    private static final String LOCK_KEY = "_MIGRATION_LOCK";
+    private static final Duration LOCK_TIMEOUT = Duration.ofHours(1);
+
+    private final RedisClient redisClient;
+    private final UserOrdinalService userOrdinalService;
+    private volatile boolean completed;
+    @Value("${diary.like.migration.enabled:false}")
+    private boolean enabled;
+
+    // 완료 표시가 남으면 다시 실행되지 않으므로 플래그를 켠 채 한 번 배포하면 되는 일회성 작업이다.
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (!enabled || isCompleted())
+            return;
+        String token = UUID.randomUUID().toString();
+        if (!redisClient.setValueIfAbsent(Domain.DIARY_LIKE, LOCK_KEY, token, LOCK_TIMEOUT))
+            return;
+        try {
+            int diaryLikeCount = migrate(Domain.DIARY_LIKE, Domain.DIARY_LIKE_ORDINAL);
+            int commentLikeCount = migrate(Domain.DIARY_COMMENT_LIKE, Domain.DIARY_COMMENT_LIKE_ORDINAL);
+            redisClient.addValue(Domain.DIARY_LIKE, COMPLETED_KEY, "true");
+            completed = true;
+            log.info("Class : {}, Method : {}, DiaryLikeKeys : {}, CommentLikeKeys : {}",
+                    this.getClass().getName(), "migrateOnStartup", diaryLikeCount, commentLikeCount);
+        } finally {
+            redisClient.deleteValueIfEquals(Domain.DIARY_LIKE, LOCK_KEY, token);
+        }
+    }
+
+    // 원본 키는 옮기면서 삭제하므로 중간에 중단되어도 다시 실행하면 남은 키만 이어서 옮긴다.
+    public int migrate(Domain source, Domain target) {
+        int migratedCount = 0;
+        for (String key : redisClient.scanKeys(source, NUMERIC_KEY_PATTERN)) {
+            migrateKey(source, target, Long.parseLong(key));
+            migratedCount++;
+        }
+        return migratedCount;
+    }
+
+    // 이전이 끝나기 전에는 읽기 직전에 해당 키를 먼저 옮겨 기존 좋아요가 0 으로 보이거나 취소가 좋아요로 뒤집히지 않게 한다.
+    public void migrateDiaryLikesIfPending(Collection<Long> diaryIds) {
+        migrateIfPending(Domain.DIARY_LIKE, Domain.DIARY_LIKE_ORDINAL, diaryIds);
+    }
+
+    // 원본 키 존재 여부를 호출하는 쪽 파이프라인에서 이미 확인한 경우 사용한다.
+    public void migrateDiaryLikes(Collection<Long> diaryIds) {
+        diaryIds.forEach(diaryId -> migrateKey(Domain.DIARY_LIKE, Domain.DIARY_LIKE_ORDINAL, diaryId));
+    }
+
+    public void migrateCommentLikesIfPending(Long commentId) {
+        migrateIfPending(Domain.DIARY_COMMENT_LIKE, Domain.DIARY_COMMENT_LIKE_ORDINAL, List.of(commentId));
+    }
+
+    private void migrateIfPending(Domain source, Domain target, Collection<Long> ids) {
+        if (!isPending())
+            return;
+        ids.forEach(id -> migrateKey(source, target, id));
+    }
+
+    // 이전을 끄면 읽기 시점 이전도 하지 않으므로 남은 원본 키는 정리 작업이 회수한다.
+    public boolean isPending() {
+        return enabled && !isCompleted();
+    }
+
+    private boolean isCompleted() {
+        if (!completed)
+            completed = redisClient.hasKey(Domain.DIARY_LIKE, COMPLETED_KEY);
+        return completed;
+    }
+
+    private void migrateKey(Domain source, Domain target, Long id) {
+        Set<String> userIds = redisClient.getSet(source, id);
+        if (userIds == null || userIds.isEmpty())
+            return;
+        List<String> ordinals = userOrdinalService.getOrCreateOrdinals(userIds).values().stream()
+                .map(String::valueOf)
+                .toList();
+        redisClient.moveValuesToSetIfExists(source, id, target, ordinals);
+    }
+}
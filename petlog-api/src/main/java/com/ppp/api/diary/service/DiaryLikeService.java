@@ -30,18 +30,17 @@ public class DiaryLikeService {
     private final DiaryRepository diaryRepository;
     private final UserRepository userRepository;
     private final DiaryAccessValidator diaryAccessValidator;
+    private final DiaryVersionService diaryVersionService;
 
     @Transactional
     public void likeDiary(User user, Long petId, Long diaryId) {
         Diary diary = diaryRepository.findByIdAndIsDeletedFalse(diaryId)
                 .orElseThrow(() -> new DiaryException(DIARY_NOT_FOUND));
         diaryAccessValidator.validateAccessDiary(petId, user.getId(), diary);
-        if (diaryRedisService.isLikeExistByDiaryIdAndUserId(diaryId, user.getId()))
-            diaryRedisService.cancelLikeByDiaryIdAndUserId(diaryId, user.getId());
-        else {
-            diaryRedisService.registerLikeByDiaryIdAndUserId(diaryId, user.getId());
+        boolean isLiked = diaryRedisService.toggleLikeByDiaryIdAndUserId(diaryId, user.getId());
+        diaryVersionService.renewDiaryVersion(diaryId);
+        if (isLiked)
             notifyDiaryLike(user, diary);
-        }
     }
 
     private void notifyDiaryLike(User sender, Diary diary) {
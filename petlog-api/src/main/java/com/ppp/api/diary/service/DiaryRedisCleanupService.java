@@ -0,0 +1,106 @@
+package com.ppp.api.diary.service;
+
+import com.ppp.common.client.RedisClient;
+import com.ppp.common.service.CacheManageService;
+import com.ppp.domain.common.constant.Domain;
+import com.ppp.domain.diary.repository.DiaryCounterQuerydslRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DiaryRedisCleanupService implements MeterBinder {
+    private static final int UNLINK_BATCH_SIZE = 500;
+    private static final String NUMERIC_KEY_PATTERN = "[0-9]*";
+
+    private final RedisClient redisClient;
+    private final DiaryCounterQuerydslRepository diaryCounterQuerydslRepository;
+    private final DiaryTrendingService diaryTrendingService;
+    private final DiaryTimelineService diaryTimelineService;
+    private final DiaryFeedPoolService diaryFeedPoolService;
+    private final CacheManageService cacheManageService;
+    private final LongAdder unlinkedByEvent = new LongAdder();
+    private final LongAdder unlinkedBySweeper = new LongAdder();
+
+    public void cleanupDiaries(List<Long> diaryIds) {
+        if (diaryIds.isEmpty())
+            return;
+        List<Long> commentIds = diaryCounterQuerydslRepository.findCommentIdsByDiaryIds(diaryIds);
+        Map<Domain, List<Long>> keys = new EnumMap<>(Domain.class);
+        keys.put(Domain.DIARY_COMMENT, diaryIds);
+        keys.put(Domain.DIARY_LIKE, diaryIds);
+        keys.put(Domain.DIARY_LIKE_ORDINAL, diaryIds);
+        keys.put(Domain.DIARY_COMMENT_LIKE, commentIds);
+        keys.put(Domain.DIARY_COMMENT_LIKE_ORDINAL, commentIds);
+        keys.put(Domain.DIARY_RE_COMMENT, commentIds);
+        unlinkedByEvent.add(unlink(keys));
+        commentIds.forEach(cacheManageService::deleteCachedDiaryCommentCounts);
+        diaryTrendingService.removeDiaries(diaryIds);
+        diaryIds.forEach(diaryFeedPoolService::remove);
+    }
+
+    public void cleanupPet(Long petId) {
+        cleanupDiaries(diaryCounterQuerydslRepository.findDiaryIdsByPetId(petId));
+        diaryTimelineService.removePullPet(petId);
+    }
+
+    @Scheduled(cron = "${redis.cleanup.sweep-cron:0 30 4 * * *}")
+    public void sweepOrphanKeys() {
+        long before = unlinkedBySweeper.sum();
+        sweep(Domain.DIARY_COMMENT, diaryCounterQuerydslRepository::findLiveDiaryIds);
+        sweep(Domain.DIARY_LIKE_ORDINAL, diaryCounterQuerydslRepository::findLiveDiaryIds);
+        sweep(Domain.DIARY_COMMENT_LIKE_ORDINAL, diaryCounterQuerydslRepository::findLiveCommentIds);
+        // 마이그레이션 전 좋아요 set 은 마이그레이션이 꺼져 있으면 남아 있으므로 함께 정리한다.
+        sweep(Domain.DIARY_LIKE, diaryCounterQuerydslRepository::findLiveDiaryIds);
+        sweep(Domain.DIARY_COMMENT_LIKE, diaryCounterQuerydslRepository::findLiveCommentIds);
+        // 삭제된 댓글도 답글 개수는 계속 노출되므로 일기가 살아 있으면 남겨둔다.
+        sweep(Domain.DIARY_RE_COMMENT, diaryCounterQuerydslRepository::findCommentIdsOfLiveDiaries);
+        log.info("Class : {}, Method : {}, UnlinkedKeys : {}", this.getClass().getName(), "sweepOrphanKeys",
+                unlinkedBySweeper.sum() - before);
+    }
+
+    private void sweep(Domain domain, Function<List<Long>, List<Long>> liveIdFinder) {
+        redisClient.scanKeys(domain, NUMERIC_KEY_PATTERN, UNLINK_BATCH_SIZE, keys -> {
+            List<Long> ids = keys.stream().map(Long::parseLong).toList();
+            Set<Long> liveIds = new HashSet<>(liveIdFinder.apply(ids));
+            List<Long> orphanIds = ids.stream()
+                    .filter(id -> !liveIds.contains(id))
+                    .toList();
+            unlinkedBySweeper.add(unlink(Map.of(domain, orphanIds)));
+        });
+    }
+
+    private long unlink(Map<Domain, List<Long>> keys) {
+        if (keys.values().stream().allMatch(List::isEmpty))
+            return 0L;
+        List<Object> results = redisClient.executePipelined(pipeline -> keys.forEach((domain, ids) -> {
+            for (int from = 0; from < ids.size(); from += UNLINK_BATCH_SIZE)
+                pipeline.unlink(domain, ids.subList(from, Math.min(from + UNLINK_BATCH_SIZE, ids.size())));
+        }));
+        return results.stream()
+                .filter(Number.class::isInstance)
+                .mapToLong(result -> ((Number) result).longValue())
+                .sum();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("redis.cleanup.unlinked", unlinkedByEvent, LongAdder::sum)
+                .tag("source", "event")
+                .register(registry);
+        FunctionCounter.builder("redis.cleanup.unlinked", unlinkedBySweeper, LongAdder::sum)
+                .tag("source", "sweeper")
+                .register(registry);
+    }
+}
@@ -1,6 +1,10 @@
 package com.ppp.api.diary.service;
 
+import com.ppp.api.user.service.UserOrdinalService;
 import com.ppp.common.client.RedisClient;
+import com.ppp.common.client.RedisWriteBehindBuffer;
+import com.ppp.common.client.SetToggleResult;
+import com.ppp.common.service.CacheManageService;
 import com.ppp.domain.common.constant.Domain;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
@@ -8,49 +12,102 @@ import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class DiaryRedisService {
     private final RedisClient redisClient;
+    private final DiaryTrendingService diaryTrendingService;
+    private final RedisWriteBehindBuffer redisWriteBehindBuffer;
+    private final CacheManageService cacheManageService;
+    private final UserOrdinalService userOrdinalService;
+    private final DiaryLikeMigrationService diaryLikeMigrationService;
 
     public boolean isLikeExistByDiaryIdAndUserId(Long diaryId, String userId) {
-        return redisClient.isValueExistInSet(Domain.DIARY_LIKE, diaryId, userId);
+        diaryLikeMigrationService.migrateDiaryLikesIfPending(List.of(diaryId));
+        return userOrdinalService.findOrdinal(userId)
+                .map(String::valueOf)
+                .map(ordinal -> redisWriteBehindBuffer.getPendingMembership(Domain.DIARY_LIKE_ORDINAL, diaryId, ordinal)
+                        .orElseGet(() -> {
+                            boolean isLiked = redisClient.isValueExistInSet(Domain.DIARY_LIKE_ORDINAL, diaryId, ordinal);
+                            redisWriteBehindBuffer.recordMembership(Domain.DIARY_LIKE_ORDINAL, diaryId, ordinal, isLiked);
+                            return isLiked;
+                        }))
+                .orElse(false);
     }
 
     @Cacheable(value = "diaryLikeCount")
     public Integer getLikeCountByDiaryId(Long diaryId) {
-        Long likeCount = redisClient.getSizeOfSet(Domain.DIARY_LIKE, diaryId);
+        diaryLikeMigrationService.migrateDiaryLikesIfPending(List.of(diaryId));
+        Long likeCount = redisClient.getSizeOfSet(Domain.DIARY_LIKE_ORDINAL, diaryId);
         assert likeCount != null;
 
         return likeCount.intValue();
     }
 
-    @CachePut(value = "diaryLikeCount", key = "#a0")
+    @CachePut(value = "diaryLikeCount", key = "#a0", unless = "#result == null")
     public Integer registerLikeByDiaryIdAndUserId(Long diaryId, String userId) {
-        redisClient.addValueToSet(Domain.DIARY_LIKE, diaryId, userId);
-        Long likeCount = redisClient.getSizeOfSet(Domain.DIARY_LIKE, diaryId);
+        diaryLikeMigrationService.migrateDiaryLikesIfPending(List.of(diaryId));
+        diaryTrendingService.increaseLikeScore(diaryId);
+        String ordinal = String.valueOf(userOrdinalService.getOrCreateOrdinal(userId));
+        if (redisWriteBehindBuffer.isEnabled()) {
+            redisWriteBehindBuffer.addValueToSet(Domain.DIARY_LIKE_ORDINAL, diaryId, ordinal);
+            return null;
+        }
+        redisClient.addValueToSet(Domain.DIARY_LIKE_ORDINAL, diaryId, ordinal);
+        Long likeCount = redisClient.getSizeOfSet(Domain.DIARY_LIKE_ORDINAL, diaryId);
         assert likeCount != null;
 
         return likeCount.intValue();
     }
 
-    @CachePut(value = "diaryLikeCount", key = "#a0")
+    @CachePut(value = "diaryLikeCount", key = "#a0", unless = "#result == null")
     public Integer cancelLikeByDiaryIdAndUserId(Long diaryId, String userId) {
-        redisClient.removeValueToSet(Domain.DIARY_LIKE, diaryId, userId);
-        Long likeCount = redisClient.getSizeOfSet(Domain.DIARY_LIKE, diaryId);
+        diaryLikeMigrationService.migrateDiaryLikesIfPending(List.of(diaryId));
+        diaryTrendingService.decreaseLikeScore(diaryId);
+        String ordinal = String.valueOf(userOrdinalService.getOrCreateOrdinal(userId));
+        if (redisWriteBehindBuffer.isEnabled()) {
+            redisWriteBehindBuffer.removeValueToSet(Domain.DIARY_LIKE_ORDINAL, diaryId, ordinal);
+            return null;
+        }
+        redisClient.removeValueToSet(Domain.DIARY_LIKE_ORDINAL, diaryId, ordinal);
+        Long likeCount = redisClient.getSizeOfSet(Domain.DIARY_LIKE_ORDINAL, diaryId);
         assert likeCount != null;
 
         return likeCount.intValue();
     }
 
+    public boolean toggleLikeByDiaryIdAndUserId(Long diaryId, String userId) {
+        diaryLikeMigrationService.migrateDiaryLikesIfPending(List.of(diaryId));
+        String ordinal = String.valueOf(userOrdinalService.getOrCreateOrdinal(userId));
+        if (redisWriteBehindBuffer.isEnabled()) {
+            boolean isLiked = redisWriteBehindBuffer.toggleValueInSet(Domain.DIARY_LIKE_ORDINAL, diaryId, ordinal);
+            changeLikeScore(diaryId, isLiked);
+            return isLiked;
+        }
+        SetToggleResult result = redisClient.toggleValueInSet(Domain.DIARY_LIKE_ORDINAL, diaryId, ordinal);
+        changeLikeScore(diaryId, result.isAdded());
+        cacheManageService.putCachedDiaryLikeCount(diaryId, (int) result.size());
+        return result.isAdded();
+    }
+
+    private void changeLikeScore(Long diaryId, boolean isLiked) {
+        if (isLiked)
+            diaryTrendingService.increaseLikeScore(diaryId);
+        else
+            diaryTrendingService.decreaseLikeScore(diaryId);
+    }
+
     @CacheEvict(value = "diaryLikeCount")
     public void deleteAllLikeByDiaryId(Long diaryId) {
-        redisClient.removeKeyToSet(Domain.DIARY_LIKE, diaryId);
+        diaryLikeMigrationService.migrateDiaryLikesIfPending(List.of(diaryId));
+        redisClient.removeKeyToSet(Domain.DIARY_LIKE_ORDINAL, diaryId);
     }
 
     public Set<String> getLikedUserIdsByDiaryId(Long diaryId){
-        return redisClient.getSet(Domain.DIARY_LIKE, diaryId);
+        diaryLikeMigrationService.migrateDiaryLikesIfPending(List.of(diaryId));
+        return userOrdinalService.findUserIds(redisClient.getSet(Domain.DIARY_LIKE_ORDINAL, diaryId));
     }
 }
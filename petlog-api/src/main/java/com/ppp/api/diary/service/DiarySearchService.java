@@ -4,13 +4,13 @@ import com.ppp.api.diary.dto.response.DiaryGroupByDateResponse;
 import com.ppp.api.diary.dto.response.DiaryMostUsedTermsResponse;
 import com.ppp.api.diary.dto.response.DiaryResponse;
 import com.ppp.api.diary.exception.DiaryException;
+import com.ppp.api.guardian.authority.PetAuthority;
 import com.ppp.api.user.exception.ErrorCode;
 import com.ppp.api.user.exception.UserException;
 import com.ppp.domain.diary.Diary;
 import com.ppp.domain.diary.DiaryDocument;
 import com.ppp.domain.diary.repository.DiarySearchQuerydslRepository;
 import com.ppp.domain.diary.repository.DiarySearchRepository;
-import com.ppp.domain.guardian.repository.GuardianRepository;
 import com.ppp.domain.user.User;
 import com.ppp.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +26,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -37,8 +38,8 @@ import static com.ppp.api.diary.exception.ErrorCode.FORBIDDEN_PET_SPACE;
 public class DiarySearchService {
     private final DiarySearchRepository diarySearchRepository;
     private final DiarySearchQuerydslRepository diarySearchQuerydslRepository;
-    private final DiaryCommentRedisService diaryCommentRedisService;
-    private final GuardianRepository guardianRepository;
+    private final DiaryEngagementService diaryEngagementService;
+    private final PetAuthority petAuthority;
     private final UserRepository userRepository;
 
 
@@ -73,7 +74,7 @@ public class DiarySearchService {
     }
 
     private Set<Boolean> getUsersDiaryViewingRange(User user, Long petId) {
-        return new HashSet<>(List.of(true, !guardianRepository.existsByUserIdAndPetId(user.getId(), petId)));
+        return new HashSet<>(List.of(true, !petAuthority.isGuardian(user.getId(), petId)));
     }
 
     public Page<DiaryGroupByDateResponse> searchInFeed(User user, String keyword, int page, int size) {
@@ -85,6 +86,8 @@ public class DiarySearchService {
     private Page<DiaryGroupByDateResponse> getGroupedDiariesPage(Page<DiaryDocument> documentPage, String userId) {
         if (documentPage.getContent().isEmpty())
             return new PageImpl<>(new ArrayList<>(), documentPage.getPageable(), documentPage.getTotalElements());
+        Map<Long, Integer> commentCounts = diaryEngagementService.getCommentCounts(
+                documentPage.getContent().stream().map(document -> Long.parseLong(document.getId())).toList());
         List<DiaryGroupByDateResponse> content = new ArrayList<>();
         List<DiaryResponse> sameDaysDiaries = new ArrayList<>();
         LocalDate prevDate = LocalDate.ofEpochDay(documentPage.getContent().get(0).getDate());
@@ -97,20 +100,20 @@ public class DiarySearchService {
             }
             sameDaysDiaries.add(
                     DiaryResponse.from(document, userId,
-                            diaryCommentRedisService.getDiaryCommentCountByDiaryId(Long.parseLong(document.getId()))));
+                            commentCounts.getOrDefault(Long.parseLong(document.getId()), 0)));
         }
         content.add(DiaryGroupByDateResponse.of(prevDate, sameDaysDiaries));
         return new PageImpl<>(content, documentPage.getPageable(), documentPage.getTotalElements());
     }
 
-    @Cacheable(value = "diaryMostUsedTerms", key = "#a1")
+    @Cacheable(value = "diaryMostUsedTerms", key = "#a1", sync = true)
     public DiaryMostUsedTermsResponse findMostUsedTermsByPetId(User user, Long petId) {
         validateQueryDiaries(user, petId);
         return DiaryMostUsedTermsResponse.from(diarySearchQuerydslRepository.findMostUsedTermsByPetId(petId));
     }
 
     private void validateQueryDiaries(User user, Long petId) {
-        if (!guardianRepository.existsByUserIdAndPetId(user.getId(), petId))
+        if (!petAuthority.isGuardian(user.getId(), petId))
             throw new DiaryException(FORBIDDEN_PET_SPACE);
     }
 }
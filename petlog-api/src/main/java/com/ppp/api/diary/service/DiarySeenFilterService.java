@@ -0,0 +1,107 @@
+package com.ppp.api.diary.service;
+
+import com.ppp.common.client.RedisClient;
+import com.ppp.domain.common.constant.Domain;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static com.ppp.domain.diary.constant.DiaryPolicy.*;
+
+@Service
+@RequiredArgsConstructor
+public class DiarySeenFilterService implements MeterBinder {
+    private final RedisClient redisClient;
+    private final LongAdder checkedCount = new LongAdder();
+    private final LongAdder seenCount = new LongAdder();
+
+    public List<Long> filterUnseen(String userId, List<Long> diaryIds) {
+        if (diaryIds.isEmpty())
+            return new ArrayList<>();
+        List<String> keys = getRetainedKeys(userId);
+        List<Object> bits = redisClient.executePipelined(pipeline -> diaryIds.forEach(diaryId -> {
+            long[] offsets = getOffsets(diaryId);
+            keys.forEach(key -> {
+                for (long offset : offsets)
+                    pipeline.getBit(Domain.DIARY_FEED_SEEN, key, offset);
+            });
+        }));
+        List<Long> unseenDiaryIds = new ArrayList<>();
+        for (int i = 0; i < diaryIds.size(); i++) {
+            if (!isSeen(bits, i * keys.size() * FEED_SEEN_FILTER_HASHES, keys.size()))
+                unseenDiaryIds.add(diaryIds.get(i));
+        }
+        checkedCount.add(diaryIds.size());
+        seenCount.add(diaryIds.size() - unseenDiaryIds.size());
+        return unseenDiaryIds;
+    }
+
+    private boolean isSeen(List<Object> bits, int from, int keyCount) {
+        return IntStream.range(0, keyCount)
+                .anyMatch(keyIndex -> IntStream.range(0, FEED_SEEN_FILTER_HASHES)
+                        .allMatch(hashIndex -> Boolean.TRUE.equals(bits.get(from + keyIndex * FEED_SEEN_FILTER_HASHES + hashIndex))));
+    }
+
+    public void markSeen(String userId, List<Long> diaryIds) {
+        if (diaryIds.isEmpty())
+            return;
+        String todayKey = getKey(userId, LocalDate.now());
+        redisClient.executePipelined(pipeline -> {
+            diaryIds.forEach(diaryId -> {
+                for (long offset : getOffsets(diaryId))
+                    pipeline.setBit(Domain.DIARY_FEED_SEEN, todayKey, offset);
+            });
+            pipeline.expire(Domain.DIARY_FEED_SEEN, todayKey, Duration.ofDays(FEED_SEEN_FILTER_RETENTION_DAYS));
+        });
+    }
+
+    private List<String> getRetainedKeys(String userId) {
+        LocalDate today = LocalDate.now();
+        return IntStream.range(0, FEED_SEEN_FILTER_RETENTION_DAYS)
+                .mapToObj(days -> getKey(userId, today.minusDays(days)))
+                .toList();
+    }
+
+    private String getKey(String userId, LocalDate date) {
+        return userId + ":" + date.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    static long[] getOffsets(long diaryId) {
+        long firstHash = mix(diaryId);
+        long secondHash = mix(firstHash) | 1;
+        long[] offsets = new long[FEED_SEEN_FILTER_HASHES];
+        for (int i = 0; i < FEED_SEEN_FILTER_HASHES; i++)
+            offsets[i] = Math.floorMod(firstHash + i * secondHash, FEED_SEEN_FILTER_BITS);
+        return offsets;
+    }
+
+    private static long mix(long value) {
+        long mixed = value + 0x9E3779B97F4A7C15L;
+        mixed = (mixed ^ (mixed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+        return mixed ^ (mixed >>> 31);
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder("diary.feed.seen.filter.max.bytes.per.user", () -> FEED_SEEN_FILTER_BITS / 8 * FEED_SEEN_FILTER_RETENTION_DAYS)
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("diary.feed.seen.filter.checked", checkedCount, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("diary.feed.seen.filter.seen", seenCount, LongAdder::sum)
+                .register(registry);
+    }
+}
@@ -5,28 +5,32 @@ import com.ppp.api.diary.dto.event.DiaryDeletedEvent;
 import com.ppp.api.diary.dto.event.DiaryUpdatedEvent;
 import com.ppp.api.diary.dto.request.DiaryCreateRequest;
 import com.ppp.api.diary.dto.request.DiaryUpdateRequest;
+import com.ppp.api.diary.dto.response.DiaryCursorResponse;
 import com.ppp.api.diary.dto.response.DiaryDetailResponse;
 import com.ppp.api.diary.dto.response.DiaryGroupByDateResponse;
 import com.ppp.api.diary.dto.response.DiaryResponse;
+import com.ppp.api.diary.dto.transfer.DiaryEngagementDto;
 import com.ppp.api.diary.exception.DiaryException;
 import com.ppp.api.diary.validator.DiaryAccessValidator;
+import com.ppp.api.guardian.authority.PetAuthority;
 import com.ppp.api.pet.exception.PetException;
-import com.ppp.api.video.exception.ErrorCode;
-import com.ppp.api.video.exception.VideoException;
+import com.ppp.api.video.service.VideoManageService;
+import com.ppp.common.exception.FileException;
 import com.ppp.common.service.FileStorageManageService;
 import com.ppp.common.service.ThumbnailService;
+import com.ppp.common.service.ThumbnailSource;
+import com.ppp.common.util.CursorUtil;
 import com.ppp.domain.common.constant.FileType;
 import com.ppp.domain.diary.Diary;
 import com.ppp.domain.diary.DiaryMedia;
 import com.ppp.domain.diary.constant.DiaryMediaType;
 import com.ppp.domain.diary.constant.DiaryPolicy;
+import com.ppp.domain.diary.repository.DiaryQuerydslRepository;
 import com.ppp.domain.diary.repository.DiaryRepository;
-import com.ppp.domain.guardian.repository.GuardianRepository;
 import com.ppp.domain.pet.Pet;
 import com.ppp.domain.pet.repository.PetRepository;
 import com.ppp.domain.user.User;
 import com.ppp.domain.video.TempVideo;
-import com.ppp.domain.video.repository.TempVideoRedisRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -35,9 +39,12 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -51,14 +58,15 @@ import static com.ppp.domain.diary.constant.DiaryPolicy.DEFAULT_THUMBNAIL_PATH;
 @Slf4j
 public class DiaryService {
     private final DiaryRepository diaryRepository;
+    private final DiaryQuerydslRepository diaryQuerydslRepository;
     private final PetRepository petRepository;
-    private final GuardianRepository guardianRepository;
+    private final PetAuthority petAuthority;
     private final FileStorageManageService fileStorageManageService;
-    private final DiaryCommentRedisService diaryCommentRedisService;
-    private final DiaryRedisService diaryRedisService;
+    private final DiaryEngagementService diaryEngagementService;
+    private final DiaryVersionService diaryVersionService;
     private final ThumbnailService thumbnailService;
     private final ApplicationEventPublisher applicationEventPublisher;
-    private final TempVideoRedisRepository tempVideoRedisRepository;
+    private final VideoManageService videoManageService;
     private final DiaryAccessValidator diaryAccessValidator;
 
     @Transactional
@@ -78,22 +86,17 @@ public class DiaryService {
                 .build();
         diary.addDiaryMedias(uploadAndGetDiaryMedias(images, uploadedVideos, diary));
 
-        applicationEventPublisher.publishEvent(
-                new DiaryCreatedEvent(diaryRepository.save(diary).getId()));
+        applicationEventPublisher.publishEvent(new DiaryCreatedEvent(diaryRepository.save(diary).getId(), petId,
+                getThumbnailSource(images, uploadedVideos)));
     }
 
     private void validateWriteDiary(Long petId, User user) {
-        if (!guardianRepository.existsByUserIdAndPetId(user.getId(), petId))
+        if (!petAuthority.isGuardian(user.getId(), petId))
             throw new DiaryException(FORBIDDEN_PET_SPACE);
     }
 
     private List<TempVideo> getUploadedVideos(List<String> videoIds, User user) {
-        if (videoIds.isEmpty())
-            return new ArrayList<>();
-        return videoIds.stream().map(videoId ->
-                tempVideoRedisRepository.findById(videoId).stream()
-                        .filter(video -> Objects.equals(video.getUserId(), user.getId())).findFirst()
-                        .orElseThrow(() -> new VideoException(ErrorCode.NOT_FOUND_VIDEO))).toList();
+        return videoManageService.getCompletedVideos(videoIds, user);
     }
 
     private List<DiaryMedia> uploadAndGetDiaryMedias(List<MultipartFile> images, List<TempVideo> tempVideos, Diary diary) {
@@ -117,6 +120,22 @@ public class DiaryService {
                 .forEach(uploadedPath -> diaryMedias.add(DiaryMedia.of(diary, uploadedPath, DiaryMediaType.VIDEO)));
     }
 
+    // 첫 번째 미디어가 이번 요청으로 올라온 파일이면 요청에 담긴 원본으로 썸네일을 만든다.
+    private ThumbnailSource getThumbnailSource(List<MultipartFile> images, List<TempVideo> tempVideos) {
+        try {
+            Optional<MultipartFile> maybeImage = images == null ? Optional.empty() : images.stream()
+                    .filter(FileStorageManageService::isAllowedImage)
+                    .findFirst();
+            if (maybeImage.isPresent())
+                return thumbnailService.createSource(maybeImage.get());
+            if (!tempVideos.isEmpty())
+                return ThumbnailSource.ofVideo(tempVideos.get(0).getFilePath());
+        } catch (FileException e) {
+            log.warn("Class : {}, Method : {}, Message : {}", this.getClass().getName(), "getThumbnailSource", e.getMessage());
+        }
+        return null;
+    }
+
     @Transactional
     public void updateDiary(User user, Long petId, Long diaryId, DiaryUpdateRequest request, List<MultipartFile> images) {
         Diary diary = diaryRepository.findByIdAndIsDeletedFalse(diaryId)
@@ -131,7 +150,8 @@ public class DiaryService {
         List<DiaryMedia> diaryMediasToBeUpdated = uploadAndGetDiaryMedias(images, newlyUploadedVideos, diary);
         keepOldDiaryMedia(diaryMediasToBeUpdated, keepingVideos);
 
-        applicationEventPublisher.publishEvent(new DiaryUpdatedEvent(diaryId, diaryMediasToBeDeleted, diary.getThumbnailPath()));
+        applicationEventPublisher.publishEvent(new DiaryUpdatedEvent(diaryId, petId, diaryMediasToBeDeleted,
+                diary.getThumbnailPath(), getThumbnailSource(images, newlyUploadedVideos)));
         diary.update(request.getTitle(), request.getContent(), LocalDate.parse(request.getDate()), diaryMediasToBeUpdated, request.getIsPublic());
     }
 
@@ -164,7 +184,7 @@ public class DiaryService {
                 .orElseThrow(() -> new DiaryException(DIARY_NOT_FOUND));
         validateModifyDiary(diary, user, petId);
 
-        applicationEventPublisher.publishEvent(new DiaryDeletedEvent(diaryId,
+        applicationEventPublisher.publishEvent(new DiaryDeletedEvent(diaryId, petId,
                 new ArrayList<>(diary.getDiaryMedias()), diary.getThumbnailPath()));
         diary.delete();
     }
@@ -174,10 +194,23 @@ public class DiaryService {
                 .filter(foundDiary -> Objects.equals(foundDiary.getPet().getId(), petId))
                 .orElseThrow(() -> new DiaryException(DIARY_NOT_FOUND));
         diaryAccessValidator.validateAccessDiary(petId, user.getId(), diary);
+        DiaryEngagementDto engagement = diaryEngagementService.getEngagement(diaryId, user.getId());
         return DiaryDetailResponse.from(diary, user.getId(),
-                diaryCommentRedisService.getDiaryCommentCountByDiaryId(diaryId),
-                diaryRedisService.isLikeExistByDiaryIdAndUserId(diaryId, user.getId()),
-                diaryRedisService.getLikeCountByDiaryId(diaryId));
+                engagement.commentCount(), engagement.isCurrentUserLiked(), engagement.likeCount());
+    }
+
+    public String getDiaryETag(User user, Long petId, Long diaryId) {
+        diaryAccessValidator.validateAccessDiary(petId, user.getId(), diaryId);
+        return toETag(diaryVersionService.getDiaryVersion(diaryId), user.getId());
+    }
+
+    public String getDiariesETag(User user, Long petId, Object... pageParams) {
+        return toETag(diaryVersionService.getPetDiaryVersion(petId), user.getId(),
+                getUsersDiaryViewingRange(user, petId).size(), Arrays.toString(pageParams));
+    }
+
+    private String toETag(Object... parts) {
+        return "\"" + DigestUtils.md5DigestAsHex(Arrays.toString(parts).getBytes(StandardCharsets.UTF_8)) + "\"";
     }
 
     public Slice<DiaryGroupByDateResponse> displayDiaries(User user, Long petId, int page, int size) {
@@ -187,47 +220,91 @@ public class DiaryService {
                         PageRequest.of(page, size)), user.getId());
     }
 
+    public DiaryCursorResponse displayDiariesByCursor(User user, Long petId, String cursor, int size) {
+        LocalDate lastDate = null;
+        Long lastDiaryId = null;
+        if (!CursorUtil.isEmpty(cursor)) {
+            String[] values = CursorUtil.decode(cursor, 2)
+                    .orElseThrow(() -> new DiaryException(INVALID_CURSOR));
+            lastDate = parseCursorDate(values[0]);
+            lastDiaryId = CursorUtil.parseLong(values[1])
+                    .orElseThrow(() -> new DiaryException(INVALID_CURSOR));
+        }
+        List<Diary> diaries = diaryQuerydslRepository.findPetDiariesBefore(
+                petId, getUsersDiaryViewingRange(user, petId), lastDate, lastDiaryId, size + 1);
+        List<Diary> pageDiaries = trimToWholeDates(diaries, size);
+        Diary lastDiary = pageDiaries.isEmpty() ? null : pageDiaries.get(pageDiaries.size() - 1);
+        String nextCursor = diaries.size() > size && lastDiary != null ?
+                CursorUtil.encode(lastDiary.getDate(), lastDiary.getId()) : null;
+        return DiaryCursorResponse.of(groupByDate(pageDiaries, user.getId()), nextCursor);
+    }
+
+    private LocalDate parseCursorDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new DiaryException(INVALID_CURSOR);
+        }
+    }
+
+    // 날짜 묶음이 페이지 사이에서 나뉘지 않도록 다음 페이지로 이어지는 마지막 날짜는 통째로 다음 페이지로 넘긴다.
+    private List<Diary> trimToWholeDates(List<Diary> diaries, int size) {
+        if (diaries.size() <= size)
+            return diaries;
+        LocalDate boundaryDate = diaries.get(size).getDate();
+        int end = size;
+        while (end > 0 && diaries.get(end - 1).getDate().equals(boundaryDate))
+            end--;
+        return diaries.subList(0, end == 0 ? size : end);
+    }
+
     private Set<Boolean> getUsersDiaryViewingRange(User user, Long petId) {
-        return new HashSet<>(List.of(true, !guardianRepository.existsByUserIdAndPetId(user.getId(), petId)));
+        return new HashSet<>(List.of(true, !petAuthority.isGuardian(user.getId(), petId)));
     }
 
     private Slice<DiaryGroupByDateResponse> getGroupedDiariesSlice(Slice<Diary> diarySlice, String userId) {
-        if (diarySlice.getContent().isEmpty())
-            return new SliceImpl<>(new ArrayList<>(), diarySlice.getPageable(), diarySlice.hasNext());
+        return new SliceImpl<>(groupByDate(diarySlice.getContent(), userId), diarySlice.getPageable(), diarySlice.hasNext());
+    }
 
+    private List<DiaryGroupByDateResponse> groupByDate(List<Diary> diaries, String userId) {
+        if (diaries.isEmpty())
+            return new ArrayList<>();
+
+        Map<Long, Integer> commentCounts = diaryEngagementService.getCommentCounts(
+                diaries.stream().map(Diary::getId).toList());
         List<DiaryGroupByDateResponse> content = new ArrayList<>();
         List<DiaryResponse> sameDaysDiaries = new ArrayList<>();
-        LocalDate prevDate = diarySlice.getContent().get(0).getDate();
-        for (Diary diary : diarySlice.getContent()) {
+        LocalDate prevDate = diaries.get(0).getDate();
+        for (Diary diary : diaries) {
             if (!prevDate.equals(diary.getDate())) {
                 content.add(DiaryGroupByDateResponse.of(prevDate, sameDaysDiaries));
                 prevDate = diary.getDate();
                 sameDaysDiaries = new ArrayList<>();
             }
             sameDaysDiaries.add(
-                    DiaryResponse.from(diary, userId,
-                            diaryCommentRedisService.getDiaryCommentCountByDiaryId(diary.getId())));
+                    DiaryResponse.from(diary, userId, commentCounts.getOrDefault(diary.getId(), 0)));
         }
         content.add(DiaryGroupByDateResponse.of(prevDate, sameDaysDiaries));
-
-        return new SliceImpl<>(content, diarySlice.getPageable(), diarySlice.hasNext());
+        return content;
     }
 
     @Transactional
-    public Diary saveThumbnail(Long diaryId) {
+    public Diary saveThumbnail(Long diaryId, ThumbnailSource thumbnailSource) {
         Diary diary = diaryRepository.findByIdAndIsDeletedFalse(diaryId)
                 .orElseThrow(() -> new DiaryException(DIARY_NOT_FOUND));
         List<DiaryMedia> diaryMedias = diary.getDiaryMedias();
         if (diaryMedias.isEmpty()) {
             diary.addThumbnail(DiaryPolicy.DEFAULT_THUMBNAIL_PATH);
         } else {
-            diary.addThumbnail(getThumbnailFromDiaryMedia(diaryMedias.get(0)));
+            diary.addThumbnail(getThumbnailFromDiaryMedia(diaryMedias.get(0), thumbnailSource));
         }
         return diary;
     }
 
-    public String getThumbnailFromDiaryMedia(DiaryMedia thumbnailMedia) {
+    public String getThumbnailFromDiaryMedia(DiaryMedia thumbnailMedia, ThumbnailSource thumbnailSource) {
         try {
+            if (thumbnailSource != null)
+                return thumbnailService.uploadThumbnail(thumbnailSource, DIARY);
             if (DiaryMediaType.IMAGE.equals(thumbnailMedia.getType()))
                 return thumbnailService.uploadThumbnailFromStorageFile(thumbnailMedia.getPath(), FileType.IMAGE, DIARY);
             return thumbnailService.uploadThumbnailFromStorageFile(thumbnailMedia.getPath(), FileType.VIDEO, DIARY);
@@ -252,9 +329,8 @@ public class DiaryService {
     public DiaryDetailResponse displayFeedDiary(User user, Long diaryId) {
         Diary diary = diaryRepository.findByIdAndIsDeletedFalse(diaryId)
             .orElseThrow(() -> new DiaryException(DIARY_NOT_FOUND));
+        DiaryEngagementDto engagement = diaryEngagementService.getEngagement(diaryId, user.getId());
         return DiaryDetailResponse.from(diary, user.getId(),
-                diaryCommentRedisService.getDiaryCommentCountByDiaryId(diaryId),
-                diaryRedisService.isLikeExistByDiaryIdAndUserId(diaryId, user.getId()),
-                diaryRedisService.getLikeCountByDiaryId(diaryId));
+                engagement.commentCount(), engagement.isCurrentUserLiked(), engagement.likeCount());
     }
 }
@@ -0,0 +1,101 @@
+package com.ppp.api.diary.service;
+
+import com.ppp.common.client.RedisClient;
+import com.ppp.domain.diary.Diary;
+import com.ppp.domain.diary.repository.DiaryQuerydslRepository;
+import com.ppp.domain.diary.repository.DiaryRepository;
+import com.ppp.domain.subscription.constant.Status;
+import com.ppp.domain.subscription.repository.SubscriptionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.ppp.domain.common.constant.Domain.DIARY_FEED_PULL_PET;
+import static com.ppp.domain.common.constant.Domain.DIARY_FEED_TIMELINE;
+import static com.ppp.domain.diary.constant.DiaryPolicy.*;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DiaryTimelineService {
+    private static final String PULL_PET_KEY = "";
+    private static final String EMPTY_TIMELINE_MARKER = "0";
+    private static final Duration TIMELINE_TTL = Duration.ofDays(FEED_TIMELINE_TTL_DAYS);
+
+    private final RedisClient redisClient;
+    private final DiaryRepository diaryRepository;
+    private final DiaryQuerydslRepository diaryQuerydslRepository;
+    private final SubscriptionRepository subscriptionRepository;
+
+    public void pushToSubscribersTimeline(long diaryId) {
+        diaryRepository.findById(diaryId)
+                .filter(diary -> diary.isPublic() && !diary.isDeleted())
+                .ifPresent(this::pushToSubscribersTimeline);
+    }
+
+    private void pushToSubscribersTimeline(Diary diary) {
+        Long petId = diary.getPet().getId();
+        if (subscriptionRepository.countByPetIdAndStatus(petId, Status.ACTIVE) > FEED_FAN_OUT_SUBSCRIBER_LIMIT) {
+            redisClient.addValueToSet(DIARY_FEED_PULL_PET, PULL_PET_KEY, String.valueOf(petId));
+            return;
+        }
+        redisClient.addValueToExistingSortedSets(DIARY_FEED_TIMELINE,
+                subscriptionRepository.findActiveSubscriberIdsByPetId(petId),
+                String.valueOf(diary.getId()), diary.getId(), FEED_TIMELINE_MAX_SIZE);
+    }
+
+    public void removeFromSubscribersTimeline(long diaryId) {
+        diaryRepository.findById(diaryId)
+                .ifPresent(diary -> redisClient.removeValueFromSortedSets(DIARY_FEED_TIMELINE,
+                        subscriptionRepository.findActiveSubscriberIdsByPetId(diary.getPet().getId()),
+                        String.valueOf(diaryId)));
+    }
+
+    public void removePullPet(Long petId) {
+        redisClient.removeValueToSet(DIARY_FEED_PULL_PET, PULL_PET_KEY, String.valueOf(petId));
+    }
+
+    public void deleteTimeline(String userId) {
+        redisClient.deleteKey(DIARY_FEED_TIMELINE, userId);
+    }
+
+    public List<Long> findTimelineDiaryIds(String userId, Set<Long> subscribedPetIds, long beforeDiaryId, int size) {
+        if (subscribedPetIds.isEmpty() || size <= 0)
+            return new ArrayList<>();
+        rebuildTimelineIfCold(userId, subscribedPetIds);
+
+        TreeSet<Long> diaryIds = redisClient.getValuesFromSortedSetByScoreDesc(
+                        DIARY_FEED_TIMELINE, userId, beforeDiaryId - 1, 1, size).stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toCollection(() -> new TreeSet<>(Comparator.reverseOrder())));
+        Set<Long> pullPetIds = getPullModePetIds(subscribedPetIds);
+        if (!pullPetIds.isEmpty())
+            diaryIds.addAll(diaryQuerydslRepository.findPublicDiaryIdsByPetIdsBefore(pullPetIds, beforeDiaryId, size));
+        redisClient.expire(DIARY_FEED_TIMELINE, userId, TIMELINE_TTL);
+        return diaryIds.stream().limit(size).collect(Collectors.toList());
+    }
+
+    private Set<Long> getPullModePetIds(Set<Long> subscribedPetIds) {
+        Set<String> pullPetIds = redisClient.getSet(DIARY_FEED_PULL_PET, PULL_PET_KEY);
+        if (pullPetIds == null || pullPetIds.isEmpty())
+            return Collections.emptySet();
+        return pullPetIds.stream()
+                .map(Long::valueOf)
+                .filter(subscribedPetIds::contains)
+                .collect(Collectors.toSet());
+    }
+
+    private void rebuildTimelineIfCold(String userId, Set<Long> subscribedPetIds) {
+        if (redisClient.hasKey(DIARY_FEED_TIMELINE, userId))
+            return;
+        Map<String, Double> timeline = diaryQuerydslRepository
+                .findPublicDiaryIdsByPetIdsBefore(subscribedPetIds, Long.MAX_VALUE, FEED_TIMELINE_MAX_SIZE).stream()
+                .collect(Collectors.toMap(String::valueOf, Long::doubleValue, (first, second) -> first));
+        timeline.put(EMPTY_TIMELINE_MARKER, 0D);
+        redisClient.addValuesToSortedSet(DIARY_FEED_TIMELINE, userId, timeline, TIMELINE_TTL);
+    }
+}
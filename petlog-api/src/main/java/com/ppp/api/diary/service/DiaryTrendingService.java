@@ -0,0 +1,104 @@
+package com.ppp.api.diary.service;
+
+import com.ppp.common.client.RedisClient;
+import com.ppp.domain.common.constant.Domain;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.ppp.domain.diary.constant.DiaryPolicy.*;
+
+@Service
+@RequiredArgsConstructor
+public class DiaryTrendingService {
+    private static final String TRENDING_KEY = "";
+    private static final String EPOCH_KEY = "_EPOCH";
+
+    // 기준 시각(epoch) 이후 경과 시간만큼 가중치를 키워 더하므로 점수 비교만으로 시간 감쇠가 반영된다.
+    private static final RedisScript<Long> INCREASE_SCORE_SCRIPT = new DefaultRedisScript<>("""
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if not epoch then
+                epoch = tonumber(ARGV[2])
+                redis.call('SET', KEYS[2], ARGV[2])
+            end
+            local score = tonumber(ARGV[1]) * math.pow(2, (tonumber(ARGV[2]) - epoch) / tonumber(ARGV[3]))
+            redis.call('ZINCRBY', KEYS[1], score, ARGV[4])
+            return 1
+            """, Long.class);
+
+    // 취소 시점의 가중치를 빼므로 좋아요, 댓글을 반복해서 등록, 취소해도 점수가 늘어나지 않는다.
+    private static final RedisScript<Long> DECREASE_SCORE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('ZSCORE', KEYS[1], ARGV[4])
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if not current or not epoch then
+                return 0
+            end
+            local score = tonumber(ARGV[1]) * math.pow(2, (tonumber(ARGV[2]) - epoch) / tonumber(ARGV[3]))
+            if tonumber(current) <= score then
+                return redis.call('ZREM', KEYS[1], ARGV[4])
+            end
+            redis.call('ZINCRBY', KEYS[1], -score, ARGV[4])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RESCALE_SCRIPT = new DefaultRedisScript<>("""
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if not epoch then
+                return 0
+            end
+            local factor = math.pow(2, (epoch - tonumber(ARGV[1])) / tonumber(ARGV[2]))
+            redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', factor)
+            redis.call('SET', KEYS[2], ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[4])
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1))
+            return redis.call('ZCARD', KEYS[1])
+            """, Long.class);
+
+    private final RedisClient redisClient;
+
+    public void increaseLikeScore(Long diaryId) {
+        changeScore(INCREASE_SCORE_SCRIPT, diaryId, TRENDING_LIKE_WEIGHT);
+    }
+
+    public void decreaseLikeScore(Long diaryId) {
+        changeScore(DECREASE_SCORE_SCRIPT, diaryId, TRENDING_LIKE_WEIGHT);
+    }
+
+    public void increaseCommentScore(Long diaryId) {
+        changeScore(INCREASE_SCORE_SCRIPT, diaryId, TRENDING_COMMENT_WEIGHT);
+    }
+
+    public void decreaseCommentScore(Long diaryId) {
+        changeScore(DECREASE_SCORE_SCRIPT, diaryId, TRENDING_COMMENT_WEIGHT);
+    }
+
+    private void changeScore(RedisScript<Long> script, Long diaryId, double weight) {
+        redisClient.executeScript(script, Domain.DIARY_TRENDING, List.of(TRENDING_KEY, EPOCH_KEY),
+                String.valueOf(weight), String.valueOf(Instant.now().getEpochSecond()),
+                String.valueOf(TRENDING_HALF_LIFE_SECONDS), String.valueOf(diaryId));
+    }
+
+    public void removeDiaries(List<Long> diaryIds) {
+        redisClient.removeValuesFromSortedSet(Domain.DIARY_TRENDING, TRENDING_KEY,
+                diaryIds.stream().map(String::valueOf).toList());
+    }
+
+    public List<Long> findTrendingDiaryIds(long offset, int size) {
+        return redisClient.getValuesFromSortedSetByRankDesc(Domain.DIARY_TRENDING, TRENDING_KEY, offset, offset + size - 1)
+                .stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    @Scheduled(cron = "0 0 * * * *")
+    public void rescaleScores() {
+        redisClient.executeScript(RESCALE_SCRIPT, Domain.DIARY_TRENDING, List.of(TRENDING_KEY, EPOCH_KEY),
+                String.valueOf(Instant.now().getEpochSecond()), String.valueOf(TRENDING_HALF_LIFE_SECONDS),
+                String.valueOf(TRENDING_MAX_SIZE), String.valueOf(TRENDING_MIN_SCORE));
+    }
+}
@@ -0,0 +1,35 @@
+package com.ppp.api.diary.service;
+
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+public class DiaryVersionService {
+    @Cacheable(value = "diaryVersion", key = "#a0")
+    public String getDiaryVersion(Long diaryId) {
+        return newVersion();
+    }
+
+    @CachePut(value = "diaryVersion", key = "#a0")
+    public String renewDiaryVersion(Long diaryId) {
+        return newVersion();
+    }
+
+    @Cacheable(value = "petDiaryVersion", key = "#a0")
+    public String getPetDiaryVersion(Long petId) {
+        return newVersion();
+    }
+
+    @CachePut(value = "petDiaryVersion", key = "#a0")
+    public String renewPetDiaryVersion(Long petId) {
+        return newVersion();
+    }
+
+    // 만료 후 다시 만들어진 버전이 이전에 내려준 ETag 와 겹치지 않도록 시간 대신 난수를 쓴다.
+    private String newVersion() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
@@ -1,9 +1,9 @@
 package com.ppp.api.diary.validator;
 
 import com.ppp.api.diary.exception.DiaryException;
+import com.ppp.api.guardian.authority.PetAuthority;
 import com.ppp.domain.diary.Diary;
 import com.ppp.domain.diary.repository.DiaryRepository;
-import com.ppp.domain.guardian.repository.GuardianRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -16,7 +16,7 @@ import static com.ppp.api.diary.exception.ErrorCode.FORBIDDEN_PET_SPACE;
 @Slf4j
 @RequiredArgsConstructor
 public class DiaryAccessValidator {
-    private final GuardianRepository guardianRepository;
+    private final PetAuthority petAuthority;
     private final DiaryRepository diaryRepository;
 
     @Cacheable(value = "diaryAccessAuthority", key = "{#petId, #userId, #diaryId}")
@@ -24,7 +24,7 @@ public class DiaryAccessValidator {
         Diary diary = diaryRepository.findByIdAndPetIdAndIsDeletedFalse(diaryId, petId)
                 .orElseThrow(() -> new DiaryException(DIARY_NOT_FOUND));
         if (diary.isPublic()) return true;
-        if (!guardianRepository.existsByUserIdAndPetId(userId, petId))
+        if (!petAuthority.isGuardian(userId, petId))
             throw new DiaryException(FORBIDDEN_PET_SPACE);
         return true;
     }
@@ -32,7 +32,7 @@ public class DiaryAccessValidator {
     @Cacheable(value = "diaryAccessAuthority", key = "{#petId, #userId, #diary.id}")
     public boolean validateAccessDiary(Long petId, String userId, Diary diary) {
         if (diary.isPublic()) return true;
-        if (!guardianRepository.existsByUserIdAndPetId(userId, petId))
+        if (!petAuthority.isGuardian(userId, petId))
             throw new DiaryException(FORBIDDEN_PET_SPACE);
         return true;
     }
@@ -0,0 +1,30 @@
+package com.ppp.api.guardian.authority;
+
+import com.ppp.api.guardian.dto.transfer.PetAuthorityDto;
+import com.ppp.api.guardian.service.PetAuthorityService;
+import com.ppp.common.service.CacheManageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PetAuthority {
+    private final PetAuthorityService petAuthorityService;
+    private final CacheManageService cacheManageService;
+
+    public boolean isGuardian(String userId, Long petId) {
+        return getAuthority(userId).hasGuardianPet(petId);
+    }
+
+    public boolean isLeader(String userId, Long petId) {
+        return getAuthority(userId).hasLeaderPet(petId);
+    }
+
+    public void invalidate(String userId) {
+        cacheManageService.renewPetAuthorityVersion(userId);
+    }
+
+    private PetAuthorityDto getAuthority(String userId) {
+        return petAuthorityService.getAuthority(userId, petAuthorityService.getAuthorityVersion(userId));
+    }
+}
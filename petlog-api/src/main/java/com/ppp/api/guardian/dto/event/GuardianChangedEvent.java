@@ -0,0 +1,11 @@
+package com.ppp.api.guardian.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class GuardianChangedEvent {
+    private Long petId;
+    private String userId;
+}
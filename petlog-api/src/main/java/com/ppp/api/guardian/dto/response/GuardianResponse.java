@@ -1,5 +1,6 @@
 package com.ppp.api.guardian.dto.response;
 
+import com.ppp.api.guardian.dto.transfer.GuardianMemberDto;
 import com.ppp.domain.guardian.Guardian;
 import com.ppp.domain.guardian.constant.GuardianRole;
 import lombok.Builder;
@@ -19,4 +20,13 @@ public record GuardianResponse(
                 .profileImageUrl(guardian.getUser().getProfilePath())
                 .build();
     }
+
+    public static GuardianResponse from(GuardianMemberDto member) {
+        return GuardianResponse.builder()
+                .guardianId(member.guardianId())
+                .guardianRole(member.guardianRole())
+                .nickname(member.nickname())
+                .profileImageUrl(member.profilePath())
+                .build();
+    }
 }
@@ -0,0 +1,28 @@
+package com.ppp.api.guardian.dto.transfer;
+
+import com.ppp.domain.guardian.Guardian;
+import com.ppp.domain.guardian.constant.GuardianRole;
+import lombok.Builder;
+
+@Builder
+public record GuardianMemberDto(
+        Long guardianId,
+        String userId,
+        String nickname,
+        String profilePath,
+        String thumbnailPath,
+        GuardianRole guardianRole,
+        boolean deletedUser
+) {
+    public static GuardianMemberDto from(Guardian guardian) {
+        return GuardianMemberDto.builder()
+                .guardianId(guardian.getId())
+                .userId(guardian.getUser().getId())
+                .nickname(guardian.getUser().getNickname())
+                .profilePath(guardian.getUser().getProfilePath())
+                .thumbnailPath(guardian.getUser().getThumbnailPath())
+                .guardianRole(guardian.getGuardianRole())
+                .deletedUser(Boolean.TRUE.equals(guardian.getUser().getIsDeleted()))
+                .build();
+    }
+}
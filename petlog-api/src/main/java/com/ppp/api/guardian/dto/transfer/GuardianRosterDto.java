@@ -0,0 +1,32 @@
+package com.ppp.api.guardian.dto.transfer;
+
+import com.ppp.domain.guardian.Guardian;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+public record GuardianRosterDto(
+        List<GuardianMemberDto> members
+) {
+    public static GuardianRosterDto from(List<Guardian> guardians) {
+        return new GuardianRosterDto(guardians.stream()
+                .map(GuardianMemberDto::from)
+                .toList());
+    }
+
+    public boolean contains(String userId) {
+        return findMember(userId).isPresent();
+    }
+
+    public Optional<GuardianMemberDto> findMember(String userId) {
+        return members.stream()
+                .filter(member -> Objects.equals(member.userId(), userId))
+                .findFirst();
+    }
+
+    public Optional<GuardianMemberDto> findActiveMember(String userId) {
+        return findMember(userId)
+                .filter(member -> !member.deletedUser());
+    }
+}
@@ -0,0 +1,33 @@
+package com.ppp.api.guardian.dto.transfer;
+
+import com.ppp.domain.guardian.constant.GuardianRole;
+
+import java.util.Arrays;
+import java.util.Map;
+
+public record PetAuthorityDto(
+        long[] guardianPetIds,
+        long[] leaderPetIds
+) {
+    public static PetAuthorityDto from(Map<Long, GuardianRole> guardianRoles) {
+        return new PetAuthorityDto(
+                sortedPetIds(guardianRoles, null),
+                sortedPetIds(guardianRoles, GuardianRole.LEADER));
+    }
+
+    private static long[] sortedPetIds(Map<Long, GuardianRole> guardianRoles, GuardianRole role) {
+        return guardianRoles.entrySet().stream()
+                .filter(entry -> role == null || role.equals(entry.getValue()))
+                .mapToLong(Map.Entry::getKey)
+                .sorted()
+                .toArray();
+    }
+
+    public boolean hasGuardianPet(Long petId) {
+        return petId != null && Arrays.binarySearch(guardianPetIds, petId) >= 0;
+    }
+
+    public boolean hasLeaderPet(Long petId) {
+        return petId != null && Arrays.binarySearch(leaderPetIds, petId) >= 0;
+    }
+}
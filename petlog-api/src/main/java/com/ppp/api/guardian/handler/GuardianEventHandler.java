@@ -0,0 +1,22 @@
+package com.ppp.api.guardian.handler;
+
+import com.ppp.api.guardian.authority.PetAuthority;
+import com.ppp.api.guardian.dto.event.GuardianChangedEvent;
+import com.ppp.api.guardian.service.GuardianRosterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class GuardianEventHandler {
+    private final GuardianRosterService guardianRosterService;
+    private final PetAuthority petAuthority;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleGuardianChangedEvent(GuardianChangedEvent event) {
+        guardianRosterService.evictRoster(event.getPetId());
+        petAuthority.invalidate(event.getUserId());
+    }
+}
@@ -0,0 +1,31 @@
+package com.ppp.api.guardian.service;
+
+import com.ppp.api.guardian.dto.transfer.GuardianRosterDto;
+import com.ppp.common.service.CacheManageService;
+import com.ppp.domain.guardian.repository.GuardianQuerydslRepository;
+import com.ppp.domain.guardian.repository.GuardianRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class GuardianRosterService {
+    private final GuardianRepository guardianRepository;
+    private final GuardianQuerydslRepository guardianQuerydslRepository;
+    private final CacheManageService cacheManageService;
+
+    @Cacheable(value = "guardianRoster", key = "#a0", sync = true)
+    public GuardianRosterDto getRoster(Long petId) {
+        return GuardianRosterDto.from(guardianRepository.findAllByPetIdOrderByCreatedAtDesc(petId));
+    }
+
+    public void evictRoster(Long petId) {
+        cacheManageService.deleteCachedGuardianRoster(petId);
+    }
+
+    public void evictRostersOfUser(String userId) {
+        guardianQuerydslRepository.findPetIdsByUserId(userId)
+                .forEach(cacheManageService::deleteCachedGuardianRoster);
+    }
+}
@@ -1,8 +1,11 @@
 package com.ppp.api.guardian.service;
 
+import com.ppp.api.guardian.authority.PetAuthority;
+import com.ppp.api.guardian.dto.event.GuardianChangedEvent;
 import com.ppp.api.guardian.dto.request.InviteGuardianRequest;
 import com.ppp.api.guardian.dto.response.GuardianResponse;
 import com.ppp.api.guardian.dto.response.GuardiansResponse;
+import com.ppp.api.guardian.dto.transfer.GuardianRosterDto;
 import com.ppp.api.guardian.exception.ErrorCode;
 import com.ppp.api.guardian.exception.GuardianException;
 import com.ppp.api.notification.dto.event.InvitedNotificationEvent;
@@ -20,7 +23,6 @@ import com.ppp.domain.notification.constant.MessageCode;
 import com.ppp.domain.pet.Pet;
 import com.ppp.domain.pet.repository.PetRepository;
 import com.ppp.domain.user.User;
-import com.ppp.domain.user.repository.UserQuerydslRepository;
 import com.ppp.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,7 +30,6 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -43,24 +44,27 @@ public class GuardianService {
     private final UserRepository userRepository;
     private final PetRepository petRepository;
     private final InvitationRepository invitationRepository;
-    private final UserQuerydslRepository userQuerydslRepository;
+    private final GuardianRosterService guardianRosterService;
+    private final PetAuthority petAuthority;
     private final CacheManageService cacheManageService;
     private final ApplicationEventPublisher applicationEventPublisher;
 
     public GuardiansResponse displayGuardians(Long petId, User user) {
-        if (!guardianRepository.existsByUserIdAndPetId(user.getId(), petId))
+        GuardianRosterDto roster = guardianRosterService.getRoster(petId);
+        if (!roster.contains(user.getId()))
             throw new GuardianException(ErrorCode.GUARDIAN_NOT_FOUND);
 
-        List<GuardianResponse> guardianResponses = new ArrayList<>();
-        List<Guardian> guardians = guardianRepository.findAllByPetIdOrderByCreatedAtDesc(petId);
-        guardians.stream().map(GuardianResponse::from).forEach(guardianResponses::add);
+        List<GuardianResponse> guardianResponses = roster.members().stream()
+                .map(GuardianResponse::from)
+                .collect(Collectors.toList());
 
-        return new GuardiansResponse(guardians.size(), guardianResponses);
+        return new GuardiansResponse(guardianResponses.size(), guardianResponses);
     }
 
     public void createGuardian(Pet pet, User user, GuardianRole guardianRole) {
         validateIsGuardian(pet.getId(), user.getId());
         guardianRepository.save(Guardian.builder().guardianRole(guardianRole).pet(pet).user(user).repStatus(RepStatus.NORMAL).build());
+        applicationEventPublisher.publishEvent(new GuardianChangedEvent(pet.getId(), user.getId()));
     }
 
     @Transactional
@@ -71,35 +75,34 @@ public class GuardianService {
         Guardian guardianMe = guardianRepository.findByUserIdAndPetId(user.getId(), petId)
                 .orElseThrow(() -> new GuardianException(ErrorCode.GUARDIAN_NOT_FOUND));
 
+        boolean isLeader = petAuthority.isLeader(user.getId(), petId);
         if (requestedGuardian.getId() == guardianMe.getId()) {
-            if (isReaderGuardian(guardianMe)) {
+            if (isLeader) {
                 throw new GuardianException(ErrorCode.NOT_DELETED_IF_READER);
             } else {
                 guardianRepository.deleteById(requestedGuardian.getId());
             }
-        } else if (isReaderGuardian(guardianMe)) {
+        } else if (isLeader) {
             guardianRepository.deleteById(requestedGuardian.getId());
 
             applicationEventPublisher.publishEvent(
                     new InvitedNotificationEvent(MessageCode.INVITATION_GUARDIAN_KICK, user, requestedGuardian.getUser().getId(), requestedGuardian.getPet()));
         }
         deleteCachedGuardianAuthority(requestedGuardian.getUser().getId(), petId);
+        applicationEventPublisher.publishEvent(new GuardianChangedEvent(petId, requestedGuardian.getUser().getId()));
     }
 
     private void deleteCachedGuardianAuthority(String userId, Long petId) {
         cacheManageService.deleteCachedPetSpaceAuthority(userId, petId);
     }
 
-    private boolean isReaderGuardian(Guardian guardian) {
-        return GuardianRole.LEADER.equals(guardian.getGuardianRole());
-    }
-
     public void deleteReaderGuardian(String userId, Long petId) {
         Guardian guardian = findByUserIdAndPetId(userId, petId);
-        if (guardianRepository.existsByPetIdAndGuardianRole(petId, GuardianRole.MEMBER)) {
+        if (petAuthority.isLeader(userId, petId) && guardianRepository.existsByPetIdAndGuardianRole(petId, GuardianRole.MEMBER)) {
             throw new GuardianException(ErrorCode.NOT_ALLOWED_DELETE_LEADER);
         }
         guardianRepository.deleteById(guardian.getId());
+        applicationEventPublisher.publishEvent(new GuardianChangedEvent(petId, userId));
     }
 
     @Transactional
@@ -151,15 +154,12 @@ public class GuardianService {
     }
 
     public List<UserResponse> displayGuardiansByPetId(User user, Long petId) {
-        validateQueryGuardians(user.getId(), petId);
-        return userQuerydslRepository.findGuardianUserByPetId(petId)
-                .stream().map(userDao -> UserResponse.from(userDao, user.getId()))
-                .collect(Collectors.toList());
-    }
-
-    private void validateQueryGuardians(String userId, Long petId) {
-        if (!guardianRepository.existsByUserIdAndPetId(userId, petId))
+        GuardianRosterDto roster = guardianRosterService.getRoster(petId);
+        if (!roster.contains(user.getId()))
             throw new GuardianException(ErrorCode.FORBIDDEN_PET_SPACE);
+        return roster.members().stream()
+                .map(member -> UserResponse.of(member.userId(), member.nickname(), user.getId()))
+                .collect(Collectors.toList());
     }
 
     @Transactional
@@ -0,0 +1,26 @@
+package com.ppp.api.guardian.service;
+
+import com.ppp.api.guardian.dto.transfer.PetAuthorityDto;
+import com.ppp.domain.guardian.repository.GuardianQuerydslRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@RequiredArgsConstructor
+public class PetAuthorityService {
+    private final GuardianQuerydslRepository guardianQuerydslRepository;
+
+    @Cacheable(value = "petAuthorityVersion", key = "#a0")
+    public String getAuthorityVersion(String userId) {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    // 버전이 바뀌면 이전 스냅샷은 더 이상 조회되지 않고 만료되므로, 무효화 도중 읽힌 옛 권한이 새 버전에 덮어써지지 않는다.
+    @Cacheable(value = "petAuthority", key = "{#a0, #a1}", sync = true)
+    public PetAuthorityDto getAuthority(String userId, String version) {
+        return PetAuthorityDto.from(guardianQuerydslRepository.findGuardianRolesByUserId(userId));
+    }
+}
@@ -1,5 +1,7 @@
 package com.ppp.api.log.service;
 
+import com.ppp.api.guardian.authority.PetAuthority;
+import com.ppp.api.guardian.service.GuardianRosterService;
 import com.ppp.api.log.dto.request.LogRequest;
 import com.ppp.api.log.dto.response.LogCalenderResponse;
 import com.ppp.api.log.dto.response.LogDetailResponse;
@@ -9,7 +11,6 @@ import com.ppp.api.log.exception.LogException;
 import com.ppp.api.pet.exception.PetException;
 import com.ppp.api.user.exception.ErrorCode;
 import com.ppp.api.user.exception.UserException;
-import com.ppp.domain.guardian.repository.GuardianRepository;
 import com.ppp.domain.log.Log;
 import com.ppp.domain.log.LogLocation;
 import com.ppp.domain.log.constant.LogType;
@@ -42,16 +43,16 @@ import static com.ppp.domain.log.constant.LogLocationType.KAKAO;
 public class LogService {
     private final LogRepository logRepository;
     private final PetRepository petRepository;
-    private final GuardianRepository guardianRepository;
+    private final PetAuthority petAuthority;
     private final UserRepository userRepository;
+    private final GuardianRosterService guardianRosterService;
     private final LogQuerydslRepository logQuerydslRepository;
 
     @Transactional
     public void createLog(User user, Long petId, LogRequest request) {
         Pet pet = petRepository.findByIdAndIsDeletedFalse(petId)
                 .orElseThrow(() -> new PetException(PET_NOT_FOUND));
-        User mangerUser = userRepository.findByGuardianUserByPetIdAndUserId(petId, request.getManagerId())
-                .orElseThrow(() -> new UserException(ErrorCode.NOT_FOUND_USER));
+        User mangerUser = getManagerUser(petId, request.getManagerId());
         validateAccessLog(petId, user);
 
         Log log = Log.builder()
@@ -68,6 +69,12 @@ public class LogService {
         logRepository.save(log);
     }
 
+    private User getManagerUser(Long petId, String managerId) {
+        guardianRosterService.getRoster(petId).findActiveMember(managerId)
+                .orElseThrow(() -> new UserException(ErrorCode.NOT_FOUND_USER));
+        return userRepository.getReferenceById(managerId);
+    }
+
     private LogLocation getLocationIfExists(LogRequest request, Log log) {
         if (!LogType.WALK.equals(request.getLogType()) || request.getSubType() == null)
             return null;
@@ -101,8 +108,7 @@ public class LogService {
         Log log = logRepository.findByIdAndIsDeletedFalse(logId)
                 .filter(foundLog -> Objects.equals(foundLog.getPet().getId(), petId))
                 .orElseThrow(() -> new LogException(LOG_NOT_FOUND));
-        User mangerUser = userRepository.findByGuardianUserByPetIdAndUserId(petId, request.getManagerId())
-                .orElseThrow(() -> new UserException(ErrorCode.NOT_FOUND_USER));
+        User mangerUser = getManagerUser(petId, request.getManagerId());
         validateAccessLog(petId, user);
 
         log.update(request.getLocalDatetime(), getTypeMap(request), request.getMemo(),
@@ -120,7 +126,7 @@ public class LogService {
     }
 
     private void validateAccessLog(Long petId, User user) {
-        if (!guardianRepository.existsByUserIdAndPetId(user.getId(), petId))
+        if (!petAuthority.isGuardian(user.getId(), petId))
             throw new LogException(FORBIDDEN_PET_SPACE);
     }
 
@@ -1,5 +1,6 @@
 package com.ppp.api.pet.handler;
 
+import com.ppp.api.diary.service.DiaryRedisCleanupService;
 import com.ppp.api.diary.service.DiarySearchService;
 import com.ppp.api.diary.service.DiaryService;
 import com.ppp.api.pet.dto.event.PetDeletedEvent;
@@ -18,12 +19,14 @@ import java.util.concurrent.CompletableFuture;
 public class PetEventHandler {
     private final DiarySearchService diarySearchService;
     private final DiaryService diaryService;
+    private final DiaryRedisCleanupService diaryRedisCleanupService;
 
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handlePetDeletedEvent(PetDeletedEvent event) {
         CompletableFuture.runAsync(() -> diarySearchService.deleteAllByPetId(event.getPetId()))
-                .thenRunAsync(() -> diaryService.deleteAllByPetId(event.getPetId()));
+                .thenRunAsync(() -> diaryService.deleteAllByPetId(event.getPetId()))
+                .thenRunAsync(() -> diaryRedisCleanupService.cleanupPet(event.getPetId()));
     }
 
 }
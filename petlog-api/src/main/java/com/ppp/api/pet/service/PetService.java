@@ -1,5 +1,6 @@
 package com.ppp.api.pet.service;
 
+import com.ppp.api.guardian.authority.PetAuthority;
 import com.ppp.api.guardian.exception.GuardianException;
 import com.ppp.api.guardian.service.GuardianService;
 import com.ppp.api.pet.dto.event.PetDeletedEvent;
@@ -12,12 +13,10 @@ import com.ppp.api.subscription.service.SubscriptionService;
 import com.ppp.common.service.FileStorageManageService;
 import com.ppp.common.service.ThumbnailService;
 import com.ppp.domain.common.constant.Domain;
-import com.ppp.domain.common.constant.FileType;
 import com.ppp.domain.common.util.GenerationUtil;
 import com.ppp.domain.guardian.constant.GuardianRole;
 import com.ppp.domain.guardian.dto.MyPetDto;
 import com.ppp.domain.guardian.repository.GuardianQuerydslRepository;
-import com.ppp.domain.guardian.repository.GuardianRepository;
 import com.ppp.domain.pet.Pet;
 import com.ppp.domain.pet.PetImage;
 import com.ppp.domain.pet.repository.PetImageRepository;
@@ -45,7 +44,7 @@ public class PetService {
     private final FileStorageManageService fileStorageManageService;
     private final GuardianService guardianService;
     private final GuardianQuerydslRepository guardianQuerydslRepository;
-    private final GuardianRepository guardianRepository;
+    private final PetAuthority petAuthority;
     private final ThumbnailService thumbnailService;
     private final SubscriptionService subscriptionService;
     private final ApplicationEventPublisher applicationEventPublisher;
@@ -73,7 +72,7 @@ public class PetService {
         guardianService.createGuardian(savedPet, user, GuardianRole.LEADER);
 
         savePetImage(pet, petImage);
-        savePetThumbnail(pet);
+        savePetThumbnail(pet, petImage);
     }
 
     private void savePetImage(Pet pet, MultipartFile petImage) {
@@ -86,14 +85,16 @@ public class PetService {
         }
     }
 
-    private void savePetThumbnail(Pet pet) {
+    private void savePetThumbnail(Pet pet, MultipartFile petImage) {
+        if (petImage == null || petImage.isEmpty())
+            return;
         petImageRepository.findByPet(pet).ifPresent(
             image -> {
                 try {
                     if (image.getThumbnailUrl() != null) {
                         fileStorageManageService.deleteImage(image.getThumbnailUrl());
                     }
-                    String thumbnailUrl = thumbnailService.uploadThumbnailFromStorageFile(image.getUrl(), FileType.IMAGE, Domain.PET);
+                    String thumbnailUrl = thumbnailService.uploadThumbnail(petImage, Domain.PET);
                     image.addThumbnail(thumbnailUrl);
                 } catch (Exception e) {
                     log.warn("{} is null thumbnail", pet.getId());
@@ -150,7 +151,7 @@ public class PetService {
 
     @Transactional
     public void updatePet(Long petId, PetRequest petRequest, User user, MultipartFile petImage) {
-        if (!guardianRepository.existsByUserIdAndPetId(user.getId(), petId))
+        if (!petAuthority.isGuardian(user.getId(), petId))
             throw new GuardianException(GUARDIAN_NOT_FOUND);
 
         Pet pet = petRepository.findByIdAndIsDeletedFalse(petId)
@@ -160,7 +161,7 @@ public class PetService {
                 , petRequest.getIsNeutered(), petRequest.getBirth(), petRequest.getFirstMeetDate(), petRequest.getWeight(), petRequest.getRegisteredNumber());
 
         savePetImage(pet, petImage);
-        savePetThumbnail(pet);
+        savePetThumbnail(pet, petImage);
     }
 
     @Transactional
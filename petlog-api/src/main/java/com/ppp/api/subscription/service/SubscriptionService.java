@@ -1,5 +1,6 @@
 package com.ppp.api.subscription.service;
 
+import com.ppp.api.diary.service.DiaryTimelineService;
 import com.ppp.api.notification.dto.event.SubscribedNotificationEvent;
 import com.ppp.api.pet.exception.ErrorCode;
 import com.ppp.api.pet.exception.PetException;
@@ -37,6 +38,7 @@ public class SubscriptionService {
     private final PetQuerydslRepository petQuerydslRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final CacheManageService cacheManageService;
+    private final DiaryTimelineService diaryTimelineService;
 
     @Transactional
     public void subscribeOrUnsubscribe(Long petId, User user) {
@@ -55,6 +57,7 @@ public class SubscriptionService {
                             applicationEventPublisher.publishEvent(new SubscribedNotificationEvent(MessageCode.SUBSCRIBE, user, pet.getUser().getId(), pet));
                         });
         deleteCachedSubscriptionInfo(user.getId());
+        diaryTimelineService.deleteTimeline(user.getId());
     }
 
     public List<SubscribedPetResponse> displayMySubscribedPets(User user) {
@@ -91,6 +94,7 @@ public class SubscriptionService {
                 .orElseThrow(() -> new SubscriptionException(SUBSCRIBER_NOT_FOUND));
         subscription.switchBlockStatus();
         deleteCachedSubscriptionInfo(subscriberId);
+        diaryTimelineService.deleteTimeline(subscriberId);
     }
 
     private void deleteCachedSubscriptionInfo(String userId) {
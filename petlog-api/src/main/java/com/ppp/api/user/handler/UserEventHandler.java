@@ -1,6 +1,7 @@
 package com.ppp.api.user.handler;
 
 import com.ppp.api.diary.service.DiarySearchService;
+import com.ppp.api.guardian.service.GuardianRosterService;
 import com.ppp.api.user.dto.event.UserProfileUpdatedEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Async;
@@ -12,10 +13,16 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class UserEventHandler {
     private final DiarySearchService diarySearchService;
+    private final GuardianRosterService guardianRosterService;
 
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleUserProfileUpdatedEvent(UserProfileUpdatedEvent event) {
         diarySearchService.updateUser(event.getUserId());
     }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictGuardianRosters(UserProfileUpdatedEvent event) {
+        guardianRosterService.evictRostersOfUser(event.getUserId());
+    }
 }
@@ -0,0 +1,87 @@
+package com.ppp.api.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ppp.common.client.RedisClient;
+import com.ppp.domain.common.constant.Domain;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class UserOrdinalService {
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ASSIGN_ORDINALS_SCRIPT = new DefaultRedisScript<>("""
+            local ordinals = {}
+            for i, userId in ipairs(ARGV) do
+                local ordinal = redis.call('HGET', KEYS[1], userId)
+                if not ordinal then
+                    ordinal = redis.call('INCR', KEYS[3])
+                    redis.call('HSET', KEYS[1], userId, ordinal)
+                    redis.call('HSET', KEYS[2], ordinal, userId)
+                end
+                ordinals[i] = tonumber(ordinal)
+            end
+            return ordinals
+            """, List.class);
+    private static final String FORWARD_KEY = "";
+    private static final String REVERSE_KEY = "_REVERSE";
+    private static final String SEQUENCE_KEY = "_SEQUENCE";
+    private static final long ORDINAL_CACHE_MAX_SIZE = 100_000;
+
+    private final RedisClient redisClient;
+    private final Cache<String, Long> ordinalCache = Caffeine.newBuilder()
+            .maximumSize(ORDINAL_CACHE_MAX_SIZE)
+            .build();
+
+    public long getOrCreateOrdinal(String userId) {
+        return getOrCreateOrdinals(List.of(userId)).get(userId);
+    }
+
+    public Map<String, Long> getOrCreateOrdinals(Collection<String> userIds) {
+        Map<String, Long> ordinals = new HashMap<>(ordinalCache.getAllPresent(userIds));
+        List<String> missingUserIds = userIds.stream()
+                .filter(userId -> !ordinals.containsKey(userId))
+                .distinct()
+                .toList();
+        if (missingUserIds.isEmpty())
+            return ordinals;
+        List<?> assigned = redisClient.executeScript(ASSIGN_ORDINALS_SCRIPT, Domain.USER_ORDINAL,
+                List.of(FORWARD_KEY, REVERSE_KEY, SEQUENCE_KEY), missingUserIds.toArray(String[]::new));
+        for (int i = 0; i < missingUserIds.size(); i++) {
+            long ordinal = ((Number) assigned.get(i)).longValue();
+            ordinalCache.put(missingUserIds.get(i), ordinal);
+            ordinals.put(missingUserIds.get(i), ordinal);
+        }
+        return ordinals;
+    }
+
+    public Optional<Long> findOrdinal(String userId) {
+        Long cached = ordinalCache.getIfPresent(userId);
+        if (cached != null)
+            return Optional.of(cached);
+        Optional<Long> ordinal = redisClient.getValueFromHash(Domain.USER_ORDINAL, FORWARD_KEY, userId)
+                .map(Long::parseLong);
+        ordinal.ifPresent(value -> ordinalCache.put(userId, value));
+        return ordinal;
+    }
+
+    public Set<String> findUserIds(Collection<String> ordinals) {
+        return new HashSet<>(findUserIdsByOrdinals(ordinals).values());
+    }
+
+    public Map<String, String> findUserIdsByOrdinals(Collection<String> ordinals) {
+        List<String> fields = new ArrayList<>(ordinals);
+        List<String> userIds = redisClient.getValuesFromHash(Domain.USER_ORDINAL, REVERSE_KEY, fields);
+        Map<String, String> userIdsByOrdinal = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            if (userIds.get(i) != null)
+                userIdsByOrdinal.put(fields.get(i), userIds.get(i));
+        }
+        return userIdsByOrdinal;
+    }
+}
@@ -10,7 +10,6 @@ import com.ppp.api.user.exception.UserException;
 import com.ppp.common.service.FileStorageManageService;
 import com.ppp.common.service.ThumbnailService;
 import com.ppp.domain.common.constant.Domain;
-import com.ppp.domain.common.constant.FileType;
 import com.ppp.domain.user.User;
 import com.ppp.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -49,7 +48,7 @@ public class UserService {
         userFromDb.setNickname(nickname);
 
         saveProfileImage(userFromDb, profileImage);
-        saveProfileThumbnail(userFromDb);
+        saveProfileThumbnail(userFromDb, profileImage);
     }
 
     private void saveProfileImage(User user, MultipartFile profileImage) {
@@ -65,7 +64,7 @@ public class UserService {
         }
     }
 
-    private void saveProfileThumbnail(User user) {
+    private void saveProfileThumbnail(User user, MultipartFile profileImage) {
         userRepository.findByEmail(user.getEmail()).ifPresent(
             updatedUser -> {
                 try {
@@ -74,7 +73,7 @@ public class UserService {
                         updatedUser.deleteThumbnailPath();
                     }
                     if (updatedUser.getProfilePath() != null && !updatedUser.getProfilePath().isEmpty()) {
-                        String thumbnailUrl = thumbnailService.uploadThumbnailFromStorageFile(updatedUser.getProfilePath(), FileType.IMAGE, Domain.USER);
+                        String thumbnailUrl = thumbnailService.uploadThumbnail(profileImage, Domain.USER);
                         updatedUser.updateThumbnailPath(thumbnailUrl);
                     }
                 } catch (Exception e) {
@@ -105,7 +104,8 @@ public class UserService {
         User userFromDb = findUserByEmail(user.getEmail());
 
         saveProfileImage(userFromDb, profileImage);
-        saveProfileThumbnail(user);
+        saveProfileThumbnail(user, profileImage);
+        applicationEventPublisher.publishEvent(new UserProfileUpdatedEvent(user.getId()));
     }
 
     public ProfileResponse displayMe(User user) {
@@ -2,6 +2,7 @@ package com.ppp.api.video.controller;
 
 import com.ppp.api.exception.ExceptionResponse;
 import com.ppp.api.video.dto.response.VideoResponse;
+import com.ppp.api.video.dto.response.VideoStatusResponse;
 import com.ppp.api.video.service.VideoManageService;
 import com.ppp.common.security.PrincipalDetails;
 import com.ppp.common.validator.EnumValue;
@@ -13,6 +14,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.annotation.MultipartConfig;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
@@ -22,13 +24,15 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+
 @RestController
 @Validated
 @Slf4j
 @Tag(name = "Temp Video", description = "Temp Video APIs")
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/videos")
-@MultipartConfig(maxFileSize = 1024 * 1024 * 100, fileSizeThreshold = 1024 * 1024 * 100)
+@MultipartConfig(maxFileSize = 1024 * 1024 * 100, fileSizeThreshold = 1024 * 1024)
 public class VideoController {
     private final VideoManageService videoManageService;
 
@@ -45,4 +49,30 @@ public class VideoController {
                                                          @AuthenticationPrincipal PrincipalDetails principalDetail) {
         return ResponseEntity.ok(videoManageService.uploadTempVideo(principalDetail.getUser(), domain, video));
     }
+
+    @Operation(summary = "임시 비디오 스트리밍 업로드")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = VideoResponse.class))}),
+            @ApiResponse(responseCode = "400", description = "요청 필드 에러", content = {@Content(schema = @Schema(implementation = ExceptionResponse.class))}),
+            @ApiResponse(responseCode = "403", description = "기록 공간에 대한 권한 없음", content = {@Content(schema = @Schema(implementation = ExceptionResponse.class))})
+    })
+    @PostMapping(value = "/stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<VideoResponse> uploadTempVideoByStream(@RequestParam(defaultValue = "DIARY") @EnumValue(enumClass = Domain.class) String domain,
+                                                                 @RequestParam String fileName,
+                                                                 HttpServletRequest request,
+                                                                 @AuthenticationPrincipal PrincipalDetails principalDetail) throws IOException {
+        return ResponseEntity.ok(videoManageService.uploadTempVideo(principalDetail.getUser(), domain, fileName,
+                request.getInputStream(), request.getContentLengthLong()));
+    }
+
+    @Operation(summary = "임시 비디오 변환 상태 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {@Content(schema = @Schema(implementation = VideoStatusResponse.class))}),
+            @ApiResponse(responseCode = "400", description = "일치하는 임시 비디오 없음", content = {@Content(schema = @Schema(implementation = ExceptionResponse.class))})
+    })
+    @GetMapping(value = "/{videoId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<VideoStatusResponse> displayVideoStatus(@PathVariable String videoId,
+                                                                  @AuthenticationPrincipal PrincipalDetails principalDetail) {
+        return ResponseEntity.ok(videoManageService.displayVideoStatus(principalDetail.getUser(), videoId));
+    }
 }
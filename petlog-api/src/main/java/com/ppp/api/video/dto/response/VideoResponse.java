@@ -1,6 +1,7 @@
 package com.ppp.api.video.dto.response;
 
 import com.ppp.domain.video.TempVideo;
+import com.ppp.domain.video.constant.TranscodeStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import org.springframework.data.redis.core.RedisHash;
@@ -12,6 +13,8 @@ import java.time.LocalDateTime;
 public record VideoResponse(
         @Schema(description = "임시 동영상 아이디")
         String videoId,
+        @Schema(description = "변환 상태", allowableValues = {"PENDING", "PROCESSING", "COMPLETED", "FAILED"})
+        String status,
         @Schema(description = "임시 동영상 유효 시간")
         LocalDateTime validUntil
 ) {
@@ -20,6 +23,7 @@ public record VideoResponse(
     public static VideoResponse from(TempVideo tempVideo) {
         return VideoResponse.builder()
                 .videoId(tempVideo.getId())
+                .status(tempVideo.isCompleted() ? TranscodeStatus.COMPLETED.name() : tempVideo.getStatus().name())
                 .validUntil(LocalDateTime.now().plusSeconds(tempVideoValidSeconds))
                 .build();
     }
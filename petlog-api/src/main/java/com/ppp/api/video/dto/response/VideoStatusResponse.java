@@ -0,0 +1,25 @@
+package com.ppp.api.video.dto.response;
+
+import com.ppp.domain.video.TempVideo;
+import com.ppp.domain.video.constant.TranscodeStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Schema(description = "임시 동영상 변환 상태")
+@Builder
+public record VideoStatusResponse(
+        @Schema(description = "임시 동영상 아이디")
+        String videoId,
+        @Schema(description = "변환 상태", allowableValues = {"PENDING", "PROCESSING", "COMPLETED", "FAILED"})
+        String status,
+        @Schema(description = "변환 진행률(%)")
+        int progress
+) {
+    public static VideoStatusResponse of(TempVideo tempVideo, int progress) {
+        return VideoStatusResponse.builder()
+                .videoId(tempVideo.getId())
+                .status(tempVideo.isCompleted() ? TranscodeStatus.COMPLETED.name() : tempVideo.getStatus().name())
+                .progress(progress)
+                .build();
+    }
+}
@@ -9,7 +9,12 @@ import org.springframework.http.HttpStatus;
 public enum ErrorCode {
     VIDEO_UPLOAD_NOT_ALLOWED(HttpStatus.FORBIDDEN, "VIDEO-0001", "동영상 업로드가 허용되지 않습니다."),
     NOT_ALLOWED_EXTENSION(HttpStatus.BAD_REQUEST, "VIDEO-0002", "허용되지 않는 확장자입니다."),
-    NOT_FOUND_VIDEO(HttpStatus.BAD_REQUEST, "VIDEO-0003", "해당 동영상을 찾을 수 없습니다.")
+    NOT_FOUND_VIDEO(HttpStatus.BAD_REQUEST, "VIDEO-0003", "해당 동영상을 찾을 수 없습니다."),
+    VIDEO_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "VIDEO-0004", "동영상 용량이 허용 범위를 초과했습니다."),
+    VIDEO_TRANSCODE_FAILED(HttpStatus.BAD_REQUEST, "VIDEO-0005", "동영상 변환에 실패했습니다."),
+    VIDEO_TRANSCODE_NOT_COMPLETED(HttpStatus.CONFLICT, "VIDEO-0006", "동영상 변환이 아직 완료되지 않았습니다."),
+    VIDEO_DURATION_EXCEEDED(HttpStatus.BAD_REQUEST, "VIDEO-0007", "동영상 길이가 허용 범위를 초과했습니다."),
+    VIDEO_RESOLUTION_EXCEEDED(HttpStatus.BAD_REQUEST, "VIDEO-0008", "동영상 해상도가 허용 범위를 초과했습니다.")
     ;
 
     private final HttpStatus status;
@@ -1,20 +1,24 @@
 package com.ppp.api.video.service;
 
 import com.ppp.api.video.dto.response.VideoResponse;
+import com.ppp.api.video.dto.response.VideoStatusResponse;
 import com.ppp.api.video.exception.ErrorCode;
 import com.ppp.api.video.exception.VideoException;
 import com.ppp.common.client.VideoConvertClient;
+import com.ppp.common.client.VideoMetadata;
 import com.ppp.common.util.FilePathUtil;
 import com.ppp.domain.common.constant.Domain;
-import com.ppp.domain.common.constant.VideoCompressType;
 import com.ppp.domain.user.User;
 import com.ppp.domain.video.TempVideo;
+import com.ppp.domain.video.constant.TranscodeStatus;
 import com.ppp.domain.video.repository.TempVideoRedisRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -25,19 +29,79 @@ public class VideoManageService {
     public static final List<String> ALLOW_VIDEO_CODES = List.of(".mp4", ".mov", ".wmv", ".avi", ".avchd", ".webm", ".flv");
     private final VideoConvertClient videoConvertClient;
     private final TempVideoRedisRepository tempVideoRedisRepository;
+    private final VideoTranscodeJobService videoTranscodeJobService;
 
     public VideoResponse uploadTempVideo(User user, String domain, MultipartFile video) {
-        if (!Domain.valueOf(domain).isHasVideo() || video.isEmpty())
+        validateVideo(domain, video.getOriginalFilename(), video.getSize());
+        return submitTranscodeJob(user, videoConvertClient.store(video));
+    }
+
+    public VideoResponse uploadTempVideo(User user, String domain, String fileName, InputStream video, long contentLength) {
+        validateVideo(domain, fileName, contentLength);
+        return submitTranscodeJob(user, videoConvertClient.store(video, fileName));
+    }
+
+    private void validateVideo(String domain, String fileName, long size) {
+        if (!Domain.valueOf(domain).isHasVideo() || size == 0)
             throw new VideoException(ErrorCode.VIDEO_UPLOAD_NOT_ALLOWED);
-        FilePathUtil.getFileExtension(Objects.requireNonNull(video.getOriginalFilename()))
+        if (size > VideoConvertClient.MAX_INPUT_SIZE)
+            throw new VideoException(ErrorCode.VIDEO_SIZE_EXCEEDED);
+        FilePathUtil.getFileExtension(Objects.requireNonNull(fileName))
                 .filter(extension -> ALLOW_VIDEO_CODES.contains(extension.toLowerCase(Locale.ROOT)))
                 .orElseThrow(() -> new VideoException(ErrorCode.NOT_ALLOWED_EXTENSION));
+    }
+
+    // 인코딩 전에 메타데이터만 읽어 처리할 수 없는 영상은 대기열에 넣지 않는다.
+    private void validateMetadata(VideoMetadata metadata) {
+        if (!metadata.hasVideo())
+            throw new VideoException(ErrorCode.NOT_ALLOWED_EXTENSION);
+        if (metadata.isDurationExceeded())
+            throw new VideoException(ErrorCode.VIDEO_DURATION_EXCEEDED);
+        if (metadata.isResolutionExceeded())
+            throw new VideoException(ErrorCode.VIDEO_RESOLUTION_EXCEEDED);
+    }
 
-        String convertedVideoPath = videoConvertClient.compress(video, VideoCompressType.LOW);
-        return VideoResponse.from(tempVideoRedisRepository.save(TempVideo.builder()
-                .filePath(convertedVideoPath)
+    private VideoResponse submitTranscodeJob(User user, Path sourcePath) {
+        try {
+            validateMetadata(videoConvertClient.probe(sourcePath));
+        } catch (RuntimeException e) {
+            videoConvertClient.delete(sourcePath);
+            throw e;
+        }
+        TempVideo tempVideo = tempVideoRedisRepository.save(TempVideo.builder()
+                .sourcePath(sourcePath.toString())
                 .userId(user.getId())
-                .build()));
+                .status(TranscodeStatus.PENDING)
+                .build());
+        videoTranscodeJobService.enqueue(tempVideo.getId());
+        return VideoResponse.from(tempVideo);
+    }
+
+    public VideoStatusResponse displayVideoStatus(User user, String videoId) {
+        TempVideo tempVideo = findTempVideo(videoId, user);
+        return VideoStatusResponse.of(tempVideo, videoTranscodeJobService.getProgress(tempVideo));
+    }
+
+    // 트랜잭션 안에서 변환을 기다리면 커넥션을 붙잡게 되므로, 끝나지 않은 영상은 바로 거절하고 클라이언트가 다시 요청하도록 한다.
+    public List<TempVideo> getCompletedVideos(List<String> videoIds, User user) {
+        return videoIds.stream()
+                .map(videoId -> getCompletedVideo(videoId, user))
+                .toList();
+    }
+
+    private TempVideo getCompletedVideo(String videoId, User user) {
+        TempVideo tempVideo = findTempVideo(videoId, user);
+        if (tempVideo.isFailed())
+            throw new VideoException(ErrorCode.VIDEO_TRANSCODE_FAILED);
+        if (!tempVideo.isCompleted())
+            throw new VideoException(ErrorCode.VIDEO_TRANSCODE_NOT_COMPLETED);
+        return tempVideo;
+    }
+
+    private TempVideo findTempVideo(String videoId, User user) {
+        return tempVideoRedisRepository.findById(videoId)
+                .filter(tempVideo -> Objects.equals(tempVideo.getUserId(), user.getId()))
+                .orElseThrow(() -> new VideoException(ErrorCode.NOT_FOUND_VIDEO));
     }
 
     @Scheduled(cron = "0 0 0/3 * * *")
@@ -0,0 +1,124 @@
+package com.ppp.api.video.service;
+
+import com.ppp.common.client.RedisClient;
+import com.ppp.common.client.VideoConvertClient;
+import com.ppp.domain.common.constant.Domain;
+import com.ppp.domain.common.constant.VideoCompressType;
+import com.ppp.domain.video.TempVideo;
+import com.ppp.domain.video.constant.TranscodeStatus;
+import com.ppp.domain.video.repository.TempVideoRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoTranscodeJobService {
+    private static final String PROCESSING_SUFFIX = "_PROCESSING";
+    private static final Duration PROGRESS_LEASE = Duration.ofMinutes(5);
+    private static final Duration PROGRESS_RENEW_INTERVAL = Duration.ofSeconds(30);
+
+    private final VideoConvertClient videoConvertClient;
+    private final TempVideoRedisRepository tempVideoRedisRepository;
+    private final RedisClient redisClient;
+    // 원본과 변환 결과는 업로드를 받은 서버의 로컬 디스크에만 있으므로 대기열을 서버별로 나눠 같은 서버에서 변환한다.
+    @Value("${video.transcode.node-id:${HOSTNAME:local}}")
+    private String nodeId;
+
+    public void enqueue(String jobId) {
+        redisClient.pushValueToList(Domain.VIDEO_TRANSCODE_QUEUE, nodeId, jobId);
+    }
+
+    // 처리 중 목록으로 옮기면서 진행률 임대를 함께 잡으므로 서버가 도중에 내려가도 작업이 유실되거나 두 번 처리되지 않는다.
+    public boolean processNext() {
+        Optional<String> maybeJobId = redisClient.moveValueBetweenListsWithLease(Domain.VIDEO_TRANSCODE_QUEUE, nodeId,
+                processingKey(), Domain.VIDEO_TRANSCODE_PROGRESS, "0", PROGRESS_LEASE);
+        if (maybeJobId.isEmpty())
+            return false;
+        String jobId = maybeJobId.get();
+        try {
+            process(jobId);
+        } finally {
+            redisClient.removeValueFromList(Domain.VIDEO_TRANSCODE_QUEUE, processingKey(), jobId);
+        }
+        return true;
+    }
+
+    private String processingKey() {
+        return nodeId + PROCESSING_SUFFIX;
+    }
+
+    // 메타데이터 확인과 재시도 모두 원본 전체가 필요하므로 업로드 중인 바이트 대신 저장된 원본 파일을 변환한다.
+    // 대기 상태인 작업만 맡으므로 다른 워커가 처리 중인 작업을 중복으로 변환하지 않는다.
+    private void process(String jobId) {
+        Optional<TempVideo> maybeTempVideo = tempVideoRedisRepository.findById(jobId)
+                .filter(TempVideo::isPending);
+        if (maybeTempVideo.isEmpty())
+            return;
+        TempVideo tempVideo = maybeTempVideo.get();
+        tempVideo.start();
+        tempVideoRedisRepository.save(tempVideo);
+        long startedAt = System.currentTimeMillis();
+        AtomicInteger lastPercent = new AtomicInteger(-1);
+        AtomicLong lastRenewedAt = new AtomicLong(startedAt);
+        try {
+            tempVideo.complete(videoConvertClient.compress(Path.of(tempVideo.getSourcePath()), VideoCompressType.LOW,
+                    percent -> {
+                        // 진행률이 바뀌지 않아도 임대가 만료되지 않도록 주기적으로 갱신한다.
+                        long now = System.currentTimeMillis();
+                        if (lastPercent.getAndSet(percent) != percent
+                                || now - lastRenewedAt.get() >= PROGRESS_RENEW_INTERVAL.toMillis()) {
+                            lastRenewedAt.set(now);
+                            publishProgress(jobId, percent);
+                        }
+                    }));
+            log.info("Class : {}, Method : {}, JobId : {}, ElapsedMillis : {}", this.getClass().getName(), "process",
+                    jobId, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("Class : {}, Method : {}, JobId : {}, Message : {}", this.getClass().getName(), "process",
+                    jobId, e.getMessage());
+            tempVideo.fail();
+        }
+        tempVideoRedisRepository.save(tempVideo);
+    }
+
+    private void publishProgress(String jobId, int percent) {
+        redisClient.setValue(Domain.VIDEO_TRANSCODE_PROGRESS, jobId, String.valueOf(percent), PROGRESS_LEASE);
+    }
+
+    public int getProgress(TempVideo tempVideo) {
+        if (tempVideo.isCompleted())
+            return 100;
+        if (tempVideo.getStatus() != TranscodeStatus.PROCESSING)
+            return 0;
+        return redisClient.getValue(Domain.VIDEO_TRANSCODE_PROGRESS, tempVideo.getId())
+                .map(Integer::parseInt)
+                .orElse(0);
+    }
+
+    // 진행률 키가 만료된 작업은 이 서버가 처리 도중 내려갔던 것으로 보고 대기 상태로 되돌려 다시 대기열에 넣는다.
+    @Scheduled(fixedDelayString = "${video.transcode.recover-delay-millis:60000}")
+    public void recoverStalledJobs() {
+        redisClient.getValuesFromList(Domain.VIDEO_TRANSCODE_QUEUE, processingKey()).stream()
+                .filter(jobId -> !redisClient.hasKey(Domain.VIDEO_TRANSCODE_PROGRESS, jobId))
+                .filter(jobId -> redisClient.removeValueFromList(Domain.VIDEO_TRANSCODE_QUEUE, processingKey(), jobId))
+                .forEach(jobId -> {
+                    tempVideoRedisRepository.findById(jobId)
+                            .filter(TempVideo::isProcessing)
+                            .ifPresent(tempVideo -> {
+                                tempVideo.retry();
+                                tempVideoRedisRepository.save(tempVideo);
+                            });
+                    enqueue(jobId);
+                });
+    }
+}
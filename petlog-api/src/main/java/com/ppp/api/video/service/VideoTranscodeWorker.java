@@ -0,0 +1,67 @@
+package com.ppp.api.video.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoTranscodeWorker {
+    private final VideoTranscodeJobService videoTranscodeJobService;
+    private ExecutorService workers;
+    private volatile boolean running;
+    @Value("${video.transcode.worker.enabled:true}")
+    private boolean enabled;
+    @Value("${video.transcode.worker.idle-millis:500}")
+    private long idleMillis;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || running)
+            return;
+        int workerSize = Runtime.getRuntime().availableProcessors();
+        running = true;
+        workers = Executors.newFixedThreadPool(workerSize, new CustomizableThreadFactory("video-transcode-"));
+        for (int i = 0; i < workerSize; i++)
+            workers.execute(this::poll);
+    }
+
+    private void poll() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            boolean isProcessed = false;
+            try {
+                isProcessed = videoTranscodeJobService.processNext();
+            } catch (RuntimeException e) {
+                log.error("Class : {}, Method : {}, Message : {}", this.getClass().getName(), "poll", e.getMessage());
+            }
+            if (!isProcessed && !sleep())
+                return;
+        }
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(idleMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (workers != null)
+            workers.shutdownNow();
+    }
+}
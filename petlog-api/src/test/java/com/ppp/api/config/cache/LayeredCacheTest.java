@@ -0,0 +1,259 @@
+package com.ppp.api.config.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LayeredCacheTest {
+    @Mock
+    private Cache remoteCache;
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LayeredCache layeredCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        layeredCache = new LayeredCache("petSpaceAuthority", remoteCache,
+                LocalCacheSpec.of(100, Duration.ofMinutes(1)), Duration.ofMinutes(30), Runnable::run,
+                invalidationPublisher, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시 미스시 리모트 캐시에서 조회 후 로컬 캐시에 저장")
+    void get_WhenLocalMiss_thenLoadFromRemote() {
+        //given
+        given(remoteCache.get("abcd,1"))
+                .willReturn(new SimpleValueWrapper(true));
+        //when
+        Boolean first = layeredCache.get("abcd,1", Boolean.class);
+        Boolean second = layeredCache.get("abcd,1", Boolean.class);
+        //then
+        assertEquals(Boolean.TRUE, first);
+        assertEquals(Boolean.TRUE, second);
+        verify(remoteCache, times(1)).get("abcd,1");
+        assertEquals(0.5, meterRegistry.get("cache.layered.hit.ratio")
+                .tags("cache", "petSpaceAuthority", "tier", "local").gauge().value());
+        assertEquals(1.0, meterRegistry.get("cache.layered.hit.ratio")
+                .tags("cache", "petSpaceAuthority", "tier", "remote").gauge().value());
+    }
+
+    @Test
+    @DisplayName("리모트 캐시에도 없을 경우 null 반환")
+    void get_WhenRemoteMiss_thenReturnNull() {
+        //given
+        given(remoteCache.get("qwerty,1"))
+                .willReturn(null);
+        //when
+        Boolean cached = layeredCache.get("qwerty,1", Boolean.class);
+        //then
+        assertNull(cached);
+        assertEquals(1.0, meterRegistry.get("cache.layered.gets")
+                .tags("cache", "petSpaceAuthority", "tier", "remote", "result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("컬렉션 키로 저장한 값을 문자열 키로 로컬 캐시에서 조회")
+    void put_WithCollectionKey_thenLocalHitWithStringKey() {
+        //given
+        layeredCache.put(List.of("abcd", 1L), true);
+        //when
+        Boolean cached = layeredCache.get("abcd,1", Boolean.class);
+        //then
+        assertEquals(Boolean.TRUE, cached);
+        verify(remoteCache, times(1)).put(List.of("abcd", 1L), true);
+        verify(remoteCache, never()).get(any());
+        verify(invalidationPublisher, times(1)).publishEvict("petSpaceAuthority", "abcd,1");
+    }
+
+    @Test
+    @DisplayName("캐시 삭제시 로컬 캐시 삭제 후 다른 노드에 전파")
+    void evict_success() {
+        //given
+        layeredCache.put("abcd,1", true);
+        given(remoteCache.get("abcd,1"))
+                .willReturn(null);
+        //when
+        layeredCache.evict(List.of("abcd", 1L));
+        //then
+        assertNull(layeredCache.get("abcd,1"));
+        verify(remoteCache, times(1)).evict(List.of("abcd", 1L));
+        verify(invalidationPublisher, times(2)).publishEvict("petSpaceAuthority", "abcd,1");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지로 로컬 캐시만 삭제")
+    void evictLocal_success() {
+        //given
+        layeredCache.put("abcd,1", true);
+        given(remoteCache.get("abcd,1"))
+                .willReturn(new SimpleValueWrapper(false));
+        //when
+        layeredCache.evictLocal("abcd,1");
+        //then
+        assertEquals(Boolean.FALSE, layeredCache.get("abcd,1", Boolean.class));
+        verify(remoteCache, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("캐시 전체 삭제시 전체 삭제 메시지 전파")
+    void clear_success() {
+        //given
+        layeredCache.put("abcd,1", true);
+        given(remoteCache.get("abcd,1"))
+                .willReturn(null);
+        //when
+        layeredCache.clear();
+        //then
+        assertNull(layeredCache.get("abcd,1"));
+        verify(remoteCache, times(1)).clear();
+        verify(invalidationPublisher, times(1)).publishClear("petSpaceAuthority");
+    }
+
+    @Test
+    @DisplayName("로더를 통한 조회시 로더 결과를 리모트, 로컬 캐시에 저장")
+    void get_WithValueLoader_thenStoreLocal() {
+        //given
+        given(remoteCache.get("abcd,1"))
+                .willReturn(null);
+        //when
+        Boolean loaded = layeredCache.get("abcd,1", () -> true);
+        Boolean cached = layeredCache.get("abcd,1", Boolean.class);
+        //then
+        assertEquals(Boolean.TRUE, loaded);
+        assertEquals(Boolean.TRUE, cached);
+        verify(remoteCache, times(1)).get("abcd,1");
+        verify(remoteCache, times(1)).put(eq("abcd,1"), argThat(stamped(true)));
+        verify(invalidationPublisher, never()).publishEvict(any(), any());
+    }
+
+    @Test
+    @DisplayName("동시에 같은 키를 로딩하면 로더는 한 번만 실행")
+    void get_WithValueLoader_thenLoadOnceConcurrently() throws Exception {
+        //given
+        given(remoteCache.get("abcd,1"))
+                .willReturn(null);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        AtomicInteger loaderCalls = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        //when
+        Future<Integer> leader = executorService.submit(() -> layeredCache.get("abcd,1", () -> {
+            loaderCalls.incrementAndGet();
+            loaderStarted.countDown();
+            releaseLoader.await();
+            return 7;
+        }));
+        loaderStarted.await(1, TimeUnit.SECONDS);
+        List<Future<Integer>> followers = List.of(
+                executorService.submit(() -> layeredCache.get("abcd,1", loaderCalls::incrementAndGet)),
+                executorService.submit(() -> layeredCache.get("abcd,1", loaderCalls::incrementAndGet)));
+        while (meterRegistry.get("cache.layered.loads").tags("cache", "petSpaceAuthority", "type", "coalesced")
+                .functionCounter().count() < 2)
+            Thread.onSpinWait();
+        releaseLoader.countDown();
+        //then
+        assertEquals(7, leader.get(1, TimeUnit.SECONDS));
+        for (Future<Integer> follower : followers)
+            assertEquals(7, follower.get(1, TimeUnit.SECONDS));
+        assertEquals(1, loaderCalls.get());
+        verify(remoteCache, times(1)).put(eq("abcd,1"), argThat(stamped(7)));
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("로더 실패시 대기 중인 요청에도 예외 전달")
+    void get_WithValueLoader_fail_WhenLoaderThrows() {
+        //given
+        given(remoteCache.get("abcd,1"))
+                .willReturn(null);
+        //when
+        Cache.ValueRetrievalException exception = assertThrows(Cache.ValueRetrievalException.class,
+                () -> layeredCache.get("abcd,1", () -> {
+                    throw new IllegalStateException("elasticsearch unavailable");
+                }));
+        //then
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        verify(remoteCache, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("만료가 임박한 키는 조회시 백그라운드에서 미리 갱신")
+    void get_WithValueLoader_thenRefreshEarly_WhenExpiring() throws InterruptedException {
+        //given
+        layeredCache = new LayeredCache("diaryMostUsedTerms", remoteCache,
+                LocalCacheSpec.of(100, Duration.ofMinutes(1)), Duration.ofMillis(1), Runnable::run,
+                invalidationPublisher, meterRegistry);
+        given(remoteCache.get("SimpleKey []"))
+                .willReturn(null);
+        layeredCache.get("SimpleKey []", () -> 10);
+        Thread.sleep(5);
+        //when
+        Integer cached = layeredCache.get("SimpleKey []", () -> 11);
+        //then
+        assertEquals(10, cached);
+        assertEquals(11, layeredCache.get("SimpleKey []", Integer.class));
+        verify(remoteCache, times(1)).put(eq("SimpleKey []"), argThat(stamped(11)));
+        assertEquals(1.0, meterRegistry.get("cache.layered.loads")
+                .tags("cache", "diaryMostUsedTerms", "type", "early_refresh").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 로딩한 키도 만료가 임박하면 미리 갱신")
+    void get_WithValueLoader_thenRefreshEarly_WhenLoadedByOtherNode() {
+        //given
+        given(remoteCache.get("abcd,1"))
+                .willReturn(new SimpleValueWrapper(new StampedValue(true, 1_000, System.currentTimeMillis())));
+        //when
+        Boolean cached = layeredCache.get("abcd,1", () -> false);
+        //then
+        assertEquals(Boolean.TRUE, cached);
+        assertEquals(Boolean.FALSE, layeredCache.get("abcd,1", Boolean.class));
+        verify(remoteCache, times(1)).put(eq("abcd,1"), argThat(stamped(false)));
+        assertEquals(1.0, meterRegistry.get("cache.layered.loads")
+                .tags("cache", "petSpaceAuthority", "type", "early_refresh").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("만료까지 여유가 있으면 미리 갱신하지 않음")
+    void get_WithValueLoader_thenNotRefresh_WhenFresh() {
+        //given
+        given(remoteCache.get("abcd,1"))
+                .willReturn(null);
+        layeredCache.get("abcd,1", () -> true);
+        //when
+        Boolean cached = layeredCache.get("abcd,1", () -> false);
+        //then
+        assertEquals(Boolean.TRUE, cached);
+        verify(remoteCache, never()).put(eq("abcd,1"), argThat(stamped(false)));
+        assertEquals(0.0, meterRegistry.get("cache.layered.loads")
+                .tags("cache", "petSpaceAuthority", "type", "early_refresh").functionCounter().count());
+    }
+
+    private static ArgumentMatcher<Object> stamped(Object value) {
+        return cached -> cached instanceof StampedValue stampedValue && value.equals(stampedValue.value());
+    }
+}
@@ -0,0 +1,39 @@
+package com.ppp.api.config.cache;
+
+import com.ppp.api.diary.dto.response.DiaryMostUsedTermsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StampedValueTest {
+    private final GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+
+    @Test
+    @DisplayName("리모트 캐시 직렬화 후에도 값과 로딩 정보 유지")
+    void serialize_success() {
+        //given
+        StampedValue stampedValue = new StampedValue(
+                new DiaryMostUsedTermsResponse(new HashSet<>(List.of("산책", "간식"))), 12.5, 1_700_000_000_000L);
+        //when
+        Object deserialized = serializer.deserialize(serializer.serialize(stampedValue));
+        //then
+        assertEquals(stampedValue, deserialized);
+    }
+
+    @Test
+    @DisplayName("리모트 캐시 직렬화 후에도 숫자 값 유지")
+    void serialize_success_WhenNumberValue() {
+        //given
+        StampedValue stampedValue = new StampedValue(7, 3.0, 1_700_000_000_000L);
+        //when
+        Object deserialized = serializer.deserialize(serializer.serialize(stampedValue));
+        //then
+        assertEquals(stampedValue, deserialized);
+        assertEquals(7, StampedValue.unwrap(deserialized));
+    }
+}
@@ -149,4 +149,34 @@ class DiaryCommentControllerTest {
                 .andExpect(status().isOk());
         //then
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockCustomUser
+    @DisplayName("커서 기반 일기 댓글 조회 성공")
+    void displayCommentsByCursor_success() throws Exception {
+        //given
+        //when
+        mockMvc.perform(get("/api/v1/pets/{petId}/diaries/{diaryId}/comments/cursor", 1L, 1L)
+                        .param("cursor", "MTA")
+                        .param("size", "5")
+                        .header("Authorization", TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                ).andDo(print())
+                .andExpect(status().isOk());
+        //then
+    }
+
+    @Test
+    @WithMockCustomUser
+    @DisplayName("커서 기반 일기 대댓글 조회 성공")
+    void displayReCommentsByCursor_success() throws Exception {
+        //given
+        //when
+        mockMvc.perform(get("/api/v1/pets/{petId}/diaries/{diaryId}/comments/{commentId}/recomment/cursor", 1L, 1L, 1L)
+                        .header("Authorization", TOKEN)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                ).andDo(print())
+                .andExpect(status().isOk());
+        //then
+    }
+}
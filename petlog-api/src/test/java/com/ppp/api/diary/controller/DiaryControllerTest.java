@@ -22,6 +22,10 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
 
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -190,6 +194,8 @@ class DiaryControllerTest {
     @DisplayName("일기 상세 조회 성공")
     void displayDiary_success() throws Exception {
         //given
+        given(diaryService.getDiaryETag(any(), anyLong(), anyLong()))
+                .willReturn("\"8f14e45fceea167a\"");
         //when
         mockMvc.perform(get("/api/v1/pets/{petId}/diaries/{diaryId}", 1L, 1L)
                         .header("Authorization", TOKEN)
@@ -199,11 +205,31 @@ class DiaryControllerTest {
         //then
     }
 
+    @Test
+    @WithMockCustomUser
+    @DisplayName("일기 상세 조회 성공-변경 없음")
+    void displayDiary_success_WhenNotModified() throws Exception {
+        //given
+        given(diaryService.getDiaryETag(any(), anyLong(), anyLong()))
+                .willReturn("\"8f14e45fceea167a\"");
+        //when
+        mockMvc.perform(get("/api/v1/pets/{petId}/diaries/{diaryId}", 1L, 1L)
+                        .header("Authorization", TOKEN)
+                        .header("If-None-Match", "\"8f14e45fceea167a\"")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                ).andDo(print())
+                .andExpect(status().isNotModified());
+        //then
+        verify(diaryService, never()).displayDiary(any(), anyLong(), anyLong());
+    }
+
     @Test
     @WithMockCustomUser
     @DisplayName("일기 리스트 조회 성공")
     void displayDiaries_success() throws Exception {
         //given
+        given(diaryService.getDiariesETag(any(), anyLong(), any(Object[].class)))
+                .willReturn("\"8f14e45fceea167a\"");
         //when
         mockMvc.perform(get("/api/v1/pets/{petId}/diaries", 1L)
                         .header("Authorization", TOKEN)
@@ -213,6 +239,23 @@ class DiaryControllerTest {
         //then
     }
 
+    @Test
+    @WithMockCustomUser
+    @DisplayName("커서 기반 일기 리스트 조회 성공")
+    void displayDiariesByCursor_success() throws Exception {
+        //given
+        given(diaryService.getDiariesETag(any(), anyLong(), any(Object[].class)))
+                .willReturn("\"8f14e45fceea167a\"");
+        //when
+        mockMvc.perform(get("/api/v1/pets/{petId}/diaries/cursor", 1L)
+                        .header("Authorization", TOKEN)
+                        .param("cursor", "MjAyNC0wMi0xMXwxMg")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                ).andDo(print())
+                .andExpect(status().isOk());
+        //then
+    }
+
     @Test
     @WithMockCustomUser
     @DisplayName("일기 상세 조회 성공")
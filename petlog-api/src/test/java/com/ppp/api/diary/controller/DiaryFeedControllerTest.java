@@ -50,4 +50,47 @@ class DiaryFeedControllerTest {
                 .andExpect(status().isOk());
         //then
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("커서 기반 랜덤 피드 조회 성공")
+    void retrieveSampledDiaryFeed_success() throws Exception {
+        //given
+        //when
+        mockMvc.perform(get("/api/v1/diaries/feed/sample")
+                        .header("Authorization", TOKEN)
+                        .param("cursor", "Nw")
+                        .param("size", "5")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                ).andDo(print())
+                .andExpect(status().isOk());
+        //then
+    }
+
+    @Test
+    @WithMockCustomUser
+    @DisplayName("구독 피드 조회 성공")
+    void retrieveSubscribedDiaryFeed_success() throws Exception {
+        //given
+        //when
+        mockMvc.perform(get("/api/v1/diaries/feed/subscriptions")
+                        .header("Authorization", TOKEN)
+                        .param("size", "10")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                ).andDo(print())
+                .andExpect(status().isOk());
+        //then
+    }
+
+    @Test
+    @DisplayName("인기 피드 조회 성공")
+    void retrieveTrendingDiaryFeed_success() throws Exception {
+        //given
+        //when
+        mockMvc.perform(get("/api/v1/diaries/feed/trending")
+                        .param("size", "10")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                ).andDo(print())
+                .andExpect(status().isOk());
+        //then
+    }
+}
@@ -2,6 +2,7 @@ package com.ppp.api.diary.service;
 
 import com.ppp.ApiApplication;
 import com.ppp.api.config.EmailConfig;
+import com.ppp.api.user.service.UserOrdinalService;
 import com.ppp.common.client.FfmpegClient;
 import com.ppp.common.client.RedisClient;
 import com.ppp.common.config.FfmpegConfig;
@@ -45,6 +46,9 @@ class DiaryCommentRedisServiceIntegrationTest {
     @MockBean
     private RedisClient redisClient;
 
+    @MockBean
+    private UserOrdinalService userOrdinalService;
+
     @MockBean
     private FfmpegConfig ffmpegConfig;
 
@@ -141,7 +145,7 @@ class DiaryCommentRedisServiceIntegrationTest {
     @DisplayName("다이어리 댓글 좋아요 개수 캐싱 성공")
     void cachingGetLikeCountByCommentId_success() {
         //given
-        given(redisClient.getSizeOfSet(Domain.DIARY_COMMENT_LIKE, 1L))
+        given(redisClient.getSizeOfSet(Domain.DIARY_COMMENT_LIKE_ORDINAL, 1L))
                 .willReturn(1L);
         //when
         Integer cacheMiss = diaryCommentRedisService.getLikeCountByCommentId(1L);
@@ -159,7 +163,7 @@ class DiaryCommentRedisServiceIntegrationTest {
     @DisplayName("다이어리 댓글 좋아요 개수 캐싱 업데이트 성공")
     void cachingRegisterLikeByCommentId_success() {
         //given
-        given(redisClient.getSizeOfSet(Domain.DIARY_COMMENT_LIKE, 1L))
+        given(redisClient.getSizeOfSet(Domain.DIARY_COMMENT_LIKE_ORDINAL, 1L))
                 .willReturn(3L);
         //when
         Integer cacheUpdated = diaryCommentRedisService.registerLikeByCommentIdAndUserId(1L, "abcde");
@@ -175,7 +179,7 @@ class DiaryCommentRedisServiceIntegrationTest {
     @DisplayName("다이어리 댓글 좋아요 개수 캐싱 업데이트 성공")
     void cachingCancelLikeByCommentId_success() {
         //given
-        given(redisClient.getSizeOfSet(Domain.DIARY_COMMENT_LIKE, 1L))
+        given(redisClient.getSizeOfSet(Domain.DIARY_COMMENT_LIKE_ORDINAL, 1L))
                 .willReturn(3L);
         //when
         Integer cacheUpdated = diaryCommentRedisService.cancelLikeByCommentIdAndUserId(1L, "abcde");
@@ -191,7 +195,7 @@ class DiaryCommentRedisServiceIntegrationTest {
     @DisplayName("다이어리 댓글 좋아요 캐시 삭제 성공")
     void deleteAllLikeByCommentId_success() {
         //given
-        given(redisClient.getSizeOfSet(Domain.DIARY_COMMENT_LIKE, 1L))
+        given(redisClient.getSizeOfSet(Domain.DIARY_COMMENT_LIKE_ORDINAL, 1L))
                 .willReturn(3L);
         //when
         Integer cacheMiss = diaryCommentRedisService.getLikeCountByCommentId(1L);
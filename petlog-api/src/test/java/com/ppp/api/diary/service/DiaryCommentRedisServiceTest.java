@@ -1,6 +1,11 @@
 package com.ppp.api.diary.service;
 
+import com.ppp.api.user.service.UserOrdinalService;
 import com.ppp.common.client.RedisClient;
+import com.ppp.common.client.RedisWriteBehindBuffer;
+import com.ppp.common.client.SetToggleResult;
+import com.ppp.common.service.CacheManageService;
+import com.ppp.domain.common.constant.Domain;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,11 +19,22 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class DiaryCommentRedisServiceTest {
     @Mock
     private RedisClient redisClient;
+    @Mock
+    private DiaryTrendingService diaryTrendingService;
+    @Mock
+    private RedisWriteBehindBuffer redisWriteBehindBuffer;
+    @Mock
+    private CacheManageService cacheManageService;
+    @Mock
+    private UserOrdinalService userOrdinalService;
+    @Mock
+    private DiaryLikeMigrationService diaryLikeMigrationService;
 
     @InjectMocks
     private DiaryCommentRedisService diaryCommentRedisService;
@@ -47,4 +63,72 @@ class DiaryCommentRedisServiceTest {
         assertEquals(result, 0);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("다이어리 댓글 개수 증가 성공")
+    void increaseDiaryCommentCountByDiaryId_success() {
+        //given
+        given(redisClient.incrementValue(Domain.DIARY_COMMENT, 1L))
+                .willReturn(4L);
+        //when
+        Long result = diaryCommentRedisService.increaseDiaryCommentCountByDiaryId(1L);
+        //then
+        assertEquals(4L, result);
+        verify(diaryTrendingService, times(1)).increaseCommentScore(1L);
+    }
+
+    @Test
+    @DisplayName("다이어리 댓글 개수 증가 성공-write behind")
+    void increaseDiaryCommentCountByDiaryId_success_WhenWriteBehind() {
+        //given
+        given(redisWriteBehindBuffer.isEnabled()).willReturn(true);
+        //when
+        Long result = diaryCommentRedisService.increaseDiaryCommentCountByDiaryId(1L);
+        //then
+        assertNull(result);
+        verify(redisWriteBehindBuffer, times(1)).incrementValue(Domain.DIARY_COMMENT, 1L, 1);
+        verify(redisClient, never()).incrementValue(any(Domain.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("다이어리 댓글 개수 감소 성공-write behind")
+    void decreaseDiaryCommentCountByDiaryId_success_WhenWriteBehind() {
+        //given
+        given(redisWriteBehindBuffer.isEnabled()).willReturn(true);
+        //when
+        Long result = diaryCommentRedisService.decreaseDiaryCommentCountByDiaryId(1L);
+        //then
+        assertNull(result);
+        verify(redisWriteBehindBuffer, times(1)).incrementValue(Domain.DIARY_COMMENT, 1L, -1);
+        verify(diaryTrendingService, times(1)).decreaseCommentScore(1L);
+    }
+
+    @Test
+    @DisplayName("다이어리 댓글 좋아요 토글 성공-좋아요 등록")
+    void toggleLikeByCommentIdAndUserId_success() {
+        //given
+        given(userOrdinalService.getOrCreateOrdinal("abc123"))
+                .willReturn(7L);
+        given(redisClient.toggleValueInSet(Domain.DIARY_COMMENT_LIKE_ORDINAL, 1L, "7"))
+                .willReturn(SetToggleResult.of(true, 5));
+        //when
+        boolean isLiked = diaryCommentRedisService.toggleLikeByCommentIdAndUserId(1L, "abc123");
+        //then
+        assertTrue(isLiked);
+        verify(cacheManageService, times(1)).putCachedDiaryCommentLikeCount(1L, 5);
+    }
+
+    @Test
+    @DisplayName("다이어리 댓글 좋아요 토글 성공-좋아요 취소")
+    void toggleLikeByCommentIdAndUserId_success_WhenLikeAlreadyExists() {
+        //given
+        given(userOrdinalService.getOrCreateOrdinal("abc123"))
+                .willReturn(7L);
+        given(redisClient.toggleValueInSet(Domain.DIARY_COMMENT_LIKE_ORDINAL, 1L, "7"))
+                .willReturn(SetToggleResult.of(false, 4));
+        //when
+        boolean isLiked = diaryCommentRedisService.toggleLikeByCommentIdAndUserId(1L, "abc123");
+        //then
+        assertFalse(isLiked);
+        verify(cacheManageService, times(1)).putCachedDiaryCommentLikeCount(1L, 4);
+    }
+}
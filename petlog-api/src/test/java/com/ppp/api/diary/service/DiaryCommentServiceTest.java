@@ -1,10 +1,16 @@
 package com.ppp.api.diary.service;
 
 import com.ppp.api.diary.dto.request.DiaryCommentRequest;
+import com.ppp.api.diary.dto.response.DiaryCommentCursorResponse;
 import com.ppp.api.diary.dto.response.DiaryCommentResponse;
+import com.ppp.api.diary.dto.response.DiaryReCommentCursorResponse;
 import com.ppp.api.diary.dto.response.DiaryReCommentResponse;
 import com.ppp.api.diary.exception.DiaryException;
 import com.ppp.api.diary.validator.DiaryAccessValidator;
+import com.ppp.api.guardian.dto.transfer.GuardianMemberDto;
+import com.ppp.api.guardian.dto.transfer.GuardianRosterDto;
+import com.ppp.api.guardian.service.GuardianRosterService;
+import com.ppp.common.util.CursorUtil;
 import com.ppp.common.util.TimeUtil;
 import com.ppp.domain.diary.Diary;
 import com.ppp.domain.diary.DiaryComment;
@@ -12,7 +18,6 @@ import com.ppp.domain.diary.repository.DiaryCommentRepository;
 import com.ppp.domain.diary.repository.DiaryRepository;
 import com.ppp.domain.pet.Pet;
 import com.ppp.domain.user.User;
-import com.ppp.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +31,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -44,7 +50,7 @@ class DiaryCommentServiceTest {
     @Mock
     private DiaryRepository diaryRepository;
     @Mock
-    private UserRepository userRepository;
+    private GuardianRosterService guardianRosterService;
     @Mock
     private DiaryCommentRedisService diaryCommentRedisService;
     @Mock
@@ -79,6 +85,10 @@ class DiaryCommentServiceTest {
 
     static Map<String, String> taggedUserIdNicknameMap = Map.of("ljf123", "둘째누나");
 
+    static GuardianRosterDto roster = new GuardianRosterDto(List.of(
+            GuardianMemberDto.builder().userId("abc123").nickname("첫째누나").build(),
+            GuardianMemberDto.builder().userId("dab456").nickname("탈퇴한누나").deletedUser(true).build()));
+
     static MockedStatic<TimeUtil> mockTimeUtil = mockStatic(TimeUtil.class);
     static DiaryComment mockDiaryComment = mock(DiaryComment.class);
     static Diary mockDiary = mock(Diary.class);
@@ -112,7 +122,7 @@ class DiaryCommentServiceTest {
 
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(diary));
-        given(userRepository.findByGuardianUsersByPetIdAndUserIdsContaining(anyLong(), anyList())).willReturn(List.of(userA));
+        given(guardianRosterService.getRoster(anyLong())).willReturn(roster);
         given(mockDiaryComment.getTaggedUsersIdNicknameMap()).willReturn(taggedUserIdNicknameMap);
         given(diaryCommentRepository.save(any()))
                 .willReturn(mockDiaryComment);
@@ -208,7 +218,7 @@ class DiaryCommentServiceTest {
                 .build();
         given(diaryCommentRepository.findByIdAndPetIdAndIsDeletedFalse(anyLong(), anyLong()))
                 .willReturn(Optional.of(diaryComment));
-        given(userRepository.findByGuardianUsersByPetIdAndUserIdsContaining(anyLong(), anyList())).willReturn(List.of(userA));
+        given(guardianRosterService.getRoster(anyLong())).willReturn(roster);
         //when
         diaryCommentService.updateComment(user, 1L, 1L, request);
         ArgumentCaptor<DiaryComment> diaryCommentArgumentCaptor = ArgumentCaptor.forClass(DiaryComment.class);
@@ -308,6 +318,32 @@ class DiaryCommentServiceTest {
         assertEquals(NOT_DIARY_COMMENT_OWNER.getCode(), exception.getCode());
     }
 
+    @Test
+    @DisplayName("다이어리 대댓글 삭제 성공-루트 댓글의 답글 수 감소")
+    void deleteComment_success_WhenReComment() {
+        //given
+        DiaryComment ancestor = DiaryComment.builder()
+                .content("우리 체리 귀엽다")
+                .diary(diary)
+                .user(userA)
+                .build();
+        ReflectionTestUtils.setField(ancestor, "id", 3L);
+        DiaryComment reComment = DiaryComment.builder()
+                .content("체리 진짜 귀엽지")
+                .diary(diary)
+                .parent(ancestor)
+                .user(user)
+                .build();
+        ReflectionTestUtils.setField(reComment, "ancestorCommentId", 3L);
+        given(diaryCommentRepository.findByIdAndPetIdAndIsDeletedFalse(anyLong(), anyLong()))
+                .willReturn(Optional.of(reComment));
+        //when
+        diaryCommentService.deleteComment(user, 1L, 4L);
+        //then
+        assertTrue(reComment.isDeleted());
+        verify(diaryCommentRepository, times(1)).decreaseReplyCount(3L);
+    }
+
     @Test
     @DisplayName("다이어리 댓글 조회 성공")
     void displayComments_success() {
@@ -355,13 +391,13 @@ class DiaryCommentServiceTest {
                 .build();
         given(diaryCommentRepository.findByIdAndPetIdAndIsDeletedFalse(anyLong(), anyLong()))
                 .willReturn(Optional.of(diaryComment));
-        given(diaryCommentRedisService.isDiaryCommentLikeExistByCommentIdAndUserId(anyLong(), anyString()))
-                .willReturn(false);
+        given(diaryCommentRedisService.toggleLikeByCommentIdAndUserId(anyLong(), anyString()))
+                .willReturn(true);
 
         //when
         diaryCommentService.likeComment(user, 1L, 1L);
         //then
-        verify(diaryCommentRedisService, times(1)).registerLikeByCommentIdAndUserId(anyLong(), anyString());
+        verify(diaryCommentRedisService, times(1)).toggleLikeByCommentIdAndUserId(anyLong(), anyString());
     }
 
     @Test
@@ -376,13 +412,13 @@ class DiaryCommentServiceTest {
                 .build();
         given(diaryCommentRepository.findByIdAndPetIdAndIsDeletedFalse(anyLong(), anyLong()))
                 .willReturn(Optional.of(diaryComment));
-        given(diaryCommentRedisService.isDiaryCommentLikeExistByCommentIdAndUserId(anyLong(), anyString()))
-                .willReturn(true);
+        given(diaryCommentRedisService.toggleLikeByCommentIdAndUserId(anyLong(), anyString()))
+                .willReturn(false);
 
         //when
         diaryCommentService.likeComment(user, 1L, 1L);
         //then
-        verify(diaryCommentRedisService, times(1)).cancelLikeByCommentIdAndUserId(anyLong(), anyString());
+        verify(diaryCommentRedisService, times(1)).toggleLikeByCommentIdAndUserId(anyLong(), anyString());
     }
 
     @Test
@@ -410,7 +446,7 @@ class DiaryCommentServiceTest {
                         .diary(diary)
                         .user(user)
                         .build()));
-        given(userRepository.findByGuardianUsersByPetIdAndUserIdsContaining(anyLong(), anyList())).willReturn(List.of(userA));
+        given(guardianRosterService.getRoster(anyLong())).willReturn(roster);
         given(mockDiaryComment.getTaggedUsersIdNicknameMap()).willReturn(taggedUserIdNicknameMap);
         given(diaryCommentRepository.save(any()))
                 .willReturn(mockDiaryComment);
@@ -419,6 +455,7 @@ class DiaryCommentServiceTest {
         ArgumentCaptor<DiaryComment> diaryCommentArgumentCaptor = ArgumentCaptor.forClass(DiaryComment.class);
         //then
         verify(diaryCommentRepository, times(1)).save(diaryCommentArgumentCaptor.capture());
+        verify(diaryCommentRepository, times(1)).increaseReplyCount(1L);
         assertEquals(diaryCommentArgumentCaptor.getValue().getDiary(), diary);
         assertEquals(diaryCommentArgumentCaptor.getValue().getUser(), user);
         assertEquals(diaryCommentArgumentCaptor.getValue().getContent(), "오늘은 산으로 산책을 갔어요");
@@ -495,5 +532,85 @@ class DiaryCommentServiceTest {
         assertEquals(responses.get(0).taggedUsers().get(0).nickname(), "둘째누나");
     }
 
+    @Test
+    @DisplayName("커서 기반 다이어리 댓글 조회 성공")
+    void displayCommentsByCursor_success() {
+        //given
+        DiaryComment deletedComment = DiaryComment.builder()
+                .content("삭제된 댓글")
+                .diary(diary)
+                .user(userA)
+                .taggedUsersIdNicknameMap(new HashMap<>())
+                .build();
+        deletedComment.delete();
+        ReflectionTestUtils.setField(deletedComment, "id", 9L);
+        ReflectionTestUtils.setField(deletedComment, "replyCount", 2);
+        DiaryComment comment = DiaryComment.builder()
+                .content("체리짱귀")
+                .diary(diary)
+                .user(user)
+                .taggedUsersIdNicknameMap(new HashMap<>())
+                .build();
+        ReflectionTestUtils.setField(comment, "id", 8L);
+        DiaryComment nextComment = DiaryComment.builder()
+                .content("다음 페이지 댓글")
+                .diary(diary)
+                .user(user)
+                .taggedUsersIdNicknameMap(new HashMap<>())
+                .build();
+        ReflectionTestUtils.setField(nextComment, "id", 7L);
+        given(diaryCommentRepository.findAncestorCommentsByDiaryIdBefore(eq(1L), eq(10L), any()))
+                .willReturn(List.of(deletedComment, comment, nextComment));
+        //when
+        DiaryCommentCursorResponse response = diaryCommentService.displayCommentsByCursor(user, 1L, 1L, CursorUtil.encode(10L), 2);
+        //then
+        assertEquals(2, response.contents().size());
+        assertTrue(response.contents().get(0).isDeleted());
+        assertEquals(2, response.contents().get(0).recommentCount());
+        assertEquals("체리짱귀", response.contents().get(1).content());
+        assertEquals(0, response.contents().get(1).recommentCount());
+        assertEquals(CursorUtil.encode(8L), response.nextCursor());
+        verify(diaryCommentRedisService, never()).getDiaryReCommentCountByCommentId(anyLong());
+    }
+
+    @Test
+    @DisplayName("커서 기반 다이어리 댓글 조회 실패-유효하지 않은 커서")
+    void displayCommentsByCursor_fail_INVALID_CURSOR() {
+        //given
+        //when
+        DiaryException exception = assertThrows(DiaryException.class,
+                () -> diaryCommentService.displayCommentsByCursor(user, 1L, 1L, "not-a-cursor", 5));
+        //then
+        assertEquals(INVALID_CURSOR.getCode(), exception.getCode());
+        verify(diaryCommentRepository, never()).findAncestorCommentsByDiaryIdBefore(anyLong(), anyLong(), any());
+    }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("커서 기반 다이어리 대댓글 조회 성공-마지막 페이지")
+    void displayReCommentsByCursor_success() {
+        //given
+        DiaryComment ancestor = DiaryComment.builder()
+                .content("우리 체리 귀엽다")
+                .user(userA)
+                .diary(diary)
+                .taggedUsersIdNicknameMap(new HashMap<>())
+                .build();
+        DiaryComment reComment = DiaryComment.builder()
+                .content("체리 진짜 귀엽지")
+                .diary(diary)
+                .parent(ancestor)
+                .user(user)
+                .taggedUsersIdNicknameMap(new HashMap<>())
+                .build();
+        ReflectionTestUtils.setField(reComment, "id", 5L);
+        given(diaryCommentRepository.findReCommentsByDiaryIdAndAncestorCommentIdBefore(eq(1L), eq(3L), eq(Long.MAX_VALUE), any()))
+                .willReturn(List.of(reComment));
+        //when
+        DiaryReCommentCursorResponse response = diaryCommentService.displayReCommentsByCursor(user, 1L, 1L, 3L, null, 20);
+        //then
+        assertEquals(1, response.contents().size());
+        assertEquals("체리 진짜 귀엽지", response.contents().get(0).content());
+        assertEquals(userA.getId(), response.contents().get(0).receiver().id());
+        assertNull(response.nextCursor());
+    }
+}
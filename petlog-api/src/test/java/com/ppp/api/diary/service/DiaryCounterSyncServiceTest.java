@@ -0,0 +1,196 @@
+package com.ppp.api.diary.service;
+
+import com.ppp.api.user.service.UserOrdinalService;
+import com.ppp.common.client.RedisClient;
+import com.ppp.common.client.RedisPipeline;
+import com.ppp.domain.common.constant.Domain;
+import com.ppp.domain.diary.DiaryLikeSnapshot;
+import com.ppp.domain.diary.repository.DiaryCounterQuerydslRepository;
+import com.ppp.domain.diary.repository.DiaryLikeSnapshotJdbcRepository;
+import com.ppp.domain.diary.repository.DiaryLikeSnapshotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryCounterSyncServiceTest {
+    @Mock
+    private DiaryCounterQuerydslRepository diaryCounterQuerydslRepository;
+    @Mock
+    private DiaryLikeSnapshotRepository diaryLikeSnapshotRepository;
+    @Mock
+    private DiaryLikeSnapshotJdbcRepository diaryLikeSnapshotJdbcRepository;
+    @Mock
+    private UserOrdinalService userOrdinalService;
+    @Mock
+    private RedisClient redisClient;
+    @Mock
+    private RedisPipeline redisPipeline;
+    @InjectMocks
+    private DiaryCounterSyncService diaryCounterSyncService;
+
+    @SuppressWarnings("unchecked")
+    private void runPipelinedCommands(int times) {
+        ArgumentCaptor<Consumer<RedisPipeline>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(redisClient, times(times)).executePipelined(captor.capture());
+        captor.getAllValues().forEach(commands -> commands.accept(redisPipeline));
+    }
+
+    @Test
+    @DisplayName("카운터 재구축 성공")
+    void rebuild_success() {
+        //given
+        given(redisClient.setValueIfAbsent(eq(Domain.DIARY_COUNTER_JOB), eq("_LOCK"), anyString(), any(Duration.class)))
+                .willReturn(true);
+        given(redisClient.getValueFromHash(eq(Domain.DIARY_COUNTER_JOB), eq(""), anyString()))
+                .willReturn(Optional.empty());
+        given(redisClient.getValueFromHash(Domain.DIARY_COUNTER_JOB, "", "REBUILD_COMMENT_COUNT"))
+                .willReturn(Optional.of("10"));
+        given(diaryCounterQuerydslRepository.findDiaryIdsAfter(10L, 1000))
+                .willReturn(List.of(11L, 12L));
+        given(diaryCounterQuerydslRepository.countCommentsByDiaryIds(List.of(11L, 12L)))
+                .willReturn(Map.of(11L, 3L));
+        given(diaryCounterQuerydslRepository.findAncestorCommentIdsAfter(0L, 1000))
+                .willReturn(List.of(5L));
+        given(diaryCounterQuerydslRepository.countReCommentsByAncestorCommentIds(List.of(5L)))
+                .willReturn(Map.of(5L, 2L));
+        given(diaryCounterQuerydslRepository.findRootCommentIdsAfter(0L, 1000))
+                .willReturn(List.of(5L));
+        given(diaryLikeSnapshotRepository.findByDomainAndIdGreaterThanOrderByIdAsc(eq(Domain.DIARY_LIKE_ORDINAL), eq(0L), any()))
+                .willReturn(List.of(new DiaryLikeSnapshot(Domain.DIARY_LIKE_ORDINAL, 11L, "abc123")));
+        given(diaryLikeSnapshotRepository.findByDomainAndIdGreaterThanOrderByIdAsc(eq(Domain.DIARY_COMMENT_LIKE_ORDINAL), eq(0L), any()))
+                .willReturn(List.of());
+        given(userOrdinalService.getOrCreateOrdinals(List.of("abc123")))
+                .willReturn(Map.of("abc123", 7L));
+        //when
+        boolean isRun = diaryCounterSyncService.rebuild();
+        //then
+        assertTrue(isRun);
+        ArgumentCaptor<String> tokenCaptor = ArgumentCaptor.forClass(String.class);
+        verify(redisClient).setValueIfAbsent(eq(Domain.DIARY_COUNTER_JOB), eq("_LOCK"), tokenCaptor.capture(), any(Duration.class));
+        runPipelinedCommands(3);
+        verify(redisPipeline, times(1)).setValue(Domain.DIARY_COMMENT, 11L, "3");
+        verify(redisPipeline, times(1)).setValue(Domain.DIARY_COMMENT, 12L, "0");
+        verify(redisPipeline, times(1)).setValue(Domain.DIARY_RE_COMMENT, 5L, "2");
+        verify(diaryCounterQuerydslRepository, times(1)).updateReplyCounts(List.of(5L), Map.of(5L, 2L));
+        verify(redisPipeline, times(1)).addValuesToSet(Domain.DIARY_LIKE_ORDINAL, 11L, List.of("7"));
+        verify(redisClient, times(1)).putValueToHash(Domain.DIARY_COUNTER_JOB, "", "REBUILD_COMMENT_COUNT", "12");
+        verify(redisClient, times(1)).deleteValueFromHash(Domain.DIARY_COUNTER_JOB, "", "REBUILD_COMMENT_COUNT");
+        verify(redisClient, times(1)).deleteValueIfEquals(Domain.DIARY_COUNTER_JOB, "_LOCK", tokenCaptor.getValue());
+    }
+
+    @Test
+    @DisplayName("카운터 재구축 실패-다른 작업이 실행 중")
+    void rebuild_fail_WhenLocked() {
+        //given
+        given(redisClient.setValueIfAbsent(eq(Domain.DIARY_COUNTER_JOB), eq("_LOCK"), anyString(), any(Duration.class)))
+                .willReturn(false);
+        //when
+        boolean isRun = diaryCounterSyncService.rebuild();
+        //then
+        assertFalse(isRun);
+        verifyNoInteractions(diaryCounterQuerydslRepository);
+        verify(redisClient, never()).deleteValueIfEquals(any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("좋아요 스냅샷 저장 성공")
+    @SuppressWarnings("unchecked")
+    void snapshot_success() {
+        //given
+        given(redisClient.setValueIfAbsent(eq(Domain.DIARY_COUNTER_JOB), eq("_LOCK"), anyString(), any(Duration.class)))
+                .willReturn(true);
+        given(redisClient.getValueFromHash(eq(Domain.DIARY_COUNTER_JOB), eq(""), anyString()))
+                .willReturn(Optional.empty());
+        given(diaryCounterQuerydslRepository.findDiaryIdsAfter(0L, 1000))
+                .willReturn(List.of(1L, 2L));
+        given(diaryCounterQuerydslRepository.findCommentIdsAfter(0L, 1000))
+                .willReturn(List.of());
+        given(redisClient.executePipelined(any()))
+                .willReturn(List.of(Set.of("7"), Set.of()));
+        given(userOrdinalService.findUserIdsByOrdinals(Set.of("7")))
+                .willReturn(Map.of("7", "abc123"));
+        //when
+        boolean isRun = diaryCounterSyncService.snapshot();
+        //then
+        assertTrue(isRun);
+        ArgumentCaptor<List<DiaryLikeSnapshot>> captor = ArgumentCaptor.forClass(List.class);
+        verify(diaryLikeSnapshotJdbcRepository, times(1))
+                .replaceInRange(eq(Domain.DIARY_LIKE_ORDINAL), eq(0L), eq(Long.MAX_VALUE), captor.capture());
+        verify(diaryLikeSnapshotJdbcRepository, times(1))
+                .replaceInRange(Domain.DIARY_COMMENT_LIKE_ORDINAL, 0L, Long.MAX_VALUE, List.of());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(1L, captor.getValue().get(0).getTargetId());
+        assertEquals("abc123", captor.getValue().get(0).getUserId());
+    }
+
+    @Test
+    @DisplayName("좋아요 스냅샷 저장 성공-청크가 가득 차면 청크의 마지막 id 까지만 교체")
+    void snapshot_success_WhenChunkIsFull() {
+        //given
+        List<Long> diaryIds = LongStream.rangeClosed(1, 1000).boxed().toList();
+        given(redisClient.setValueIfAbsent(eq(Domain.DIARY_COUNTER_JOB), eq("_LOCK"), anyString(), any(Duration.class)))
+                .willReturn(true);
+        given(redisClient.getValueFromHash(eq(Domain.DIARY_COUNTER_JOB), eq(""), anyString()))
+                .willReturn(Optional.empty());
+        given(diaryCounterQuerydslRepository.findDiaryIdsAfter(0L, 1000))
+                .willReturn(diaryIds);
+        given(diaryCounterQuerydslRepository.findDiaryIdsAfter(1000L, 1000))
+                .willReturn(List.of());
+        given(diaryCounterQuerydslRepository.findCommentIdsAfter(0L, 1000))
+                .willReturn(List.of());
+        given(redisClient.executePipelined(any()))
+                .willReturn(diaryIds.stream().map(diaryId -> (Object) Set.of()).toList());
+        given(userOrdinalService.findUserIdsByOrdinals(Set.of()))
+                .willReturn(Map.of());
+        //when
+        diaryCounterSyncService.snapshot();
+        //then
+        verify(diaryLikeSnapshotJdbcRepository, times(1)).replaceInRange(Domain.DIARY_LIKE_ORDINAL, 0L, 1000L, List.of());
+        verify(diaryLikeSnapshotJdbcRepository, times(1)).replaceInRange(Domain.DIARY_LIKE_ORDINAL, 1000L, Long.MAX_VALUE, List.of());
+    }
+
+    @Test
+    @DisplayName("재구축 비활성화시 기동 시 실행하지 않음")
+    void rebuildOnStartup_success_WhenDisabled() {
+        //given
+        ReflectionTestUtils.setField(diaryCounterSyncService, "rebuildEnabled", false);
+        //when
+        diaryCounterSyncService.rebuildOnStartup();
+        //then
+        verifyNoInteractions(redisClient);
+    }
+
+    @Test
+    @DisplayName("진행 지표 등록")
+    void bindTo_success() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        //when
+        diaryCounterSyncService.bindTo(meterRegistry);
+        //then
+        assertEquals(0, meterRegistry.get("diary.counter.sync.processed").tag("stage", "rebuild_comment_count")
+                .functionCounter().count());
+        assertEquals(0, meterRegistry.get("diary.counter.sync.cursor").tag("stage", "snapshot_diary_like")
+                .gauge().value());
+    }
+}
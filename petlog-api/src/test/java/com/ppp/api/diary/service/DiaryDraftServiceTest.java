@@ -4,13 +4,13 @@ import com.ppp.api.diary.dto.request.DiaryDraftCreateRequest;
 import com.ppp.api.diary.dto.response.DiaryDraftCheckResponse;
 import com.ppp.api.diary.dto.response.DiaryDraftResponse;
 import com.ppp.api.diary.exception.DiaryException;
+import com.ppp.api.video.service.VideoManageService;
 import com.ppp.common.service.FileStorageManageService;
 import com.ppp.domain.diary.DiaryDraft;
 import com.ppp.domain.diary.repository.DiaryDraftRedisRepository;
 import com.ppp.domain.pet.Pet;
 import com.ppp.domain.user.User;
 import com.ppp.domain.video.TempVideo;
-import com.ppp.domain.video.repository.TempVideoRedisRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,7 +43,7 @@ class DiaryDraftServiceTest {
     @Mock
     private FileStorageManageService fileStorageManageService;
     @Mock
-    private TempVideoRedisRepository tempVideoRedisRepository;
+    private VideoManageService videoManageService;
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
     @InjectMocks
@@ -83,8 +83,8 @@ class DiaryDraftServiceTest {
         given(fileStorageManageService.uploadImages(anyList(), any()))
                 .willReturn(List.of("DIARY/2024-01-31/805496ad51ee46ab94394c5635a2abd820240131183104956.jpg",
                         "DIARY/2024-01-31/805496ad51ee46ab94394c5635a2abd820240131183104956.jpg"));
-        given(tempVideoRedisRepository.findById(anyString()))
-                .willReturn(Optional.of(TempVideo.builder()
+        given(videoManageService.getCompletedVideos(anyList(), any()))
+                .willReturn(List.of(TempVideo.builder()
                         .filePath("temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mp4")
                         .userId(user.getId())
                         .build()));
@@ -131,8 +131,8 @@ class DiaryDraftServiceTest {
         given(fileStorageManageService.uploadImages(anyList(), any()))
                 .willReturn(List.of("DIARY/2024-01-31/805496ad51ee46ab94394c5635a2abd820240131183104956.jpg",
                         "DIARY/2024-01-31/805496ad51ee46ab94394c5635a2abd820240131183104956.jpg"));
-        given(tempVideoRedisRepository.findById(anyString()))
-                .willReturn(Optional.of(TempVideo.builder()
+        given(videoManageService.getCompletedVideos(anyList(), any()))
+                .willReturn(List.of(TempVideo.builder()
                         .filePath("temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mp4")
                         .userId(user.getId())
                         .build()));
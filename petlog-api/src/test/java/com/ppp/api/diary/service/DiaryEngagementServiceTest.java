@@ -0,0 +1,179 @@
+package com.ppp.api.diary.service;
+
+import com.ppp.api.diary.dto.transfer.DiaryEngagementDto;
+import com.ppp.api.user.service.UserOrdinalService;
+import com.ppp.common.client.RedisClient;
+import com.ppp.common.client.RedisPipeline;
+import com.ppp.common.client.RedisWriteBehindBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.ppp.domain.common.constant.Domain.DIARY_COMMENT;
+import static com.ppp.domain.common.constant.Domain.DIARY_LIKE;
+import static com.ppp.domain.common.constant.Domain.DIARY_LIKE_ORDINAL;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryEngagementServiceTest {
+    @Mock
+    private RedisClient redisClient;
+    @Mock
+    private RedisWriteBehindBuffer redisWriteBehindBuffer;
+    @Mock
+    private UserOrdinalService userOrdinalService;
+    @Mock
+    private DiaryLikeMigrationService diaryLikeMigrationService;
+    @InjectMocks
+    private DiaryEngagementService diaryEngagementService;
+
+    @Test
+    @DisplayName("일기 반응 일괄 조회 성공")
+    void getEngagements_success() {
+        //given
+        given(userOrdinalService.findOrdinal("abc123"))
+                .willReturn(Optional.of(7L));
+        given(redisClient.executePipelined(any()))
+                .willReturn(Arrays.asList("3", 5L, true, null, 0L, false));
+        //when
+        Map<Long, DiaryEngagementDto> engagements = diaryEngagementService.getEngagements(List.of(1L, 2L), "abc123");
+        //then
+        assertEquals(DiaryEngagementDto.of(3, 5, true), engagements.get(1L));
+        assertEquals(DiaryEngagementDto.of(0, 0, false), engagements.get(2L));
+        ArgumentCaptor<Consumer<RedisPipeline>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(redisClient, times(1)).executePipelined(captor.capture());
+        RedisPipeline pipeline = mock(RedisPipeline.class);
+        captor.getValue().accept(pipeline);
+        verify(pipeline, times(1)).getValue(DIARY_COMMENT, 1L);
+        verify(pipeline, times(1)).getSizeOfSet(DIARY_LIKE_ORDINAL, 2L);
+        verify(pipeline, times(1)).isValueExistInSet(DIARY_LIKE_ORDINAL, 2L, "7");
+    }
+
+    @Test
+    @DisplayName("일기 반응 일괄 조회 성공-아직 반영되지 않은 증감 병합")
+    void getEngagements_success_WhenPendingWriteBehind() {
+        //given
+        given(userOrdinalService.findOrdinal("abc123"))
+                .willReturn(Optional.of(7L));
+        given(redisClient.executePipelined(any()))
+                .willReturn(Arrays.asList("3", 5L, false));
+        given(redisWriteBehindBuffer.getPendingDelta(DIARY_COMMENT, 1L)).willReturn(2L);
+        given(redisWriteBehindBuffer.getPendingSizeDelta(DIARY_LIKE_ORDINAL, 1L)).willReturn(1L);
+        given(redisWriteBehindBuffer.getPendingMembership(DIARY_LIKE_ORDINAL, 1L, "7")).willReturn(Optional.of(true));
+        //when
+        Map<Long, DiaryEngagementDto> engagements = diaryEngagementService.getEngagements(List.of(1L), "abc123");
+        //then
+        assertEquals(DiaryEngagementDto.of(5, 6, true), engagements.get(1L));
+    }
+
+    @Test
+    @DisplayName("일기 반응 일괄 조회 성공-이전되지 않은 좋아요가 남은 일기만 이전 후 다시 조회")
+    void getEngagements_success_WhenLegacyLikesRemain() {
+        //given
+        given(diaryLikeMigrationService.isPending())
+                .willReturn(true);
+        given(redisClient.executePipelined(any()))
+                .willReturn(Arrays.asList("3", 5L, false, null, 0L, true))
+                .willReturn(Arrays.asList(null, 2L, false));
+        //when
+        Map<Long, DiaryEngagementDto> engagements = diaryEngagementService.getEngagements(List.of(1L, 2L), null);
+        //then
+        assertEquals(DiaryEngagementDto.of(3, 5, false), engagements.get(1L));
+        assertEquals(DiaryEngagementDto.of(0, 2, false), engagements.get(2L));
+        verify(diaryLikeMigrationService, times(1)).migrateDiaryLikes(List.of(2L));
+        ArgumentCaptor<Consumer<RedisPipeline>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(redisClient, times(2)).executePipelined(captor.capture());
+        RedisPipeline pipeline = mock(RedisPipeline.class);
+        captor.getAllValues().get(0).accept(pipeline);
+        verify(pipeline, times(1)).hasKey(DIARY_LIKE, 1L);
+        verify(pipeline, times(1)).hasKey(DIARY_LIKE, 2L);
+    }
+
+    @Test
+    @DisplayName("일기 반응 일괄 조회 성공-비로그인 유저")
+    void getEngagements_success_WhenAnonymous() {
+        //given
+        given(redisClient.executePipelined(any()))
+                .willReturn(Arrays.asList("1", 2L));
+        //when
+        Map<Long, DiaryEngagementDto> engagements = diaryEngagementService.getEngagements(List.of(1L), null);
+        //then
+        assertEquals(DiaryEngagementDto.of(1, 2, false), engagements.get(1L));
+    }
+
+    @Test
+    @DisplayName("일기 반응 일괄 조회 성공-좋아요 이력이 없는 유저")
+    void getEngagements_success_WhenUserHasNoOrdinal() {
+        //given
+        given(userOrdinalService.findOrdinal("abc123"))
+                .willReturn(Optional.empty());
+        given(redisClient.executePipelined(any()))
+                .willReturn(Arrays.asList("1", 2L));
+        //when
+        Map<Long, DiaryEngagementDto> engagements = diaryEngagementService.getEngagements(List.of(1L), "abc123");
+        //then
+        assertEquals(DiaryEngagementDto.of(1, 2, false), engagements.get(1L));
+    }
+
+    @Test
+    @DisplayName("일기 반응 일괄 조회 성공-일기가 없음")
+    void getEngagements_success_WhenEmpty() {
+        //given
+        //when
+        Map<Long, DiaryEngagementDto> engagements = diaryEngagementService.getEngagements(List.of(), "abc123");
+        //then
+        assertTrue(engagements.isEmpty());
+        verifyNoInteractions(redisClient);
+    }
+
+    @Test
+    @DisplayName("일기 반응 단건 조회 성공")
+    void getEngagement_success() {
+        //given
+        given(redisClient.executePipelined(any()))
+                .willReturn(Arrays.asList("7", 1L, false));
+        //when
+        DiaryEngagementDto engagement = diaryEngagementService.getEngagement(1L, "abc123");
+        //then
+        assertEquals(7, engagement.commentCount());
+        assertEquals(1, engagement.likeCount());
+        assertFalse(engagement.isCurrentUserLiked());
+    }
+
+    @Test
+    @DisplayName("댓글 수 일괄 조회 성공")
+    void getCommentCounts_success() {
+        //given
+        given(redisClient.executePipelined(any()))
+                .willReturn(Arrays.asList("2", null));
+        //when
+        Map<Long, Integer> commentCounts = diaryEngagementService.getCommentCounts(List.of(1L, 2L));
+        //then
+        assertEquals(2, commentCounts.get(1L));
+        assertEquals(0, commentCounts.get(2L));
+    }
+
+    @Test
+    @DisplayName("댓글 수 일괄 조회 성공-일기가 없음")
+    void getCommentCounts_success_WhenEmpty() {
+        //given
+        //when
+        Map<Long, Integer> commentCounts = diaryEngagementService.getCommentCounts(List.of());
+        //then
+        assertTrue(commentCounts.isEmpty());
+        verifyNoInteractions(redisClient);
+    }
+}
@@ -0,0 +1,150 @@
+package com.ppp.api.diary.service;
+
+import com.ppp.domain.diary.dto.PetDiaryDto;
+import com.ppp.domain.diary.repository.DiaryQuerydslRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryFeedPoolServiceTest {
+    @Mock
+    private DiaryQuerydslRepository diaryQuerydslRepository;
+    @InjectMocks
+    private DiaryFeedPoolService diaryFeedPoolService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(diaryFeedPoolService, "poolSize", 2);
+    }
+
+    private PetDiaryDto petDiaryDto(long diaryId, String title) {
+        return new PetDiaryDto(diaryId, 1L, "마루", new ArrayList<>(), "/PET/profilepath", "나 사람됐다 짱이지", title, LocalDateTime.MIN);
+    }
+
+    @Test
+    @DisplayName("후보군 갱신 성공")
+    void refresh_success() {
+        //given
+        given(diaryQuerydslRepository.findRecentPublicDiaryIds(2))
+                .willReturn(List.of(3L, 2L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(3L, 2L)))
+                .willReturn(List.of(petDiaryDto(3L, "셋"), petDiaryDto(2L, "둘")));
+        //when
+        diaryFeedPoolService.refresh();
+        List<PetDiaryDto> sampled = diaryFeedPoolService.sample(5);
+        //then
+        assertFalse(diaryFeedPoolService.isEmpty());
+        assertEquals(2, sampled.size());
+        assertEquals(2, sampled.stream().map(PetDiaryDto::getDiaryId).distinct().count());
+    }
+
+    @Test
+    @DisplayName("후보군이 비어있을 경우 빈 리스트 반환")
+    void sample_success_WhenEmpty() {
+        //given
+        //when
+        List<PetDiaryDto> sampled = diaryFeedPoolService.sample(5);
+        //then
+        assertTrue(diaryFeedPoolService.isEmpty());
+        assertTrue(sampled.isEmpty());
+    }
+
+    @Test
+    @DisplayName("새 일기 추가시 후보군 최대 크기 유지")
+    void upsert_success_WhenNewDiary() {
+        //given
+        given(diaryQuerydslRepository.findRecentPublicDiaryIds(2))
+                .willReturn(List.of(3L, 2L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(3L, 2L)))
+                .willReturn(List.of(petDiaryDto(3L, "셋"), petDiaryDto(2L, "둘")));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(4L)))
+                .willReturn(List.of(petDiaryDto(4L, "넷")));
+        diaryFeedPoolService.refresh();
+        //when
+        diaryFeedPoolService.upsert(4L);
+        //then
+        assertEquals(List.of(3L, 4L), diaryFeedPoolService.sample(5).stream()
+                .map(PetDiaryDto::getDiaryId).sorted().toList());
+    }
+
+    @Test
+    @DisplayName("비공개로 수정된 일기는 후보군에서 삭제")
+    void upsert_success_WhenDiaryBecamePrivate() {
+        //given
+        given(diaryQuerydslRepository.findRecentPublicDiaryIds(2))
+                .willReturn(List.of(3L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(3L)))
+                .willReturn(List.of(petDiaryDto(3L, "셋")))
+                .willReturn(List.of());
+        diaryFeedPoolService.refresh();
+        //when
+        diaryFeedPoolService.upsert(3L);
+        //then
+        assertTrue(diaryFeedPoolService.isEmpty());
+    }
+
+    @Test
+    @DisplayName("수정된 일기는 후보군에서 교체")
+    void upsert_success_WhenDiaryUpdated() {
+        //given
+        given(diaryQuerydslRepository.findRecentPublicDiaryIds(2))
+                .willReturn(List.of(3L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(3L)))
+                .willReturn(List.of(petDiaryDto(3L, "셋")))
+                .willReturn(List.of(petDiaryDto(3L, "수정된 셋")));
+        diaryFeedPoolService.refresh();
+        //when
+        diaryFeedPoolService.upsert(3L);
+        //then
+        assertEquals("수정된 셋", diaryFeedPoolService.sample(1).get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("삭제된 일기 후보군에서 삭제")
+    void remove_success() {
+        //given
+        given(diaryQuerydslRepository.findRecentPublicDiaryIds(2))
+                .willReturn(List.of(3L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(3L)))
+                .willReturn(List.of(petDiaryDto(3L, "셋")));
+        diaryFeedPoolService.refresh();
+        //when
+        diaryFeedPoolService.remove(3L);
+        diaryFeedPoolService.remove(5L);
+        //then
+        assertTrue(diaryFeedPoolService.isEmpty());
+    }
+
+    @Test
+    @DisplayName("후보군 크기와 갱신 경과 시간 지표 등록")
+    void bindTo_success() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        diaryFeedPoolService.bindTo(meterRegistry);
+        //when
+        double stalenessBeforeRefresh = meterRegistry.get("diary.feed.pool.staleness").gauge().value();
+        given(diaryQuerydslRepository.findRecentPublicDiaryIds(2))
+                .willReturn(List.of(3L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(3L)))
+                .willReturn(List.of(petDiaryDto(3L, "셋")));
+        diaryFeedPoolService.refresh();
+        //then
+        assertEquals(-1, stalenessBeforeRefresh);
+        assertTrue(meterRegistry.get("diary.feed.pool.staleness").gauge().value() >= 0);
+        assertEquals(1, meterRegistry.get("diary.feed.pool.size").gauge().value());
+    }
+}
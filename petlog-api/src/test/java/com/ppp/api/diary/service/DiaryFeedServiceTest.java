@@ -1,9 +1,13 @@
 package com.ppp.api.diary.service;
 
+import com.ppp.api.diary.dto.response.DiaryFeedCursorResponse;
 import com.ppp.api.diary.dto.response.DiaryFeedResponse;
+import com.ppp.api.diary.dto.transfer.DiaryEngagementDto;
+import com.ppp.api.diary.exception.DiaryException;
 import com.ppp.api.subscription.dto.transfer.SubscriptionInfoDto;
 import com.ppp.api.subscription.service.SubscriptionService;
 import com.ppp.common.security.PrincipalDetails;
+import com.ppp.common.util.CursorUtil;
 import com.ppp.common.util.TimeUtil;
 import com.ppp.domain.diary.dto.PetDiaryDto;
 import com.ppp.domain.diary.repository.DiaryQuerydslRepository;
@@ -21,10 +25,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.*;
 
+import static com.ppp.api.diary.exception.ErrorCode.INVALID_CURSOR;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class DiaryFeedServiceTest {
@@ -33,9 +38,15 @@ class DiaryFeedServiceTest {
     @Mock
     private DiaryQuerydslRepository diaryQuerydslRepository;
     @Mock
-    private DiaryCommentRedisService diaryCommentRedisService;
+    private DiaryEngagementService diaryEngagementService;
     @Mock
-    private DiaryRedisService diaryRedisService;
+    private DiaryTimelineService diaryTimelineService;
+    @Mock
+    private DiaryFeedPoolService diaryFeedPoolService;
+    @Mock
+    private DiaryTrendingService diaryTrendingService;
+    @Mock
+    private DiarySeenFilterService diarySeenFilterService;
     @InjectMocks
     private DiaryFeedService diaryFeedService;
 
@@ -73,21 +84,29 @@ class DiaryFeedServiceTest {
                         .subscribedPetIds(Set.of(1L))
                         .blockedPetIds(Set.of(2L))
                         .build());
-        given(diaryQuerydslRepository.findSubscribedPetsDiariesBySubscription(anySet(), any()))
+        given(diaryTimelineService.findTimelineDiaryIds(anyString(), anySet(), anyLong(), anyInt()))
+                .willReturn(List.of(5L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(5L)))
                 .willReturn(List.of(
-                        new PetDiaryDto(5L, 3L, "마루", new ArrayList<>(), "/PET/profilepath", "나 사람됐다 짱이지", "마루는 네살", LocalDateTime.MIN)
+                        new PetDiaryDto(5L, 1L, "마루", new ArrayList<>(), "/PET/profilepath", "나 사람됐다 짱이지", "마루는 네살", LocalDateTime.MIN)
                 ));
-        given(diaryCommentRedisService.getDiaryCommentCountByDiaryId(anyLong())).willReturn(0);
-        given(diaryRedisService.isLikeExistByDiaryIdAndUserId(anyLong(), anyString())).willReturn(true);
-        given(diaryRedisService.getLikeCountByDiaryId(anyLong())).willReturn(1);
-        given(diaryQuerydslRepository.findRandomPetsDiaries(anySet(), any()))
+        given(diaryEngagementService.getEngagements(anyList(), anyString()))
+                .willReturn(Map.of(5L, DiaryEngagementDto.of(0, 1, true), 6L, DiaryEngagementDto.of(0, 1, true)));
+        given(diaryQuerydslRepository.getRandomPublicDiaryIdBound()).willReturn(4L);
+        given(diaryQuerydslRepository.findRandomPublicDiaryIds(Set.of(2L), 4L, 27))
+                .willReturn(List.of(6L));
+        given(diarySeenFilterService.filterUnseen("abc123", List.of(6L)))
+                .willReturn(List.of(6L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(6L)))
                 .willReturn(List.of(
-                        new PetDiaryDto(5L, 3L, "마루", new ArrayList<>(), "/PET/profilepath", "나 사람됐다 짱이지", "마루는 네살", LocalDateTime.MIN)
+                        new PetDiaryDto(6L, 3L, "마루", new ArrayList<>(), "/PET/profilepath", "나 사람됐다 짱이지", "마루는 네살", LocalDateTime.MIN)
                 ));
         //when
         Set<DiaryFeedResponse> responses = diaryFeedService.retrieveDiaryFeed(Optional.of(new PrincipalDetails(userA)), 0, 10);
         //then
-        DiaryFeedResponse element = (DiaryFeedResponse) responses.toArray()[0];
+        DiaryFeedResponse element = responses.stream()
+                .filter(response -> response.diaryId() == 5L)
+                .findFirst().orElseThrow();
         assertEquals(responses.size(), 2);
         assertEquals(element.content(), "나 사람됐다 짱이지");
         assertEquals(element.title(), "마루는 네살");
@@ -96,5 +115,302 @@ class DiaryFeedServiceTest {
         assertTrue(element.isCurrentUserLiked());
     }
 
+    @Test
+    @DisplayName("피드 조회 성공-비로그인 후보군에서 샘플링")
+    void retrieveDiaryFeed_success_WhenAnonymous() {
+        //given
+        given(diaryFeedPoolService.isEmpty()).willReturn(false);
+        given(diaryFeedPoolService.sample(10))
+                .willReturn(List.of(
+                        new PetDiaryDto(5L, 3L, "마루", new ArrayList<>(), "/PET/profilepath", "나 사람됐다 짱이지", "마루는 네살", LocalDateTime.MIN)
+                ));
+        given(diaryEngagementService.getEngagements(eq(List.of(5L)), isNull()))
+                .willReturn(Map.of(5L, DiaryEngagementDto.of(2, 1, false)));
+        //when
+        Set<DiaryFeedResponse> responses = diaryFeedService.retrieveDiaryFeed(Optional.empty(), 0, 10);
+        //then
+        DiaryFeedResponse element = (DiaryFeedResponse) responses.toArray()[0];
+        assertEquals(1, responses.size());
+        assertEquals(5L, element.diaryId());
+        assertEquals(2, element.commentCount());
+        verify(diaryQuerydslRepository, never()).findRandomPetsDiaries(any());
+    }
+
+    @Test
+    @DisplayName("피드 조회 성공-비로그인 후보군이 비어있을 경우 조회")
+    void retrieveDiaryFeed_success_WhenAnonymousAndPoolEmpty() {
+        //given
+        given(diaryFeedPoolService.isEmpty()).willReturn(true);
+        given(diaryQuerydslRepository.findRandomPetsDiaries(any()))
+                .willReturn(List.of(
+                        new PetDiaryDto(5L, 3L, "마루", new ArrayList<>(), "/PET/profilepath", "나 사람됐다 짱이지", "마루는 네살", LocalDateTime.MIN)
+                ));
+        given(diaryEngagementService.getEngagements(eq(List.of(5L)), isNull()))
+                .willReturn(Map.of(5L, DiaryEngagementDto.of(2, 1, false)));
+        //when
+        Set<DiaryFeedResponse> responses = diaryFeedService.retrieveDiaryFeed(Optional.empty(), 0, 10);
+        //then
+        assertEquals(1, responses.size());
+        verify(diaryFeedPoolService, never()).sample(anyInt());
+    }
+
+    @Test
+    @DisplayName("커서 기반 랜덤 피드 조회 성공-비로그인 첫 페이지")
+    void retrieveSampledDiaryFeed_success_WhenAnonymousFirstPage() {
+        //given
+        given(diaryQuerydslRepository.getRandomPublicDiaryIdBound()).willReturn(4L);
+        given(diaryQuerydslRepository.findRandomPublicDiaryIds(anySet(), eq(4L), eq(4L), anyInt()))
+                .willReturn(List.of(5L, 7L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(5L, 7L)))
+                .willReturn(List.of(
+                        new PetDiaryDto(5L, 3L, "마루", new ArrayList<>(), "/PET/profilepath", "나 사람됐다 짱이지", "마루는 네살", LocalDateTime.MIN),
+                        new PetDiaryDto(7L, 3L, "마루", new ArrayList<>(), "/PET/profilepath", "오늘은 산책", "마루는 다섯살", LocalDateTime.MIN)
+                ));
+        given(diaryEngagementService.getEngagements(eq(List.of(5L, 7L)), isNull()))
+                .willReturn(Map.of(5L, DiaryEngagementDto.of(0, 1, false), 7L, DiaryEngagementDto.of(0, 1, false)));
+        //when
+        DiaryFeedCursorResponse response = diaryFeedService.retrieveSampledDiaryFeed(Optional.empty(), null, 2);
+        //then
+        assertEquals(2, response.contents().size());
+        assertEquals(5L, response.contents().get(0).diaryId());
+        assertEquals(CursorUtil.encode(4L, 7L), response.nextCursor());
+    }
+
+    @Test
+    @DisplayName("커서 기반 랜덤 피드 조회 성공-로그인 다음 페이지")
+    void retrieveSampledDiaryFeed_success_WhenUserNextPage() {
+        //given
+        given(subscriptionService.getUsersSubscriptionInfo(anyString()))
+                .willReturn(SubscriptionInfoDto.builder()
+                        .subscribedPetIds(Set.of(3L))
+                        .blockedPetIds(Set.of(2L))
+                        .build());
+        given(diaryQuerydslRepository.findRandomPublicDiaryIds(Set.of(2L), 4L, 7L, 15))
+                .willReturn(List.of(9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L, 20L, 1L, 2L, 3L));
+        given(diarySeenFilterService.filterUnseen("abc123", List.of(9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L, 20L, 1L, 2L, 3L)))
+                .willReturn(List.of(9L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(9L, 10L, 11L, 12L, 13L)))
+                .willReturn(List.of(
+                        new PetDiaryDto(9L, 3L, "마루", new ArrayList<>(), "/PET/profilepath", "나 사람됐다 짱이지", "마루는 네살", LocalDateTime.MIN)
+                ));
+        given(diaryEngagementService.getEngagements(List.of(9L), "abc123"))
+                .willReturn(Map.of(9L, DiaryEngagementDto.of(0, 1, true)));
+        //when
+        DiaryFeedCursorResponse response = diaryFeedService.retrieveSampledDiaryFeed(
+                Optional.of(new PrincipalDetails(userA)), CursorUtil.encode(4L, 7L), 5);
+        //then
+        assertEquals(1, response.contents().size());
+        assertTrue(response.contents().get(0).pet().isSubscribed());
+        assertTrue(response.contents().get(0).isCurrentUserLiked());
+        assertEquals(CursorUtil.encode(4L, 13L), response.nextCursor());
+    }
+
+    @Test
+    @DisplayName("커서 기반 랜덤 피드 조회 성공-이미 본 일기 제외")
+    void retrieveSampledDiaryFeed_success_WhenSeenDiariesExcluded() {
+        //given
+        given(subscriptionService.getUsersSubscriptionInfo(anyString()))
+                .willReturn(SubscriptionInfoDto.builder()
+                        .subscribedPetIds(Set.of())
+                        .blockedPetIds(Set.of())
+                        .build());
+        given(diaryQuerydslRepository.findRandomPublicDiaryIds(Set.of(), 1L, 2L, 6))
+                .willReturn(List.of(3L, 4L, 5L, 6L, 7L));
+        given(diarySeenFilterService.filterUnseen("abc123", List.of(3L, 4L, 5L, 6L, 7L)))
+                .willReturn(List.of(4L, 6L, 7L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(4L, 6L)))
+                .willReturn(List.of(
+                        new PetDiaryDto(4L, 3L, "마루", new ArrayList<>(), "/PET/profilepath", "나 사람됐다 짱이지", "마루는 네살", LocalDateTime.MIN),
+                        new PetDiaryDto(6L, 3L, "마루", new ArrayList<>(), "/PET/profilepath", "오늘은 산책", "마루는 다섯살", LocalDateTime.MIN)
+                ));
+        given(diaryEngagementService.getEngagements(List.of(4L, 6L), "abc123"))
+                .willReturn(Map.of(4L, DiaryEngagementDto.of(0, 1, false), 6L, DiaryEngagementDto.of(0, 1, false)));
+        //when
+        DiaryFeedCursorResponse response = diaryFeedService.retrieveSampledDiaryFeed(
+                Optional.of(new PrincipalDetails(userA)), CursorUtil.encode(1L, 2L), 2);
+        //then
+        assertEquals(List.of(4L, 6L), response.contents().stream().map(DiaryFeedResponse::diaryId).toList());
+        assertEquals(CursorUtil.encode(1L, 6L), response.nextCursor());
+        verify(diarySeenFilterService, times(1)).markSeen("abc123", List.of(4L, 6L));
+    }
+
+    @Test
+    @DisplayName("커서 기반 랜덤 피드 조회 성공-안 본 일기가 부족하면 본 일기로 채움")
+    void retrieveSampledDiaryFeed_success_WhenNotEnoughUnseenDiaries() {
+        //given
+        given(subscriptionService.getUsersSubscriptionInfo(anyString()))
+                .willReturn(SubscriptionInfoDto.builder()
+                        .subscribedPetIds(Set.of())
+                        .blockedPetIds(Set.of())
+                        .build());
+        given(diaryQuerydslRepository.findRandomPublicDiaryIds(Set.of(), 1L, 2L, 6))
+                .willReturn(List.of(3L, 4L, 5L));
+        given(diarySeenFilterService.filterUnseen("abc123", List.of(3L, 4L, 5L)))
+                .willReturn(List.of(4L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(3L, 4L)))
+                .willReturn(List.of(
+                        new PetDiaryDto(3L, 3L, "마루", new ArrayList<>(), "/PET/profilepath", "나 사람됐다 짱이지", "마루는 네살", LocalDateTime.MIN),
+                        new PetDiaryDto(4L, 3L, "마루", new ArrayList<>(), "/PET/profilepath", "오늘은 산책", "마루는 다섯살", LocalDateTime.MIN)
+                ));
+        given(diaryEngagementService.getEngagements(List.of(3L, 4L), "abc123"))
+                .willReturn(Map.of(3L, DiaryEngagementDto.of(0, 1, false), 4L, DiaryEngagementDto.of(0, 1, false)));
+        //when
+        DiaryFeedCursorResponse response = diaryFeedService.retrieveSampledDiaryFeed(
+                Optional.of(new PrincipalDetails(userA)), CursorUtil.encode(1L, 2L), 2);
+        //then
+        assertEquals(List.of(3L, 4L), response.contents().stream().map(DiaryFeedResponse::diaryId).toList());
+        verify(diarySeenFilterService, times(1)).markSeen("abc123", List.of(3L, 4L));
+    }
+
+    @Test
+    @DisplayName("커서 기반 랜덤 피드 조회 성공-더 이상 일기가 없음")
+    void retrieveSampledDiaryFeed_success_WhenNoDiary() {
+        //given
+        given(diaryQuerydslRepository.getRandomPublicDiaryIdBound()).willReturn(0L);
+        given(diaryQuerydslRepository.findRandomPublicDiaryIds(anySet(), anyLong(), anyLong(), anyInt()))
+                .willReturn(List.of());
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of()))
+                .willReturn(List.of());
+        //when
+        DiaryFeedCursorResponse response = diaryFeedService.retrieveSampledDiaryFeed(Optional.empty(), "", 5);
+        //then
+        assertTrue(response.contents().isEmpty());
+        assertNull(response.nextCursor());
+    }
+
+    @Test
+    @DisplayName("커서 기반 랜덤 피드 조회 성공-한 바퀴를 다 돌면 커서 없음")
+    void retrieveSampledDiaryFeed_success_WhenWrappedAround() {
+        //given
+        given(diaryQuerydslRepository.findRandomPublicDiaryIds(Set.of(), 4L, 1L, 2))
+                .willReturn(List.of(3L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(3L)))
+                .willReturn(List.of(
+                        new PetDiaryDto(3L, 3L, "마루", new ArrayList<>(), "/PET/profilepath", "나 사람됐다 짱이지", "마루는 네살", LocalDateTime.MIN)
+                ));
+        given(diaryEngagementService.getEngagements(eq(List.of(3L)), isNull()))
+                .willReturn(Map.of(3L, DiaryEngagementDto.of(0, 1, false)));
+        //when
+        DiaryFeedCursorResponse response = diaryFeedService.retrieveSampledDiaryFeed(Optional.empty(), CursorUtil.encode(4L, 1L), 2);
+        //then
+        assertEquals(1, response.contents().size());
+        assertNull(response.nextCursor());
+    }
+
+    @Test
+    @DisplayName("커서 기반 랜덤 피드 조회 성공-시작 위치에서 끝나면 커서 없음")
+    void retrieveSampledDiaryFeed_success_WhenReachedStart() {
+        //given
+        given(diaryQuerydslRepository.findRandomPublicDiaryIds(Set.of(), 4L, 1L, 2))
+                .willReturn(List.of(3L, 4L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(3L, 4L)))
+                .willReturn(List.of(
+                        new PetDiaryDto(3L, 3L, "마루", new ArrayList<>(), "/PET/profilepath", "나 사람됐다 짱이지", "마루는 네살", LocalDateTime.MIN),
+                        new PetDiaryDto(4L, 3L, "마루", new ArrayList<>(), "/PET/profilepath", "오늘은 산책", "마루는 다섯살", LocalDateTime.MIN)
+                ));
+        given(diaryEngagementService.getEngagements(eq(List.of(3L, 4L)), isNull()))
+                .willReturn(Map.of(3L, DiaryEngagementDto.of(0, 1, false), 4L, DiaryEngagementDto.of(0, 1, false)));
+        //when
+        DiaryFeedCursorResponse response = diaryFeedService.retrieveSampledDiaryFeed(Optional.empty(), CursorUtil.encode(4L, 1L), 2);
+        //then
+        assertEquals(2, response.contents().size());
+        assertNull(response.nextCursor());
+    }
+
+    @Test
+    @DisplayName("커서 기반 랜덤 피드 조회 실패-invalid cursor")
+    void retrieveSampledDiaryFeed_fail_INVALID_CURSOR() {
+        //given
+        //when
+        DiaryException exception = assertThrows(DiaryException.class,
+                () -> diaryFeedService.retrieveSampledDiaryFeed(Optional.empty(), "not-a-cursor", 5));
+        //then
+        assertEquals(INVALID_CURSOR.getCode(), exception.getCode());
+    }
+
+    @Test
+    @DisplayName("구독 피드 조회 성공")
+    void retrieveSubscribedDiaryFeed_success() {
+        //given
+        given(subscriptionService.getUsersSubscriptionInfo(anyString()))
+                .willReturn(SubscriptionInfoDto.builder()
+                        .subscribedPetIds(Set.of(1L))
+                        .blockedPetIds(Set.of())
+                        .build());
+        given(diaryTimelineService.findTimelineDiaryIds("abc123", Set.of(1L), 10L, 2))
+                .willReturn(List.of(8L, 6L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(8L, 6L)))
+                .willReturn(List.of(
+                        new PetDiaryDto(8L, 1L, "마루", new ArrayList<>(), "/PET/profilepath", "나 사람됐다 짱이지", "마루는 네살", LocalDateTime.MIN),
+                        new PetDiaryDto(6L, 2L, "구독 취소한 펫", new ArrayList<>(), "/PET/profilepath", "오늘은 산책", "산책", LocalDateTime.MIN)
+                ));
+        given(diaryEngagementService.getEngagements(List.of(8L), "abc123"))
+                .willReturn(Map.of(8L, DiaryEngagementDto.of(0, 1, false)));
+        //when
+        DiaryFeedCursorResponse response = diaryFeedService.retrieveSubscribedDiaryFeed(userA, CursorUtil.encode(10L), 2);
+        //then
+        assertEquals(1, response.contents().size());
+        assertEquals(8L, response.contents().get(0).diaryId());
+        assertEquals(Optional.of(6L), CursorUtil.decodeLong(response.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("인기 피드 조회 성공-비로그인")
+    void retrieveTrendingDiaryFeed_success_WhenAnonymous() {
+        //given
+        given(diaryTrendingService.findTrendingDiaryIds(0L, 3))
+                .willReturn(List.of(8L, 6L, 3L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(8L, 6L, 3L)))
+                .willReturn(List.of(
+                        new PetDiaryDto(8L, 1L, "마루", new ArrayList<>(), "/PET/profilepath", "나 사람됐다 짱이지", "마루는 네살", LocalDateTime.MIN),
+                        new PetDiaryDto(3L, 2L, "보리", new ArrayList<>(), "/PET/profilepath", "오늘은 산책", "산책", LocalDateTime.MIN)
+                ));
+        given(diaryEngagementService.getEngagements(eq(List.of(8L, 3L)), isNull()))
+                .willReturn(Map.of(8L, DiaryEngagementDto.of(3, 10, false), 3L, DiaryEngagementDto.of(1, 2, false)));
+        //when
+        DiaryFeedCursorResponse response = diaryFeedService.retrieveTrendingDiaryFeed(Optional.empty(), null, 3);
+        //then
+        assertEquals(2, response.contents().size());
+        assertEquals(8L, response.contents().get(0).diaryId());
+        assertEquals(Optional.of(2L), CursorUtil.decodeLong(response.nextCursor()));
+        verify(diaryTrendingService, times(1)).removeDiaries(List.of(6L));
+    }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("인기 피드 조회 성공-로그인 차단한 펫 제외")
+    void retrieveTrendingDiaryFeed_success_WhenUser() {
+        //given
+        given(diaryTrendingService.findTrendingDiaryIds(4L, 3))
+                .willReturn(List.of(8L, 6L));
+        given(diaryQuerydslRepository.findPetsDiariesByIds(List.of(8L, 6L)))
+                .willReturn(List.of(
+                        new PetDiaryDto(8L, 1L, "마루", new ArrayList<>(), "/PET/profilepath", "나 사람됐다 짱이지", "마루는 네살", LocalDateTime.MIN),
+                        new PetDiaryDto(6L, 2L, "차단한 펫", new ArrayList<>(), "/PET/profilepath", "오늘은 산책", "산책", LocalDateTime.MIN)
+                ));
+        given(subscriptionService.getUsersSubscriptionInfo(anyString()))
+                .willReturn(SubscriptionInfoDto.builder()
+                        .subscribedPetIds(Set.of(1L))
+                        .blockedPetIds(Set.of(2L))
+                        .build());
+        given(diaryEngagementService.getEngagements(List.of(8L), "abc123"))
+                .willReturn(Map.of(8L, DiaryEngagementDto.of(3, 10, true)));
+        //when
+        DiaryFeedCursorResponse response = diaryFeedService.retrieveTrendingDiaryFeed(
+                Optional.of(new PrincipalDetails(userA)), CursorUtil.encode(4L), 3);
+        //then
+        assertEquals(1, response.contents().size());
+        assertTrue(response.contents().get(0).isCurrentUserLiked());
+        assertNull(response.nextCursor());
+    }
+
+    @Test
+    @DisplayName("인기 피드 조회 실패-invalid cursor")
+    void retrieveTrendingDiaryFeed_fail_INVALID_CURSOR() {
+        //given
+        //when
+        DiaryException exception = assertThrows(DiaryException.class,
+                () -> diaryFeedService.retrieveTrendingDiaryFeed(Optional.empty(), "not-a-cursor", 5));
+        //then
+        assertEquals(INVALID_CURSOR.getCode(), exception.getCode());
+    }
+}
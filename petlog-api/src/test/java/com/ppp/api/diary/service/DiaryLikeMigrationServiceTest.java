@@ -0,0 +1,145 @@
+package com.ppp.api.diary.service;
+
+import com.ppp.api.user.service.UserOrdinalService;
+import com.ppp.common.client.RedisClient;
+import com.ppp.domain.common.constant.Domain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryLikeMigrationServiceTest {
+    @Mock
+    private RedisClient redisClient;
+    @Mock
+    private UserOrdinalService userOrdinalService;
+    @InjectMocks
+    private DiaryLikeMigrationService diaryLikeMigrationService;
+
+    @Test
+    @DisplayName("좋아요 집합을 유저 서수 집합으로 이전 성공")
+    void migrate_success() {
+        //given
+        given(redisClient.scanKeys(Domain.DIARY_LIKE, "[0-9]*"))
+                .willReturn(List.of("1", "2"));
+        given(redisClient.getSet(Domain.DIARY_LIKE, 1L))
+                .willReturn(Set.of("abc123"));
+        given(redisClient.getSet(Domain.DIARY_LIKE, 2L))
+                .willReturn(Set.of());
+        given(userOrdinalService.getOrCreateOrdinals(Set.of("abc123")))
+                .willReturn(Map.of("abc123", 7L));
+        //when
+        int migratedCount = diaryLikeMigrationService.migrate(Domain.DIARY_LIKE, Domain.DIARY_LIKE_ORDINAL);
+        //then
+        assertEquals(2, migratedCount);
+        verify(redisClient, times(1)).moveValuesToSetIfExists(Domain.DIARY_LIKE, 1L, Domain.DIARY_LIKE_ORDINAL, List.of("7"));
+        verify(redisClient, never()).moveValuesToSetIfExists(eq(Domain.DIARY_LIKE), eq(2L), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("좋아요 이전 비활성화시 실행하지 않음")
+    void migrateOnStartup_success_WhenDisabled() {
+        //given
+        ReflectionTestUtils.setField(diaryLikeMigrationService, "enabled", false);
+        //when
+        diaryLikeMigrationService.migrateOnStartup();
+        //then
+        verifyNoInteractions(redisClient);
+    }
+
+    @Test
+    @DisplayName("좋아요 이전 활성화시 다이어리와 댓글 좋아요 모두 이전 후 완료 표시")
+    void migrateOnStartup_success_WhenEnabled() {
+        //given
+        ReflectionTestUtils.setField(diaryLikeMigrationService, "enabled", true);
+        given(redisClient.hasKey(Domain.DIARY_LIKE, "_MIGRATED"))
+                .willReturn(false);
+        given(redisClient.setValueIfAbsent(eq(Domain.DIARY_LIKE), eq("_MIGRATION_LOCK"), anyString(), any(Duration.class)))
+                .willReturn(true);
+        given(redisClient.scanKeys(any(), any()))
+                .willReturn(List.of());
+        //when
+        diaryLikeMigrationService.migrateOnStartup();
+        //then
+        verify(redisClient, times(1)).scanKeys(Domain.DIARY_LIKE, "[0-9]*");
+        verify(redisClient, times(1)).scanKeys(Domain.DIARY_COMMENT_LIKE, "[0-9]*");
+        verify(redisClient, times(1)).addValue(Domain.DIARY_LIKE, "_MIGRATED", "true");
+        verify(redisClient, times(1)).deleteValueIfEquals(eq(Domain.DIARY_LIKE), eq("_MIGRATION_LOCK"), anyString());
+    }
+
+    @Test
+    @DisplayName("좋아요 이전이 이미 끝났으면 기동 시 실행하지 않음")
+    void migrateOnStartup_success_WhenAlreadyCompleted() {
+        //given
+        ReflectionTestUtils.setField(diaryLikeMigrationService, "enabled", true);
+        given(redisClient.hasKey(Domain.DIARY_LIKE, "_MIGRATED"))
+                .willReturn(true);
+        //when
+        diaryLikeMigrationService.migrateOnStartup();
+        //then
+        verify(redisClient, never()).scanKeys(any(), any());
+    }
+
+    @Test
+    @DisplayName("이전 완료 전 조회시 해당 다이어리 좋아요를 먼저 이전")
+    void migrateDiaryLikesIfPending_success_WhenNotCompleted() {
+        //given
+        ReflectionTestUtils.setField(diaryLikeMigrationService, "enabled", true);
+        given(redisClient.hasKey(Domain.DIARY_LIKE, "_MIGRATED"))
+                .willReturn(false);
+        given(redisClient.getSet(Domain.DIARY_LIKE, 1L))
+                .willReturn(Set.of("abc123"));
+        given(userOrdinalService.getOrCreateOrdinals(Set.of("abc123")))
+                .willReturn(Map.of("abc123", 7L));
+        //when
+        diaryLikeMigrationService.migrateDiaryLikesIfPending(List.of(1L));
+        //then
+        verify(redisClient, times(1)).moveValuesToSetIfExists(Domain.DIARY_LIKE, 1L, Domain.DIARY_LIKE_ORDINAL, List.of("7"));
+    }
+
+    @Test
+    @DisplayName("이전 완료 후 조회시 원본 키를 확인하지 않음")
+    void migrateDiaryLikesIfPending_success_WhenCompleted() {
+        //given
+        ReflectionTestUtils.setField(diaryLikeMigrationService, "enabled", true);
+        given(redisClient.hasKey(Domain.DIARY_LIKE, "_MIGRATED"))
+                .willReturn(true);
+        //when
+        diaryLikeMigrationService.migrateDiaryLikesIfPending(List.of(1L));
+        diaryLikeMigrationService.migrateDiaryLikesIfPending(List.of(2L));
+        //then
+        verify(redisClient, times(1)).hasKey(Domain.DIARY_LIKE, "_MIGRATED");
+        verify(redisClient, never()).getSet(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("이전 비활성화시 조회 경로에서 원본 키를 확인하지 않음")
+    void migrateDiaryLikesIfPending_success_WhenDisabled() {
+        //given
+        ReflectionTestUtils.setField(diaryLikeMigrationService, "enabled", false);
+        //when
+        diaryLikeMigrationService.migrateDiaryLikesIfPending(List.of(1L));
+        //then
+        assertFalse(diaryLikeMigrationService.isPending());
+        verifyNoInteractions(redisClient);
+    }
+}
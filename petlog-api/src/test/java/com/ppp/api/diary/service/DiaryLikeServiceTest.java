@@ -26,6 +26,7 @@ import static com.ppp.api.diary.exception.ErrorCode.DIARY_NOT_FOUND;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -41,6 +42,8 @@ class DiaryLikeServiceTest {
     private UserRepository userRepository;
     @Mock
     private DiaryAccessValidator diaryAccessValidator;
+    @Mock
+    private DiaryVersionService diaryVersionService;
     @InjectMocks
     private DiaryLikeService diaryLikeService;
 
@@ -75,12 +78,14 @@ class DiaryLikeServiceTest {
         //given
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(diary));
-        given(diaryRedisService.isLikeExistByDiaryIdAndUserId(anyLong(), anyString()))
-                .willReturn(false);
+        given(diaryRedisService.toggleLikeByDiaryIdAndUserId(anyLong(), anyString()))
+                .willReturn(true);
         //when
         diaryLikeService.likeDiary(userA, 1L, 2L);
         //then
-        verify(diaryRedisService, times(1)).registerLikeByDiaryIdAndUserId(anyLong(), anyString());
+        verify(diaryRedisService, times(1)).toggleLikeByDiaryIdAndUserId(anyLong(), anyString());
+        verify(diaryVersionService, times(1)).renewDiaryVersion(anyLong());
+        verify(applicationEventPublisher, times(1)).publishEvent(any());
     }
 
     @Test
@@ -89,12 +94,13 @@ class DiaryLikeServiceTest {
         //given
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(diary));
-        given(diaryRedisService.isLikeExistByDiaryIdAndUserId(anyLong(), anyString()))
-                .willReturn(true);
+        given(diaryRedisService.toggleLikeByDiaryIdAndUserId(anyLong(), anyString()))
+                .willReturn(false);
         //when
         diaryLikeService.likeDiary(userA, 1L, 2L);
         //then
-        verify(diaryRedisService, times(1)).cancelLikeByDiaryIdAndUserId(anyLong(), anyString());
+        verify(diaryRedisService, times(1)).toggleLikeByDiaryIdAndUserId(anyLong(), anyString());
+        verify(applicationEventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -0,0 +1,135 @@
+package com.ppp.api.diary.service;
+
+import com.ppp.common.client.RedisClient;
+import com.ppp.common.client.RedisPipeline;
+import com.ppp.common.service.CacheManageService;
+import com.ppp.domain.common.constant.Domain;
+import com.ppp.domain.diary.repository.DiaryCounterQuerydslRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryRedisCleanupServiceTest {
+    @Mock
+    private RedisClient redisClient;
+    @Mock
+    private RedisPipeline redisPipeline;
+    @Mock
+    private DiaryCounterQuerydslRepository diaryCounterQuerydslRepository;
+    @Mock
+    private DiaryTrendingService diaryTrendingService;
+    @Mock
+    private DiaryTimelineService diaryTimelineService;
+    @Mock
+    private DiaryFeedPoolService diaryFeedPoolService;
+    @Mock
+    private CacheManageService cacheManageService;
+    @InjectMocks
+    private DiaryRedisCleanupService diaryRedisCleanupService;
+
+    @SuppressWarnings("unchecked")
+    private void runPipelinedCommands() {
+        ArgumentCaptor<Consumer<RedisPipeline>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(redisClient, atLeastOnce()).executePipelined(captor.capture());
+        captor.getAllValues().forEach(commands -> commands.accept(redisPipeline));
+    }
+
+    @Test
+    @DisplayName("일기 관련 키 일괄 삭제 성공")
+    void cleanupDiaries_success() {
+        //given
+        given(diaryCounterQuerydslRepository.findCommentIdsByDiaryIds(List.of(1L)))
+                .willReturn(List.of(10L, 11L));
+        given(redisClient.executePipelined(any()))
+                .willReturn(List.of(1L, 1L, 1L, 2L, 2L, 1L));
+        //when
+        diaryRedisCleanupService.cleanupDiaries(List.of(1L));
+        //then
+        runPipelinedCommands();
+        verify(redisPipeline, times(1)).unlink(Domain.DIARY_COMMENT, List.of(1L));
+        verify(redisPipeline, times(1)).unlink(Domain.DIARY_LIKE, List.of(1L));
+        verify(redisPipeline, times(1)).unlink(Domain.DIARY_LIKE_ORDINAL, List.of(1L));
+        verify(redisPipeline, times(1)).unlink(Domain.DIARY_COMMENT_LIKE, List.of(10L, 11L));
+        verify(redisPipeline, times(1)).unlink(Domain.DIARY_COMMENT_LIKE_ORDINAL, List.of(10L, 11L));
+        verify(redisPipeline, times(1)).unlink(Domain.DIARY_RE_COMMENT, List.of(10L, 11L));
+        verify(cacheManageService, times(1)).deleteCachedDiaryCommentCounts(10L);
+        verify(cacheManageService, times(1)).deleteCachedDiaryCommentCounts(11L);
+        verify(diaryTrendingService, times(1)).removeDiaries(List.of(1L));
+        verify(diaryFeedPoolService, times(1)).remove(1L);
+    }
+
+    @Test
+    @DisplayName("고아 키 정리 성공-마이그레이션 전 좋아요 set")
+    @SuppressWarnings("unchecked")
+    void sweepOrphanKeys_success_WhenLegacyLikeSet() {
+        //given
+        willAnswer(invocation -> {
+            if (invocation.getArgument(0) == Domain.DIARY_COMMENT_LIKE)
+                ((Consumer<List<String>>) invocation.getArgument(3)).accept(List.of("10", "11"));
+            return null;
+        }).given(redisClient).scanKeys(any(Domain.class), eq("[0-9]*"), eq(500), any());
+        given(diaryCounterQuerydslRepository.findLiveCommentIds(List.of(10L, 11L)))
+                .willReturn(List.of());
+        given(redisClient.executePipelined(any()))
+                .willReturn(List.of(2L));
+        //when
+        diaryRedisCleanupService.sweepOrphanKeys();
+        //then
+        runPipelinedCommands();
+        verify(redisPipeline, times(1)).unlink(Domain.DIARY_COMMENT_LIKE, List.of(10L, 11L));
+    }
+
+    @Test
+    @DisplayName("반려동물 관련 키 일괄 삭제 성공")
+    void cleanupPet_success() {
+        //given
+        given(diaryCounterQuerydslRepository.findDiaryIdsByPetId(3L))
+                .willReturn(List.of());
+        //when
+        diaryRedisCleanupService.cleanupPet(3L);
+        //then
+        verify(redisClient, never()).executePipelined(any());
+        verify(diaryTimelineService, times(1)).removePullPet(3L);
+    }
+
+    @Test
+    @DisplayName("고아 키 정리 성공")
+    @SuppressWarnings("unchecked")
+    void sweepOrphanKeys_success() {
+        //given
+        willAnswer(invocation -> {
+            if (invocation.getArgument(0) == Domain.DIARY_LIKE_ORDINAL)
+                ((Consumer<List<String>>) invocation.getArgument(3)).accept(List.of("1", "2"));
+            return null;
+        }).given(redisClient).scanKeys(any(Domain.class), eq("[0-9]*"), eq(500), any());
+        given(diaryCounterQuerydslRepository.findLiveDiaryIds(List.of(1L, 2L)))
+                .willReturn(List.of(1L));
+        given(redisClient.executePipelined(any()))
+                .willReturn(List.of(1L));
+        //when
+        diaryRedisCleanupService.sweepOrphanKeys();
+        //then
+        runPipelinedCommands();
+        verify(redisPipeline, times(1)).unlink(Domain.DIARY_LIKE_ORDINAL, List.of(2L));
+        verify(redisClient, times(6)).scanKeys(any(Domain.class), anyString(), anyInt(), any());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        diaryRedisCleanupService.bindTo(meterRegistry);
+        assertEquals(1, meterRegistry.get("redis.cleanup.unlinked").tag("source", "sweeper")
+                .functionCounter().count());
+    }
+}
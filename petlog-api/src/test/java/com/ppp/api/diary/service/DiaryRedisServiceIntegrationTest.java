@@ -1,8 +1,10 @@
 package com.ppp.api.diary.service;
 
 import com.ppp.ApiApplication;
+import com.ppp.api.user.service.UserOrdinalService;
 import com.ppp.common.client.FfmpegClient;
 import com.ppp.common.client.RedisClient;
+import com.ppp.common.client.SetToggleResult;
 import com.ppp.api.config.EmailConfig;
 import com.ppp.common.config.FfmpegConfig;
 import com.ppp.common.config.JasyptConfig;
@@ -23,9 +25,11 @@ import java.util.Objects;
 import static com.ppp.domain.common.constant.CacheValue.DIARY_LIKE_COUNT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -44,6 +48,9 @@ class DiaryRedisServiceIntegrationTest {
     @MockBean
     private RedisClient redisClient;
 
+    @MockBean
+    private UserOrdinalService userOrdinalService;
+
     @MockBean
     private FfmpegConfig ffmpegConfig;
 
@@ -66,7 +73,7 @@ class DiaryRedisServiceIntegrationTest {
     @DisplayName("다이어리 좋아요 개수 캐싱 성공")
     void cachingGetLikeCountByCommentId_success() {
         //given
-        given(redisClient.getSizeOfSet(Domain.DIARY_LIKE, 1L))
+        given(redisClient.getSizeOfSet(Domain.DIARY_LIKE_ORDINAL, 1L))
                 .willReturn(1L);
         //when
         Integer cacheMiss = diaryRedisService.getLikeCountByDiaryId(1L);
@@ -84,7 +91,7 @@ class DiaryRedisServiceIntegrationTest {
     @DisplayName("다이어리 좋아요 개수 캐싱 업데이트 성공")
     void cachingRegisterLikeByCommentId_success() {
         //given
-        given(redisClient.getSizeOfSet(Domain.DIARY_LIKE, 1L))
+        given(redisClient.getSizeOfSet(Domain.DIARY_LIKE_ORDINAL, 1L))
                 .willReturn(3L);
         //when
         Integer cacheUpdated = diaryRedisService.registerLikeByDiaryIdAndUserId(1L, "abcde");
@@ -100,7 +107,7 @@ class DiaryRedisServiceIntegrationTest {
     @DisplayName("다이어리 좋아요 개수 캐싱 업데이트 성공")
     void cachingCancelLikeByCommentId_success() {
         //given
-        given(redisClient.getSizeOfSet(Domain.DIARY_LIKE, 1L))
+        given(redisClient.getSizeOfSet(Domain.DIARY_LIKE_ORDINAL, 1L))
                 .willReturn(3L);
         //when
         Integer cacheUpdated = diaryRedisService.cancelLikeByDiaryIdAndUserId(1L, "abcde");
@@ -112,11 +119,30 @@ class DiaryRedisServiceIntegrationTest {
         assertEquals(cacheUpdated, cached);
     }
 
+    @Test
+    @DisplayName("다이어리 좋아요 토글시 개수 캐싱 업데이트 성공")
+    void cachingToggleLikeByDiaryId_success() {
+        //given
+        given(userOrdinalService.getOrCreateOrdinal("abcde"))
+                .willReturn(7L);
+        given(redisClient.toggleValueInSet(Domain.DIARY_LIKE_ORDINAL, 1L, "7"))
+                .willReturn(SetToggleResult.of(true, 4));
+        //when
+        boolean isLiked = diaryRedisService.toggleLikeByDiaryIdAndUserId(1L, "abcde");
+        Integer cached = Objects.requireNonNull(cacheManager.getCache(DIARY_LIKE_COUNT.getValue()))
+                .get("1", Integer.class);
+
+        //then
+        assertTrue(isLiked);
+        assertEquals(4, cached);
+        verify(redisClient, never()).getSizeOfSet(any(), anyLong());
+    }
+
     @Test
     @DisplayName("다이어리 좋아요 캐시 삭제 성공")
     void deleteAllLikeByCommentId_success() {
         //given
-        given(redisClient.getSizeOfSet(Domain.DIARY_LIKE, 1L))
+        given(redisClient.getSizeOfSet(Domain.DIARY_LIKE_ORDINAL, 1L))
                 .willReturn(3L);
         //when
         Integer cacheMiss = diaryRedisService.getLikeCountByDiaryId(1L);
@@ -3,13 +3,13 @@ package com.ppp.api.diary.service;
 import com.ppp.api.diary.dto.response.DiaryGroupByDateResponse;
 import com.ppp.api.diary.dto.response.DiaryMostUsedTermsResponse;
 import com.ppp.api.diary.exception.DiaryException;
+import com.ppp.api.guardian.authority.PetAuthority;
 import com.ppp.api.user.exception.UserException;
 import com.ppp.domain.diary.Diary;
 import com.ppp.domain.diary.DiaryDocument;
 import com.ppp.domain.diary.dto.DiaryMostUsedTermsDto;
 import com.ppp.domain.diary.repository.DiarySearchQuerydslRepository;
 import com.ppp.domain.diary.repository.DiarySearchRepository;
-import com.ppp.domain.guardian.repository.GuardianRepository;
 import com.ppp.domain.pet.Pet;
 import com.ppp.domain.user.User;
 import com.ppp.domain.user.UserDocument;
@@ -26,6 +26,7 @@ import org.springframework.data.domain.PageImpl;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -43,11 +44,11 @@ class DiarySearchServiceTest {
     private DiarySearchRepository diarySearchRepository;
 
     @Mock
-    private DiaryCommentRedisService diaryCommentRedisService;
+    private DiaryEngagementService diaryEngagementService;
     @Mock
     private UserRepository userRepository;
     @Mock
-    private GuardianRepository guardianRepository;
+    private PetAuthority petAuthority;
     @Mock
     private DiarySearchQuerydslRepository diarySearchQuerydslRepository;
     @InjectMocks
@@ -103,10 +104,10 @@ class DiarySearchServiceTest {
     @DisplayName("검색 성공")
     void search_success() {
         //given
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(true);
-        given(diaryCommentRedisService.getDiaryCommentCountByDiaryId(any()))
-                .willReturn(3);
+        given(diaryEngagementService.getCommentCounts(List.of(1L, 2L, 3L)))
+                .willReturn(Map.of(1L, 3, 2L, 3, 3L, 3));
         given(diarySearchRepository.findByTitleContainsOrContentContainsAndPetIdOrderByDateDesc(anyString(), anyLong(), anySet(), any()))
                 .willReturn(new PageImpl<>(
                         List.of(
@@ -209,7 +210,7 @@ class DiarySearchServiceTest {
     @DisplayName("자주 사용한 용어 조회 성공")
     void findMostUsedTermsByPetId_success() {
         //given
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(true);
         given(diarySearchQuerydslRepository.findMostUsedTermsByPetId(anyLong()))
                 .willReturn(new DiaryMostUsedTermsDto(Set.of("우리집", "강아지", "미용", "산책을")));
@@ -224,7 +225,7 @@ class DiarySearchServiceTest {
     @DisplayName("자주 사용한 용어 조회 실패_forbidden pet space")
     void findMostUsedTermsByPetId_fail_FORBIDDEN_PET_SPACE() {
         //given
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(false);
         //when
         DiaryException exception = assertThrows(DiaryException.class, () -> diarySearchService.findMostUsedTermsByPetId(user, 1L));
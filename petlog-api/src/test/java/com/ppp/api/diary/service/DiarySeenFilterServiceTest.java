@@ -0,0 +1,104 @@
+package com.ppp.api.diary.service;
+
+import com.ppp.common.client.RedisClient;
+import com.ppp.common.client.RedisPipeline;
+import com.ppp.domain.common.constant.Domain;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DiarySeenFilterServiceTest {
+    @Mock
+    private RedisClient redisClient;
+    @Mock
+    private RedisPipeline redisPipeline;
+    @InjectMocks
+    private DiarySeenFilterService diarySeenFilterService;
+
+    @Test
+    @DisplayName("안 본 일기 필터링 성공")
+    void filterUnseen_success() {
+        //given
+        List<Object> bits = new ArrayList<>();
+        // 1번 일기: 오늘은 못 봤지만 어제 본 일기
+        bits.addAll(List.of(true, false, true, true));
+        bits.addAll(Collections.nCopies(4, true));
+        // 2번 일기: 일부 비트만 켜진 안 본 일기
+        bits.addAll(List.of(true, true, true, false));
+        bits.addAll(Collections.nCopies(4, false));
+        given(redisClient.executePipelined(any()))
+                .willReturn(bits);
+        //when
+        List<Long> unseen = diarySeenFilterService.filterUnseen("abc123", List.of(1L, 2L));
+        //then
+        assertEquals(List.of(2L), unseen);
+    }
+
+    @Test
+    @DisplayName("안 본 일기 필터링 성공-빈 목록")
+    void filterUnseen_success_WhenEmpty() {
+        //given
+        //when
+        List<Long> unseen = diarySeenFilterService.filterUnseen("abc123", List.of());
+        //then
+        assertTrue(unseen.isEmpty());
+        verify(redisClient, never()).executePipelined(any());
+    }
+
+    @Test
+    @DisplayName("본 일기 기록 성공")
+    @SuppressWarnings("unchecked")
+    void markSeen_success() {
+        //given
+        ArgumentCaptor<Consumer<RedisPipeline>> captor = ArgumentCaptor.forClass(Consumer.class);
+        //when
+        diarySeenFilterService.markSeen("abc123", List.of(1L));
+        //then
+        verify(redisClient, times(1)).executePipelined(captor.capture());
+        captor.getValue().accept(redisPipeline);
+        long[] offsets = DiarySeenFilterService.getOffsets(1L);
+        Arrays.stream(offsets).forEach(offset ->
+                verify(redisPipeline, atLeastOnce()).setBit(eq(Domain.DIARY_FEED_SEEN), startsWith("abc123:"), eq(offset)));
+        verify(redisPipeline, times(1)).expire(eq(Domain.DIARY_FEED_SEEN), startsWith("abc123:"), eq(Duration.ofDays(2)));
+    }
+
+    @Test
+    @DisplayName("해시 오프셋은 비트 범위 안에서 결정적으로 계산")
+    void getOffsets_success() {
+        //given
+        //when
+        long[] offsets = DiarySeenFilterService.getOffsets(12345L);
+        //then
+        assertArrayEquals(offsets, DiarySeenFilterService.getOffsets(12345L));
+        assertTrue(Arrays.stream(offsets).allMatch(offset -> offset >= 0 && offset < 8192));
+    }
+
+    @Test
+    @DisplayName("사용자당 최대 메모리 지표 등록")
+    void bindTo_success() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        //when
+        diarySeenFilterService.bindTo(meterRegistry);
+        //then
+        assertEquals(2048, meterRegistry.get("diary.feed.seen.filter.max.bytes.per.user").gauge().value());
+    }
+}
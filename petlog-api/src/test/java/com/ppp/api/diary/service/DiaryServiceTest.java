@@ -3,25 +3,31 @@ package com.ppp.api.diary.service;
 import com.ppp.api.diary.dto.event.DiaryUpdatedEvent;
 import com.ppp.api.diary.dto.request.DiaryCreateRequest;
 import com.ppp.api.diary.dto.request.DiaryUpdateRequest;
+import com.ppp.api.diary.dto.response.DiaryCursorResponse;
 import com.ppp.api.diary.dto.response.DiaryDetailResponse;
 import com.ppp.api.diary.dto.response.DiaryGroupByDateResponse;
+import com.ppp.api.diary.dto.transfer.DiaryEngagementDto;
 import com.ppp.api.diary.exception.DiaryException;
 import com.ppp.api.diary.validator.DiaryAccessValidator;
+import com.ppp.api.guardian.authority.PetAuthority;
 import com.ppp.api.pet.exception.PetException;
 import com.ppp.api.video.exception.VideoException;
+import com.ppp.api.video.service.VideoManageService;
 import com.ppp.common.service.FileStorageManageService;
 import com.ppp.common.service.ThumbnailService;
+import com.ppp.common.service.ThumbnailSource;
+import com.ppp.common.util.CursorUtil;
+import com.ppp.domain.common.constant.Domain;
 import com.ppp.domain.diary.Diary;
 import com.ppp.domain.diary.DiaryMedia;
 import com.ppp.domain.diary.constant.DiaryMediaType;
 import com.ppp.domain.diary.constant.DiaryPolicy;
+import com.ppp.domain.diary.repository.DiaryQuerydslRepository;
 import com.ppp.domain.diary.repository.DiaryRepository;
-import com.ppp.domain.guardian.repository.GuardianRepository;
 import com.ppp.domain.pet.Pet;
 import com.ppp.domain.pet.repository.PetRepository;
 import com.ppp.domain.user.User;
 import com.ppp.domain.video.TempVideo;
-import com.ppp.domain.video.repository.TempVideoRedisRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -34,6 +40,7 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
@@ -53,17 +60,19 @@ class DiaryServiceTest {
     @Mock
     private DiaryRepository diaryRepository;
     @Mock
+    private DiaryQuerydslRepository diaryQuerydslRepository;
+    @Mock
     private PetRepository petRepository;
     @Mock
     private FileStorageManageService fileStorageManageService;
     @Mock
-    private GuardianRepository guardianRepository;
+    private PetAuthority petAuthority;
     @Mock
-    private TempVideoRedisRepository tempVideoRedisRepository;
+    private VideoManageService videoManageService;
     @Mock
-    private DiaryCommentRedisService diaryCommentRedisService;
+    private DiaryEngagementService diaryEngagementService;
     @Mock
-    private DiaryRedisService diaryRedisService;
+    private DiaryVersionService diaryVersionService;
     @Mock
     private ThumbnailService thumbnailService;
     @Mock
@@ -111,7 +120,7 @@ class DiaryServiceTest {
 
         given(petRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(pet));
-        given(guardianRepository.existsByUserIdAndPetId(user.getId(), pet.getId()))
+        given(petAuthority.isGuardian(user.getId(), pet.getId()))
                 .willReturn(true);
         given(fileStorageManageService.uploadImages(anyList(), any()))
                 .willReturn(List.of("DIARY/2024-01-31/805496ad51ee46ab94394c5635a2abd820240131183104956.jpg",
@@ -119,8 +128,8 @@ class DiaryServiceTest {
         Diary createdDiary = mock(Diary.class);
         given(diaryRepository.save(any())).willReturn(createdDiary);
         given(createdDiary.getId()).willReturn(1L);
-        given(tempVideoRedisRepository.findById(anyString()))
-                .willReturn(Optional.of(TempVideo.builder()
+        given(videoManageService.getCompletedVideos(anyList(), any()))
+                .willReturn(List.of(TempVideo.builder()
                         .filePath("temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mp4")
                         .userId(user.getId())
                         .build()));
@@ -154,7 +163,7 @@ class DiaryServiceTest {
 
         given(petRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(pet));
-        given(guardianRepository.existsByUserIdAndPetId(user.getId(), pet.getId()))
+        given(petAuthority.isGuardian(user.getId(), pet.getId()))
                 .willReturn(true);
         given(fileStorageManageService.uploadImages(anyList(), any()))
                 .willReturn(List.of("DIARY/2024-01-31/805496ad51ee46ab94394c5635a2abd820240131183104956.jpg",
@@ -189,12 +198,12 @@ class DiaryServiceTest {
 
         given(petRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(pet));
-        given(guardianRepository.existsByUserIdAndPetId(user.getId(), pet.getId()))
+        given(petAuthority.isGuardian(user.getId(), pet.getId()))
                 .willReturn(true);
         Diary createdDiary = mock(Diary.class);
         given(diaryRepository.save(any())).willReturn(createdDiary);
-        given(tempVideoRedisRepository.findById(anyString()))
-                .willReturn(Optional.of(TempVideo.builder()
+        given(videoManageService.getCompletedVideos(anyList(), any()))
+                .willReturn(List.of(TempVideo.builder()
                         .filePath("temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mp4")
                         .userId(user.getId())
                         .build()));
@@ -242,7 +251,7 @@ class DiaryServiceTest {
                 .build();
         given(petRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(pet));
-        given(guardianRepository.existsByUserIdAndPetId(user.getId(), pet.getId()))
+        given(petAuthority.isGuardian(user.getId(), pet.getId()))
                 .willReturn(false);
         //when
         DiaryException exception = assertThrows(DiaryException.class, () -> diaryService.createDiary(user, 1L, request, images));
@@ -264,10 +273,10 @@ class DiaryServiceTest {
 
         given(petRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(pet));
-        given(guardianRepository.existsByUserIdAndPetId(user.getId(), pet.getId()))
+        given(petAuthority.isGuardian(user.getId(), pet.getId()))
                 .willReturn(true);
-        given(tempVideoRedisRepository.findById(anyString()))
-                .willReturn(Optional.empty());
+        given(videoManageService.getCompletedVideos(anyList(), any()))
+                .willThrow(new VideoException(NOT_FOUND_VIDEO));
         //when
         VideoException exception = assertThrows(VideoException.class, () -> diaryService.createDiary(user, 1L, request, images));
         //then
@@ -288,13 +297,10 @@ class DiaryServiceTest {
 
         given(petRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(pet));
-        given(guardianRepository.existsByUserIdAndPetId(user.getId(), pet.getId()))
+        given(petAuthority.isGuardian(user.getId(), pet.getId()))
                 .willReturn(true);
-        given(tempVideoRedisRepository.findById(anyString()))
-                .willReturn(Optional.of(TempVideo.builder()
-                        .filePath("temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mp4")
-                        .userId(userA.getId())
-                        .build()));
+        given(videoManageService.getCompletedVideos(anyList(), any()))
+                .willThrow(new VideoException(NOT_FOUND_VIDEO));
         //when
         VideoException exception = assertThrows(VideoException.class, () -> diaryService.createDiary(user, 1L, request, images));
         //then
@@ -327,7 +333,7 @@ class DiaryServiceTest {
 
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(diary));
-        given(guardianRepository.existsByUserIdAndPetId(user.getId(), pet.getId()))
+        given(petAuthority.isGuardian(user.getId(), pet.getId()))
                 .willReturn(true);
         given(fileStorageManageService.uploadImages(anyList(), any()))
                 .willReturn(List.of("DIARY/2024-01-31/805496ad51ee46ab94394c5635a2abd820240131183104956.jpg",
@@ -367,13 +373,13 @@ class DiaryServiceTest {
                 .pet(pet).build();
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(diary));
-        given(guardianRepository.existsByUserIdAndPetId(user.getId(), pet.getId()))
+        given(petAuthority.isGuardian(user.getId(), pet.getId()))
                 .willReturn(true);
         given(fileStorageManageService.uploadImages(anyList(), any()))
                 .willReturn(List.of("DIARY/2024-01-31/805496ad51ee46ab94394c5635a2abd820240131183104956.jpg",
                         "DIARY/2024-01-31/805496ad51ee46ab94394c5635a2abd820240131183104956.jpg"));
-        given(tempVideoRedisRepository.findById(anyString()))
-                .willReturn(Optional.of(TempVideo.builder()
+        given(videoManageService.getCompletedVideos(anyList(), any()))
+                .willReturn(List.of(TempVideo.builder()
                         .filePath("temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mp4")
                         .userId(user.getId())
                         .build()));
@@ -413,10 +419,10 @@ class DiaryServiceTest {
                 .pet(pet).build();
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(diary));
-        given(guardianRepository.existsByUserIdAndPetId(user.getId(), pet.getId()))
+        given(petAuthority.isGuardian(user.getId(), pet.getId()))
                 .willReturn(true);
-        given(tempVideoRedisRepository.findById(anyString()))
-                .willReturn(Optional.of(TempVideo.builder()
+        given(videoManageService.getCompletedVideos(anyList(), any()))
+                .willReturn(List.of(TempVideo.builder()
                         .filePath("temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mp4")
                         .userId(user.getId())
                         .build()));
@@ -462,13 +468,13 @@ class DiaryServiceTest {
 
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(diary));
-        given(guardianRepository.existsByUserIdAndPetId(user.getId(), pet.getId()))
+        given(petAuthority.isGuardian(user.getId(), pet.getId()))
                 .willReturn(true);
         given(fileStorageManageService.uploadImages(anyList(), any()))
                 .willReturn(List.of("DIARY/2024-01-31/805496ad51ee46ab94394c5635a2abd820240131183104956.jpg",
                         "DIARY/2024-01-31/805496ad51ee46ab94394c5635a2abd820240131183104956.jpg"));
-        given(tempVideoRedisRepository.findById(anyString()))
-                .willReturn(Optional.of(TempVideo.builder()
+        given(videoManageService.getCompletedVideos(anyList(), any()))
+                .willReturn(List.of(TempVideo.builder()
                         .filePath("temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mp4")
                         .userId(user.getId())
                         .build()));
@@ -558,7 +564,7 @@ class DiaryServiceTest {
         diary.addDiaryMedias(List.of(getDiaryMedia(DiaryMediaType.VIDEO)));
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(diary));
-        given(guardianRepository.existsByUserIdAndPetId(user.getId(), pet.getId()))
+        given(petAuthority.isGuardian(user.getId(), pet.getId()))
                 .willReturn(true);
         //when
         DiaryException exception = assertThrows(DiaryException.class, () -> diaryService.updateDiary(user, 1L, 1L, request, images));
@@ -625,7 +631,7 @@ class DiaryServiceTest {
 
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(diary));
-        given(guardianRepository.existsByUserIdAndPetId(user.getId(), pet.getId()))
+        given(petAuthority.isGuardian(user.getId(), pet.getId()))
                 .willReturn(false);
         //when
         DiaryException exception = assertThrows(DiaryException.class, () -> diaryService.updateDiary(user, 1L, 1L, request, images));
@@ -655,10 +661,10 @@ class DiaryServiceTest {
 
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(diary));
-        given(guardianRepository.existsByUserIdAndPetId(user.getId(), pet.getId()))
+        given(petAuthority.isGuardian(user.getId(), pet.getId()))
                 .willReturn(true);
-        given(tempVideoRedisRepository.findById(anyString()))
-                .willReturn(Optional.empty());
+        given(videoManageService.getCompletedVideos(anyList(), any()))
+                .willThrow(new VideoException(NOT_FOUND_VIDEO));
         //when
         VideoException exception = assertThrows(VideoException.class, () -> diaryService.updateDiary(user, 1L, 1L, request, images));
         //then
@@ -687,13 +693,10 @@ class DiaryServiceTest {
 
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(diary));
-        given(guardianRepository.existsByUserIdAndPetId(user.getId(), pet.getId()))
+        given(petAuthority.isGuardian(user.getId(), pet.getId()))
                 .willReturn(true);
-        given(tempVideoRedisRepository.findById(anyString()))
-                .willReturn(Optional.of(TempVideo.builder()
-                        .id("c8e8f796-8e29-4067-86c4-0eae419a054e")
-                        .userId("123456")
-                        .build()));
+        given(videoManageService.getCompletedVideos(anyList(), any()))
+                .willThrow(new VideoException(NOT_FOUND_VIDEO));
         //when
         VideoException exception = assertThrows(VideoException.class, () -> diaryService.updateDiary(user, 1L, 1L, request, images));
         //then
@@ -714,7 +717,7 @@ class DiaryServiceTest {
 
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(diary));
-        given(guardianRepository.existsByUserIdAndPetId(user.getId(), pet.getId()))
+        given(petAuthority.isGuardian(user.getId(), pet.getId()))
                 .willReturn(true);
         //when
         diaryService.deleteDiary(user, 1L, 1L);
@@ -789,7 +792,7 @@ class DiaryServiceTest {
 
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(diary));
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(false);
         //when
         DiaryException exception = assertThrows(DiaryException.class, () -> diaryService.deleteDiary(user, 1L, 1L));
@@ -815,11 +818,8 @@ class DiaryServiceTest {
                         .build()));
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(diary));
-        given(diaryCommentRedisService.getDiaryCommentCountByDiaryId(anyLong()))
-                .willReturn(3);
-        given(diaryRedisService.isLikeExistByDiaryIdAndUserId(anyLong(), anyString()))
-                .willReturn(false);
-        given(diaryRedisService.getLikeCountByDiaryId(anyLong())).willReturn(5);
+        given(diaryEngagementService.getEngagement(anyLong(), anyString()))
+                .willReturn(DiaryEngagementDto.of(3, 5, false));
         //when
         DiaryDetailResponse response = diaryService.displayDiary(user, 1L, 1L);
         //then
@@ -875,10 +875,10 @@ class DiaryServiceTest {
                                 .user(user)
                                 .pet(pet).build()
                 )));
-        given(guardianRepository.existsByUserIdAndPetId(user.getId(), pet.getId()))
+        given(petAuthority.isGuardian(user.getId(), pet.getId()))
                 .willReturn(true);
-        given(diaryCommentRedisService.getDiaryCommentCountByDiaryId(any()))
-                .willReturn(3);
+        given(diaryEngagementService.getCommentCounts(anyList()))
+                .willReturn(Collections.singletonMap(null, 3));
         //when
         Slice<DiaryGroupByDateResponse> response = diaryService.displayDiaries(user, 1L, 10, 10);
         //then
@@ -892,6 +892,108 @@ class DiaryServiceTest {
         assertEquals(response.getContent().get(1).diaries().get(0).commentCount(), 3);
     }
 
+    @Test
+    @DisplayName("일기 ETag 생성 성공-버전이 바뀌면 ETag 도 바뀜")
+    void getDiaryETag_success() {
+        //given
+        given(diaryVersionService.getDiaryVersion(1L))
+                .willReturn("1a2b", "1a2b", "3c4d");
+        //when
+        String eTag = diaryService.getDiaryETag(user, 1L, 1L);
+        String sameETag = diaryService.getDiaryETag(user, 1L, 1L);
+        String renewedETag = diaryService.getDiaryETag(user, 1L, 1L);
+        //then
+        assertTrue(eTag.startsWith("\"") && eTag.endsWith("\""));
+        assertEquals(eTag, sameETag);
+        assertNotEquals(eTag, renewedETag);
+        verify(diaryAccessValidator, times(3)).validateAccessDiary(1L, user.getId(), 1L);
+    }
+
+    @Test
+    @DisplayName("일기 리스트 ETag 생성 성공-보호자 여부와 페이지마다 다름")
+    void getDiariesETag_success() {
+        //given
+        given(diaryVersionService.getPetDiaryVersion(1L))
+                .willReturn("1a2b");
+        given(petAuthority.isGuardian(user.getId(), 1L))
+                .willReturn(true, true, false);
+        //when
+        String firstPageETag = diaryService.getDiariesETag(user, 1L, 0, 5);
+        String secondPageETag = diaryService.getDiariesETag(user, 1L, 1, 5);
+        String notGuardianETag = diaryService.getDiariesETag(user, 1L, 0, 5);
+        //then
+        assertNotEquals(firstPageETag, secondPageETag);
+        assertNotEquals(firstPageETag, notGuardianETag);
+        verify(diaryRepository, never()).findByPetIdAndIsDeletedFalseAndIsPublicInOrderByDateDesc(anyLong(), anySet(), any());
+    }
+
+    private Diary diaryOf(Long id, LocalDate date) {
+        Diary diary = Diary.builder()
+                .isPublic(true)
+                .title("우리집 고양이")
+                .content("츄르를 좋아해")
+                .date(date)
+                .user(user)
+                .pet(pet).build();
+        ReflectionTestUtils.setField(diary, "id", id);
+        return diary;
+    }
+
+    @Test
+    @DisplayName("커서 기반 일기 리스트 조회 성공-페이지 경계의 날짜는 다음 페이지로 넘김")
+    void displayDiariesByCursor_success() {
+        //given
+        given(petAuthority.isGuardian(user.getId(), 1L))
+                .willReturn(true);
+        given(diaryQuerydslRepository.findPetDiariesBefore(1L, Set.of(true, false), LocalDate.of(2024, 2, 11), 12L, 4))
+                .willReturn(List.of(
+                        diaryOf(11L, LocalDate.of(2024, 2, 11)),
+                        diaryOf(10L, LocalDate.of(2024, 2, 10)),
+                        diaryOf(9L, LocalDate.of(2024, 2, 9)),
+                        diaryOf(8L, LocalDate.of(2024, 2, 9))));
+        given(diaryEngagementService.getCommentCounts(List.of(11L, 10L)))
+                .willReturn(Map.of(11L, 2));
+        //when
+        DiaryCursorResponse response = diaryService.displayDiariesByCursor(user, 1L,
+                CursorUtil.encode("2024-02-11", 12L), 3);
+        //then
+        assertEquals(2, response.contents().size());
+        assertEquals(LocalDate.of(2024, 2, 11), response.contents().get(0).date());
+        assertEquals(2, response.contents().get(0).diaries().get(0).commentCount());
+        assertEquals(LocalDate.of(2024, 2, 10), response.contents().get(1).date());
+        assertEquals(CursorUtil.encode("2024-02-10", 10L), response.nextCursor());
+    }
+
+    @Test
+    @DisplayName("커서 기반 일기 리스트 조회 성공-마지막 페이지")
+    void displayDiariesByCursor_success_WhenLastPage() {
+        //given
+        given(petAuthority.isGuardian(user.getId(), 1L))
+                .willReturn(false);
+        given(diaryQuerydslRepository.findPetDiariesBefore(1L, Set.of(true), null, null, 6))
+                .willReturn(List.of(diaryOf(1L, LocalDate.of(2024, 2, 11))));
+        given(diaryEngagementService.getCommentCounts(List.of(1L)))
+                .willReturn(Map.of());
+        //when
+        DiaryCursorResponse response = diaryService.displayDiariesByCursor(user, 1L, null, 5);
+        //then
+        assertEquals(1, response.contents().size());
+        assertNull(response.nextCursor());
+    }
+
+    @Test
+    @DisplayName("커서 기반 일기 리스트 조회 실패-유효하지 않은 커서")
+    void displayDiariesByCursor_fail_INVALID_CURSOR() {
+        //given
+        String cursor = CursorUtil.encode("not-a-date", 12L);
+        //when
+        DiaryException exception = assertThrows(DiaryException.class,
+                () -> diaryService.displayDiariesByCursor(user, 1L, cursor, 5));
+        //then
+        assertEquals(INVALID_CURSOR.getCode(), exception.getCode());
+        verifyNoInteractions(diaryQuerydslRepository);
+    }
+
     @Test
     @DisplayName("썸네일 저장 성공")
     void saveThumbnail_success() throws Exception {
@@ -913,12 +1015,40 @@ class DiaryServiceTest {
         given(thumbnailService.uploadThumbnailFromStorageFile(anyString(), any(), any()))
                 .willReturn("DIARY/2024-01-31/generatedThumbnailPath");
         //when
-        diaryService.saveThumbnail(1L);
+        diaryService.saveThumbnail(1L, null);
         //then
         verify(thumbnailService, times(1)).uploadThumbnailFromStorageFile(any(), any(), any());
         assertEquals("DIARY/2024-01-31/generatedThumbnailPath", diary.getThumbnailPath());
     }
 
+    @Test
+    @DisplayName("썸네일 저장 성공-업로드 요청의 원본으로 생성")
+    void saveThumbnail_success_WhenThumbnailSourceIsGiven() throws Exception {
+        //given
+        Diary diary = Diary.builder()
+                .title("우리집 강아지")
+                .isPublic(true)
+                .content("츄르를 싫어해")
+                .date(LocalDate.of(2020, 11, 11))
+                .user(user)
+                .pet(pet).build();
+        diary.addDiaryMedias(List.of(
+                DiaryMedia.builder()
+                        .type(DiaryMediaType.IMAGE)
+                        .path("DIARY/2024-01-31/805496ad51ee46ab94394c5635a2abd820240131183104956.jpg")
+                        .build()));
+        ThumbnailSource thumbnailSource = ThumbnailSource.ofImage(new byte[]{1, 2, 3});
+        given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
+                .willReturn(Optional.of(diary));
+        given(thumbnailService.uploadThumbnail(thumbnailSource, Domain.DIARY))
+                .willReturn("DIARY/2024-01-31/generatedThumbnailPath");
+        //when
+        diaryService.saveThumbnail(1L, thumbnailSource);
+        //then
+        verify(thumbnailService, times(0)).uploadThumbnailFromStorageFile(any(), any(), any());
+        assertEquals("DIARY/2024-01-31/generatedThumbnailPath", diary.getThumbnailPath());
+    }
+
     @Test
     @DisplayName("썸네일 저장 성공-썸네일 미디어가 비어있는 경우")
     void saveThumbnail_success_WhenDiaryMediasIsEmpty() throws Exception {
@@ -934,7 +1064,7 @@ class DiaryServiceTest {
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(diary));
         //when
-        diaryService.saveThumbnail(1L);
+        diaryService.saveThumbnail(1L, null);
         //then
         verify(thumbnailService, times(0)).uploadThumbnailFromStorageFile(any(), any(), any());
         assertEquals(DiaryPolicy.DEFAULT_THUMBNAIL_PATH, diary.getThumbnailPath());
@@ -961,7 +1091,7 @@ class DiaryServiceTest {
         given(thumbnailService.uploadThumbnailFromStorageFile(anyString(), any(), any()))
                 .willThrow(Exception.class);
         //when
-        diaryService.saveThumbnail(1L);
+        diaryService.saveThumbnail(1L, null);
         //then
         verify(thumbnailService, times(1)).uploadThumbnailFromStorageFile(any(), any(), any());
         assertEquals(DiaryPolicy.DEFAULT_THUMBNAIL_PATH, diary.getThumbnailPath());
@@ -974,7 +1104,7 @@ class DiaryServiceTest {
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.empty());
         //when
-        DiaryException exception = assertThrows(DiaryException.class, () -> diaryService.saveThumbnail(1L));
+        DiaryException exception = assertThrows(DiaryException.class, () -> diaryService.saveThumbnail(1L, null));
         //then
         assertEquals(DIARY_NOT_FOUND.getCode(), exception.getCode());
     }
@@ -992,6 +1122,8 @@ class DiaryServiceTest {
         .pet(pet).build();
 
         given(diaryRepository.findByIdAndIsDeletedFalse(anyLong())).willReturn(Optional.ofNullable(diary));
+        given(diaryEngagementService.getEngagement(anyLong(), anyString()))
+                .willReturn(DiaryEngagementDto.of(0, 0, false));
 
         //when
         DiaryDetailResponse response = diaryService.displayFeedDiary(user, 1L);
@@ -0,0 +1,177 @@
+package com.ppp.api.diary.service;
+
+import com.ppp.common.client.RedisClient;
+import com.ppp.domain.diary.Diary;
+import com.ppp.domain.diary.repository.DiaryQuerydslRepository;
+import com.ppp.domain.diary.repository.DiaryRepository;
+import com.ppp.domain.pet.Pet;
+import com.ppp.domain.subscription.constant.Status;
+import com.ppp.domain.subscription.repository.SubscriptionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static com.ppp.domain.common.constant.Domain.DIARY_FEED_PULL_PET;
+import static com.ppp.domain.common.constant.Domain.DIARY_FEED_TIMELINE;
+import static com.ppp.domain.diary.constant.DiaryPolicy.FEED_FAN_OUT_SUBSCRIBER_LIMIT;
+import static com.ppp.domain.diary.constant.DiaryPolicy.FEED_TIMELINE_MAX_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryTimelineServiceTest {
+    @Mock
+    private RedisClient redisClient;
+    @Mock
+    private DiaryRepository diaryRepository;
+    @Mock
+    private DiaryQuerydslRepository diaryQuerydslRepository;
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+    @InjectMocks
+    private DiaryTimelineService diaryTimelineService;
+
+    static Pet pet = Pet.builder()
+            .id(1L).build();
+
+    private Diary mockDiary(boolean isPublic) {
+        Diary diary = mock(Diary.class);
+        given(diary.isPublic()).willReturn(isPublic);
+        return diary;
+    }
+
+    @Test
+    @DisplayName("구독자 타임라인에 일기 추가 성공")
+    void pushToSubscribersTimeline_success() {
+        //given
+        Diary diary = mockDiary(true);
+        given(diary.getId()).willReturn(3L);
+        given(diary.getPet()).willReturn(pet);
+        given(diaryRepository.findById(3L)).willReturn(Optional.of(diary));
+        given(subscriptionRepository.countByPetIdAndStatus(1L, Status.ACTIVE)).willReturn(2L);
+        given(subscriptionRepository.findActiveSubscriberIdsByPetId(1L)).willReturn(List.of("abc123", "qwe123"));
+        //when
+        diaryTimelineService.pushToSubscribersTimeline(3L);
+        //then
+        verify(redisClient, times(1)).addValueToExistingSortedSets(DIARY_FEED_TIMELINE,
+                List.of("abc123", "qwe123"), "3", 3L, FEED_TIMELINE_MAX_SIZE);
+    }
+
+    @Test
+    @DisplayName("구독자 타임라인에 일기 추가 성공-구독자가 많은 펫은 pull 모드")
+    void pushToSubscribersTimeline_success_WhenTooManySubscribers() {
+        //given
+        Diary diary = mockDiary(true);
+        given(diary.getPet()).willReturn(pet);
+        given(diaryRepository.findById(3L)).willReturn(Optional.of(diary));
+        given(subscriptionRepository.countByPetIdAndStatus(1L, Status.ACTIVE))
+                .willReturn((long) FEED_FAN_OUT_SUBSCRIBER_LIMIT + 1);
+        //when
+        diaryTimelineService.pushToSubscribersTimeline(3L);
+        //then
+        verify(redisClient, times(1)).addValueToSet(DIARY_FEED_PULL_PET, "", "1");
+        verify(redisClient, never()).addValueToExistingSortedSets(any(), anyList(), anyString(), anyDouble(), anyLong());
+    }
+
+    @Test
+    @DisplayName("구독자 타임라인에 일기 추가 성공-비공개 일기는 추가하지 않음")
+    void pushToSubscribersTimeline_success_WhenPrivateDiary() {
+        //given
+        Diary diary = mockDiary(false);
+        given(diaryRepository.findById(3L)).willReturn(Optional.of(diary));
+        //when
+        diaryTimelineService.pushToSubscribersTimeline(3L);
+        //then
+        verifyNoInteractions(redisClient, subscriptionRepository);
+    }
+
+    @Test
+    @DisplayName("구독자 타임라인에서 일기 삭제 성공")
+    void removeFromSubscribersTimeline_success() {
+        //given
+        Diary diary = mock(Diary.class);
+        given(diary.getPet()).willReturn(pet);
+        given(diaryRepository.findById(3L)).willReturn(Optional.of(diary));
+        given(subscriptionRepository.findActiveSubscriberIdsByPetId(1L)).willReturn(List.of("abc123"));
+        //when
+        diaryTimelineService.removeFromSubscribersTimeline(3L);
+        //then
+        verify(redisClient, times(1)).removeValueFromSortedSets(DIARY_FEED_TIMELINE, List.of("abc123"), "3");
+    }
+
+    @Test
+    @DisplayName("풀 방식 반려동물 제외 성공")
+    void removePullPet_success() {
+        //given
+        //when
+        diaryTimelineService.removePullPet(1L);
+        //then
+        verify(redisClient, times(1)).removeValueToSet(DIARY_FEED_PULL_PET, "", "1");
+    }
+
+    @Test
+    @DisplayName("타임라인 삭제 성공")
+    void deleteTimeline_success() {
+        //given
+        //when
+        diaryTimelineService.deleteTimeline("abc123");
+        //then
+        verify(redisClient, times(1)).deleteKey(DIARY_FEED_TIMELINE, "abc123");
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 성공-타임라인이 없으면 재생성")
+    void findTimelineDiaryIds_success_WhenColdUser() {
+        //given
+        given(redisClient.hasKey(DIARY_FEED_TIMELINE, "abc123")).willReturn(false);
+        given(diaryQuerydslRepository.findPublicDiaryIdsByPetIdsBefore(Set.of(1L, 2L), Long.MAX_VALUE, FEED_TIMELINE_MAX_SIZE))
+                .willReturn(List.of(9L, 7L));
+        given(redisClient.getValuesFromSortedSetByScoreDesc(DIARY_FEED_TIMELINE, "abc123", (double) Long.MAX_VALUE - 1, 1, 2))
+                .willReturn(List.of("9", "7"));
+        given(redisClient.getSet(DIARY_FEED_PULL_PET, "")).willReturn(Set.of());
+        //when
+        List<Long> diaryIds = diaryTimelineService.findTimelineDiaryIds("abc123", Set.of(1L, 2L), Long.MAX_VALUE, 2);
+        //then
+        ArgumentCaptor<Map<String, Double>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(redisClient, times(1)).addValuesToSortedSet(eq(DIARY_FEED_TIMELINE), eq("abc123"), captor.capture(), any());
+        assertEquals(Map.of("9", 9D, "7", 7D, "0", 0D), captor.getValue());
+        assertEquals(List.of(9L, 7L), diaryIds);
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 성공-pull 모드 펫 일기 병합")
+    void findTimelineDiaryIds_success_WhenPullModePetSubscribed() {
+        //given
+        given(redisClient.hasKey(DIARY_FEED_TIMELINE, "abc123")).willReturn(true);
+        given(redisClient.getValuesFromSortedSetByScoreDesc(DIARY_FEED_TIMELINE, "abc123", 9, 1, 3))
+                .willReturn(List.of("8", "5", "2"));
+        given(redisClient.getSet(DIARY_FEED_PULL_PET, "")).willReturn(Set.of("2", "100"));
+        given(diaryQuerydslRepository.findPublicDiaryIdsByPetIdsBefore(Set.of(2L), 10L, 3))
+                .willReturn(List.of(7L, 6L, 1L));
+        //when
+        List<Long> diaryIds = diaryTimelineService.findTimelineDiaryIds("abc123", Set.of(1L, 2L), 10L, 3);
+        //then
+        assertEquals(List.of(8L, 7L, 6L), diaryIds);
+        verify(redisClient, times(1)).expire(eq(DIARY_FEED_TIMELINE), eq("abc123"), any());
+    }
+
+    @Test
+    @DisplayName("타임라인 조회 성공-구독한 펫이 없음")
+    void findTimelineDiaryIds_success_WhenNoSubscription() {
+        //given
+        //when
+        List<Long> diaryIds = diaryTimelineService.findTimelineDiaryIds("abc123", Set.of(), Long.MAX_VALUE, 5);
+        //then
+        assertTrue(diaryIds.isEmpty());
+        verifyNoInteractions(redisClient);
+    }
+}
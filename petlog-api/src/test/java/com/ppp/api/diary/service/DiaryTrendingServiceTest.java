@@ -0,0 +1,103 @@
+package com.ppp.api.diary.service;
+
+import com.ppp.common.client.RedisClient;
+import com.ppp.domain.common.constant.Domain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DiaryTrendingServiceTest {
+    @Mock
+    private RedisClient redisClient;
+    @InjectMocks
+    private DiaryTrendingService diaryTrendingService;
+
+    @Test
+    @DisplayName("좋아요 인기 점수 증가 성공")
+    void increaseLikeScore_success() {
+        //given
+        //when
+        diaryTrendingService.increaseLikeScore(5L);
+        //then
+        verify(redisClient, times(1)).executeScript(any(), eq(Domain.DIARY_TRENDING), eq(List.of("", "_EPOCH")),
+                eq("1.0"), anyString(), eq("86400"), eq("5"));
+    }
+
+    @Test
+    @DisplayName("좋아요 인기 점수 감소 성공")
+    void decreaseLikeScore_success() {
+        //given
+        //when
+        diaryTrendingService.decreaseLikeScore(5L);
+        //then
+        verify(redisClient, times(1)).executeScript(any(), eq(Domain.DIARY_TRENDING), eq(List.of("", "_EPOCH")),
+                eq("1.0"), anyString(), eq("86400"), eq("5"));
+    }
+
+    @Test
+    @DisplayName("댓글 인기 점수 증가 성공")
+    void increaseCommentScore_success() {
+        //given
+        //when
+        diaryTrendingService.increaseCommentScore(5L);
+        //then
+        verify(redisClient, times(1)).executeScript(any(), eq(Domain.DIARY_TRENDING), eq(List.of("", "_EPOCH")),
+                eq("2.0"), anyString(), eq("86400"), eq("5"));
+    }
+
+    @Test
+    @DisplayName("댓글 인기 점수 감소 성공")
+    void decreaseCommentScore_success() {
+        //given
+        //when
+        diaryTrendingService.decreaseCommentScore(5L);
+        //then
+        verify(redisClient, times(1)).executeScript(any(), eq(Domain.DIARY_TRENDING), eq(List.of("", "_EPOCH")),
+                eq("2.0"), anyString(), eq("86400"), eq("5"));
+    }
+
+    @Test
+    @DisplayName("인기 일기 아이디 조회 성공")
+    void findTrendingDiaryIds_success() {
+        //given
+        given(redisClient.getValuesFromSortedSetByRankDesc(Domain.DIARY_TRENDING, "", 10L, 14L))
+                .willReturn(List.of("8", "6", "3"));
+        //when
+        List<Long> diaryIds = diaryTrendingService.findTrendingDiaryIds(10L, 5);
+        //then
+        assertEquals(List.of(8L, 6L, 3L), diaryIds);
+    }
+
+    @Test
+    @DisplayName("인기 일기 삭제 성공")
+    void removeDiaries_success() {
+        //given
+        //when
+        diaryTrendingService.removeDiaries(List.of(3L, 4L));
+        //then
+        verify(redisClient, times(1)).removeValuesFromSortedSet(Domain.DIARY_TRENDING, "", List.of("3", "4"));
+    }
+
+    @Test
+    @DisplayName("인기 점수 재조정 성공")
+    void rescaleScores_success() {
+        //given
+        //when
+        diaryTrendingService.rescaleScores();
+        //then
+        verify(redisClient, times(1)).executeScript(any(), eq(Domain.DIARY_TRENDING), eq(List.of("", "_EPOCH")),
+                anyString(), eq("86400"), eq("1000"), eq("0.01"));
+    }
+}
@@ -0,0 +1,34 @@
+package com.ppp.api.diary.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiaryVersionServiceTest {
+    private final DiaryVersionService diaryVersionService = new DiaryVersionService();
+
+    @Test
+    @DisplayName("일기 버전 갱신시 새로운 버전 발급")
+    void renewDiaryVersion_success() {
+        //given
+        String version = diaryVersionService.getDiaryVersion(1L);
+        //when
+        String renewedVersion = diaryVersionService.renewDiaryVersion(1L);
+        //then
+        assertFalse(version.isEmpty());
+        assertNotEquals(version, renewedVersion);
+    }
+
+    @Test
+    @DisplayName("반려동물 일기 버전 갱신시 새로운 버전 발급")
+    void renewPetDiaryVersion_success() {
+        //given
+        String version = diaryVersionService.getPetDiaryVersion(1L);
+        //when
+        String renewedVersion = diaryVersionService.renewPetDiaryVersion(1L);
+        //then
+        assertFalse(version.isEmpty());
+        assertNotEquals(version, renewedVersion);
+    }
+}
@@ -0,0 +1,53 @@
+package com.ppp.api.guardian.authority;
+
+import com.ppp.api.guardian.dto.transfer.PetAuthorityDto;
+import com.ppp.api.guardian.service.PetAuthorityService;
+import com.ppp.common.service.CacheManageService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PetAuthorityTest {
+    @Mock
+    private PetAuthorityService petAuthorityService;
+    @Mock
+    private CacheManageService cacheManageService;
+    @InjectMocks
+    private PetAuthority petAuthority;
+
+    @Test
+    @DisplayName("현재 버전의 권한 스냅샷으로 집사 여부 확인")
+    void isGuardian_success() {
+        //given
+        given(petAuthorityService.getAuthorityVersion("abcde1234"))
+                .willReturn("a1b2");
+        given(petAuthorityService.getAuthority("abcde1234", "a1b2"))
+                .willReturn(new PetAuthorityDto(new long[]{1L, 3L}, new long[]{1L}));
+        //when
+        //then
+        assertTrue(petAuthority.isGuardian("abcde1234", 3L));
+        assertFalse(petAuthority.isGuardian("abcde1234", 2L));
+        assertTrue(petAuthority.isLeader("abcde1234", 1L));
+        assertFalse(petAuthority.isLeader("abcde1234", 3L));
+    }
+
+    @Test
+    @DisplayName("권한 무효화시 버전 갱신")
+    void invalidate_success() {
+        //given
+        //when
+        petAuthority.invalidate("abcde1234");
+        //then
+        verify(cacheManageService, times(1)).renewPetAuthorityVersion("abcde1234");
+    }
+}
@@ -0,0 +1,86 @@
+package com.ppp.api.guardian.service;
+
+import com.ppp.api.guardian.dto.transfer.GuardianRosterDto;
+import com.ppp.common.service.CacheManageService;
+import com.ppp.domain.guardian.Guardian;
+import com.ppp.domain.guardian.constant.GuardianRole;
+import com.ppp.domain.guardian.repository.GuardianQuerydslRepository;
+import com.ppp.domain.guardian.repository.GuardianRepository;
+import com.ppp.domain.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GuardianRosterServiceTest {
+    @Mock
+    private GuardianRepository guardianRepository;
+    @Mock
+    private GuardianQuerydslRepository guardianQuerydslRepository;
+    @Mock
+    private CacheManageService cacheManageService;
+    @InjectMocks
+    private GuardianRosterService guardianRosterService;
+
+    @Test
+    @DisplayName("반려동물 공동 집사 명단 조회 성공")
+    void getRoster_success() {
+        //given
+        User leader = User.builder()
+                .id("abcde1234")
+                .nickname("체리엄마")
+                .profilePath("USER/12345678/profile.jpg")
+                .build();
+        User deletedUser = User.builder()
+                .id("qwerty1456")
+                .nickname("체리아빠")
+                .isDeleted(true)
+                .build();
+        given(guardianRepository.findAllByPetIdOrderByCreatedAtDesc(1L))
+                .willReturn(List.of(
+                        Guardian.builder().id(1L).user(leader).guardianRole(GuardianRole.LEADER).build(),
+                        Guardian.builder().id(2L).user(deletedUser).guardianRole(GuardianRole.MEMBER).build()));
+        //when
+        GuardianRosterDto roster = guardianRosterService.getRoster(1L);
+        //then
+        assertEquals(2, roster.members().size());
+        assertTrue(roster.contains("qwerty1456"));
+        assertFalse(roster.contains("other-user"));
+        assertEquals("체리엄마", roster.findActiveMember("abcde1234").orElseThrow().nickname());
+        assertEquals(GuardianRole.LEADER, roster.findMember("abcde1234").orElseThrow().guardianRole());
+        assertTrue(roster.findActiveMember("qwerty1456").isEmpty());
+    }
+
+    @Test
+    @DisplayName("유저가 속한 모든 반려동물의 공동 집사 명단 무효화 성공")
+    void evictRostersOfUser_success() {
+        //given
+        given(guardianQuerydslRepository.findPetIdsByUserId("abcde1234"))
+                .willReturn(List.of(1L, 2L));
+        //when
+        guardianRosterService.evictRostersOfUser("abcde1234");
+        //then
+        verify(cacheManageService, times(1)).deleteCachedGuardianRoster(1L);
+        verify(cacheManageService, times(1)).deleteCachedGuardianRoster(2L);
+    }
+
+    @Test
+    @DisplayName("반려동물 공동 집사 명단 무효화 성공")
+    void evictRoster_success() {
+        //given
+        //when
+        guardianRosterService.evictRoster(1L);
+        //then
+        verify(cacheManageService, times(1)).deleteCachedGuardianRoster(1L);
+    }
+}
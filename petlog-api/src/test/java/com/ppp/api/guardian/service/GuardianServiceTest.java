@@ -1,7 +1,10 @@
 package com.ppp.api.guardian.service;
 
+import com.ppp.api.guardian.authority.PetAuthority;
 import com.ppp.api.guardian.dto.request.InviteGuardianRequest;
 import com.ppp.api.guardian.dto.response.GuardiansResponse;
+import com.ppp.api.guardian.dto.transfer.GuardianMemberDto;
+import com.ppp.api.guardian.dto.transfer.GuardianRosterDto;
 import com.ppp.api.guardian.exception.GuardianException;
 import com.ppp.api.user.dto.response.UserResponse;
 import com.ppp.common.service.CacheManageService;
@@ -15,8 +18,6 @@ import com.ppp.domain.invitation.repository.InvitationRepository;
 import com.ppp.domain.pet.Pet;
 import com.ppp.domain.pet.repository.PetRepository;
 import com.ppp.domain.user.User;
-import com.ppp.domain.user.dto.UserDto;
-import com.ppp.domain.user.repository.UserQuerydslRepository;
 import com.ppp.domain.user.repository.UserRepository;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,11 +34,10 @@ import java.util.Optional;
 
 import static com.ppp.api.guardian.exception.ErrorCode.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class GuardianServiceTest {
@@ -50,7 +50,9 @@ class GuardianServiceTest {
     @Mock
     private InvitationRepository invitationRepository;
     @Mock
-    private UserQuerydslRepository userQuerydslRepository;
+    private GuardianRosterService guardianRosterService;
+    @Mock
+    private PetAuthority petAuthority;
     @Mock
     private CacheManageService cacheManageService;
     @Mock
@@ -79,10 +81,9 @@ class GuardianServiceTest {
     @DisplayName("집사 리스트")
     void displayGuardians_ReturnsGuardianResponse() {
         //given
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong())).willReturn(true);
-        given(guardianRepository.findAllByPetIdOrderByCreatedAtDesc(anyLong())).willReturn(
+        given(guardianRosterService.getRoster(anyLong())).willReturn(GuardianRosterDto.from(
                 List.of(Guardian.builder().user(user).guardianRole(GuardianRole.LEADER).build(),
-                        Guardian.builder().user(user2).guardianRole(GuardianRole.MEMBER).build())
+                        Guardian.builder().user(user2).guardianRole(GuardianRole.MEMBER).build()))
         );
 
         //when
@@ -90,6 +91,22 @@ class GuardianServiceTest {
 
         //then
         Assertions.assertThat(guardiansResponse).isNotNull();
+        assertEquals(2, guardiansResponse.getCount());
+        assertEquals("hi", guardiansResponse.getData().get(0).nickname());
+        assertEquals(GuardianRole.MEMBER, guardiansResponse.getData().get(1).guardianRole());
+    }
+
+    @Test
+    @DisplayName("집사 리스트 실패-집사가 아님")
+    void displayGuardians_fail_GUARDIAN_NOT_FOUND() {
+        //given
+        given(guardianRosterService.getRoster(anyLong())).willReturn(new GuardianRosterDto(List.of()));
+
+        //when
+        GuardianException exception = assertThrows(GuardianException.class, () -> guardianService.displayGuardians(1L, user2));
+
+        //then
+        assertEquals(GUARDIAN_NOT_FOUND.getCode(), exception.getCode());
     }
 
     @Test
@@ -107,9 +124,11 @@ class GuardianServiceTest {
         //when
         lenient().when(guardianRepository.findById(guardianId)).thenReturn(Optional.of(requestedGuardian));
         lenient().when(guardianRepository.findByUserIdAndPetId(user.getId(), pet.getId())).thenReturn(Optional.of(guardianMe));
+        given(petAuthority.isLeader(user.getId(), pet.getId())).willReturn(true);
 
         //then
         assertAll(() -> guardianService.deleteGuardian(requestedGuardian.getId(), pet.getId(), user));
+        verify(guardianRepository, times(1)).deleteById(guardianId);
     }
 
     @Test
@@ -125,11 +144,47 @@ class GuardianServiceTest {
         //when
         given(guardianRepository.findById(guardianId)).willReturn(Optional.of(requestedGuardian));
         given(guardianRepository.findByUserIdAndPetId(user.getId(), pet.getId())).willReturn(Optional.of(guardianMe));
+        given(petAuthority.isLeader(user.getId(), pet.getId())).willReturn(true);
 
         //then
         assertThrows(GuardianException.class, () -> guardianService.deleteGuardian(requestedGuardian.getId(), pet.getId(), user));
     }
 
+    @Test
+    @DisplayName("리더 탈퇴 실패-다른 멤버가 있음")
+    void deleteReaderGuardian_fail_NOT_ALLOWED_DELETE_LEADER() {
+        //given
+        Pet pet = Pet.builder().id(1L).user(user).build();
+        Guardian guardianMe = Guardian.builder().id(1L).user(user).pet(pet).guardianRole(GuardianRole.LEADER).build();
+        given(guardianRepository.findByUserIdAndPetId(user.getId(), pet.getId())).willReturn(Optional.of(guardianMe));
+        given(petAuthority.isLeader(user.getId(), pet.getId())).willReturn(true);
+        given(guardianRepository.existsByPetIdAndGuardianRole(pet.getId(), GuardianRole.MEMBER)).willReturn(true);
+
+        //when
+        GuardianException exception = assertThrows(GuardianException.class,
+                () -> guardianService.deleteReaderGuardian(user.getId(), pet.getId()));
+
+        //then
+        assertEquals(NOT_ALLOWED_DELETE_LEADER.getCode(), exception.getCode());
+    }
+
+    @Test
+    @DisplayName("멤버 탈퇴 성공-다른 멤버가 있어도 탈퇴")
+    void deleteReaderGuardian_success_WhenMember() {
+        //given
+        Pet pet = Pet.builder().id(1L).user(user2).build();
+        Guardian guardianMe = Guardian.builder().id(2L).user(user).pet(pet).guardianRole(GuardianRole.MEMBER).build();
+        given(guardianRepository.findByUserIdAndPetId(user.getId(), pet.getId())).willReturn(Optional.of(guardianMe));
+        given(petAuthority.isLeader(user.getId(), pet.getId())).willReturn(false);
+
+        //when
+        guardianService.deleteReaderGuardian(user.getId(), pet.getId());
+
+        //then
+        verify(guardianRepository, times(1)).deleteById(2L);
+        verify(guardianRepository, never()).existsByPetIdAndGuardianRole(anyLong(), any());
+    }
+
     @Test
     @DisplayName("집사 초대")
     void inviteGuardian_ReturnVoid() {
@@ -218,11 +273,10 @@ class GuardianServiceTest {
     @DisplayName("반려 동물에 대한 공동 집사 리스트 조회 성공")
     void displayGuardiansByPetId_success() {
         //given
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
-                .willReturn(true);
-        given(userQuerydslRepository.findGuardianUserByPetId(anyLong()))
-                .willReturn(List.of(new UserDto("abcde1234", "hi"),
-                        new UserDto("qwerty1456", "체리엄마")));
+        given(guardianRosterService.getRoster(anyLong()))
+                .willReturn(new GuardianRosterDto(List.of(
+                        GuardianMemberDto.builder().userId("abcde1234").nickname("hi").build(),
+                        GuardianMemberDto.builder().userId("qwerty1456").nickname("체리엄마").build())));
         //when
         List<UserResponse> response = guardianService.displayGuardiansByPetId(user, 1L);
         //then
@@ -238,8 +292,8 @@ class GuardianServiceTest {
     @DisplayName("반려 동물에 대한 공동 집사 리스트 조회 실패-forbidden pet space")
     void displayGuardiansByPetId_fail_FORBIDDEN_PET_SPACE() {
         //given
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
-                .willReturn(false);
+        given(guardianRosterService.getRoster(anyLong()))
+                .willReturn(new GuardianRosterDto(List.of()));
         //when
         GuardianException exception = assertThrows(GuardianException.class, () -> guardianService.displayGuardiansByPetId(user, 1L));
         //then
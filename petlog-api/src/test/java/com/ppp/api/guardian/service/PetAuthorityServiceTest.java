@@ -0,0 +1,52 @@
+package com.ppp.api.guardian.service;
+
+import com.ppp.api.guardian.dto.transfer.PetAuthorityDto;
+import com.ppp.domain.guardian.constant.GuardianRole;
+import com.ppp.domain.guardian.repository.GuardianQuerydslRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PetAuthorityServiceTest {
+    @Mock
+    private GuardianQuerydslRepository guardianQuerydslRepository;
+    @InjectMocks
+    private PetAuthorityService petAuthorityService;
+
+    @Test
+    @DisplayName("유저의 반려동물 권한 스냅샷 조회 성공")
+    void getAuthority_success() {
+        //given
+        given(guardianQuerydslRepository.findGuardianRolesByUserId("abcde1234"))
+                .willReturn(Map.of(3L, GuardianRole.MEMBER, 1L, GuardianRole.LEADER));
+        //when
+        PetAuthorityDto authority = petAuthorityService.getAuthority("abcde1234", "a1b2");
+        //then
+        assertArrayEquals(new long[]{1L, 3L}, authority.guardianPetIds());
+        assertArrayEquals(new long[]{1L}, authority.leaderPetIds());
+        assertTrue(authority.hasGuardianPet(3L));
+        assertFalse(authority.hasGuardianPet(2L));
+        assertFalse(authority.hasGuardianPet(null));
+        assertTrue(authority.hasLeaderPet(1L));
+        assertFalse(authority.hasLeaderPet(3L));
+    }
+
+    @Test
+    @DisplayName("권한 버전 생성 성공")
+    void getAuthorityVersion_success() {
+        //given
+        //when
+        String version = petAuthorityService.getAuthorityVersion("abcde1234");
+        //then
+        assertFalse(version.isEmpty());
+    }
+}
@@ -1,5 +1,9 @@
 package com.ppp.api.log.service;
 
+import com.ppp.api.guardian.authority.PetAuthority;
+import com.ppp.api.guardian.dto.transfer.GuardianMemberDto;
+import com.ppp.api.guardian.dto.transfer.GuardianRosterDto;
+import com.ppp.api.guardian.service.GuardianRosterService;
 import com.ppp.api.log.dto.request.LogRequest;
 import com.ppp.api.log.dto.response.LogCalenderResponse;
 import com.ppp.api.log.dto.response.LogDetailResponse;
@@ -8,7 +12,6 @@ import com.ppp.api.log.exception.LogException;
 import com.ppp.api.pet.exception.ErrorCode;
 import com.ppp.api.pet.exception.PetException;
 import com.ppp.api.user.exception.UserException;
-import com.ppp.domain.guardian.repository.GuardianRepository;
 import com.ppp.domain.log.Log;
 import com.ppp.domain.log.constant.LogLocationType;
 import com.ppp.domain.log.repository.LogQuerydslRepository;
@@ -49,11 +52,13 @@ class LogServiceTest {
     @Mock
     private PetRepository petRepository;
     @Mock
-    private GuardianRepository guardianRepository;
+    private PetAuthority petAuthority;
     @Mock
     private UserRepository userRepository;
     @Mock
     private LogQuerydslRepository logQuerydslRepository;
+    @Mock
+    private GuardianRosterService guardianRosterService;
     @InjectMocks
     private LogService logService;
 
@@ -67,6 +72,10 @@ class LogServiceTest {
             .build();
     Pet pet = Pet.builder()
             .id(1L).build();
+    GuardianRosterDto roster = new GuardianRosterDto(List.of(GuardianMemberDto.builder()
+            .userId("abc123")
+            .nickname("첫째누나")
+            .build()));
 
     @Test
     @DisplayName("건강 기록 생성 성공")
@@ -84,9 +93,11 @@ class LogServiceTest {
                 .build();
         given(petRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(pet));
-        given(userRepository.findByGuardianUserByPetIdAndUserId(1L, "abc123"))
-                .willReturn(Optional.of(userA));
-        given(guardianRepository.existsByUserIdAndPetId("abcde1234", 1L))
+        given(guardianRosterService.getRoster(1L))
+                .willReturn(roster);
+        given(userRepository.getReferenceById("abc123"))
+                .willReturn(userA);
+        given(petAuthority.isGuardian("abcde1234", 1L))
                 .willReturn(true);
         //when
         logService.createLog(user, 1L, request);
@@ -119,9 +130,11 @@ class LogServiceTest {
                 .build();
         given(petRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(pet));
-        given(userRepository.findByGuardianUserByPetIdAndUserId(1L, "abc123"))
-                .willReturn(Optional.of(userA));
-        given(guardianRepository.existsByUserIdAndPetId("abcde1234", 1L))
+        given(guardianRosterService.getRoster(1L))
+                .willReturn(roster);
+        given(userRepository.getReferenceById("abc123"))
+                .willReturn(userA);
+        given(petAuthority.isGuardian("abcde1234", 1L))
                 .willReturn(true);
         //when
         logService.createLog(user, 1L, request);
@@ -157,9 +170,11 @@ class LogServiceTest {
                 .build();
         given(petRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(pet));
-        given(userRepository.findByGuardianUserByPetIdAndUserId(1L, "abc123"))
-                .willReturn(Optional.of(userA));
-        given(guardianRepository.existsByUserIdAndPetId("abcde1234", 1L))
+        given(guardianRosterService.getRoster(1L))
+                .willReturn(roster);
+        given(userRepository.getReferenceById("abc123"))
+                .willReturn(userA);
+        given(petAuthority.isGuardian("abcde1234", 1L))
                 .willReturn(true);
         //when
         logService.createLog(user, 1L, request);
@@ -193,9 +208,11 @@ class LogServiceTest {
                 .build();
         given(petRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(pet));
-        given(userRepository.findByGuardianUserByPetIdAndUserId(1L, "abc123"))
-                .willReturn(Optional.of(userA));
-        given(guardianRepository.existsByUserIdAndPetId("abcde1234", 1L))
+        given(guardianRosterService.getRoster(1L))
+                .willReturn(roster);
+        given(userRepository.getReferenceById("abc123"))
+                .willReturn(userA);
+        given(petAuthority.isGuardian("abcde1234", 1L))
                 .willReturn(true);
         //when
         logService.createLog(user, 1L, request);
@@ -232,9 +249,11 @@ class LogServiceTest {
                 .build();
         given(petRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(pet));
-        given(userRepository.findByGuardianUserByPetIdAndUserId(1L, "abc123"))
-                .willReturn(Optional.of(userA));
-        given(guardianRepository.existsByUserIdAndPetId("abcde1234", 1L))
+        given(guardianRosterService.getRoster(1L))
+                .willReturn(roster);
+        given(userRepository.getReferenceById("abc123"))
+                .willReturn(userA);
+        given(petAuthority.isGuardian("abcde1234", 1L))
                 .willReturn(true);
         //when
         LogException exception = assertThrows(LogException.class, () -> logService.createLog(user, 1L, request));
@@ -280,8 +299,8 @@ class LogServiceTest {
                 .build();
         given(petRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(pet));
-        given(userRepository.findByGuardianUserByPetIdAndUserId(1L, "abc123"))
-                .willReturn(Optional.empty());
+        given(guardianRosterService.getRoster(1L))
+                .willReturn(new GuardianRosterDto(List.of()));
         //when
         UserException exception = assertThrows(UserException.class, () -> logService.createLog(user, 1L, request));
         //then
@@ -304,8 +323,8 @@ class LogServiceTest {
                 .build();
         given(petRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(pet));
-        given(userRepository.findByGuardianUserByPetIdAndUserId(1L, "abc123"))
-                .willReturn(Optional.empty());
+        given(guardianRosterService.getRoster(1L))
+                .willReturn(new GuardianRosterDto(List.of()));
         //when
         UserException exception = assertThrows(UserException.class, () -> logService.createLog(user, 1L, request));
         //then
@@ -328,9 +347,11 @@ class LogServiceTest {
                 .build();
         given(petRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(pet));
-        given(userRepository.findByGuardianUserByPetIdAndUserId(1L, "abc123"))
-                .willReturn(Optional.of(userA));
-        given(guardianRepository.existsByUserIdAndPetId("abcde1234", 1L))
+        given(guardianRosterService.getRoster(1L))
+                .willReturn(roster);
+        given(userRepository.getReferenceById("abc123"))
+                .willReturn(userA);
+        given(petAuthority.isGuardian("abcde1234", 1L))
                 .willReturn(false);
         //when
         LogException exception = assertThrows(LogException.class, () -> logService.createLog(user, 1L, request));
@@ -364,9 +385,11 @@ class LogServiceTest {
                 .build();
         given(logRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(log));
-        given(userRepository.findByGuardianUserByPetIdAndUserId(1L, "abc123"))
-                .willReturn(Optional.of(userA));
-        given(guardianRepository.existsByUserIdAndPetId("abcde1234", 1L))
+        given(guardianRosterService.getRoster(1L))
+                .willReturn(roster);
+        given(userRepository.getReferenceById("abc123"))
+                .willReturn(userA);
+        given(petAuthority.isGuardian("abcde1234", 1L))
                 .willReturn(true);
         //when
         logService.updateLog(user, 1L, 1L, request);
@@ -461,8 +484,8 @@ class LogServiceTest {
                 .build();
         given(logRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(log));
-        given(userRepository.findByGuardianUserByPetIdAndUserId(1L, "abc123"))
-                .willReturn(Optional.empty());
+        given(guardianRosterService.getRoster(1L))
+                .willReturn(new GuardianRosterDto(List.of()));
         //when
         UserException exception = assertThrows(UserException.class, () -> logService.updateLog(user, 1L, 1L, request));
         //then
@@ -495,8 +518,8 @@ class LogServiceTest {
                 .build();
         given(logRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(log));
-        given(userRepository.findByGuardianUserByPetIdAndUserId(1L, "abc123"))
-                .willReturn(Optional.empty());
+        given(guardianRosterService.getRoster(1L))
+                .willReturn(new GuardianRosterDto(List.of()));
         //when
         UserException exception = assertThrows(UserException.class, () -> logService.updateLog(user, 1L, 1L, request));
         //then
@@ -529,9 +552,11 @@ class LogServiceTest {
                 .build();
         given(logRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(log));
-        given(userRepository.findByGuardianUserByPetIdAndUserId(1L, "abc123"))
-                .willReturn(Optional.of(userA));
-        given(guardianRepository.existsByUserIdAndPetId("abcde1234", 1L))
+        given(guardianRosterService.getRoster(1L))
+                .willReturn(roster);
+        given(userRepository.getReferenceById("abc123"))
+                .willReturn(userA);
+        given(petAuthority.isGuardian("abcde1234", 1L))
                 .willReturn(false);
         //when
         LogException exception = assertThrows(LogException.class, () -> logService.updateLog(user, 1L, 1L, request));
@@ -555,7 +580,7 @@ class LogServiceTest {
                 .build();
         given(logRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(log));
-        given(guardianRepository.existsByUserIdAndPetId("abcde1234", 1L))
+        given(petAuthority.isGuardian("abcde1234", 1L))
                 .willReturn(true);
         //when
         logService.deleteLog(user, 1L, 1L);
@@ -614,7 +639,7 @@ class LogServiceTest {
                 .build();
         given(logRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(log));
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(false);
         //when
         LogException exception = assertThrows(LogException.class, () -> logService.deleteLog(user, 1L, 1L));
@@ -649,7 +674,7 @@ class LogServiceTest {
                         .manager(userA)
                         .pet(pet)
                         .build());
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(true);
         given(logRepository.findByPetIdAndAndDatetimeBetweenAndIsDeletedFalse(anyLong(), any(), any()))
                 .willReturn(logs);
@@ -694,7 +719,7 @@ class LogServiceTest {
         int year = 2024;
         int month = 2;
         int day = 2;
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(false);
         //when
         LogException exception = assertThrows(LogException.class, () -> logService.displayLogsByDate(user, 1L, year, month, day));
@@ -706,7 +731,7 @@ class LogServiceTest {
     @DisplayName("건강 수첩 해야할 일 조회 성공")
     void displayLogsToDo_success() {
         //given
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(true);
         given(logRepository.findByPetIdAndAndDatetimeAfterAndIsDeletedFalse(anyLong(), any(), any()))
                 .willReturn(new SliceImpl<>(List.of(Log.builder()
@@ -774,7 +799,7 @@ class LogServiceTest {
     @DisplayName("건강 수첩 해야할 일 조회 실패_forbidden pet space")
     void displayLogsToDo_fail_FORBIDDEN_PET_SPACE() {
         //given
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(false);
         //when
         LogException exception = assertThrows(LogException.class, () -> logService.displayLogsToDo(user, 1L, 0, 10));
@@ -797,7 +822,7 @@ class LogServiceTest {
                         .manager(user)
                         .pet(pet)
                         .build()));
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(true);
         //when
         LogDetailResponse response = logService.displayLog(user, 1L, 1L);
@@ -855,7 +880,7 @@ class LogServiceTest {
                         .manager(user)
                         .pet(pet)
                         .build()));
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(false);
         //when
         LogException exception = assertThrows(LogException.class, () -> logService.displayLog(user, 1L, 1L));
@@ -879,7 +904,7 @@ class LogServiceTest {
                 .build();
         given(logRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(log));
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(true);
         //when
         logService.checkComplete(user, 1L, 1L);
@@ -903,7 +928,7 @@ class LogServiceTest {
                 .build();
         given(logRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(log));
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(true);
         //when
         logService.checkComplete(user, 1L, 1L);
@@ -961,7 +986,7 @@ class LogServiceTest {
                 .build();
         given(logRepository.findByIdAndIsDeletedFalse(anyLong()))
                 .willReturn(Optional.of(log));
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(false);
         //when
         LogException exception = assertThrows(LogException.class, () -> logService.checkComplete(user, 1L, 1L));
@@ -980,7 +1005,7 @@ class LogServiceTest {
                 LocalDate.of(2024, 2, 15),
                 LocalDate.of(2024, 2, 16),
                 LocalDate.of(2024, 2, 17));
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(true);
         given(logQuerydslRepository.findExistingDayByPetIdInMonth(anyLong(), any()))
                 .willReturn(dates);
@@ -996,7 +1021,7 @@ class LogServiceTest {
         //given
         int year = 2024;
         int month = 2;
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(false);
         //when
         LogException exception = assertThrows(LogException.class, () -> logService.displayLogRecordedDayByTheMonth(user, 1L, year, month));
@@ -1010,7 +1035,7 @@ class LogServiceTest {
         //given
         int year = 2024;
         int month = 13;
-        given(guardianRepository.existsByUserIdAndPetId(anyString(), anyLong()))
+        given(petAuthority.isGuardian(anyString(), anyLong()))
                 .willReturn(true);
         //when
         LogException exception = assertThrows(LogException.class, () -> logService.displayLogRecordedDayByTheMonth(user, 1L, year, month));
@@ -1,5 +1,6 @@
 package com.ppp.api.pet.service;
 
+import com.ppp.api.guardian.authority.PetAuthority;
 import com.ppp.api.guardian.service.GuardianService;
 import com.ppp.api.pet.dto.request.PetRequest;
 import com.ppp.api.pet.dto.response.MyPetResponse;
@@ -10,7 +11,6 @@ import com.ppp.common.service.FileStorageManageService;
 import com.ppp.domain.guardian.constant.RepStatus;
 import com.ppp.domain.guardian.dto.MyPetDto;
 import com.ppp.domain.guardian.repository.GuardianQuerydslRepository;
-import com.ppp.domain.guardian.repository.GuardianRepository;
 import com.ppp.domain.pet.Pet;
 import com.ppp.domain.pet.PetImage;
 import com.ppp.domain.pet.constant.Gender;
@@ -59,7 +59,7 @@ class PetServiceTest {
     private GuardianService guardianService;
 
     @Mock
-    private GuardianRepository guardianRepository;
+    private PetAuthority petAuthority;
 
     @Mock
     private SubscriptionService subscriptionService;
@@ -121,7 +121,7 @@ class PetServiceTest {
                 .registeredNumber("1234")
                 .build();
         when(petRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(pet));
-        when(guardianRepository.existsByUserIdAndPetId(user.getId(), 1L)).thenReturn(true);
+        when(petAuthority.isGuardian(user.getId(), 1L)).thenReturn(true);
         //when
         petService.updatePet(1L, petRequest, user, null);
 
@@ -1,5 +1,6 @@
 package com.ppp.api.subscription.service;
 
+import com.ppp.api.diary.service.DiaryTimelineService;
 import com.ppp.api.subscription.dto.response.SubscribedPetResponse;
 import com.ppp.api.subscription.dto.response.SubscriberResponse;
 import com.ppp.api.subscription.dto.transfer.SubscriptionInfoDto;
@@ -44,6 +45,8 @@ class SubscriptionServiceTest {
     private ApplicationEventPublisher applicationEventPublisher;
     @Mock
     private CacheManageService cacheManageService;
+    @Mock
+    private DiaryTimelineService diaryTimelineService;
     @InjectMocks
     private SubscriptionService subscriptionService;
 
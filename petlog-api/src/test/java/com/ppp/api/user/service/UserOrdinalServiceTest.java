@@ -0,0 +1,84 @@
+package com.ppp.api.user.service;
+
+import com.ppp.common.client.RedisClient;
+import com.ppp.domain.common.constant.Domain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserOrdinalServiceTest {
+    @Mock
+    private RedisClient redisClient;
+    @InjectMocks
+    private UserOrdinalService userOrdinalService;
+
+    @Test
+    @DisplayName("유저 서수 발급 성공")
+    void getOrCreateOrdinals_success() {
+        //given
+        given(redisClient.executeScript(any(), eq(Domain.USER_ORDINAL), eq(List.of("", "_REVERSE", "_SEQUENCE")),
+                eq("abc123"), eq("qwerty")))
+                .willReturn(List.of(3L, 4L));
+        //when
+        Map<String, Long> ordinals = userOrdinalService.getOrCreateOrdinals(List.of("abc123", "qwerty"));
+        //then
+        assertEquals(Map.of("abc123", 3L, "qwerty", 4L), ordinals);
+    }
+
+    @Test
+    @DisplayName("유저 서수 발급 성공-이미 조회한 서수는 캐시에서 반환")
+    void getOrCreateOrdinal_success_WhenCached() {
+        //given
+        given(redisClient.executeScript(any(), eq(Domain.USER_ORDINAL), anyList(), eq("abc123")))
+                .willReturn(List.of(3L));
+        //when
+        long first = userOrdinalService.getOrCreateOrdinal("abc123");
+        long second = userOrdinalService.getOrCreateOrdinal("abc123");
+        Optional<Long> found = userOrdinalService.findOrdinal("abc123");
+        //then
+        assertEquals(3L, first);
+        assertEquals(3L, second);
+        assertEquals(Optional.of(3L), found);
+        verify(redisClient, times(1)).executeScript(any(), any(), anyList(), any(String[].class));
+        verify(redisClient, never()).getValueFromHash(any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("유저 서수 조회 성공-서수가 없는 유저")
+    void findOrdinal_success_WhenNotAssigned() {
+        //given
+        given(redisClient.getValueFromHash(Domain.USER_ORDINAL, "", "abc123"))
+                .willReturn(Optional.empty());
+        //when
+        Optional<Long> ordinal = userOrdinalService.findOrdinal("abc123");
+        //then
+        assertTrue(ordinal.isEmpty());
+    }
+
+    @Test
+    @DisplayName("서수로 유저 아이디 조회 성공")
+    void findUserIds_success() {
+        //given
+        given(redisClient.getValuesFromHash(eq(Domain.USER_ORDINAL), eq("_REVERSE"), anyList()))
+                .willReturn(Arrays.asList("abc123", null));
+        //when
+        Set<String> userIds = userOrdinalService.findUserIds(List.of("3", "9"));
+        //then
+        assertEquals(Set.of("abc123"), userIds);
+    }
+}
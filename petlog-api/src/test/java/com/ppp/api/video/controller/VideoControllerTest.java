@@ -15,7 +15,15 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.InputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -54,4 +62,37 @@ class VideoControllerTest {
                 .andExpect(status().isOk());
         //then
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockCustomUser
+    @DisplayName("비디오 스트리밍 업로드 성공")
+    void uploadTempVideoByStream_success() throws Exception {
+        //given
+        //when
+        mockMvc.perform(post("/api/v1/videos/stream")
+                        .content("abcde".getBytes())
+                        .param("domain", "DIARY")
+                        .param("fileName", "video.mov")
+                        .header("Authorization", TOKEN)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                ).andDo(print())
+                .andExpect(status().isOk());
+        //then
+        verify(videoManageService, times(1))
+                .uploadTempVideo(any(), eq("DIARY"), eq("video.mov"), any(InputStream.class), eq(5L));
+    }
+
+    @Test
+    @WithMockCustomUser
+    @DisplayName("비디오 변환 상태 조회 성공")
+    void displayVideoStatus_success() throws Exception {
+        //given
+        //when
+        mockMvc.perform(get("/api/v1/videos/{videoId}", "random-string")
+                        .header("Authorization", TOKEN)
+                ).andDo(print())
+                .andExpect(status().isOk());
+        //then
+        verify(videoManageService, times(1)).displayVideoStatus(any(), eq("random-string"));
+    }
+}
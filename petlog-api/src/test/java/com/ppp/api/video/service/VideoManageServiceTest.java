@@ -1,10 +1,13 @@
 package com.ppp.api.video.service;
 
 import com.ppp.api.video.dto.response.VideoResponse;
+import com.ppp.api.video.dto.response.VideoStatusResponse;
 import com.ppp.api.video.exception.VideoException;
 import com.ppp.common.client.VideoConvertClient;
+import com.ppp.common.client.VideoMetadata;
 import com.ppp.domain.user.User;
 import com.ppp.domain.video.TempVideo;
+import com.ppp.domain.video.constant.TranscodeStatus;
 import com.ppp.domain.video.repository.TempVideoRedisRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,15 +20,20 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
-import static com.ppp.api.video.exception.ErrorCode.NOT_ALLOWED_EXTENSION;
-import static com.ppp.api.video.exception.ErrorCode.VIDEO_UPLOAD_NOT_ALLOWED;
+import static com.ppp.api.video.exception.ErrorCode.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class VideoManageServiceTest {
@@ -33,6 +41,8 @@ class VideoManageServiceTest {
     private VideoConvertClient videoConvertClient;
     @Mock
     private TempVideoRedisRepository tempVideoRedisRepository;
+    @Mock
+    private VideoTranscodeJobService videoTranscodeJobService;
     @InjectMocks
     private VideoManageService videoManageService;
     User user = User.builder()
@@ -46,12 +56,15 @@ class VideoManageServiceTest {
         //given
         MultipartFile video = new MockMultipartFile("video", "video.wmv", MediaType.IMAGE_JPEG_VALUE, "abcde" .getBytes());
         String domain = "DIARY";
-        String convertedVideoPath = "temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mp4";
-        given(videoConvertClient.compress(any(), any()))
-                .willReturn(convertedVideoPath);
+        String sourcePath = "temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.wmv";
+        given(videoConvertClient.store(video))
+                .willReturn(Path.of(sourcePath));
+        given(videoConvertClient.probe(Path.of(sourcePath)))
+                .willReturn(new VideoMetadata("hevc", "aac", 1920, 1080, 8_000_000L, 30));
         given(tempVideoRedisRepository.save(any()))
                 .willReturn(TempVideo.builder()
                         .id("random-string")
+                        .status(TranscodeStatus.PENDING)
                         .build());
         LocalDateTime now = LocalDateTime.now();
         //when
@@ -59,9 +72,12 @@ class VideoManageServiceTest {
         ArgumentCaptor<TempVideo> captor = ArgumentCaptor.forClass(TempVideo.class);
         //then
         verify(tempVideoRedisRepository, times(1)).save(captor.capture());
-        assertEquals(captor.getValue().getFilePath(), convertedVideoPath);
+        assertEquals(captor.getValue().getSourcePath(), Path.of(sourcePath).toString());
+        assertEquals(captor.getValue().getStatus(), TranscodeStatus.PENDING);
         assertEquals(captor.getValue().getUserId(), user.getId());
         assertEquals(response.videoId(), "random-string");
+        assertEquals(response.status(), "PENDING");
+        verify(videoTranscodeJobService, times(1)).enqueue("random-string");
         assertTrue(response.validUntil().isAfter(now.plusMinutes(170)) && response.validUntil().isBefore(now.plusMinutes(180)));
     }
 
@@ -100,4 +116,169 @@ class VideoManageServiceTest {
         //then
         assertEquals(NOT_ALLOWED_EXTENSION.getCode(), exception.getCode());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("비디오 스트리밍 업로드 성공")
+    void uploadTempVideo_success_WhenStreamIsGiven() {
+        //given
+        InputStream video = new ByteArrayInputStream("abcde".getBytes());
+        String sourcePath = "temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mov";
+        given(videoConvertClient.store(video, "video.mov"))
+                .willReturn(Path.of(sourcePath));
+        given(videoConvertClient.probe(Path.of(sourcePath)))
+                .willReturn(new VideoMetadata("h264", null, 640, 480, 1_000_000L, 10));
+        given(tempVideoRedisRepository.save(any()))
+                .willReturn(TempVideo.builder()
+                        .id("random-string")
+                        .status(TranscodeStatus.PENDING)
+                        .build());
+        //when
+        VideoResponse response = videoManageService.uploadTempVideo(user, "DIARY", "video.mov", video, 5L);
+        ArgumentCaptor<TempVideo> captor = ArgumentCaptor.forClass(TempVideo.class);
+        //then
+        verify(tempVideoRedisRepository, times(1)).save(captor.capture());
+        assertEquals(Path.of(sourcePath).toString(), captor.getValue().getSourcePath());
+        assertEquals("random-string", response.videoId());
+        verify(videoTranscodeJobService, times(1)).enqueue("random-string");
+    }
+
+    @Test
+    @DisplayName("비디오 스트리밍 업로드 실패-video size exceeded")
+    void uploadTempVideo_fail_VIDEO_SIZE_EXCEEDED() {
+        //given
+        InputStream video = new ByteArrayInputStream("abcde".getBytes());
+        //when
+        VideoException exception = assertThrows(VideoException.class, () ->
+                videoManageService.uploadTempVideo(user, "DIARY", "video.mov", video, VideoConvertClient.MAX_INPUT_SIZE + 1));
+        //then
+        assertEquals(VIDEO_SIZE_EXCEEDED.getCode(), exception.getCode());
+        verifyNoInteractions(videoConvertClient);
+    }
+
+    @Test
+    @DisplayName("비디오 변환 상태 조회 성공")
+    void displayVideoStatus_success() {
+        //given
+        TempVideo tempVideo = TempVideo.builder()
+                .id("random-string")
+                .userId(user.getId())
+                .status(TranscodeStatus.PROCESSING)
+                .build();
+        given(tempVideoRedisRepository.findById("random-string"))
+                .willReturn(Optional.of(tempVideo));
+        given(videoTranscodeJobService.getProgress(tempVideo))
+                .willReturn(42);
+        //when
+        VideoStatusResponse response = videoManageService.displayVideoStatus(user, "random-string");
+        //then
+        assertEquals("PROCESSING", response.status());
+        assertEquals(42, response.progress());
+    }
+
+    @Test
+    @DisplayName("변환 완료 비디오 조회 성공")
+    void getCompletedVideos_success() {
+        //given
+        given(tempVideoRedisRepository.findById("random-string"))
+                .willReturn(Optional.of(TempVideo.builder()
+                        .id("random-string")
+                        .userId(user.getId())
+                        .filePath("temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mp4")
+                        .status(TranscodeStatus.COMPLETED)
+                        .build()));
+        //when
+        List<TempVideo> tempVideos = videoManageService.getCompletedVideos(List.of("random-string"), user);
+        //then
+        assertEquals(1, tempVideos.size());
+        assertEquals("temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mp4", tempVideos.get(0).getFilePath());
+        verify(tempVideoRedisRepository, times(1)).findById("random-string");
+    }
+
+    @Test
+    @DisplayName("변환 완료 비디오 조회 실패-not found video-temp video를 등록한 유저가 아님")
+    void getCompletedVideos_fail_NOT_FOUND_VIDEO_WhenUserIdNotMatched() {
+        //given
+        given(tempVideoRedisRepository.findById("random-string"))
+                .willReturn(Optional.of(TempVideo.builder()
+                        .id("random-string")
+                        .userId("123456")
+                        .build()));
+        //when
+        VideoException exception = assertThrows(VideoException.class, () ->
+                videoManageService.getCompletedVideos(List.of("random-string"), user));
+        //then
+        assertEquals(NOT_FOUND_VIDEO.getCode(), exception.getCode());
+    }
+
+    @Test
+    @DisplayName("변환 완료 비디오 조회 실패-video transcode failed")
+    void getCompletedVideos_fail_VIDEO_TRANSCODE_FAILED() {
+        //given
+        given(tempVideoRedisRepository.findById("random-string"))
+                .willReturn(Optional.of(TempVideo.builder()
+                        .id("random-string")
+                        .userId(user.getId())
+                        .status(TranscodeStatus.FAILED)
+                        .build()));
+        //when
+        VideoException exception = assertThrows(VideoException.class, () ->
+                videoManageService.getCompletedVideos(List.of("random-string"), user));
+        //then
+        assertEquals(VIDEO_TRANSCODE_FAILED.getCode(), exception.getCode());
+    }
+
+    @Test
+    @DisplayName("변환 완료 비디오 조회 실패-video transcode not completed")
+    void getCompletedVideos_fail_VIDEO_TRANSCODE_NOT_COMPLETED() {
+        //given
+        given(tempVideoRedisRepository.findById("random-string"))
+                .willReturn(Optional.of(TempVideo.builder()
+                        .id("random-string")
+                        .userId(user.getId())
+                        .status(TranscodeStatus.PROCESSING)
+                        .build()));
+        //when
+        VideoException exception = assertThrows(VideoException.class, () ->
+                videoManageService.getCompletedVideos(List.of("random-string"), user));
+        //then
+        assertEquals(VIDEO_TRANSCODE_NOT_COMPLETED.getCode(), exception.getCode());
+        verify(tempVideoRedisRepository, times(1)).findById("random-string");
+    }
+
+    @Test
+    @DisplayName("비디오 업로드 실패-video duration exceeded")
+    void uploadTempVideo_fail_VIDEO_DURATION_EXCEEDED() {
+        //given
+        InputStream video = new ByteArrayInputStream("abcde".getBytes());
+        Path sourcePath = Path.of("temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mov");
+        given(videoConvertClient.store(video, "video.mov"))
+                .willReturn(sourcePath);
+        given(videoConvertClient.probe(sourcePath))
+                .willReturn(new VideoMetadata("h264", "aac", 1280, 720, 4_000_000L, 601));
+        //when
+        VideoException exception = assertThrows(VideoException.class, () ->
+                videoManageService.uploadTempVideo(user, "DIARY", "video.mov", video, 5L));
+        //then
+        assertEquals(VIDEO_DURATION_EXCEEDED.getCode(), exception.getCode());
+        verifyNoInteractions(tempVideoRedisRepository, videoTranscodeJobService);
+        verify(videoConvertClient, times(1)).delete(sourcePath);
+    }
+
+    @Test
+    @DisplayName("비디오 업로드 실패-video resolution exceeded")
+    void uploadTempVideo_fail_VIDEO_RESOLUTION_EXCEEDED() {
+        //given
+        InputStream video = new ByteArrayInputStream("abcde".getBytes());
+        Path sourcePath = Path.of("temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mov");
+        given(videoConvertClient.store(video, "video.mov"))
+                .willReturn(sourcePath);
+        given(videoConvertClient.probe(sourcePath))
+                .willReturn(new VideoMetadata("h264", "aac", 7680, 4320, 40_000_000L, 10));
+        //when
+        VideoException exception = assertThrows(VideoException.class, () ->
+                videoManageService.uploadTempVideo(user, "DIARY", "video.mov", video, 5L));
+        //then
+        assertEquals(VIDEO_RESOLUTION_EXCEEDED.getCode(), exception.getCode());
+        verify(videoConvertClient, times(1)).delete(sourcePath);
+    }
+}
@@ -0,0 +1,231 @@
+package com.ppp.api.video.service;
+
+import com.ppp.common.client.RedisClient;
+import com.ppp.common.client.VideoConvertClient;
+import com.ppp.common.exception.ErrorCode;
+import com.ppp.common.exception.FileException;
+import com.ppp.domain.common.constant.Domain;
+import com.ppp.domain.common.constant.VideoCompressType;
+import com.ppp.domain.video.TempVideo;
+import com.ppp.domain.video.constant.TranscodeStatus;
+import com.ppp.domain.video.repository.TempVideoRedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoTranscodeJobServiceTest {
+    @Mock
+    private VideoConvertClient videoConvertClient;
+    @Mock
+    private TempVideoRedisRepository tempVideoRedisRepository;
+    @Mock
+    private RedisClient redisClient;
+    @InjectMocks
+    private VideoTranscodeJobService videoTranscodeJobService;
+
+    private final String sourcePath = "temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mov";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(videoTranscodeJobService, "nodeId", "node-1");
+    }
+
+    private TempVideo pendingVideo() {
+        return TempVideo.builder()
+                .id("random-string")
+                .userId("abcde1234")
+                .sourcePath(sourcePath)
+                .status(TranscodeStatus.PENDING)
+                .build();
+    }
+
+    @Test
+    @DisplayName("변환 작업 등록 성공")
+    void enqueue_success() {
+        //when
+        videoTranscodeJobService.enqueue("random-string");
+        //then
+        verify(redisClient, times(1)).pushValueToList(Domain.VIDEO_TRANSCODE_QUEUE, "node-1", "random-string");
+    }
+
+    @Test
+    @DisplayName("변환 작업 처리 성공")
+    void processNext_success() {
+        //given
+        TempVideo tempVideo = pendingVideo();
+        String outputPath = "temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mp4";
+        given(redisClient.moveValueBetweenListsWithLease(eq(Domain.VIDEO_TRANSCODE_QUEUE), eq("node-1"), eq("node-1_PROCESSING"),
+                eq(Domain.VIDEO_TRANSCODE_PROGRESS), eq("0"), any(Duration.class)))
+                .willReturn(Optional.of("random-string"));
+        given(tempVideoRedisRepository.findById("random-string"))
+                .willReturn(Optional.of(tempVideo));
+        given(videoConvertClient.compress(eq(Path.of(sourcePath)), eq(VideoCompressType.LOW), any()))
+                .willAnswer(invocation -> {
+                    assertEquals(TranscodeStatus.PROCESSING, tempVideo.getStatus());
+                    ((IntConsumer) invocation.getArgument(2)).accept(50);
+                    ((IntConsumer) invocation.getArgument(2)).accept(50);
+                    return outputPath;
+                });
+        //when
+        boolean isProcessed = videoTranscodeJobService.processNext();
+        //then
+        assertTrue(isProcessed);
+        assertEquals(TranscodeStatus.COMPLETED, tempVideo.getStatus());
+        assertEquals(outputPath, tempVideo.getFilePath());
+        verify(tempVideoRedisRepository, times(2)).save(tempVideo);
+        verify(redisClient, times(1)).setValue(eq(Domain.VIDEO_TRANSCODE_PROGRESS), eq("random-string"), eq("50"), any(Duration.class));
+        verify(redisClient, times(1)).removeValueFromList(Domain.VIDEO_TRANSCODE_QUEUE, "node-1_PROCESSING", "random-string");
+    }
+
+    @Test
+    @DisplayName("변환 작업 처리 성공-변환 실패시 실패 상태로 저장")
+    void processNext_success_WhenTranscodeFails() {
+        //given
+        TempVideo tempVideo = pendingVideo();
+        given(redisClient.moveValueBetweenListsWithLease(eq(Domain.VIDEO_TRANSCODE_QUEUE), eq("node-1"), eq("node-1_PROCESSING"),
+                eq(Domain.VIDEO_TRANSCODE_PROGRESS), eq("0"), any(Duration.class)))
+                .willReturn(Optional.of("random-string"));
+        given(tempVideoRedisRepository.findById("random-string"))
+                .willReturn(Optional.of(tempVideo));
+        given(videoConvertClient.compress(any(), any(), any()))
+                .willThrow(new FileException(ErrorCode.FILE_UPLOAD_FAILED));
+        //when
+        videoTranscodeJobService.processNext();
+        //then
+        ArgumentCaptor<TempVideo> captor = ArgumentCaptor.forClass(TempVideo.class);
+        verify(tempVideoRedisRepository, times(2)).save(captor.capture());
+        assertEquals(TranscodeStatus.FAILED, captor.getValue().getStatus());
+        verify(redisClient, times(1)).removeValueFromList(Domain.VIDEO_TRANSCODE_QUEUE, "node-1_PROCESSING", "random-string");
+    }
+
+    @Test
+    @DisplayName("변환 작업 처리 성공-예상하지 못한 예외도 실패 상태로 저장")
+    void processNext_success_WhenUnexpectedExceptionThrown() {
+        //given
+        TempVideo tempVideo = pendingVideo();
+        given(redisClient.moveValueBetweenListsWithLease(eq(Domain.VIDEO_TRANSCODE_QUEUE), eq("node-1"), eq("node-1_PROCESSING"),
+                eq(Domain.VIDEO_TRANSCODE_PROGRESS), eq("0"), any(Duration.class)))
+                .willReturn(Optional.of("random-string"));
+        given(tempVideoRedisRepository.findById("random-string"))
+                .willReturn(Optional.of(tempVideo));
+        given(videoConvertClient.compress(any(), any(), any()))
+                .willThrow(new IllegalStateException("ffmpeg exited"));
+        //when
+        videoTranscodeJobService.processNext();
+        //then
+        assertEquals(TranscodeStatus.FAILED, tempVideo.getStatus());
+        verify(tempVideoRedisRepository, times(2)).save(tempVideo);
+        verify(redisClient, times(1)).removeValueFromList(Domain.VIDEO_TRANSCODE_QUEUE, "node-1_PROCESSING", "random-string");
+    }
+
+    @Test
+    @DisplayName("변환 작업 처리 성공-다른 워커가 처리 중인 작업은 건너뜀")
+    void processNext_success_WhenAlreadyProcessing() {
+        //given
+        TempVideo tempVideo = pendingVideo();
+        tempVideo.start();
+        given(redisClient.moveValueBetweenListsWithLease(eq(Domain.VIDEO_TRANSCODE_QUEUE), eq("node-1"), eq("node-1_PROCESSING"),
+                eq(Domain.VIDEO_TRANSCODE_PROGRESS), eq("0"), any(Duration.class)))
+                .willReturn(Optional.of("random-string"));
+        given(tempVideoRedisRepository.findById("random-string"))
+                .willReturn(Optional.of(tempVideo));
+        //when
+        boolean isProcessed = videoTranscodeJobService.processNext();
+        //then
+        assertTrue(isProcessed);
+        assertEquals(TranscodeStatus.PROCESSING, tempVideo.getStatus());
+        verifyNoInteractions(videoConvertClient);
+        verify(tempVideoRedisRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("변환 작업 처리 성공-대기 중인 작업이 없음")
+    void processNext_success_WhenQueueIsEmpty() {
+        //given
+        given(redisClient.moveValueBetweenListsWithLease(eq(Domain.VIDEO_TRANSCODE_QUEUE), eq("node-1"), eq("node-1_PROCESSING"),
+                eq(Domain.VIDEO_TRANSCODE_PROGRESS), eq("0"), any(Duration.class)))
+                .willReturn(Optional.empty());
+        //when
+        boolean isProcessed = videoTranscodeJobService.processNext();
+        //then
+        assertFalse(isProcessed);
+        verifyNoInteractions(videoConvertClient, tempVideoRedisRepository);
+    }
+
+    @Test
+    @DisplayName("변환 작업 처리 성공-이미 만료된 임시 비디오")
+    void processNext_success_WhenTempVideoExpired() {
+        //given
+        given(redisClient.moveValueBetweenListsWithLease(eq(Domain.VIDEO_TRANSCODE_QUEUE), eq("node-1"), eq("node-1_PROCESSING"),
+                eq(Domain.VIDEO_TRANSCODE_PROGRESS), eq("0"), any(Duration.class)))
+                .willReturn(Optional.of("random-string"));
+        given(tempVideoRedisRepository.findById("random-string"))
+                .willReturn(Optional.empty());
+        //when
+        boolean isProcessed = videoTranscodeJobService.processNext();
+        //then
+        assertTrue(isProcessed);
+        verifyNoInteractions(videoConvertClient);
+        verify(redisClient, times(1)).removeValueFromList(Domain.VIDEO_TRANSCODE_QUEUE, "node-1_PROCESSING", "random-string");
+    }
+
+    @Test
+    @DisplayName("변환 진행률 조회 성공")
+    void getProgress_success() {
+        //given
+        TempVideo tempVideo = pendingVideo();
+        tempVideo.start();
+        given(redisClient.getValue(Domain.VIDEO_TRANSCODE_PROGRESS, "random-string"))
+                .willReturn(Optional.of("42"));
+        //when
+        int progress = videoTranscodeJobService.getProgress(tempVideo);
+        //then
+        assertEquals(42, progress);
+        assertEquals(0, videoTranscodeJobService.getProgress(pendingVideo()));
+        assertEquals(100, videoTranscodeJobService.getProgress(TempVideo.builder().build()));
+    }
+
+    @Test
+    @DisplayName("멈춘 변환 작업 재등록 성공")
+    void recoverStalledJobs_success() {
+        //given
+        given(redisClient.getValuesFromList(Domain.VIDEO_TRANSCODE_QUEUE, "node-1_PROCESSING"))
+                .willReturn(List.of("alive", "stalled"));
+        given(redisClient.hasKey(Domain.VIDEO_TRANSCODE_PROGRESS, "alive"))
+                .willReturn(true);
+        given(redisClient.hasKey(Domain.VIDEO_TRANSCODE_PROGRESS, "stalled"))
+                .willReturn(false);
+        given(redisClient.removeValueFromList(Domain.VIDEO_TRANSCODE_QUEUE, "node-1_PROCESSING", "stalled"))
+                .willReturn(true);
+        TempVideo stalledVideo = pendingVideo();
+        stalledVideo.start();
+        given(tempVideoRedisRepository.findById("stalled"))
+                .willReturn(Optional.of(stalledVideo));
+        //when
+        videoTranscodeJobService.recoverStalledJobs();
+        //then
+        assertEquals(TranscodeStatus.PENDING, stalledVideo.getStatus());
+        verify(tempVideoRedisRepository, times(1)).save(stalledVideo);
+        verify(redisClient, times(1)).pushValueToList(Domain.VIDEO_TRANSCODE_QUEUE, "node-1", "stalled");
+        verify(redisClient, never()).pushValueToList(Domain.VIDEO_TRANSCODE_QUEUE, "node-1", "alive");
+    }
+}
@@ -0,0 +1,53 @@
+package com.ppp.api.video.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoTranscodeWorkerTest {
+    @Mock
+    private VideoTranscodeJobService videoTranscodeJobService;
+    @InjectMocks
+    private VideoTranscodeWorker videoTranscodeWorker;
+
+    @AfterEach
+    void tearDown() {
+        videoTranscodeWorker.stop();
+    }
+
+    @Test
+    @DisplayName("워커 기동시 대기열의 작업을 처리")
+    void start_success() {
+        //given
+        ReflectionTestUtils.setField(videoTranscodeWorker, "enabled", true);
+        ReflectionTestUtils.setField(videoTranscodeWorker, "idleMillis", 10L);
+        given(videoTranscodeJobService.processNext())
+                .willReturn(true)
+                .willThrow(new IllegalStateException("connection refused"))
+                .willReturn(false);
+        //when
+        videoTranscodeWorker.start();
+        //then
+        verify(videoTranscodeJobService, timeout(1000).atLeast(3)).processNext();
+    }
+
+    @Test
+    @DisplayName("워커 비활성화시 기동하지 않음")
+    void start_success_WhenDisabled() {
+        //given
+        ReflectionTestUtils.setField(videoTranscodeWorker, "enabled", false);
+        //when
+        videoTranscodeWorker.start();
+        //then
+        verifyNoInteractions(videoTranscodeJobService);
+    }
+}
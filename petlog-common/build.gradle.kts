@@ -44,6 +44,7 @@ dependencies {
     implementation("org.hibernate:hibernate-validator:8.0.1.Final")
     implementation("org.springframework.data:spring-data-elasticsearch:5.1.8")
     implementation("net.bramp.ffmpeg:ffmpeg:0.8.0")
+    implementation("io.micrometer:micrometer-core")
 
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
@@ -4,60 +4,158 @@ import com.ppp.common.exception.FileException;
 import com.ppp.common.util.FilePathUtil;
 import com.ppp.domain.common.constant.FileType;
 import com.ppp.domain.common.constant.VideoCompressType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.RequiredArgsConstructor;
 import net.bramp.ffmpeg.FFmpeg;
 import net.bramp.ffmpeg.FFmpegExecutor;
+import net.bramp.ffmpeg.FFprobe;
 import net.bramp.ffmpeg.builder.FFmpegBuilder;
+import net.bramp.ffmpeg.builder.FFmpegOutputBuilder;
+import net.bramp.ffmpeg.probe.FFmpegProbeResult;
 import org.apache.commons.io.FileUtils;
+import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
 
 import static com.ppp.common.exception.ErrorCode.EXTRACT_THUMBNAIL_FAILED;
+import static com.ppp.common.exception.ErrorCode.FILE_SIZE_EXCEEDED;
 import static com.ppp.common.exception.ErrorCode.FILE_UPLOAD_FAILED;
+import static com.ppp.common.exception.ErrorCode.VIDEO_LIMIT_EXCEEDED;
 
 @Component
 @RequiredArgsConstructor
-public class FfmpegClient implements VideoConvertClient, ThumbnailExtractClient {
+public class FfmpegClient implements VideoConvertClient, ThumbnailExtractClient, MeterBinder {
     private final FFmpegExecutor fFmpegExecutor;
     private final FFmpeg fFmpeg;
+    private final FFprobe fFprobe;
+    private final TranscodeStatistics transcodeStatistics = new TranscodeStatistics();
     private static final String VIDEO_EXTENSION = ".mp4";
     private static final String THUMBNAIL_EXTENSION = ".png";
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     @Override
-    public String compress(MultipartFile file, VideoCompressType compressType) {
+    public Path store(MultipartFile file) {
+        try (InputStream input = file.getInputStream()) {
+            return store(input, Objects.requireNonNull(file.getOriginalFilename()));
+        } catch (IOException e) {
+            throw new FileException(FILE_UPLOAD_FAILED);
+        }
+    }
+
+    // 요청 본문을 고정 크기 버퍼 하나로 디스크에 옮겨 업로드 크기와 관계없이 힙 사용량을 일정하게 유지한다.
+    @Override
+    public Path store(InputStream input, String fileName) {
+        Path sourcePath = Paths.get(createDirectory().getPath(),
+                FilePathUtil.createFileName() + FilePathUtil.getFileExtension(fileName).orElse(""));
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long totalBytes = 0;
+        try (ReadableByteChannel source = Channels.newChannel(input);
+             FileChannel sink = FileChannel.open(sourcePath, StandardOpenOption.CREATE,
+                     StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                totalBytes += buffer.remaining();
+                if (totalBytes > MAX_INPUT_SIZE)
+                    throw new FileException(FILE_SIZE_EXCEEDED);
+                while (buffer.hasRemaining())
+                    sink.write(buffer);
+                buffer.clear();
+            }
+            return sourcePath;
+        } catch (FileException e) {
+            delete(sourcePath);
+            throw e;
+        } catch (IOException e) {
+            delete(sourcePath);
+            throw new FileException(FILE_UPLOAD_FAILED);
+        }
+    }
+
+    @Override
+    public VideoMetadata probe(Path sourcePath) {
         try {
-            File dirToBeSaved = new File(DEFAULT_PATH + "/" + LocalDateTime.now().format(dateTimeFormatter));
-            if (!dirToBeSaved.exists()) dirToBeSaved.mkdirs();
-            Path inputPath = Paths.get(dirToBeSaved.getPath(), file.getOriginalFilename());
-            Files.write(inputPath, file.getBytes());
-            Path outputPath = Paths.get(dirToBeSaved.getPath(), FilePathUtil.createFileName() + VIDEO_EXTENSION);
-            Files.createFile(outputPath);
-
-            fFmpegExecutor.createJob(
-                    new FFmpegBuilder()
-                            .overrideOutputFiles(true)
-                            .setInput(inputPath.toString())
-                            .addOutput(outputPath.toString())
-                            .addExtraArgs("-vf", String.format("scale='if(gt(iw,ih),%d,trunc(oh*a/2)*2)':'if(gt(iw,ih),trunc(ow/a/2)*2,%d)'",
-                                    compressType.getResolution(), compressType.getResolution()))
-                            .done(), progress -> log.info(getClass() + " : resolution proceeding " + progress)).run();
-            Files.delete(inputPath);
+            return VideoMetadata.from(fFprobe.probe(sourcePath.toString()));
+        } catch (Exception e) {
+            throw new FileException(FILE_UPLOAD_FAILED);
+        }
+    }
 
+    // 변환하지 못하고 끝나는 모든 경로에서 원본을 지워 임시 디렉터리에 남지 않게 한다.
+    @Override
+    public String compress(Path sourcePath, VideoCompressType compressType, IntConsumer progressListener) {
+        FFmpegProbeResult probeResult;
+        try {
+            probeResult = fFprobe.probe(sourcePath.toString());
+        } catch (Exception e) {
+            delete(sourcePath);
+            throw new FileException(FILE_UPLOAD_FAILED);
+        }
+        VideoMetadata metadata = VideoMetadata.from(probeResult);
+        if (!metadata.hasVideo() || metadata.isDurationExceeded() || metadata.isResolutionExceeded()) {
+            delete(sourcePath);
+            throw new FileException(VIDEO_LIMIT_EXCEEDED);
+        }
+
+        Path outputPath = Paths.get(createDirectory().getPath(), FilePathUtil.createFileName() + VIDEO_EXTENSION);
+        boolean isCopied = metadata.canCopy(compressType);
+        long startedAt = System.nanoTime();
+        try {
+            FFmpegOutputBuilder outputBuilder = new FFmpegBuilder()
+                    .overrideOutputFiles(true)
+                    .setInput(probeResult)
+                    .addOutput(outputPath.toString());
+            if (isCopied)
+                outputBuilder.setVideoCodec("copy")
+                        .setAudioCodec(metadata.canCopyAudio() ? "copy" : "aac")
+                        .addExtraArgs("-movflags", "+faststart");
+            else
+                outputBuilder.addExtraArgs("-vf", getScaleFilter(compressType))
+                        .addExtraArgs("-preset", metadata.selectPreset());
+            double durationNanos = metadata.durationSeconds() * TimeUnit.SECONDS.toNanos(1);
+            // 진행률이 그대로여도 작업이 살아 있음을 알 수 있도록 매 보고마다 전달한다.
+            fFmpegExecutor.createJob(outputBuilder.done(), progress -> progressListener.accept(
+                    durationNanos > 0 ? (int) Math.min(100, progress.out_time_ns * 100 / durationNanos) : 0)).run();
             if (Files.size(outputPath) == 0)
                 throw new FileException(FILE_UPLOAD_FAILED);
-
+            transcodeStatistics.record(isCopied, metadata.durationSeconds(),
+                    (System.nanoTime() - startedAt) / (double) TimeUnit.SECONDS.toNanos(1));
+            delete(sourcePath);
             return outputPath.toString();
         } catch (Exception e) {
+            delete(sourcePath);
+            delete(outputPath);
             throw new FileException(FILE_UPLOAD_FAILED);
         }
     }
 
+    private File createDirectory() {
+        File dirToBeSaved = new File(DEFAULT_PATH + "/" + LocalDateTime.now().format(dateTimeFormatter));
+        if (!dirToBeSaved.exists()) dirToBeSaved.mkdirs();
+        return dirToBeSaved;
+    }
+
+    private String getScaleFilter(VideoCompressType compressType) {
+        return String.format("scale='if(gt(iw,ih),%d,trunc(oh*a/2)*2)':'if(gt(iw,ih),trunc(ow/a/2)*2,%d)'",
+                compressType.getResolution(), compressType.getResolution());
+    }
+
     @Override
     public File extractThumbnail(File input, FileType type) throws FileException {
         if (FileType.IMAGE.equals(type))
@@ -83,17 +181,23 @@ public class FfmpegClient implements VideoConvertClient, ThumbnailExtractClient
     }
 
     public File extractThumbnailFromVideo(File input) throws FileException {
+        File output = extractVideoFrame(input);
+        FileUtils.deleteQuietly(input);
+        return output;
+    }
+
+    @Override
+    public File extractVideoFrame(File video) throws FileException {
         try {
             File output = File.createTempFile("s_temp", THUMBNAIL_EXTENSION);
             fFmpeg.run(new FFmpegBuilder()
-                    .setInput(input.getPath())
+                    .setInput(video.getPath())
                     .overrideOutputFiles(true)
                     .addOutput(output.getPath())
                     .addExtraArgs("-ss", "00:00:01")
                     .addExtraArgs("-vf", "scale=160:160")
                     .setFrames(1)
                     .done());
-            FileUtils.delete(input);
             return output;
         } catch (Exception e) {
             log.error("Class : {}, Code : {}, Message : {}", getClass(), EXTRACT_THUMBNAIL_FAILED.getCode(), EXTRACT_THUMBNAIL_FAILED.getMessage());
@@ -101,4 +205,8 @@ public class FfmpegClient implements VideoConvertClient, ThumbnailExtractClient
         }
     }
 
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        transcodeStatistics.bindTo(registry);
+    }
 }
@@ -10,5 +10,7 @@ public interface FileStorageClient {
 
     String upload(File file, Domain domain);
 
+    String upload(byte[] bytes, String fileName, Domain domain);
+
     void delete(String filePath);
 }
@@ -0,0 +1,150 @@
+package com.ppp.common.client;
+
+import com.ppp.common.exception.FileException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.ppp.common.exception.ErrorCode.FILE_UPLOAD_FAILED;
+
+@Slf4j
+@Component
+public class ParallelUploader {
+    private static final String UPLOAD_TIMER = "file.upload";
+    private static final String BATCH_TIMER = "file.upload.batch";
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore globalPermits;
+    private final int fanOutLimit;
+    private final long acquireTimeoutMillis;
+    private final MeterRegistry meterRegistry;
+
+    public ParallelUploader(@Value("${file.upload.max-concurrency:16}") int maxConcurrency,
+                            @Value("${file.upload.fan-out-limit:4}") int fanOutLimit,
+                            @Value("${file.upload.acquire-timeout-millis:10000}") long acquireTimeoutMillis,
+                            MeterRegistry meterRegistry) {
+        // 동시 업로드 수는 전역 permit 으로 제한되므로 큐가 가득 차는 일은 없다.
+        this.executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxConcurrency), new CustomizableThreadFactory("file-upload-"));
+        this.executor.allowCoreThreadTimeOut(true);
+        this.globalPermits = new Semaphore(maxConcurrency);
+        this.fanOutLimit = fanOutLimit;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> List<String> uploadAll(List<T> sources, String type, Function<T, String> uploader, Consumer<String> remover) {
+        if (sources.isEmpty())
+            return new ArrayList<>();
+        Timer.Sample batchSample = Timer.start(meterRegistry);
+        Semaphore requestPermits = new Semaphore(fanOutLimit);
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<String>> futures = new ArrayList<>(sources.size());
+        for (T source : sources) {
+            if (failed.get() || !acquireRequestPermit(requestPermits))
+                break;
+            if (failed.get() || !acquire(globalPermits)) {
+                requestPermits.release();
+                break;
+            }
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> upload(source, type, uploader), executor)
+                        .whenComplete((key, e) -> {
+                            if (e != null)
+                                failed.set(true);
+                            globalPermits.release();
+                            requestPermits.release();
+                        }));
+            } catch (RejectedExecutionException e) {
+                globalPermits.release();
+                requestPermits.release();
+                break;
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+        if (failed.get() || futures.size() < sources.size()) {
+            rollback(futures, type, remover);
+            batchSample.stop(timer(BATCH_TIMER, type, "failure"));
+            throw new FileException(FILE_UPLOAD_FAILED);
+        }
+        batchSample.stop(timer(BATCH_TIMER, type, "success"));
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+    }
+
+    private <T> String upload(T source, String type, Function<T, String> uploader) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            String key = uploader.apply(source);
+            sample.stop(timer(UPLOAD_TIMER, type, "success"));
+            return key;
+        } catch (RuntimeException e) {
+            sample.stop(timer(UPLOAD_TIMER, type, "failure"));
+            throw e;
+        }
+    }
+
+    // 요청 permit 은 이 요청의 업로드가 끝나면 반드시 반환되므로 시간 제한 없이 기다린다.
+    private boolean acquireRequestPermit(Semaphore requestPermits) {
+        try {
+            requestPermits.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean acquire(Semaphore permits) {
+        try {
+            return permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void rollback(List<CompletableFuture<String>> futures, String type, Consumer<String> remover) {
+        List<String> uploadedKeys = futures.stream()
+                .filter(future -> !future.isCompletedExceptionally())
+                .map(CompletableFuture::join)
+                .toList();
+        log.warn("Class : {}, Method : {}, Type : {}, RollbackKeys : {}", this.getClass().getName(), "uploadAll",
+                type, uploadedKeys);
+        uploadedKeys.forEach(key -> {
+            try {
+                remover.accept(key);
+            } catch (RuntimeException e) {
+                log.error("Class : {}, Method : {}, Key : {}", this.getClass().getName(), "rollback", key, e);
+            }
+        });
+    }
+
+    private Timer timer(String name, String type, String result) {
+        return Timer.builder(name)
+                .tag("type", type)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,62 @@
+package com.ppp.common.client;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+class PendingCounters {
+    private final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private Map<String, LongAdder> retiredCounters = new HashMap<>();
+
+    void add(String key, long delta) {
+        counters.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+    }
+
+    long get(String key) {
+        LongAdder counter = counters.get(key);
+        return counter == null ? 0L : counter.sum();
+    }
+
+    boolean isEmpty() {
+        return counters.isEmpty() && retiredCounters.isEmpty();
+    }
+
+    synchronized Map<String, Long> drain() {
+        Map<String, Long> drained = new HashMap<>();
+        retiredCounters.forEach((key, counter) -> {
+            long late = counter.sumThenReset();
+            if (late != 0)
+                drained.merge(key, late, Long::sum);
+        });
+        counters.forEach((key, counter) -> {
+            long delta = counter.sumThenReset();
+            if (delta != 0)
+                drained.merge(key, delta, Long::sum);
+        });
+        retireIdleCounters(drained.keySet());
+        return drained;
+    }
+
+    synchronized void compact() {
+        retiredCounters.forEach((key, counter) -> {
+            long late = counter.sumThenReset();
+            if (late != 0)
+                add(key, late);
+        });
+        retireIdleCounters(Collections.emptySet());
+    }
+
+    // 제거 직전에 카운터를 가져간 스레드의 늦은 증감은 다음 주기에 회수한다.
+    private void retireIdleCounters(Set<String> activeKeys) {
+        Map<String, LongAdder> retiring = new HashMap<>();
+        counters.forEach((key, counter) -> {
+            if (!activeKeys.contains(key) && counter.sum() == 0 && counters.remove(key, counter))
+                retiring.put(key, counter);
+        });
+        retiredCounters = retiring;
+    }
+}
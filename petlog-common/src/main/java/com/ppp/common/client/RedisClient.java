@@ -2,16 +2,72 @@ package com.ppp.common.client;
 
 import com.ppp.domain.common.constant.Domain;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class RedisClient {
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOGGLE_VALUE_IN_SET_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+                redis.call('SREM', KEYS[1], ARGV[1])
+                return {0, redis.call('SCARD', KEYS[1])}
+            end
+            redis.call('SADD', KEYS[1], ARGV[1])
+            return {1, redis.call('SCARD', KEYS[1])}
+            """, List.class);
+    private static final RedisScript<String> MOVE_VALUE_WITH_LEASE_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('LMOVE', KEYS[1], KEYS[2], 'RIGHT', 'LEFT')
+            if value then
+                redis.call('SET', ARGV[1] .. value, ARGV[2], 'PX', ARGV[3])
+            end
+            return value
+            """, String.class);
+    private static final RedisScript<Long> DELETE_VALUE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+    private static final RedisScript<Long> MOVE_VALUES_TO_SET_IF_EXISTS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            for i = 1, #ARGV, 5000 do
+                redis.call('SADD', KEYS[2], unpack(ARGV, i, math.min(i + 4999, #ARGV)))
+            end
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+    // 존재 확인과 추가를 한 번에 처리해 그 사이에 만료된 타임라인이 새 항목만으로 다시 만들어지지 않게 한다.
+    private static final RedisScript<Long> ADD_VALUE_TO_EXISTING_SORTED_SETS_SCRIPT = new DefaultRedisScript<>("""
+            local added = 0
+            for i = 1, #KEYS do
+                if redis.call('EXISTS', KEYS[i]) == 1 then
+                    redis.call('ZADD', KEYS[i], ARGV[2], ARGV[1])
+                    redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -(tonumber(ARGV[3]) + 1))
+                    added = added + 1
+                end
+            end
+            return added
+            """, Long.class);
+    private static final int SCRIPT_KEY_BATCH_SIZE = 500;
+
     private final RedisTemplate<String, String> redisTemplate;
 
     public void addValue(Domain domain, String key, String value) {
@@ -73,7 +129,7 @@ public class RedisClient {
 
 
     public void removeKeyToSet(Domain domain, String key) {
-        redisTemplate.opsForSet().pop(domain.name() + key);
+        redisTemplate.unlink(domain.name() + key);
     }
 
     public void addValueToSet(Domain domain, Long key, String value) {
@@ -85,6 +141,12 @@ public class RedisClient {
         redisTemplate.opsForSet().remove(domain.name() + key, value);
     }
 
+    public void addValuesToSet(Domain domain, Long key, List<String> values) {
+        if (values.isEmpty())
+            return;
+        redisTemplate.opsForSet().add(domain.name() + key, values.toArray(String[]::new));
+    }
+
     public Set<String> getSet(Domain domain, Long key) {
         return redisTemplate.opsForSet().members(domain.name() + key);
     }
@@ -97,8 +159,24 @@ public class RedisClient {
         return redisTemplate.opsForSet().size(domain.name() + key);
     }
 
+    public SetToggleResult toggleValueInSet(Domain domain, Long key, String value) {
+        List<?> result = redisTemplate.execute(TOGGLE_VALUE_IN_SET_SCRIPT, List.of(domain.name() + key), value);
+        return SetToggleResult.of(((Number) result.get(0)).longValue() == 1, ((Number) result.get(1)).longValue());
+    }
+
+    // 원본 키가 남아 있을 때만 옮기고 지우므로 여러 곳에서 동시에 옮겨도 이후의 변경을 덮어쓰지 않는다.
+    public boolean moveValuesToSetIfExists(Domain sourceDomain, Long key, Domain targetDomain, List<String> values) {
+        Long moved = redisTemplate.execute(MOVE_VALUES_TO_SET_IF_EXISTS_SCRIPT,
+                List.of(sourceDomain.name() + key, targetDomain.name() + key), values.toArray());
+        return moved != null && moved > 0;
+    }
+
     public void removeKeyToSet(Domain domain, Long key) {
-        redisTemplate.opsForSet().pop(domain.name() + key);
+        redisTemplate.unlink(domain.name() + key);
+    }
+
+    public boolean setValueIfAbsent(Domain domain, String key, String value, Duration duration) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(domain.name() + key, value, duration));
     }
 
     public void setValues(String key, String data, Duration duration) {
@@ -112,4 +190,157 @@ public class RedisClient {
     public void deleteValues(String key) {
         redisTemplate.delete(key);
     }
+
+    public boolean hasKey(Domain domain, String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(domain.name() + key));
+    }
+
+    public void deleteKey(Domain domain, String key) {
+        redisTemplate.delete(domain.name() + key);
+    }
+
+    public boolean deleteValueIfEquals(Domain domain, String key, String value) {
+        Long deleted = redisTemplate.execute(DELETE_VALUE_IF_EQUALS_SCRIPT, List.of(domain.name() + key), value);
+        return deleted != null && deleted > 0;
+    }
+
+    public void expire(Domain domain, String key, Duration duration) {
+        redisTemplate.expire(domain.name() + key, duration);
+    }
+
+    public Set<String> getSet(Domain domain, String key) {
+        return redisTemplate.opsForSet().members(domain.name() + key);
+    }
+
+    public Optional<String> getValueFromHash(Domain domain, String key, String field) {
+        HashOperations<String, String, String> operations = redisTemplate.opsForHash();
+        return Optional.ofNullable(operations.get(domain.name() + key, field));
+    }
+
+    public void putValueToHash(Domain domain, String key, String field, String value) {
+        redisTemplate.opsForHash().put(domain.name() + key, field, value);
+    }
+
+    public void deleteValueFromHash(Domain domain, String key, String field) {
+        redisTemplate.opsForHash().delete(domain.name() + key, field);
+    }
+
+    public void setValue(Domain domain, String key, String value, Duration duration) {
+        redisTemplate.opsForValue().set(domain.name() + key, value, duration);
+    }
+
+    public void pushValueToList(Domain domain, String key, String value) {
+        redisTemplate.opsForList().leftPush(domain.name() + key, value);
+    }
+
+    // 꺼낸 값을 키로 하는 임대 값을 같은 스크립트에서 설정해 옮긴 직후의 빈틈을 없앤다.
+    public Optional<String> moveValueBetweenListsWithLease(Domain domain, String sourceKey, String destinationKey,
+                                                           Domain leaseDomain, String leaseValue, Duration leaseDuration) {
+        return Optional.ofNullable(redisTemplate.execute(MOVE_VALUE_WITH_LEASE_SCRIPT,
+                List.of(domain.name() + sourceKey, domain.name() + destinationKey),
+                leaseDomain.name(), leaseValue, String.valueOf(leaseDuration.toMillis())));
+    }
+
+    public boolean removeValueFromList(Domain domain, String key, String value) {
+        Long removed = redisTemplate.opsForList().remove(domain.name() + key, 1, value);
+        return removed != null && removed > 0;
+    }
+
+    public List<String> getValuesFromList(Domain domain, String key) {
+        return Objects.requireNonNullElseGet(redisTemplate.opsForList().range(domain.name() + key, 0, -1), ArrayList::new);
+    }
+
+    public List<String> getValuesFromHash(Domain domain, String key, List<String> fields) {
+        if (fields.isEmpty())
+            return new ArrayList<>();
+        HashOperations<String, String, String> operations = redisTemplate.opsForHash();
+        return operations.multiGet(domain.name() + key, fields);
+    }
+
+    public void scanKeys(Domain domain, String pattern, int batchSize, Consumer<List<String>> batchConsumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(domain.name() + pattern).count(batchSize).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> keys = new ArrayList<>();
+            while (cursor.hasNext()) {
+                keys.add(cursor.next().substring(domain.name().length()));
+                if (keys.size() >= batchSize) {
+                    batchConsumer.accept(keys);
+                    keys = new ArrayList<>();
+                }
+            }
+            if (!keys.isEmpty())
+                batchConsumer.accept(keys);
+        }
+    }
+
+    public List<String> scanKeys(Domain domain, String pattern) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(domain.name() + pattern).count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> keys.add(key.substring(domain.name().length())));
+        }
+        return keys;
+    }
+
+    public void addValuesToSortedSet(Domain domain, String key, Map<String, Double> valueScores, Duration duration) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = valueScores.entrySet().stream()
+                .map(entry -> ZSetOperations.TypedTuple.of(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toSet());
+        executeOperationsPipelined(operations -> {
+            operations.opsForZSet().add(domain.name() + key, tuples);
+            operations.expire(domain.name() + key, duration);
+        });
+    }
+
+    public void addValueToExistingSortedSets(Domain domain, List<String> keys, String value, double score, long maxSize) {
+        for (int from = 0; from < keys.size(); from += SCRIPT_KEY_BATCH_SIZE) {
+            List<String> batchKeys = keys.subList(from, Math.min(from + SCRIPT_KEY_BATCH_SIZE, keys.size())).stream()
+                    .map(key -> domain.name() + key)
+                    .toList();
+            redisTemplate.execute(ADD_VALUE_TO_EXISTING_SORTED_SETS_SCRIPT, batchKeys,
+                    value, String.valueOf(score), String.valueOf(maxSize));
+        }
+    }
+
+    public void removeValueFromSortedSets(Domain domain, List<String> keys, String value) {
+        if (keys.isEmpty())
+            return;
+        executeOperationsPipelined(operations ->
+                keys.forEach(key -> operations.opsForZSet().remove(domain.name() + key, value)));
+    }
+
+    public List<String> getValuesFromSortedSetByScoreDesc(Domain domain, String key, double max, double min, long count) {
+        Set<String> values = redisTemplate.opsForZSet().reverseRangeByScore(domain.name() + key, min, max, 0, count);
+        return values == null ? new ArrayList<>() : new ArrayList<>(values);
+    }
+
+    public List<String> getValuesFromSortedSetByRankDesc(Domain domain, String key, long start, long end) {
+        Set<String> values = redisTemplate.opsForZSet().reverseRange(domain.name() + key, start, end);
+        return values == null ? new ArrayList<>() : new ArrayList<>(values);
+    }
+
+    public void removeValuesFromSortedSet(Domain domain, String key, List<String> values) {
+        if (values.isEmpty())
+            return;
+        redisTemplate.opsForZSet().remove(domain.name() + key, values.toArray());
+    }
+
+    public <T> T executeScript(RedisScript<T> script, Domain domain, List<String> keys, String... args) {
+        return redisTemplate.execute(script, keys.stream().map(key -> domain.name() + key).toList(), (Object[]) args);
+    }
+
+    public List<Object> executePipelined(Consumer<RedisPipeline> commands) {
+        return executeOperationsPipelined(operations -> commands.accept(new RedisPipeline(operations)));
+    }
+
+    private List<Object> executeOperationsPipelined(Consumer<RedisOperations<String, String>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
 }
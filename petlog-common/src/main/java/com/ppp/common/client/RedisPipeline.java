@@ -0,0 +1,69 @@
+package com.ppp.common.client;
+
+import com.ppp.domain.common.constant.Domain;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+
+import java.time.Duration;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class RedisPipeline {
+    private final RedisOperations<String, String> operations;
+
+    public void getValue(Domain domain, Long key) {
+        operations.opsForValue().get(domain.name() + key);
+    }
+
+    public void setValue(Domain domain, Long key, String value) {
+        operations.opsForValue().set(domain.name() + key, value);
+    }
+
+    public void getSet(Domain domain, Long key) {
+        operations.opsForSet().members(domain.name() + key);
+    }
+
+    public void addValuesToSet(Domain domain, Long key, List<String> values) {
+        operations.opsForSet().add(domain.name() + key, values.toArray(String[]::new));
+    }
+
+    public void isValueExistInSet(Domain domain, Long key, String value) {
+        operations.opsForSet().isMember(domain.name() + key, value);
+    }
+
+    public void hasKey(Domain domain, Long key) {
+        operations.hasKey(domain.name() + key);
+    }
+
+    public void getSizeOfSet(Domain domain, Long key) {
+        operations.opsForSet().size(domain.name() + key);
+    }
+
+    public void getBit(Domain domain, String key, long offset) {
+        operations.opsForValue().getBit(domain.name() + key, offset);
+    }
+
+    public void setBit(Domain domain, String key, long offset) {
+        operations.opsForValue().setBit(domain.name() + key, offset, true);
+    }
+
+    public void expire(Domain domain, String key, Duration duration) {
+        operations.expire(domain.name() + key, duration);
+    }
+
+    public void unlink(Domain domain, List<Long> keys) {
+        operations.unlink(keys.stream().map(key -> domain.name() + key).toList());
+    }
+
+    public void incrementValue(String key, long delta) {
+        operations.opsForValue().increment(key, delta);
+    }
+
+    public void addValueToSet(String key, String value) {
+        operations.opsForSet().add(key, value);
+    }
+
+    public void removeValueToSet(String key, String value) {
+        operations.opsForSet().remove(key, value);
+    }
+}
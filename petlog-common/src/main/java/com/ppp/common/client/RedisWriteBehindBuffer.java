@@ -0,0 +1,190 @@
+package com.ppp.common.client;
+
+import com.ppp.domain.common.constant.Domain;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisWriteBehindBuffer {
+    private static final int MEMBER_LOCK_STRIPES = 64;
+    private static final int KNOWN_MEMBER_LIMIT = 100_000;
+
+    private final RedisClient redisClient;
+    private final PendingCounters counterDeltas = new PendingCounters();
+    private final PendingCounters setSizeDeltas = new PendingCounters();
+    private final ConcurrentMap<SetMember, PendingMembership> pendingSetMembers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<SetMember, Boolean> knownSetMembers = new ConcurrentHashMap<>();
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private final Object[] memberLocks = createMemberLocks();
+    private ThreadPoolTaskScheduler flushScheduler;
+    @Getter
+    @Value("${redis.write-behind.enabled:false}")
+    private boolean enabled;
+    @Value("${redis.write-behind.flush-interval-ms:200}")
+    private long flushIntervalMillis;
+
+    private record SetMember(String key, String value) {
+    }
+
+    // isCounted 는 반영 전 멤버십을 알고 있어 크기 증감을 미리 남겼는지 여부다.
+    private record PendingMembership(boolean isMember, boolean isCounted) {
+    }
+
+    public void incrementValue(Domain domain, Long key, long delta) {
+        counterDeltas.add(domain.name() + key, delta);
+    }
+
+    public long getPendingDelta(Domain domain, Long key) {
+        return counterDeltas.get(domain.name() + key);
+    }
+
+    private static Object[] createMemberLocks() {
+        Object[] locks = new Object[MEMBER_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++)
+            locks[i] = new Object();
+        return locks;
+    }
+
+    public boolean toggleValueInSet(Domain domain, Long key, String value) {
+        return changeSetMembership(domain, key, value, null);
+    }
+
+    public void addValueToSet(Domain domain, Long key, String value) {
+        changeSetMembership(domain, key, value, true);
+    }
+
+    public void removeValueToSet(Domain domain, Long key, String value) {
+        changeSetMembership(domain, key, value, false);
+    }
+
+    // 조회 경로에서 이미 확인한 멤버십을 기억해 두고 토글시 SISMEMBER 없이 판단한다.
+    public void recordMembership(Domain domain, Long key, String value, boolean isMember) {
+        SetMember setMember = new SetMember(domain.name() + key, value);
+        if (!enabled || pendingSetMembers.containsKey(setMember))
+            return;
+        if (knownSetMembers.size() >= KNOWN_MEMBER_LIMIT)
+            knownSetMembers.clear();
+        knownSetMembers.put(setMember, isMember);
+    }
+
+    // 멤버십은 대기 중인 변경, 이 서버가 알고 있는 상태 순으로 판단하고 추가, 취소 요청은 Redis 를 조회하지 않는다.
+    // 기준 상태를 모르는 변경은 크기 증감 없이 남겨 두고 flush 후 SCARD 로 맞춘다.
+    private boolean changeSetMembership(Domain domain, Long key, String value, Boolean requested) {
+        SetMember setMember = new SetMember(domain.name() + key, value);
+        flushLock.readLock().lock();
+        try {
+            synchronized (memberLocks[Math.floorMod(setMember.hashCode(), memberLocks.length)]) {
+                PendingMembership pending = pendingSetMembers.get(setMember);
+                Boolean isMember = pending != null ? Boolean.valueOf(pending.isMember()) : knownSetMembers.get(setMember);
+                if (isMember == null && requested == null) {
+                    isMember = redisClient.isValueExistInSet(domain, key, value);
+                    knownSetMembers.put(setMember, isMember);
+                }
+                boolean isAdded = requested != null ? requested : !isMember;
+                if (isMember != null && isAdded == isMember)
+                    return isAdded;
+                if (pending != null && pending.isCounted()) {
+                    pendingSetMembers.remove(setMember);
+                    setSizeDeltas.add(setMember.key(), isAdded ? 1 : -1);
+                } else if (pending != null || isMember == null) {
+                    pendingSetMembers.put(setMember, new PendingMembership(isAdded, false));
+                } else {
+                    pendingSetMembers.put(setMember, new PendingMembership(isAdded, true));
+                    setSizeDeltas.add(setMember.key(), isAdded ? 1 : -1);
+                }
+                return isAdded;
+            }
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    public Optional<Boolean> getPendingMembership(Domain domain, Long key, String value) {
+        return Optional.ofNullable(pendingSetMembers.get(new SetMember(domain.name() + key, value)))
+                .map(PendingMembership::isMember);
+    }
+
+    public long getPendingSizeDelta(Domain domain, Long key) {
+        return setSizeDeltas.get(domain.name() + key);
+    }
+
+    // 다른 배치 작업이 기본 스케줄러 스레드를 오래 잡고 있어도 반영이 밀리지 않도록 전용 스레드에서 flush 한다.
+    @PostConstruct
+    public void start() {
+        if (!enabled)
+            return;
+        flushScheduler = new ThreadPoolTaskScheduler();
+        flushScheduler.setPoolSize(1);
+        flushScheduler.setThreadNamePrefix("redis-write-behind-");
+        flushScheduler.initialize();
+        flushScheduler.scheduleWithFixedDelay(this::flush, Duration.ofMillis(flushIntervalMillis));
+    }
+
+    public void flush() {
+        if (!enabled)
+            return;
+        flushLock.writeLock().lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    private void flushPending() {
+        Map<String, Long> deltas = counterDeltas.drain();
+        List<Map.Entry<SetMember, PendingMembership>> setChanges = new ArrayList<>();
+        pendingSetMembers.forEach((setMember, isAdded) -> setChanges.add(Map.entry(setMember, isAdded)));
+        pendingSetMembers.clear();
+        if (deltas.isEmpty() && setChanges.isEmpty()) {
+            setSizeDeltas.compact();
+            return;
+        }
+        try {
+            redisClient.executePipelined(pipeline -> {
+                deltas.forEach(pipeline::incrementValue);
+                setChanges.forEach(change -> {
+                    if (change.getValue().isMember())
+                        pipeline.addValueToSet(change.getKey().key(), change.getKey().value());
+                    else
+                        pipeline.removeValueToSet(change.getKey().key(), change.getKey().value());
+                });
+            });
+            setChanges.forEach(change -> {
+                knownSetMembers.put(change.getKey(), change.getValue().isMember());
+                if (change.getValue().isCounted())
+                    setSizeDeltas.add(change.getKey().key(), change.getValue().isMember() ? -1 : 1);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Class : {}, Method : {}, Message : {}", this.getClass().getName(), "flush", e.getMessage());
+            deltas.forEach(counterDeltas::add);
+            setChanges.forEach(change -> pendingSetMembers.put(change.getKey(), change.getValue()));
+        }
+        setSizeDeltas.compact();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (flushScheduler != null)
+            flushScheduler.shutdown();
+        flush();
+    }
+}
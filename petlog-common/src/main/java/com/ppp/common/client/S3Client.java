@@ -1,55 +1,190 @@
 package com.ppp.common.client;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.ppp.common.exception.FileException;
 import com.ppp.common.util.FilePathUtil;
 import com.ppp.domain.common.constant.Domain;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
 import static com.ppp.common.exception.ErrorCode.FILE_UPLOAD_FAILED;
 
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class S3Client implements FileStorageClient {
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
     private final AmazonS3 amazonS3;
+    private final long multipartThreshold;
+    private final int partSize;
+    private final Semaphore partPermits;
+    private final ExecutorService partUploader;
+
+    public S3Client(AmazonS3 amazonS3,
+                    @Value("${cloud.aws.s3.multipart.threshold:16MB}") DataSize multipartThreshold,
+                    @Value("${cloud.aws.s3.multipart.part-size:8MB}") DataSize partSize,
+                    @Value("${cloud.aws.s3.multipart.max-concurrency:8}") int maxConcurrency) {
+        this.amazonS3 = amazonS3;
+        this.multipartThreshold = multipartThreshold.toBytes();
+        this.partSize = Math.toIntExact(partSize.toBytes());
+        // 메모리에 올라가는 파트 수를 서버 전체에서 제한해 동시 업로드가 몰려도 힙 사용량이 일정하다.
+        this.partPermits = new Semaphore(maxConcurrency);
+        this.partUploader = Executors.newFixedThreadPool(maxConcurrency, new CustomizableThreadFactory("s3-part-upload-"));
+    }
 
     @Override
     public String upload(MultipartFile multipartFile, Domain domain) {
-        String fileName = FilePathUtil.getFileNameAndExtension(Objects.requireNonNull(multipartFile.getOriginalFilename()));
-        String filePath = FilePathUtil.createFilePath(domain);
-        try {
-            File file = File.createTempFile("file", fileName);
-            multipartFile.transferTo(file);
-            amazonS3.putObject(new PutObjectRequest(bucket, filePath + fileName, file));
+        String originalFilename = Objects.requireNonNull(multipartFile.getOriginalFilename());
+        String key = FilePathUtil.createFilePath(domain) + FilePathUtil.getFileNameAndExtension(originalFilename);
+        String contentType = Objects.requireNonNullElseGet(multipartFile.getContentType(),
+                () -> getContentType(originalFilename));
+        try (InputStream input = multipartFile.getInputStream()) {
+            upload(key, input, multipartFile.getSize(), contentType);
         } catch (IOException e) {
             throw new FileException(FILE_UPLOAD_FAILED);
         }
-        return filePath + fileName;
+        return key;
     }
 
     @Override
     public String upload(File file, Domain domain) {
-        String fileName = FilePathUtil.getFileNameAndExtension(file.getName());
-        String filePath = FilePathUtil.createFilePath(domain);
-        amazonS3.putObject(new PutObjectRequest(bucket, filePath + fileName, file));
-        return filePath + fileName;
+        String key = FilePathUtil.createFilePath(domain) + FilePathUtil.getFileNameAndExtension(file.getName());
+        try (InputStream input = Files.newInputStream(file.toPath())) {
+            upload(key, input, file.length(), getContentType(file.getName()));
+        } catch (IOException e) {
+            throw new FileException(FILE_UPLOAD_FAILED);
+        }
+        return key;
+    }
+
+    @Override
+    public String upload(byte[] bytes, String fileName, Domain domain) {
+        String key = FilePathUtil.createFilePath(domain) + FilePathUtil.getFileNameAndExtension(fileName);
+        upload(key, new ByteArrayInputStream(bytes), bytes.length, getContentType(fileName));
+        return key;
+    }
+
+    private String getContentType(String fileName) {
+        return MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+    }
+
+    // 입력 스트림을 로컬 디스크에 남기지 않고 바로 보내며, 큰 파일은 파트로 나눠 병렬로 올린다.
+    private void upload(String key, InputStream input, long contentLength, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        if (contentLength <= multipartThreshold) {
+            metadata.setContentLength(contentLength);
+            amazonS3.putObject(new PutObjectRequest(bucket, key, input, metadata));
+            return;
+        }
+        uploadParts(key, input, contentLength, metadata);
+    }
+
+    private void uploadParts(String key, InputStream input, long contentLength, ObjectMetadata metadata) {
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata))
+                .getUploadId();
+        List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+        try {
+            long remaining = contentLength;
+            for (int partNumber = 1; remaining > 0; partNumber++) {
+                if (parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally))
+                    throw new IOException("part upload failed");
+                // 파트를 메모리로 읽기 전에 permit 을 잡아야 대기 중인 업로드가 제한 밖의 버퍼를 들고 있지 않는다.
+                partPermits.acquire();
+                byte[] part;
+                try {
+                    part = input.readNBytes((int) Math.min(partSize, remaining));
+                    if (part.length == 0)
+                        throw new IOException("unexpected end of stream");
+                } catch (IOException | RuntimeException e) {
+                    partPermits.release();
+                    throw e;
+                }
+                remaining -= part.length;
+                parts.add(submitPart(key, uploadId, partNumber, part));
+            }
+            List<PartETag> partETags = new ArrayList<>(parts.size());
+            for (CompletableFuture<PartETag> part : parts)
+                partETags.add(part.get());
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+        } catch (IOException | ExecutionException | InterruptedException | RuntimeException e) {
+            if (e instanceof InterruptedException)
+                Thread.currentThread().interrupt();
+            log.error("Class : {}, Method : {}, Key : {}, Message : {}", this.getClass().getName(), "uploadParts",
+                    key, e.getMessage());
+            parts.forEach(part -> part.cancel(true));
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+            throw new FileException(FILE_UPLOAD_FAILED);
+        }
+    }
+
+    // 취소해도 이미 시작한 uploadPart 는 멈추지 않으므로 permit 은 작업 스레드가 실제로 끝날 때 반납하고,
+    // 시작 전에 취소된 파트는 전송하지 않고 바로 반납한다.
+    private CompletableFuture<PartETag> submitPart(String key, String uploadId, int partNumber, byte[] part) {
+        CompletableFuture<PartETag> future = new CompletableFuture<>();
+        try {
+            partUploader.execute(() -> {
+                try {
+                    if (!future.isDone())
+                        future.complete(amazonS3.uploadPart(new UploadPartRequest()
+                                .withBucketName(bucket)
+                                .withKey(key)
+                                .withUploadId(uploadId)
+                                .withPartNumber(partNumber)
+                                .withPartSize(part.length)
+                                .withInputStream(new ByteArrayInputStream(part))).getPartETag());
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    partPermits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            partPermits.release();
+            throw e;
+        }
+        return future;
     }
 
     @Override
     public void delete(String filePath) {
         amazonS3.deleteObject(new DeleteObjectRequest(bucket, filePath));
     }
+
+    @PreDestroy
+    public void shutdown() {
+        partUploader.shutdownNow();
+    }
 }
@@ -0,0 +1,7 @@
+package com.ppp.common.client;
+
+public record SetToggleResult(boolean isAdded, long size) {
+    public static SetToggleResult of(boolean isAdded, long size) {
+        return new SetToggleResult(isAdded, size);
+    }
+}
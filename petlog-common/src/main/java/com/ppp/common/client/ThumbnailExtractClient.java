@@ -7,4 +7,6 @@ import java.io.File;
 
 public interface ThumbnailExtractClient {
     File extractThumbnail(File input, FileType type) throws FileException;
+
+    File extractVideoFrame(File video) throws FileException;
 }
@@ -0,0 +1,54 @@
+package com.ppp.common.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+class TranscodeStatistics {
+    private static final double SMOOTHING_FACTOR = 0.2;
+
+    private final LongAdder skippedCount = new LongAdder();
+    private final LongAdder encodedCount = new LongAdder();
+    private final DoubleAdder savedSeconds = new DoubleAdder();
+    private final AtomicLong encodeRatioBits = new AtomicLong(Double.doubleToLongBits(1.0));
+
+    // 실제 인코딩에 걸린 시간을 영상 길이 대비 비율로 누적해 두고, 건너뛴 영상은 그 비율로 아낀 시간을 추정한다.
+    void record(boolean isCopied, double mediaSeconds, double elapsedSeconds) {
+        if (isCopied) {
+            skippedCount.increment();
+            savedSeconds.add(Math.max(0, mediaSeconds * getEncodeRatio() - elapsedSeconds));
+            return;
+        }
+        encodedCount.increment();
+        if (mediaSeconds <= 0)
+            return;
+        double ratio = elapsedSeconds / mediaSeconds;
+        encodeRatioBits.updateAndGet(bits -> Double.doubleToLongBits(
+                Double.longBitsToDouble(bits) * (1 - SMOOTHING_FACTOR) + ratio * SMOOTHING_FACTOR));
+    }
+
+    double getEncodeRatio() {
+        return Double.longBitsToDouble(encodeRatioBits.get());
+    }
+
+    long getSkippedCount() {
+        return skippedCount.sum();
+    }
+
+    double getSavedSeconds() {
+        return savedSeconds.sum();
+    }
+
+    void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("video.transcode.skipped", skippedCount, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("video.transcode.encoded", encodedCount, LongAdder::sum)
+                .register(registry);
+        FunctionCounter.builder("video.transcode.saved.seconds", savedSeconds, DoubleAdder::sum)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+}
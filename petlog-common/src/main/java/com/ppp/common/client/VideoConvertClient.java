@@ -8,11 +8,13 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.function.IntConsumer;
 
 import static com.ppp.common.exception.ErrorCode.FILE_CLEAN_JOB_FAILED;
 
@@ -22,7 +24,21 @@ public interface VideoConvertClient {
     String DEFAULT_PATH = "temp/encoded";
     DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyyMMddHH");
 
-    String compress(MultipartFile file, VideoCompressType compressType);
+    long MAX_INPUT_SIZE = 100L * 1024 * 1024;
+    double MAX_DURATION_SECONDS = 5 * 60;
+    int MAX_RESOLUTION = 3840;
+
+    Path store(MultipartFile file);
+
+    Path store(InputStream input, String fileName);
+
+    VideoMetadata probe(Path sourcePath);
+
+    String compress(Path sourcePath, VideoCompressType compressType, IntConsumer progressListener);
+
+    default void delete(Path path) {
+        FileUtils.deleteQuietly(path.toFile());
+    }
 
     default void deleteTempVideoCreatedBefore(int hour) {
         try {
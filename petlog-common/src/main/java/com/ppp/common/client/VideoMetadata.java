@@ -0,0 +1,69 @@
+package com.ppp.common.client;
+
+import com.ppp.domain.common.constant.VideoCompressType;
+import net.bramp.ffmpeg.probe.FFmpegProbeResult;
+import net.bramp.ffmpeg.probe.FFmpegStream;
+import net.bramp.ffmpeg.shared.CodecType;
+
+import java.util.Optional;
+
+public record VideoMetadata(String videoCodec, String audioCodec, int width, int height, long bitRate, double durationSeconds) {
+    private static final String COPYABLE_VIDEO_CODEC = "h264";
+    private static final String COPYABLE_AUDIO_CODEC = "aac";
+    private static final int LARGE_INPUT_SIDE = 1920;
+    private static final int MEDIUM_INPUT_SIDE = 1280;
+    private static final double LONG_INPUT_SECONDS = 120;
+
+    public static VideoMetadata from(FFmpegProbeResult probeResult) {
+        Optional<FFmpegStream> videoStream = findStream(probeResult, CodecType.VIDEO);
+        Optional<FFmpegStream> audioStream = findStream(probeResult, CodecType.AUDIO);
+        long bitRate = videoStream.map(stream -> stream.bit_rate)
+                .filter(streamBitRate -> streamBitRate > 0)
+                .orElse(probeResult.getFormat().bit_rate);
+        return new VideoMetadata(
+                videoStream.map(stream -> stream.codec_name).orElse(null),
+                audioStream.map(stream -> stream.codec_name).orElse(null),
+                videoStream.map(stream -> stream.width).orElse(0),
+                videoStream.map(stream -> stream.height).orElse(0),
+                bitRate,
+                probeResult.getFormat().duration);
+    }
+
+    private static Optional<FFmpegStream> findStream(FFmpegProbeResult probeResult, CodecType codecType) {
+        return probeResult.getStreams().stream()
+                .filter(stream -> stream.codec_type == codecType)
+                .findFirst();
+    }
+
+    public boolean hasVideo() {
+        return videoCodec != null && width > 0 && height > 0;
+    }
+
+    public boolean isDurationExceeded() {
+        return durationSeconds > VideoConvertClient.MAX_DURATION_SECONDS;
+    }
+
+    public boolean isResolutionExceeded() {
+        return Math.max(width, height) > VideoConvertClient.MAX_RESOLUTION;
+    }
+
+    // 이미 목표 해상도, 비트레이트 이하인 h264 영상은 다시 인코딩하지 않고 컨테이너만 바꾼다.
+    public boolean canCopy(VideoCompressType compressType) {
+        return COPYABLE_VIDEO_CODEC.equals(videoCodec)
+                && Math.min(width, height) <= compressType.getResolution()
+                && bitRate > 0 && bitRate <= compressType.getMaxBitRate();
+    }
+
+    public boolean canCopyAudio() {
+        return audioCodec == null || COPYABLE_AUDIO_CODEC.equals(audioCodec);
+    }
+
+    public String selectPreset() {
+        int longSide = Math.max(width, height);
+        if (longSide >= LARGE_INPUT_SIDE || durationSeconds >= LONG_INPUT_SECONDS)
+            return "veryfast";
+        if (longSide >= MEDIUM_INPUT_SIDE)
+            return "faster";
+        return "medium";
+    }
+}
@@ -60,7 +60,7 @@ public class SecurityConfig {
                 .formLogin(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers(WHITE_LIST_URL).permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/v1/diaries/feed").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/diaries/feed", "/api/v1/diaries/feed/sample", "/api/v1/diaries/feed/trending").permitAll()
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(configurer -> {
@@ -12,6 +12,8 @@ public enum ErrorCode {
     FILE_CLEAN_JOB_FAILED(HttpStatus.BAD_REQUEST, "FILE-0002", "파일 삭제에 실패했습니다."),
     EXTRACT_THUMBNAIL_FAILED(HttpStatus.BAD_REQUEST, "FILE-0003", "썸네일 추출에 실패했습니다."),
     THUMBNAIL_UPLOAD_FAILED(HttpStatus.BAD_REQUEST, "FILE-0004", "썸네일 업로드에 실패했습니다."),
+    VIDEO_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "FILE-0005", "허용된 동영상 길이 또는 해상도를 초과했습니다."),
+    FILE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "FILE-0006", "파일 용량이 허용 범위를 초과했습니다."),
     NOT_FOUND_TOKEN(HttpStatus.UNAUTHORIZED, "TOKEN-0001", "토큰을 찾을 수 없습니다."),
     REFRESHTOKEN_EXPIRATION(HttpStatus.UNAUTHORIZED, "TOKEN-0002", "리프레시 토큰 만료, 로그인 필요"),
     INVALID_SIGNATURE(HttpStatus.UNAUTHORIZED, "TOKEN-0003", "JWT의 서명이 올바르지 않음"),
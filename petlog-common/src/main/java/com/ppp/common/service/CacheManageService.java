@@ -3,8 +3,12 @@ package com.ppp.common.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -14,8 +18,37 @@ public class CacheManageService {
         log.info("Class : {}, Method : {}, CacheKey : {}", this.getClass(), "deleteCachedPetSpaceAuthority", userId + "," + petId);
     }
 
+    @CachePut(value = "petAuthorityVersion", key = "#a0")
+    public String renewPetAuthorityVersion(String userId) {
+        log.info("Class : {}, Method : {}, CacheKey : {}", this.getClass(), "renewPetAuthorityVersion", userId);
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
     @CacheEvict(value = "subscriptionInfo", key = "#a0")
     public void deleteCachedSubscriptionInfo(String userId) {
         log.info("Class : {}, Method : {}, CacheKey : {}", this.getClass(), "deleteCachedSubscriptionInfo", userId);
     }
+
+    @CacheEvict(value = "guardianRoster", key = "#a0")
+    public void deleteCachedGuardianRoster(Long petId) {
+        log.info("Class : {}, Method : {}, CacheKey : {}", this.getClass(), "deleteCachedGuardianRoster", petId);
+    }
+
+    @CachePut(value = "diaryLikeCount", key = "#a0")
+    public Integer putCachedDiaryLikeCount(Long diaryId, Integer likeCount) {
+        return likeCount;
+    }
+
+    @CachePut(value = "diaryCommentLikeCount", key = "#a0")
+    public Integer putCachedDiaryCommentLikeCount(Long commentId, Integer likeCount) {
+        return likeCount;
+    }
+
+    @Caching(evict = {
+            @CacheEvict(value = "diaryCommentLikeCount", key = "#a0"),
+            @CacheEvict(value = "diaryCommentReCommentCount", key = "#a0")
+    })
+    public void deleteCachedDiaryCommentCounts(Long commentId) {
+        log.info("Class : {}, Method : {}, CacheKey : {}", this.getClass(), "deleteCachedDiaryCommentCounts", commentId);
+    }
 }
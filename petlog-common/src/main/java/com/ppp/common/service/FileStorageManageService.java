@@ -1,6 +1,7 @@
 package com.ppp.common.service;
 
 import com.ppp.common.client.FileStorageClient;
+import com.ppp.common.client.ParallelUploader;
 import com.ppp.common.util.FilePathUtil;
 import com.ppp.domain.common.constant.Domain;
 import com.ppp.domain.video.TempVideo;
@@ -15,33 +16,34 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class FileStorageManageService {
     private final FileStorageClient fileStorageClient;
+    private final ParallelUploader parallelUploader;
     public static final List<String> ALLOW_IMAGE_CODES = List.of(".jpeg", ".png", ".jpg", ".gif", ".svg");
     public static final List<String> ALLOW_VIDEO_CODES = List.of(".mp4");
 
-    public Optional<String> uploadImage(MultipartFile multipartFile, Domain domain) {
+    public static boolean isAllowedImage(MultipartFile multipartFile) {
         Optional<String> maybeExtension = FilePathUtil.getFileExtension(
                 Objects.requireNonNull(multipartFile.getOriginalFilename()));
-        if (maybeExtension.isEmpty() || !ALLOW_IMAGE_CODES.contains(maybeExtension.get().toLowerCase(Locale.ROOT)))
+        return maybeExtension.isPresent() && ALLOW_IMAGE_CODES.contains(maybeExtension.get().toLowerCase(Locale.ROOT));
+    }
+
+    public Optional<String> uploadImage(MultipartFile multipartFile, Domain domain) {
+        if (!isAllowedImage(multipartFile))
             return Optional.empty();
         return Optional.of(fileStorageClient.upload(multipartFile, domain));
     }
 
     public List<String> uploadImages(List<MultipartFile> multipartFiles, Domain domain) {
-        return multipartFiles.stream()
-                .filter(multipartFile -> {
-                    Optional<String> maybeExtension = FilePathUtil.getFileExtension(
-                            Objects.requireNonNull(multipartFile.getOriginalFilename()));
-                    return maybeExtension.isPresent() && ALLOW_IMAGE_CODES.contains(maybeExtension.get().toLowerCase(Locale.ROOT));
-                })
-                .map(multipartFile -> fileStorageClient.upload(multipartFile, domain))
-                .collect(Collectors.toList());
+        List<MultipartFile> images = multipartFiles.stream()
+                .filter(FileStorageManageService::isAllowedImage)
+                .toList();
+        return parallelUploader.uploadAll(images, "image",
+                image -> fileStorageClient.upload(image, domain), fileStorageClient::delete);
     }
 
     public Optional<String> uploadImage(File file, Domain domain) {
@@ -51,6 +53,13 @@ public class FileStorageManageService {
         return Optional.of(fileStorageClient.upload(file, domain));
     }
 
+    public Optional<String> uploadImage(byte[] image, String fileName, Domain domain) {
+        Optional<String> maybeExtension = FilePathUtil.getFileExtension(fileName);
+        if (maybeExtension.isEmpty() || !ALLOW_IMAGE_CODES.contains(maybeExtension.get().toLowerCase(Locale.ROOT)))
+            return Optional.empty();
+        return Optional.of(fileStorageClient.upload(image, fileName, domain));
+    }
+
     public Optional<String> uploadVideo(TempVideo video, Domain domain) {
         File file = Path.of(video.getFilePath()).toFile();
         Optional<String> maybeExtension = FilePathUtil.getFileExtension(file.getName());
@@ -60,13 +69,15 @@ public class FileStorageManageService {
     }
 
     public List<String> uploadVideos(List<TempVideo> videos, Domain domain) {
-        return videos.stream()
+        List<File> files = videos.stream()
                 .filter(video -> {
                     Optional<String> maybeExtension = FilePathUtil.getFileExtension(video.getFilePath());
                     return maybeExtension.isPresent() && ALLOW_VIDEO_CODES.contains(maybeExtension.get());
                 })
-                .map(video -> fileStorageClient.upload(Path.of(video.getFilePath()).toFile(), domain))
-                .collect(Collectors.toList());
+                .map(video -> Path.of(video.getFilePath()).toFile())
+                .toList();
+        return parallelUploader.uploadAll(files, "video",
+                file -> fileStorageClient.upload(file, domain), fileStorageClient::delete);
     }
 
     public void deleteImage(String imagePath) {
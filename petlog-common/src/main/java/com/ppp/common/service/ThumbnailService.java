@@ -3,6 +3,7 @@ package com.ppp.common.service;
 import com.ppp.common.client.ThumbnailExtractClient;
 import com.ppp.common.exception.ErrorCode;
 import com.ppp.common.exception.FileException;
+import com.ppp.common.util.ThumbnailUtil;
 import com.ppp.domain.common.constant.Domain;
 import com.ppp.domain.common.constant.FileType;
 import lombok.RequiredArgsConstructor;
@@ -10,8 +11,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.Optional;
@@ -21,13 +24,44 @@ import java.util.Optional;
 @Slf4j
 @RequiredArgsConstructor
 public class ThumbnailService {
+    private static final String THUMBNAIL_FILE_NAME = "thumbnail" + FileType.IMAGE.getExtension();
     @Value("${storage.uri}")
     private String storageUri;
     private final ThumbnailExtractClient thumbnailExtractClient;
     private final FileStorageManageService fileStorageManageService;
 
+    // 업로드 요청에 담긴 원본으로 바로 썸네일을 만들어 저장소에서 다시 내려받지 않는다.
+    public ThumbnailSource createSource(MultipartFile image) {
+        try (InputStream inputStream = image.getInputStream()) {
+            return ThumbnailSource.ofImage(ThumbnailUtil.resize(inputStream));
+        } catch (IOException e) {
+            throw new FileException(ErrorCode.EXTRACT_THUMBNAIL_FAILED);
+        }
+    }
+
+    public String uploadThumbnail(MultipartFile image, Domain domain) {
+        return uploadThumbnail(createSource(image), domain);
+    }
+
+    public String uploadThumbnail(ThumbnailSource source, Domain domain) {
+        if (source.isImage())
+            return fileStorageManageService.uploadImage(source.image(), THUMBNAIL_FILE_NAME, domain)
+                    .orElseThrow(() -> new FileException(ErrorCode.THUMBNAIL_UPLOAD_FAILED));
+        File thumbnailFile = thumbnailExtractClient.extractVideoFrame(new File(source.videoPath()));
+        try {
+            return fileStorageManageService.uploadImage(thumbnailFile, domain)
+                    .orElseThrow(() -> new FileException(ErrorCode.THUMBNAIL_UPLOAD_FAILED));
+        } finally {
+            FileUtils.deleteQuietly(thumbnailFile);
+        }
+    }
 
     public String uploadThumbnailFromStorageFile(String path, FileType type, Domain domain) throws Exception {
+        if (FileType.IMAGE.equals(type)) {
+            try (InputStream inputStream = new URL(storageUri + path).openStream()) {
+                return uploadThumbnail(ThumbnailSource.ofImage(ThumbnailUtil.resize(inputStream)), domain);
+            }
+        }
         File input = File.createTempFile("temp", type.getExtension());
         InputStream inputStream = new URL(storageUri + path).openStream();
         FileUtils.copyInputStreamToFile(inputStream, input);
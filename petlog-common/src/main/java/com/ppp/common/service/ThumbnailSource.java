@@ -0,0 +1,15 @@
+package com.ppp.common.service;
+
+public record ThumbnailSource(byte[] image, String videoPath) {
+    public static ThumbnailSource ofImage(byte[] image) {
+        return new ThumbnailSource(image, null);
+    }
+
+    public static ThumbnailSource ofVideo(String videoPath) {
+        return new ThumbnailSource(null, videoPath);
+    }
+
+    public boolean isImage() {
+        return image != null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ppp.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public class CursorUtil {
+    private static final String DELIMITER = "|";
+
+    public static String encode(Object... values) {
+        String joined = Arrays.stream(values)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Optional<String[]> decode(String cursor, int expectedSize) {
+        if (isEmpty(cursor))
+            return Optional.empty();
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split("\\" + DELIMITER, -1);
+            if (values.length != expectedSize || Arrays.stream(values).anyMatch(String::isEmpty))
+                return Optional.empty();
+            return Optional.of(values);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static Optional<Long> decodeLong(String cursor) {
+        return decode(cursor, 1).flatMap(values -> parseLong(values[0]));
+    }
+
+    public static Optional<Long> parseLong(String value) {
+        try {
+            return Optional.of(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static boolean isEmpty(String cursor) {
+        return cursor == null || cursor.isBlank();
+    }
+
+    private CursorUtil() {
+    }
+}
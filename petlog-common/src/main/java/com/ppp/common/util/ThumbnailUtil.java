@@ -0,0 +1,68 @@
+package com.ppp.common.util;
+
+import com.ppp.common.exception.FileException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+import static com.ppp.common.exception.ErrorCode.EXTRACT_THUMBNAIL_FAILED;
+
+public class ThumbnailUtil {
+    public static final int THUMBNAIL_SIZE = 160;
+    private static final String THUMBNAIL_FORMAT = "png";
+
+    // 원본 전체를 디코딩하지 않도록 썸네일 크기에 맞춰 픽셀을 건너뛰며 읽은 뒤 축소한다.
+    public static byte[] resize(InputStream input) {
+        try (ImageInputStream imageInput = ImageIO.createImageInputStream(input)) {
+            if (imageInput == null)
+                throw new FileException(EXTRACT_THUMBNAIL_FAILED);
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext())
+                throw new FileException(EXTRACT_THUMBNAIL_FAILED);
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                int subsampling = Math.max(1, Math.min(reader.getWidth(0), reader.getHeight(0)) / THUMBNAIL_SIZE);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return write(scale(reader.read(0, param)));
+            } finally {
+                reader.dispose();
+            }
+        } catch (FileException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            throw new FileException(EXTRACT_THUMBNAIL_FAILED);
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source) {
+        BufferedImage thumbnail = new BufferedImage(THUMBNAIL_SIZE, THUMBNAIL_SIZE, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, THUMBNAIL_SIZE, THUMBNAIL_SIZE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return thumbnail;
+    }
+
+    private static byte[] write(BufferedImage thumbnail) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(thumbnail, THUMBNAIL_FORMAT, output);
+        return output.toByteArray();
+    }
+
+    private ThumbnailUtil() {
+    }
+}
@@ -0,0 +1,142 @@
+package com.ppp.common.client;
+
+import com.ppp.common.exception.FileException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.ppp.common.exception.ErrorCode.FILE_UPLOAD_FAILED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelUploaderTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ParallelUploader parallelUploader;
+
+    @BeforeEach
+    void setUp() {
+        parallelUploader = new ParallelUploader(4, 2, 1000L, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelUploader.shutdown();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("병렬 업로드 성공-입력 순서대로 키 반환")
+    void uploadAll_success() {
+        //given
+        List<Integer> sources = List.of(30, 10, 20, 0, 5);
+        //when
+        List<String> keys = parallelUploader.uploadAll(sources, "image", delay -> {
+            sleep(delay);
+            return "key" + delay;
+        }, key -> fail());
+        //then
+        assertEquals(List.of("key30", "key10", "key20", "key0", "key5"), keys);
+        assertEquals(5, meterRegistry.get("file.upload").tag("type", "image").tag("result", "success")
+                .timer().count());
+        assertEquals(1, meterRegistry.get("file.upload.batch").tag("result", "success")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("병렬 업로드 성공-요청당 동시 업로드 수 제한")
+    void uploadAll_success_WithinFanOutLimit() {
+        //given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        //when
+        parallelUploader.uploadAll(List.of(1, 2, 3, 4, 5, 6), "image", source -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(20);
+            running.decrementAndGet();
+            return "key" + source;
+        }, key -> fail());
+        //then
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    @DisplayName("병렬 업로드 성공-업로드가 대기 시간보다 오래 걸려도 요청 permit 을 기다림")
+    void uploadAll_success_WhenUploadSlowerThanAcquireTimeout() {
+        //given
+        ParallelUploader slowUploader = new ParallelUploader(4, 1, 50L, meterRegistry);
+        //when
+        List<String> keys = slowUploader.uploadAll(List.of(1, 2, 3), "video", source -> {
+            sleep(100);
+            return "key" + source;
+        }, key -> fail());
+        slowUploader.shutdown();
+        //then
+        assertEquals(List.of("key1", "key2", "key3"), keys);
+    }
+
+    @Test
+    @DisplayName("병렬 업로드 성공-빈 목록")
+    void uploadAll_success_WhenEmpty() {
+        //when
+        List<String> keys = parallelUploader.uploadAll(List.<Integer>of(), "video", source -> fail(), key -> fail());
+        //then
+        assertTrue(keys.isEmpty());
+    }
+
+    @Test
+    @DisplayName("병렬 업로드 실패-업로드된 파일 삭제")
+    void uploadAll_fail_ThenRemoveUploadedKeys() {
+        //given
+        Set<String> removedKeys = ConcurrentHashMap.newKeySet();
+        //when
+        FileException exception = assertThrows(FileException.class, () ->
+                parallelUploader.uploadAll(List.of(1, 2, 3), "video", source -> {
+                    if (source == 2)
+                        throw new IllegalStateException("connection reset");
+                    return "key" + source;
+                }, removedKeys::add));
+        //then
+        assertEquals(FILE_UPLOAD_FAILED.getCode(), exception.getCode());
+        assertTrue(removedKeys.contains("key1"));
+        assertFalse(removedKeys.contains("key2"));
+        assertEquals(1, meterRegistry.get("file.upload").tag("type", "video").tag("result", "failure")
+                .timer().count());
+        assertEquals(1, meterRegistry.get("file.upload.batch").tag("result", "failure")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("병렬 업로드 실패-삭제 실패해도 나머지 파일 삭제")
+    void uploadAll_fail_WhenRemoveFails() {
+        //given
+        Set<String> removedKeys = ConcurrentHashMap.newKeySet();
+        ParallelUploader serialUploader = new ParallelUploader(1, 1, 1000L, meterRegistry);
+        //when
+        assertThrows(FileException.class, () ->
+                serialUploader.uploadAll(List.of(1, 2, 3), "image", source -> {
+                    if (source == 3)
+                        throw new IllegalStateException("connection reset");
+                    return "key" + source;
+                }, key -> {
+                    if (key.equals("key1"))
+                        throw new IllegalStateException("access denied");
+                    removedKeys.add(key);
+                }));
+        serialUploader.shutdown();
+        //then
+        assertEquals(Set.of("key2"), removedKeys);
+    }
+}
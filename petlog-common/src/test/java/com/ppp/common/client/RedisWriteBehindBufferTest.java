@@ -0,0 +1,196 @@
+package com.ppp.common.client;
+
+import com.ppp.domain.common.constant.Domain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisWriteBehindBufferTest {
+    @Mock
+    private RedisClient redisClient;
+    @Mock
+    private RedisPipeline redisPipeline;
+    @InjectMocks
+    private RedisWriteBehindBuffer redisWriteBehindBuffer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(redisWriteBehindBuffer, "enabled", true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyFlushedCommands() {
+        ArgumentCaptor<Consumer<RedisPipeline>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(redisClient, times(1)).executePipelined(captor.capture());
+        captor.getValue().accept(redisPipeline);
+    }
+
+    @Test
+    @DisplayName("카운터 증감 누적 후 flush 시 한 번에 반영")
+    void flush_success_WhenCounterDeltas() {
+        //given
+        redisWriteBehindBuffer.incrementValue(Domain.DIARY_COMMENT, 1L, 1);
+        redisWriteBehindBuffer.incrementValue(Domain.DIARY_COMMENT, 1L, 1);
+        redisWriteBehindBuffer.incrementValue(Domain.DIARY_COMMENT, 2L, -1);
+        assertEquals(2L, redisWriteBehindBuffer.getPendingDelta(Domain.DIARY_COMMENT, 1L));
+        //when
+        redisWriteBehindBuffer.flush();
+        //then
+        verifyFlushedCommands();
+        verify(redisPipeline, times(1)).incrementValue("DIARY_COMMENT1", 2L);
+        verify(redisPipeline, times(1)).incrementValue("DIARY_COMMENT2", -1L);
+        assertEquals(0L, redisWriteBehindBuffer.getPendingDelta(Domain.DIARY_COMMENT, 1L));
+    }
+
+    @Test
+    @DisplayName("집합 멤버 추가 후 flush 시 반영되고 크기 증감 초기화")
+    void flush_success_WhenSetMembers() {
+        //given
+        redisWriteBehindBuffer.recordMembership(Domain.DIARY_LIKE, 1L, "qwerty", true);
+        redisWriteBehindBuffer.addValueToSet(Domain.DIARY_LIKE, 1L, "abc123");
+        redisWriteBehindBuffer.removeValueToSet(Domain.DIARY_LIKE, 1L, "qwerty");
+        assertEquals(Optional.of(true), redisWriteBehindBuffer.getPendingMembership(Domain.DIARY_LIKE, 1L, "abc123"));
+        assertEquals(-1L, redisWriteBehindBuffer.getPendingSizeDelta(Domain.DIARY_LIKE, 1L));
+        //when
+        redisWriteBehindBuffer.flush();
+        //then
+        verifyFlushedCommands();
+        verify(redisPipeline, times(1)).addValueToSet("DIARY_LIKE1", "abc123");
+        verify(redisPipeline, times(1)).removeValueToSet("DIARY_LIKE1", "qwerty");
+        assertEquals(Optional.empty(), redisWriteBehindBuffer.getPendingMembership(Domain.DIARY_LIKE, 1L, "abc123"));
+        assertEquals(0L, redisWriteBehindBuffer.getPendingSizeDelta(Domain.DIARY_LIKE, 1L));
+        verify(redisClient, never()).isValueExistInSet(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("반영 전 좋아요 취소시 대기 중인 추가를 상쇄")
+    void removeValueToSet_success_WhenPendingAddExists() {
+        //given
+        redisWriteBehindBuffer.recordMembership(Domain.DIARY_LIKE, 1L, "abc123", false);
+        redisWriteBehindBuffer.addValueToSet(Domain.DIARY_LIKE, 1L, "abc123");
+        assertEquals(1L, redisWriteBehindBuffer.getPendingSizeDelta(Domain.DIARY_LIKE, 1L));
+        //when
+        redisWriteBehindBuffer.removeValueToSet(Domain.DIARY_LIKE, 1L, "abc123");
+        redisWriteBehindBuffer.flush();
+        //then
+        assertEquals(Optional.empty(), redisWriteBehindBuffer.getPendingMembership(Domain.DIARY_LIKE, 1L, "abc123"));
+        assertEquals(0L, redisWriteBehindBuffer.getPendingSizeDelta(Domain.DIARY_LIKE, 1L));
+        verify(redisClient, never()).executePipelined(any());
+    }
+
+    @Test
+    @DisplayName("같은 멤버를 중복 추가해도 크기 증감은 한 번만 반영")
+    void addValueToSet_success_WhenAddedTwice() throws InterruptedException {
+        //given
+        redisWriteBehindBuffer.recordMembership(Domain.DIARY_LIKE, 1L, "abc123", false);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        CountDownLatch latch = new CountDownLatch(8);
+        //when
+        for (int i = 0; i < 8; i++)
+            executorService.execute(() -> {
+                redisWriteBehindBuffer.addValueToSet(Domain.DIARY_LIKE, 1L, "abc123");
+                latch.countDown();
+            });
+        latch.await();
+        executorService.shutdown();
+        //then
+        assertEquals(1L, redisWriteBehindBuffer.getPendingSizeDelta(Domain.DIARY_LIKE, 1L));
+        verify(redisClient, never()).isValueExistInSet(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("이미 집합에 있는 멤버 추가시 대기 변경을 남기지 않음")
+    void addValueToSet_success_WhenAlreadyMember() {
+        //given
+        redisWriteBehindBuffer.recordMembership(Domain.DIARY_LIKE, 1L, "abc123", true);
+        //when
+        redisWriteBehindBuffer.addValueToSet(Domain.DIARY_LIKE, 1L, "abc123");
+        redisWriteBehindBuffer.flush();
+        //then
+        assertEquals(Optional.empty(), redisWriteBehindBuffer.getPendingMembership(Domain.DIARY_LIKE, 1L, "abc123"));
+        assertEquals(0L, redisWriteBehindBuffer.getPendingSizeDelta(Domain.DIARY_LIKE, 1L));
+        verify(redisClient, never()).executePipelined(any());
+    }
+
+    @Test
+    @DisplayName("토글시 대기 중인 상태를 기준으로 추가와 취소를 번갈아 반영")
+    void toggleValueInSet_success() {
+        //given
+        //when
+        boolean isAdded = redisWriteBehindBuffer.toggleValueInSet(Domain.DIARY_LIKE, 1L, "abc123");
+        long sizeDeltaAfterAdd = redisWriteBehindBuffer.getPendingSizeDelta(Domain.DIARY_LIKE, 1L);
+        boolean isAddedAgain = redisWriteBehindBuffer.toggleValueInSet(Domain.DIARY_LIKE, 1L, "abc123");
+        //then
+        assertTrue(isAdded);
+        assertFalse(isAddedAgain);
+        assertEquals(1L, sizeDeltaAfterAdd);
+        assertEquals(0L, redisWriteBehindBuffer.getPendingSizeDelta(Domain.DIARY_LIKE, 1L));
+        assertEquals(Optional.empty(), redisWriteBehindBuffer.getPendingMembership(Domain.DIARY_LIKE, 1L, "abc123"));
+        verify(redisClient, times(1)).isValueExistInSet(Domain.DIARY_LIKE, 1L, "abc123");
+    }
+
+    @Test
+    @DisplayName("조회 경로에서 확인한 멤버십이 있으면 토글시 Redis 를 조회하지 않음")
+    void toggleValueInSet_success_WhenMembershipRecorded() {
+        //given
+        redisWriteBehindBuffer.recordMembership(Domain.DIARY_LIKE, 1L, "abc123", true);
+        //when
+        boolean isAdded = redisWriteBehindBuffer.toggleValueInSet(Domain.DIARY_LIKE, 1L, "abc123");
+        redisWriteBehindBuffer.flush();
+        boolean isAddedAgain = redisWriteBehindBuffer.toggleValueInSet(Domain.DIARY_LIKE, 1L, "abc123");
+        //then
+        assertFalse(isAdded);
+        assertTrue(isAddedAgain);
+        assertEquals(1L, redisWriteBehindBuffer.getPendingSizeDelta(Domain.DIARY_LIKE, 1L));
+        verifyFlushedCommands();
+        verify(redisPipeline, times(1)).removeValueToSet("DIARY_LIKE1", "abc123");
+        verify(redisClient, never()).isValueExistInSet(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("flush 실패시 증감 유지")
+    void flush_fail_ThenKeepPendingDeltas() {
+        //given
+        redisWriteBehindBuffer.incrementValue(Domain.DIARY_COMMENT, 1L, 3);
+        redisWriteBehindBuffer.recordMembership(Domain.DIARY_LIKE, 1L, "abc123", false);
+        redisWriteBehindBuffer.addValueToSet(Domain.DIARY_LIKE, 1L, "abc123");
+        given(redisClient.executePipelined(any()))
+                .willThrow(new IllegalStateException("connection refused"));
+        //when
+        redisWriteBehindBuffer.flush();
+        //then
+        assertEquals(3L, redisWriteBehindBuffer.getPendingDelta(Domain.DIARY_COMMENT, 1L));
+        assertEquals(Optional.of(true), redisWriteBehindBuffer.getPendingMembership(Domain.DIARY_LIKE, 1L, "abc123"));
+        assertEquals(1L, redisWriteBehindBuffer.getPendingSizeDelta(Domain.DIARY_LIKE, 1L));
+    }
+
+    @Test
+    @DisplayName("write behind 비활성화시 flush 하지 않음")
+    void flush_success_WhenDisabled() {
+        //given
+        ReflectionTestUtils.setField(redisWriteBehindBuffer, "enabled", false);
+        redisWriteBehindBuffer.incrementValue(Domain.DIARY_COMMENT, 1L, 1);
+        //when
+        redisWriteBehindBuffer.flushOnShutdown();
+        //then
+        verifyNoInteractions(redisClient);
+    }
+}
@@ -0,0 +1,149 @@
+package com.ppp.common.client;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import com.ppp.common.exception.FileException;
+import com.ppp.domain.common.constant.Domain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static com.ppp.common.exception.ErrorCode.FILE_UPLOAD_FAILED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3ClientTest {
+    @Mock
+    private AmazonS3 amazonS3;
+    private S3Client s3Client;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = new S3Client(amazonS3, DataSize.ofBytes(16), DataSize.ofBytes(8), 2);
+        ReflectionTestUtils.setField(s3Client, "bucket", "petlog");
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Client.shutdown();
+    }
+
+    private void givenMultipartUpload() {
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload-id");
+        given(amazonS3.initiateMultipartUpload(any()))
+                .willReturn(initiateResult);
+    }
+
+    @Test
+    @DisplayName("업로드 성공-임시 파일 없이 스트림으로 전송")
+    void upload_success() {
+        //given
+        MockMultipartFile image = new MockMultipartFile("images", "image.jpg", "image/jpeg", new byte[10]);
+        //when
+        String key = s3Client.upload(image, Domain.DIARY);
+        //then
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3, times(1)).putObject(captor.capture());
+        PutObjectRequest request = captor.getValue();
+        assertEquals(key, request.getKey());
+        assertNull(request.getFile());
+        assertEquals(10, request.getMetadata().getContentLength());
+        assertEquals("image/jpeg", request.getMetadata().getContentType());
+        verify(amazonS3, never()).initiateMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("업로드 성공-파일의 확장자로 콘텐츠 타입 지정")
+    void upload_success_WhenFileIsGiven() throws IOException {
+        //given
+        File file = Files.createTempFile("video", ".mp4").toFile();
+        Files.write(file.toPath(), new byte[12]);
+        //when
+        s3Client.upload(file, Domain.DIARY);
+        //then
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3, times(1)).putObject(captor.capture());
+        assertEquals("video/mp4", captor.getValue().getMetadata().getContentType());
+        file.delete();
+    }
+
+    @Test
+    @DisplayName("업로드 성공-큰 파일은 파트로 나눠 업로드")
+    void upload_success_WhenFileIsLarge() {
+        //given
+        givenMultipartUpload();
+        given(amazonS3.uploadPart(any()))
+                .willAnswer(invocation -> {
+                    UploadPartRequest request = invocation.getArgument(0);
+                    UploadPartResult result = new UploadPartResult();
+                    result.setPartNumber(request.getPartNumber());
+                    result.setETag("etag" + request.getPartNumber());
+                    return result;
+                });
+        MockMultipartFile video = new MockMultipartFile("video", "video.mp4", "video/mp4", new byte[20]);
+        //when
+        s3Client.upload(video, Domain.DIARY);
+        //then
+        verify(amazonS3, times(3)).uploadPart(any());
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(amazonS3, times(1)).completeMultipartUpload(captor.capture());
+        assertEquals(List.of(1, 2, 3), captor.getValue().getPartETags().stream().map(PartETag::getPartNumber).toList());
+        assertEquals("upload-id", captor.getValue().getUploadId());
+    }
+
+    @Test
+    @DisplayName("업로드 실패-파트 업로드 실패시 멀티파트 업로드 취소")
+    void upload_fail_FILE_UPLOAD_FAILED() {
+        //given
+        givenMultipartUpload();
+        given(amazonS3.uploadPart(any()))
+                .willThrow(new IllegalStateException("connection reset"));
+        MockMultipartFile video = new MockMultipartFile("video", "video.mp4", "video/mp4", new byte[20]);
+        //when
+        FileException exception = assertThrows(FileException.class, () -> s3Client.upload(video, Domain.DIARY));
+        //then
+        assertEquals(FILE_UPLOAD_FAILED.getCode(), exception.getCode());
+        verify(amazonS3, times(1)).abortMultipartUpload(any());
+        verify(amazonS3, never()).completeMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("업로드 실패-실행 중인 파트가 끝난 뒤에만 permit 반납")
+    void upload_fail_ThenReleasePermitsWhenPartsFinish() throws InterruptedException {
+        //given
+        givenMultipartUpload();
+        given(amazonS3.uploadPart(any()))
+                .willThrow(new IllegalStateException("connection reset"));
+        MockMultipartFile video = new MockMultipartFile("video", "video.mp4", "video/mp4", new byte[20]);
+        Semaphore partPermits = (Semaphore) ReflectionTestUtils.getField(s3Client, "partPermits");
+        ExecutorService partUploader = (ExecutorService) ReflectionTestUtils.getField(s3Client, "partUploader");
+        //when
+        assertThrows(FileException.class, () -> s3Client.upload(video, Domain.DIARY));
+        partUploader.shutdown();
+        //then
+        assertTrue(partUploader.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(2, Objects.requireNonNull(partPermits).availablePermits());
+    }
+}
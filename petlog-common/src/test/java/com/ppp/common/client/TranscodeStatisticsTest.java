@@ -0,0 +1,39 @@
+package com.ppp.common.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TranscodeStatisticsTest {
+    private final TranscodeStatistics transcodeStatistics = new TranscodeStatistics();
+
+    @Test
+    @DisplayName("인코딩 비율로 건너뛴 변환의 절감 시간 추정")
+    void record_success() {
+        //given
+        transcodeStatistics.record(false, 10, 20);
+        double encodeRatio = 1.0 * 0.8 + 2.0 * 0.2;
+        assertEquals(encodeRatio, transcodeStatistics.getEncodeRatio(), 1e-9);
+        //when
+        transcodeStatistics.record(true, 10, 1);
+        //then
+        assertEquals(1, transcodeStatistics.getSkippedCount());
+        assertEquals(10 * encodeRatio - 1, transcodeStatistics.getSavedSeconds(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("변환 지표 등록")
+    void bindTo_success() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        transcodeStatistics.record(true, 5, 0);
+        //when
+        transcodeStatistics.bindTo(meterRegistry);
+        //then
+        assertEquals(1, meterRegistry.get("video.transcode.skipped").functionCounter().count());
+        assertEquals(0, meterRegistry.get("video.transcode.encoded").functionCounter().count());
+        assertEquals(5, meterRegistry.get("video.transcode.saved.seconds").functionCounter().count(), 1e-9);
+    }
+}
@@ -0,0 +1,71 @@
+package com.ppp.common.client;
+
+import com.ppp.domain.common.constant.VideoCompressType;
+import net.bramp.ffmpeg.probe.FFmpegFormat;
+import net.bramp.ffmpeg.probe.FFmpegProbeResult;
+import net.bramp.ffmpeg.probe.FFmpegStream;
+import net.bramp.ffmpeg.shared.CodecType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VideoMetadataTest {
+    private FFmpegStream stream(CodecType codecType, String codecName, int width, int height, long bitRate) {
+        FFmpegStream stream = new FFmpegStream();
+        stream.codec_type = codecType;
+        stream.codec_name = codecName;
+        stream.width = width;
+        stream.height = height;
+        stream.bit_rate = bitRate;
+        return stream;
+    }
+
+    @Test
+    @DisplayName("프로브 결과에서 메타데이터 추출 성공")
+    void from_success() {
+        //given
+        FFmpegProbeResult probeResult = new FFmpegProbeResult();
+        probeResult.format = new FFmpegFormat();
+        probeResult.format.duration = 12.5;
+        probeResult.format.bit_rate = 900_000L;
+        probeResult.streams = List.of(
+                stream(CodecType.AUDIO, "mp3", 0, 0, 128_000L),
+                stream(CodecType.VIDEO, "h264", 480, 854, 0L));
+        //when
+        VideoMetadata metadata = VideoMetadata.from(probeResult);
+        //then
+        assertEquals(new VideoMetadata("h264", "mp3", 480, 854, 900_000L, 12.5), metadata);
+        assertTrue(metadata.hasVideo());
+        assertTrue(metadata.canCopy(VideoCompressType.LOW));
+        assertFalse(metadata.canCopyAudio());
+    }
+
+    @Test
+    @DisplayName("목표 해상도나 비트레이트를 넘거나 h264가 아니면 복사하지 않음")
+    void canCopy_fail() {
+        assertFalse(new VideoMetadata("h264", "aac", 1280, 720, 1_000_000L, 10).canCopy(VideoCompressType.LOW));
+        assertFalse(new VideoMetadata("h264", "aac", 640, 480, 3_000_000L, 10).canCopy(VideoCompressType.LOW));
+        assertFalse(new VideoMetadata("hevc", "aac", 640, 480, 1_000_000L, 10).canCopy(VideoCompressType.LOW));
+    }
+
+    @Test
+    @DisplayName("입력 크기에 따라 인코딩 프리셋 선택")
+    void selectPreset_success() {
+        assertEquals("veryfast", new VideoMetadata("hevc", "aac", 3840, 2160, 0L, 10).selectPreset());
+        assertEquals("veryfast", new VideoMetadata("hevc", "aac", 640, 480, 0L, 180).selectPreset());
+        assertEquals("faster", new VideoMetadata("hevc", "aac", 1280, 720, 0L, 10).selectPreset());
+        assertEquals("medium", new VideoMetadata("hevc", "aac", 640, 480, 0L, 10).selectPreset());
+    }
+
+    @Test
+    @DisplayName("허용 길이와 해상도 초과 판단")
+    void isExceeded_success() {
+        assertTrue(new VideoMetadata("h264", "aac", 640, 480, 0L, 301).isDurationExceeded());
+        assertTrue(new VideoMetadata("h264", "aac", 7680, 4320, 0L, 10).isResolutionExceeded());
+        assertFalse(new VideoMetadata("h264", "aac", 3840, 2160, 0L, 300).isResolutionExceeded());
+        assertFalse(new VideoMetadata(null, "aac", 0, 0, 0L, 10).hasVideo());
+    }
+}
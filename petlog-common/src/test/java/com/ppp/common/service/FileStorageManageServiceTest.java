@@ -1,13 +1,16 @@
 package com.ppp.common.service;
 
 import com.ppp.common.client.FileStorageClient;
+import com.ppp.common.client.ParallelUploader;
 import com.ppp.domain.common.constant.Domain;
 import com.ppp.domain.video.TempVideo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
@@ -28,6 +31,8 @@ import static org.mockito.Mockito.verify;
 class FileStorageManageServiceTest {
     @Mock
     private FileStorageClient fileStorageClient;
+    @Spy
+    private ParallelUploader parallelUploader = new ParallelUploader(2, 2, 1000L, new SimpleMeterRegistry());
 
     @InjectMocks
     private FileStorageManageService fileStorageManageService;
@@ -167,4 +172,16 @@ class FileStorageManageServiceTest {
         assertTrue(maybeString.isEmpty());
     }
 
+    @Test
+    @DisplayName("이미지 업로드 성공-바이트 배열")
+    void uploadImage_success_WhenBytesAreGiven() {
+        //given
+        byte[] image = new byte[]{1, 2, 3};
+        given(fileStorageClient.upload(image, "thumbnail.png", Domain.DIARY))
+                .willReturn("DIARY/2024-02-13/thumbnail.png");
+        //when
+        Optional<String> maybeString = fileStorageManageService.uploadImage(image, "thumbnail.png", Domain.DIARY);
+        //then
+        assertEquals(Optional.of("DIARY/2024-02-13/thumbnail.png"), maybeString);
+    }
 }
\ No newline at end of file
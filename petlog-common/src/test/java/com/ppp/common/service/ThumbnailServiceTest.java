@@ -13,17 +13,26 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
+import org.mockito.ScopedMock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import static com.ppp.common.exception.ErrorCode.EXTRACT_THUMBNAIL_FAILED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -42,9 +51,15 @@ class ThumbnailServiceTest {
 
     @AfterEach
     void tearDown() {
-        mockURL.close();
-        mockFile.close();
-        mockFiles.close();
+        Stream.of(mockURL, mockFile, mockFiles)
+                .filter(mock -> mock != null && !mock.isClosed())
+                .forEach(ScopedMock::close);
+    }
+
+    private byte[] createImage() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(640, 480, BufferedImage.TYPE_INT_RGB), "jpg", output);
+        return output.toByteArray();
     }
 
     @Test
@@ -91,4 +106,75 @@ class ThumbnailServiceTest {
         FileException exception = assertThrows(FileException.class, () -> thumbnailService.uploadThumbnailFromStorageFile(filePath, FileType.VIDEO, Domain.DIARY));
         //then
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("썸네일 원본 생성 성공-업로드 요청의 이미지")
+    void createSource_success() throws IOException {
+        //given
+        MockMultipartFile image = new MockMultipartFile("images", "image.jpg", "image/jpeg", createImage());
+        //when
+        ThumbnailSource thumbnailSource = thumbnailService.createSource(image);
+        //then
+        assertTrue(thumbnailSource.isImage());
+        verifyNoInteractions(thumbnailExtractClient);
+    }
+
+    @Test
+    @DisplayName("썸네일 업로드 성공-업로드 요청의 이미지")
+    void uploadThumbnail_success_WhenImageIsGiven() throws IOException {
+        //given
+        MockMultipartFile image = new MockMultipartFile("images", "image.jpg", "image/jpeg", createImage());
+        given(fileStorageManageService.uploadImage(any(byte[].class), eq("thumbnail.png"), eq(Domain.PET)))
+                .willReturn(Optional.of("PET/2024020211223/thumbnail.png"));
+        //when
+        String result = thumbnailService.uploadThumbnail(image, Domain.PET);
+        //then
+        assertEquals("PET/2024020211223/thumbnail.png", result);
+        verifyNoInteractions(thumbnailExtractClient);
+    }
+
+    @Test
+    @DisplayName("썸네일 업로드 성공-로컬 동영상에서 프레임 추출")
+    void uploadThumbnail_success_WhenVideoIsGiven() {
+        //given
+        String videoPath = "temp/encoded/2024021313/267d730ad30d4c8da5560e9b3cc0581820240213130549683.mp4";
+        File thumbnailFile = mock(File.class);
+        given(thumbnailExtractClient.extractVideoFrame(new File(videoPath)))
+                .willReturn(thumbnailFile);
+        given(fileStorageManageService.uploadImage(thumbnailFile, Domain.DIARY))
+                .willReturn(Optional.of("DIARY/2024020211223/thumbnail.png"));
+        //when
+        String result = thumbnailService.uploadThumbnail(ThumbnailSource.ofVideo(videoPath), Domain.DIARY);
+        //then
+        assertEquals("DIARY/2024020211223/thumbnail.png", result);
+    }
+
+    @Test
+    @DisplayName("썸네일 업로드 실패-지원하지 않는 이미지")
+    void uploadThumbnail_fail_EXTRACT_THUMBNAIL_FAILED() {
+        //given
+        MockMultipartFile image = new MockMultipartFile("images", "image.svg", "image/svg+xml", "<svg/>".getBytes());
+        //when
+        FileException exception = assertThrows(FileException.class, () -> thumbnailService.uploadThumbnail(image, Domain.PET));
+        //then
+        assertEquals(EXTRACT_THUMBNAIL_FAILED.getCode(), exception.getCode());
+        verifyNoInteractions(fileStorageManageService);
+    }
+
+    @Test
+    @DisplayName("썸네일 업로드 성공-저장소의 이미지는 ffmpeg 없이 축소")
+    void uploadThumbnailTest_success_WhenImageIsInStorage() throws Exception {
+        //given
+        byte[] image = createImage();
+        mockURL = mockConstruction(URL.class, (mock, context) -> {
+            given(mock.openStream()).willReturn(new ByteArrayInputStream(image));
+        });
+        given(fileStorageManageService.uploadImage(any(byte[].class), eq("thumbnail.png"), eq(Domain.PET)))
+                .willReturn(Optional.of("PET/2024020211223/thumbnail.png"));
+        //when
+        String result = thumbnailService.uploadThumbnailFromStorageFile("PET/2024020211223/image.jpg", FileType.IMAGE, Domain.PET);
+        //then
+        assertEquals("PET/2024020211223/thumbnail.png", result);
+        verifyNoInteractions(thumbnailExtractClient);
+    }
+}
@@ -0,0 +1,64 @@
+package com.ppp.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorUtilTest {
+    @Test
+    @DisplayName("커서 생성 후 복원-성공")
+    void encodeAndDecode_success() {
+        //given
+        String cursor = CursorUtil.encode("2024-02-11", 12L);
+        //when
+        Optional<String[]> maybeValues = CursorUtil.decode(cursor, 2);
+        //then
+        assertTrue(maybeValues.isPresent());
+        assertEquals("2024-02-11", maybeValues.get()[0]);
+        assertEquals("12", maybeValues.get()[1]);
+    }
+
+    @Test
+    @DisplayName("숫자 커서 복원-성공")
+    void decodeLong_success() {
+        //given
+        String cursor = CursorUtil.encode(1234L);
+        //when
+        Optional<Long> maybeValue = CursorUtil.decodeLong(cursor);
+        //then
+        assertEquals(1234L, maybeValue.get());
+    }
+
+    @Test
+    @DisplayName("커서 복원-실패-not valid cursor")
+    void decode_fail_NOT_VALID_CURSOR() {
+        //given
+        String cursor = "%%not-a-cursor%%";
+        //when
+        Optional<String[]> maybeValues = CursorUtil.decode(cursor, 1);
+        //then
+        assertTrue(maybeValues.isEmpty());
+    }
+
+    @Test
+    @DisplayName("커서 복원-실패-값 개수 불일치")
+    void decode_fail_SIZE_MISMATCH() {
+        //given
+        String cursor = CursorUtil.encode("2024-02-11", 12L);
+        //when
+        Optional<Long> maybeValue = CursorUtil.decodeLong(cursor);
+        //then
+        assertTrue(maybeValue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("빈 커서 확인-성공")
+    void isEmpty_success() {
+        assertTrue(CursorUtil.isEmpty(null));
+        assertTrue(CursorUtil.isEmpty(" "));
+        assertFalse(CursorUtil.isEmpty(CursorUtil.encode(1L)));
+    }
+}
@@ -0,0 +1,59 @@
+package com.ppp.common.util;
+
+import com.ppp.common.exception.FileException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static com.ppp.common.exception.ErrorCode.EXTRACT_THUMBNAIL_FAILED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ThumbnailUtilTest {
+    private byte[] createImage(int width, int height, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, output);
+        return output.toByteArray();
+    }
+
+    @Test
+    @DisplayName("썸네일 생성 성공")
+    void resize_success() throws IOException {
+        //given
+        byte[] image = createImage(1200, 900, "jpg");
+        //when
+        byte[] thumbnail = ThumbnailUtil.resize(new ByteArrayInputStream(image));
+        //then
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(thumbnail));
+        assertEquals(ThumbnailUtil.THUMBNAIL_SIZE, result.getWidth());
+        assertEquals(ThumbnailUtil.THUMBNAIL_SIZE, result.getHeight());
+    }
+
+    @Test
+    @DisplayName("썸네일 생성 성공-썸네일보다 작은 이미지")
+    void resize_success_WhenImageIsSmall() throws IOException {
+        //given
+        byte[] image = createImage(40, 30, "png");
+        //when
+        byte[] thumbnail = ThumbnailUtil.resize(new ByteArrayInputStream(image));
+        //then
+        assertEquals(ThumbnailUtil.THUMBNAIL_SIZE, ImageIO.read(new ByteArrayInputStream(thumbnail)).getWidth());
+    }
+
+    @Test
+    @DisplayName("썸네일 생성 실패-이미지가 아닌 파일")
+    void resize_fail_EXTRACT_THUMBNAIL_FAILED() {
+        //given
+        byte[] notImage = "<svg xmlns=\"http://www.w3.org/2000/svg\"/>".getBytes();
+        //when
+        FileException exception = assertThrows(FileException.class,
+                () -> ThumbnailUtil.resize(new ByteArrayInputStream(notImage)));
+        //then
+        assertEquals(EXTRACT_THUMBNAIL_FAILED.getCode(), exception.getCode());
+    }
+}
@@ -14,7 +14,11 @@ public enum CacheValue {
     DIARY_MOST_USED_TERMS("diaryMostUsedTerms"),
     DIARY_ACCESS_AUTHORITY("diaryAccessAuthority"),
     SUBSCRIPTION_INFO("subscriptionInfo"),
-    TOTAL_PUBLIC_DIARY_COUNT("totalPublicDiaryCount")
+    DIARY_VERSION("diaryVersion"),
+    PET_DIARY_VERSION("petDiaryVersion"),
+    GUARDIAN_ROSTER("guardianRoster"),
+    PET_AUTHORITY_VERSION("petAuthorityVersion"),
+    PET_AUTHORITY("petAuthority")
     ;
 
     private final String value;
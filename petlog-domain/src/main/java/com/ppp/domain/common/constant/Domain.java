@@ -7,12 +7,22 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum Domain {
     USER(false),
+    USER_ORDINAL(false),
     DIARY(true),
     DIARY_LIKE(false),
+    DIARY_LIKE_ORDINAL(false),
     DIARY_COMMENT(false),
     DIARY_RE_COMMENT(false),
     DIARY_COMMENT_LIKE(false),
+    DIARY_COMMENT_LIKE_ORDINAL(false),
     DIARY_DRAFT(true),
+    DIARY_FEED_TIMELINE(false),
+    DIARY_FEED_PULL_PET(false),
+    DIARY_TRENDING(false),
+    DIARY_FEED_SEEN(false),
+    DIARY_COUNTER_JOB(false),
+    VIDEO_TRANSCODE_QUEUE(false),
+    VIDEO_TRANSCODE_PROGRESS(false),
     PET(false);
     private final boolean hasVideo;
 }
@@ -6,7 +6,8 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum VideoCompressType {
-    LOW(480),
-    MEDIUM(512);
+    LOW(480, 1_500_000L),
+    MEDIUM(512, 2_000_000L);
     private final int resolution;
+    private final long maxBitRate;
 }
@@ -21,7 +21,8 @@ import static jakarta.persistence.FetchType.LAZY;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(indexes = {
-        @Index(name = "idx_pet_id_date", columnList = "pet_id, date desc")
+        @Index(name = "idx_pet_id_date_id", columnList = "pet_id, date desc, id desc"),
+        @Index(name = "idx_is_public_is_deleted_id_pet_id", columnList = "is_public, is_deleted, id, pet_id")
 })
 public class Diary extends BaseTimeEntity {
     @Id
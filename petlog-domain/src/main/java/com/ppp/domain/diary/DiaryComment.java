@@ -19,7 +19,8 @@ import static jakarta.persistence.FetchType.LAZY;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(indexes = {
-        @Index(name = "idx_ancestor_comment_id", columnList = "ancestor_comment_id")
+        @Index(name = "idx_ancestor_comment_id", columnList = "ancestor_comment_id"),
+        @Index(name = "idx_diary_id_ancestor_comment_id_id", columnList = "diary_id, ancestor_comment_id, id")
 })
 public class DiaryComment extends BaseTimeEntity {
     @Id
@@ -43,6 +44,9 @@ public class DiaryComment extends BaseTimeEntity {
     @Column(name = "ancestor_comment_id")
     private Long ancestorCommentId;
 
+    @Column(columnDefinition = "int default 0")
+    private int replyCount;
+
     @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "diary_id", nullable = false)
     private Diary diary;
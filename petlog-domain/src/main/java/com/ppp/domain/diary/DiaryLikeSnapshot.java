@@ -0,0 +1,36 @@
+package com.ppp.domain.diary;
+
+import com.ppp.domain.common.BaseTimeEntity;
+import com.ppp.domain.common.constant.Domain;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_domain_target_id", columnList = "domain, targetId")
+})
+public class DiaryLikeSnapshot extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Domain domain;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    @Column(nullable = false, length = 100)
+    private String userId;
+
+    public DiaryLikeSnapshot(Domain domain, Long targetId, String userId) {
+        this.domain = domain;
+        this.targetId = targetId;
+        this.userId = userId;
+    }
+}
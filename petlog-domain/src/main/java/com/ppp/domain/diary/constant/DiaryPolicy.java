@@ -4,4 +4,17 @@ public class DiaryPolicy {
     public static final int VIDEO_UPLOAD_LIMIT = 1;
     public static final int IMAGE_UPLOAD_LIMIT = 10;
     public static final String DEFAULT_THUMBNAIL_PATH = "RESOURCE/diary_default_thumbnail.svg";
+    public static final int FEED_TIMELINE_MAX_SIZE = 500;
+    public static final int FEED_TIMELINE_TTL_DAYS = 7;
+    public static final int FEED_FAN_OUT_SUBSCRIBER_LIMIT = 5000;
+    public static final long TRENDING_HALF_LIFE_SECONDS = 60 * 60 * 24;
+    public static final int TRENDING_MAX_SIZE = 1000;
+    public static final double TRENDING_MIN_SCORE = 0.01;
+    public static final double TRENDING_LIKE_WEIGHT = 1;
+    public static final double TRENDING_COMMENT_WEIGHT = 2;
+    public static final int FEED_SEEN_FILTER_BITS = 8192;
+    public static final int FEED_SEEN_FILTER_HASHES = 4;
+    public static final int FEED_SEEN_FILTER_RETENTION_DAYS = 2;
+    public static final int FEED_SEEN_OVER_FETCH_FACTOR = 3;
+    public static final int COUNTER_JOB_CHUNK_SIZE = 1000;
 }
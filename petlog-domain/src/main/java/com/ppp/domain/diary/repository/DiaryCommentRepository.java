@@ -3,9 +3,11 @@ package com.ppp.domain.diary.repository;
 import com.ppp.domain.diary.Diary;
 import com.ppp.domain.diary.DiaryComment;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -17,17 +19,38 @@ public interface DiaryCommentRepository extends JpaRepository<DiaryComment, Long
     Optional<DiaryComment> findByIdAndIsDeletedFalse(Long id);
 
     @EntityGraph(attributePaths = {"user"}, type = EntityGraph.EntityGraphType.FETCH)
-    @Query("select c1 from DiaryComment c1 left join DiaryComment c2 on c1.id = c2.ancestorCommentId " +
-            "where (c1.isDeleted = false or c2.id != null) " +
-            "and c1.diary.id = ?1 and c1.ancestorCommentId = null ")
+    @Query("select c from DiaryComment c " +
+            "where c.diary.id = ?1 and c.ancestorCommentId is null " +
+            "and (c.isDeleted = false or c.replyCount > 0)")
     Slice<DiaryComment> findAncestorCommentByDiaryId(Long diaryId, PageRequest request);
 
+    @EntityGraph(attributePaths = {"user"}, type = EntityGraph.EntityGraphType.FETCH)
+    @Query("select c from DiaryComment c " +
+            "where c.diary.id = ?1 and c.ancestorCommentId is null and c.id < ?2 " +
+            "and (c.isDeleted = false or c.replyCount > 0) " +
+            "order by c.id desc")
+    List<DiaryComment> findAncestorCommentsByDiaryIdBefore(Long diaryId, Long lastCommentId, Pageable pageable);
+
     @EntityGraph(attributePaths = {"user"}, type = EntityGraph.EntityGraphType.FETCH)
     Slice<DiaryComment> findByDiaryAndAncestorCommentIdIsNullAndIsDeletedFalse(Diary diary, PageRequest request);
 
     @EntityGraph(attributePaths = {"parent", "parent.user"}, type = EntityGraph.EntityGraphType.FETCH)
     List<DiaryComment> findByAncestorCommentIdAndIsDeletedFalseOrderByIdDesc(Long ancestorCommentId);
 
+    @EntityGraph(attributePaths = {"user", "parent", "parent.user"}, type = EntityGraph.EntityGraphType.FETCH)
+    @Query("select c from DiaryComment c " +
+            "where c.diary.id = ?1 and c.ancestorCommentId = ?2 and c.id < ?3 and c.isDeleted = false " +
+            "order by c.id desc")
+    List<DiaryComment> findReCommentsByDiaryIdAndAncestorCommentIdBefore(Long diaryId, Long ancestorCommentId, Long lastCommentId, Pageable pageable);
+
+    @Modifying
+    @Query("update DiaryComment c set c.replyCount = c.replyCount + 1 where c.id = ?1")
+    void increaseReplyCount(Long commentId);
+
+    @Modifying
+    @Query("update DiaryComment c set c.replyCount = c.replyCount - 1 where c.id = ?1 and c.replyCount > 0")
+    void decreaseReplyCount(Long commentId);
+
     boolean existsByIdAndIsDeletedFalse(Long id);
 
     @EntityGraph(attributePaths = {"diary"}, type = EntityGraph.EntityGraphType.FETCH)
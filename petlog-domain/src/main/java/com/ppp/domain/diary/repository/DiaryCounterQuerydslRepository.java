@@ -0,0 +1,132 @@
+package com.ppp.domain.diary.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.ppp.domain.diary.QDiary.diary;
+import static com.ppp.domain.diary.QDiaryComment.diaryComment;
+
+@RequiredArgsConstructor
+@Repository
+public class DiaryCounterQuerydslRepository {
+    private final JPAQueryFactory jpaQueryFactory;
+
+    public List<Long> findDiaryIdsAfter(long lastDiaryId, int size) {
+        return jpaQueryFactory.select(diary.id)
+                .from(diary)
+                .where(diary.id.gt(lastDiaryId),
+                        diary.isDeleted.eq(false))
+                .orderBy(diary.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    public List<Long> findCommentIdsAfter(long lastCommentId, int size) {
+        return jpaQueryFactory.select(diaryComment.id)
+                .from(diaryComment)
+                .where(diaryComment.id.gt(lastCommentId),
+                        diaryComment.isDeleted.eq(false))
+                .orderBy(diaryComment.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    public List<Long> findAncestorCommentIdsAfter(long lastCommentId, int size) {
+        return jpaQueryFactory.select(diaryComment.id)
+                .from(diaryComment)
+                .where(diaryComment.id.gt(lastCommentId),
+                        diaryComment.ancestorCommentId.isNull(),
+                        diaryComment.isDeleted.eq(false))
+                .orderBy(diaryComment.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    public List<Long> findRootCommentIdsAfter(long lastCommentId, int size) {
+        return jpaQueryFactory.select(diaryComment.id)
+                .from(diaryComment)
+                .where(diaryComment.id.gt(lastCommentId),
+                        diaryComment.ancestorCommentId.isNull())
+                .orderBy(diaryComment.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    public Map<Long, Long> countCommentsByDiaryIds(List<Long> diaryIds) {
+        List<Tuple> counts = jpaQueryFactory.select(diaryComment.diary.id, diaryComment.count())
+                .from(diaryComment)
+                .where(diaryComment.diary.id.in(diaryIds),
+                        diaryComment.isDeleted.eq(false))
+                .groupBy(diaryComment.diary.id)
+                .fetch();
+        return counts.stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(diaryComment.diary.id), tuple -> tuple.get(diaryComment.count())));
+    }
+
+    public Map<Long, Long> countReCommentsByAncestorCommentIds(List<Long> ancestorCommentIds) {
+        List<Tuple> counts = jpaQueryFactory.select(diaryComment.ancestorCommentId, diaryComment.count())
+                .from(diaryComment)
+                .where(diaryComment.ancestorCommentId.in(ancestorCommentIds),
+                        diaryComment.isDeleted.eq(false))
+                .groupBy(diaryComment.ancestorCommentId)
+                .fetch();
+        return counts.stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(diaryComment.ancestorCommentId), tuple -> tuple.get(diaryComment.count())));
+    }
+
+    @Transactional
+    public void updateReplyCounts(List<Long> commentIds, Map<Long, Long> replyCounts) {
+        commentIds.stream()
+                .collect(Collectors.groupingBy(commentId -> replyCounts.getOrDefault(commentId, 0L)))
+                .forEach((replyCount, ids) -> jpaQueryFactory.update(diaryComment)
+                        .set(diaryComment.replyCount, replyCount.intValue())
+                        .where(diaryComment.id.in(ids))
+                        .execute());
+    }
+
+    public List<Long> findDiaryIdsByPetId(Long petId) {
+        return jpaQueryFactory.select(diary.id)
+                .from(diary)
+                .where(diary.pet.id.eq(petId))
+                .fetch();
+    }
+
+    public List<Long> findCommentIdsByDiaryIds(List<Long> diaryIds) {
+        return jpaQueryFactory.select(diaryComment.id)
+                .from(diaryComment)
+                .where(diaryComment.diary.id.in(diaryIds))
+                .fetch();
+    }
+
+    public List<Long> findLiveDiaryIds(List<Long> diaryIds) {
+        return jpaQueryFactory.select(diary.id)
+                .from(diary)
+                .where(diary.id.in(diaryIds),
+                        diary.isDeleted.eq(false))
+                .fetch();
+    }
+
+    public List<Long> findLiveCommentIds(List<Long> commentIds) {
+        return jpaQueryFactory.select(diaryComment.id)
+                .from(diaryComment)
+                .where(diaryComment.id.in(commentIds),
+                        diaryComment.isDeleted.eq(false),
+                        diaryComment.diary.isDeleted.eq(false))
+                .fetch();
+    }
+
+    public List<Long> findCommentIdsOfLiveDiaries(List<Long> commentIds) {
+        return jpaQueryFactory.select(diaryComment.id)
+                .from(diaryComment)
+                .where(diaryComment.id.in(commentIds),
+                        diaryComment.diary.isDeleted.eq(false))
+                .fetch();
+    }
+}
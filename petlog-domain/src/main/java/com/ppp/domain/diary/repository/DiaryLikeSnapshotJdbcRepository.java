@@ -0,0 +1,38 @@
+package com.ppp.domain.diary.repository;
+
+import com.ppp.domain.common.constant.Domain;
+import com.ppp.domain.diary.DiaryLikeSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Repository
+public class DiaryLikeSnapshotJdbcRepository {
+    private static final int BATCH_SIZE = 1000;
+    private static final String DELETE_IN_RANGE_SQL =
+            "delete from diary_like_snapshot where domain = ? and target_id > ? and target_id <= ?";
+    private static final String INSERT_SQL =
+            "insert into diary_like_snapshot (domain, target_id, user_id, created_at, modified_at) values (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // IDENTITY 키는 JPA 에서 배치 삽입이 되지 않으므로 JDBC 배치로 넣고, 구간 삭제와 한 트랜잭션으로 묶어 교체 중 빈 스냅샷이 보이지 않게 한다.
+    @Transactional
+    public void replaceInRange(Domain domain, long fromTargetId, long toTargetId, List<DiaryLikeSnapshot> snapshots) {
+        jdbcTemplate.update(DELETE_IN_RANGE_SQL, domain.name(), fromTargetId, toTargetId);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, snapshots, BATCH_SIZE, (statement, snapshot) -> {
+            statement.setString(1, snapshot.getDomain().name());
+            statement.setLong(2, snapshot.getTargetId());
+            statement.setString(3, snapshot.getUserId());
+            statement.setTimestamp(4, now);
+            statement.setTimestamp(5, now);
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.ppp.domain.diary.repository;
+
+import com.ppp.domain.common.constant.Domain;
+import com.ppp.domain.diary.DiaryLikeSnapshot;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface DiaryLikeSnapshotRepository extends JpaRepository<DiaryLikeSnapshot, Long> {
+    List<DiaryLikeSnapshot> findByDomainAndIdGreaterThanOrderByIdAsc(Domain domain, Long id, Pageable pageable);
+}
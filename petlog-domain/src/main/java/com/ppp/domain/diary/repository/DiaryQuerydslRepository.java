@@ -1,87 +1,164 @@
 package com.ppp.domain.diary.repository;
 
+import com.ppp.domain.diary.Diary;
 import com.ppp.domain.diary.dto.DiaryMediaDto;
 import com.ppp.domain.diary.dto.PetDiaryDto;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-import java.util.Set;
+import java.time.LocalDate;
+import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.ppp.domain.diary.QDiary.diary;
 import static com.ppp.domain.diary.QDiaryMedia.diaryMedia;
 import static com.ppp.domain.pet.QPetImage.petImage;
-import static com.querydsl.core.group.GroupBy.groupBy;
-import static com.querydsl.core.group.GroupBy.list;
-import static com.querydsl.core.types.Projections.constructor;
 
 @RequiredArgsConstructor
 @Repository
 public class DiaryQuerydslRepository {
     private final JPAQueryFactory jpaQueryFactory;
-    private final DiaryRepository diaryRepository;
 
-    private Long getRandomSelectedPetsDiaryOffset() {
-        int totalDiaryCount = diaryRepository.countByIsPublicTrueAndIsDeletedFalse();
-        return ThreadLocalRandom.current().nextLong(-1, totalDiaryCount) + 1;
+    public long getRandomPublicDiaryIdBound() {
+        Tuple idRange = jpaQueryFactory.select(diary.id.min(), diary.id.max())
+                .from(diary)
+                .fetchOne();
+        if (idRange == null || idRange.get(diary.id.max()) == null)
+            return 0L;
+        return ThreadLocalRandom.current().nextLong(idRange.get(diary.id.min()) - 1, idRange.get(diary.id.max()));
+    }
+
+    public List<Long> findRandomPublicDiaryIds(Set<Long> blockedPetIds, long lastDiaryId, int size) {
+        return findRandomPublicDiaryIds(blockedPetIds, lastDiaryId, lastDiaryId, size);
+    }
+
+    // 시작 위치 이후를 끝까지 읽은 뒤 가장 작은 아이디로 돌아가 시작 위치까지만 읽는다.
+    public List<Long> findRandomPublicDiaryIds(Set<Long> blockedPetIds, long startDiaryId, long lastDiaryId, int size) {
+        if (lastDiaryId < startDiaryId)
+            return findPublicDiaryIdsBetween(blockedPetIds, lastDiaryId, startDiaryId, size);
+        List<Long> diaryIds = new ArrayList<>(findPublicDiaryIdsBetween(blockedPetIds, lastDiaryId, Long.MAX_VALUE, size));
+        if (diaryIds.size() < size && startDiaryId > 0)
+            diaryIds.addAll(findPublicDiaryIdsBetween(blockedPetIds, 0L, startDiaryId, size - diaryIds.size()));
+        return diaryIds;
+    }
+
+    private List<Long> findPublicDiaryIdsBetween(Set<Long> blockedPetIds, long lastDiaryId, long untilDiaryId, int size) {
+        return jpaQueryFactory.select(diary.id)
+                .from(diary)
+                .where(diary.id.gt(lastDiaryId),
+                        diary.id.loe(untilDiaryId),
+                        petIdNotIn(blockedPetIds),
+                        diary.isPublic.eq(true),
+                        diary.isDeleted.eq(false))
+                .orderBy(diary.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    private BooleanExpression petIdNotIn(Set<Long> blockedPetIds) {
+        return blockedPetIds.isEmpty() ? null : diary.pet.id.notIn(blockedPetIds);
+    }
+
+    public List<PetDiaryDto> findPetsDiariesByIds(List<Long> diaryIds) {
+        if (diaryIds.isEmpty())
+            return new ArrayList<>();
+        Map<Long, Tuple> diaries = jpaQueryFactory.select(diary.id, diary.pet.id, diary.pet.name, diary.content, diary.title, diary.createdAt)
+                .from(diary)
+                .join(diary.pet)
+                .where(diary.id.in(diaryIds), diary.isPublic.eq(true), diary.isDeleted.eq(false))
+                .fetch().stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(diary.id), Function.identity()));
+        if (diaries.isEmpty())
+            return new ArrayList<>();
+        Map<Long, List<DiaryMediaDto>> diaryMedias = findDiaryMediasByDiaryIds(diaries.keySet());
+        Map<Long, String> petProfilePaths = findPetProfilePathsByPetIds(diaries.values().stream()
+                .map(tuple -> tuple.get(diary.pet.id))
+                .collect(Collectors.toSet()));
+        return diaryIds.stream()
+                .filter(diaries::containsKey)
+                .map(diaries::get)
+                .map(tuple -> new PetDiaryDto(tuple.get(diary.id), tuple.get(diary.pet.id), tuple.get(diary.pet.name),
+                        diaryMedias.getOrDefault(tuple.get(diary.id), new ArrayList<>()),
+                        petProfilePaths.get(tuple.get(diary.pet.id)),
+                        tuple.get(diary.content), tuple.get(diary.title), tuple.get(diary.createdAt)))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, List<DiaryMediaDto>> findDiaryMediasByDiaryIds(Set<Long> diaryIds) {
+        return jpaQueryFactory.select(diaryMedia.diary.id, diaryMedia.id, diaryMedia.type, diaryMedia.path)
+                .from(diaryMedia)
+                .where(diaryMedia.diary.id.in(diaryIds))
+                .orderBy(diaryMedia.id.asc())
+                .fetch().stream()
+                .collect(Collectors.groupingBy(tuple -> tuple.get(diaryMedia.diary.id),
+                        Collectors.mapping(tuple -> new DiaryMediaDto(tuple.get(diaryMedia.id), tuple.get(diaryMedia.type), tuple.get(diaryMedia.path)),
+                                Collectors.toList())));
+    }
+
+    private Map<Long, String> findPetProfilePathsByPetIds(Set<Long> petIds) {
+        Map<Long, String> petProfilePaths = new HashMap<>();
+        jpaQueryFactory.select(petImage.pet.id, petImage.url)
+                .from(petImage)
+                .where(petImage.pet.id.in(petIds))
+                .fetch()
+                .forEach(tuple -> petProfilePaths.put(tuple.get(petImage.pet.id), tuple.get(petImage.url)));
+        return petProfilePaths;
     }
 
     public List<PetDiaryDto> findRandomPetsDiaries(Pageable pageable) {
-        return jpaQueryFactory.from(diary)
-                .leftJoin(diary.diaryMedias, diaryMedia)
-                .leftJoin(petImage).on(petImage.pet.id.eq(diary.pet.id))
-                .where(diary.isPublic.eq(true), diary.isDeleted.eq(false))
-                .offset(getRandomSelectedPetsDiaryOffset())
-                .limit(pageable.getPageSize())
-                .fetchJoin()
-                .transform(
-                        groupBy(diary.id)
-                                .list(constructor(PetDiaryDto.class,
-                                        diary.id, diary.pet.id, diary.pet.name,
-                                        list(constructor(DiaryMediaDto.class, diaryMedia.id, diaryMedia.type, diaryMedia.path)),
-                                        petImage.url, diary.content, diary.title, diary.createdAt))
-                );
+        return findRandomPetsDiaries(Collections.emptySet(), pageable);
     }
 
     public List<PetDiaryDto> findRandomPetsDiaries(Set<Long> blockedPetIds, Pageable pageable) {
-        return jpaQueryFactory.from(diary)
-                .leftJoin(diary.diaryMedias, diaryMedia)
-                .leftJoin(petImage).on(petImage.pet.id.eq(diary.pet.id))
-                .where(diary.pet.id.notIn(blockedPetIds), diary.isPublic.eq(true), diary.isDeleted.eq(false))
-                .offset((long) Math.ceil(getRandomSelectedPetsDiaryOffset() * 0.75))
-                .limit(pageable.getPageSize())
-                .fetchJoin()
-                .transform(
-                        groupBy(diary.id)
-                                .list(constructor(PetDiaryDto.class,
-                                        diary.id, diary.pet.id, diary.pet.name,
-                                        list(constructor(DiaryMediaDto.class, diaryMedia.id, diaryMedia.type, diaryMedia.path)),
-                                        petImage.url, diary.content, diary.title, diary.createdAt))
-                );
+        return findPetsDiariesByIds(
+                findRandomPublicDiaryIds(blockedPetIds, getRandomPublicDiaryIdBound(), pageable.getPageSize()));
     }
 
-    public List<PetDiaryDto> findSubscribedPetsDiariesBySubscription(Set<Long> subscribedPetIds, Pageable pageable) {
-        return jpaQueryFactory
+    public List<Long> findPublicDiaryIdsByPetIdsBefore(Set<Long> petIds, long beforeDiaryId, int size) {
+        return jpaQueryFactory.select(diary.id)
                 .from(diary)
-                .leftJoin(diary.diaryMedias, diaryMedia)
-                .leftJoin(petImage).on(petImage.pet.id.eq(diary.pet.id))
-                .where(diary.pet.id.in(subscribedPetIds),
+                .where(diary.pet.id.in(petIds),
+                        diary.id.lt(beforeDiaryId),
                         diary.isPublic.eq(true),
                         diary.isDeleted.eq(false))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(diary.createdAt.desc())
-                .fetchJoin()
-                .transform(
-                        groupBy(diary.id)
-                                .list(constructor(PetDiaryDto.class,
-                                        diary.id, diary.pet.id, diary.pet.name,
-                                        list(constructor(DiaryMediaDto.class, diaryMedia.id, diaryMedia.type, diaryMedia.path)),
-                                        petImage.url, diary.content, diary.title, diary.createdAt))
-                );
+                .orderBy(diary.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    public List<Diary> findPetDiariesBefore(Long petId, Set<Boolean> isPublicFilter, LocalDate lastDate, Long lastDiaryId, int size) {
+        return jpaQueryFactory.selectFrom(diary)
+                .join(diary.user).fetchJoin()
+                .where(diary.pet.id.eq(petId),
+                        beforeDateAndId(lastDate, lastDiaryId),
+                        diary.isPublic.in(isPublicFilter),
+                        diary.isDeleted.eq(false))
+                .orderBy(diary.date.desc(), diary.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    private BooleanExpression beforeDateAndId(LocalDate lastDate, Long lastDiaryId) {
+        if (lastDate == null)
+            return null;
+        return diary.date.lt(lastDate)
+                .or(diary.date.eq(lastDate).and(diary.id.lt(lastDiaryId)));
+    }
+
+    public List<Long> findRecentPublicDiaryIds(int size) {
+        return jpaQueryFactory.select(diary.id)
+                .from(diary)
+                .where(diary.isPublic.eq(true),
+                        diary.isDeleted.eq(false))
+                .orderBy(diary.id.desc())
+                .limit(size)
+                .fetch();
     }
 
     public boolean hasNext(List<PetDiaryDto> contents, int pageSize) {
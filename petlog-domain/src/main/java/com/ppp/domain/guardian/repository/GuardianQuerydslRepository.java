@@ -1,6 +1,8 @@
 package com.ppp.domain.guardian.repository;
 
+import com.ppp.domain.guardian.constant.GuardianRole;
 import com.ppp.domain.guardian.dto.MyPetDto;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -8,6 +10,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.ppp.domain.guardian.QGuardian.guardian;
 import static com.ppp.domain.pet.QPet.pet;
@@ -70,6 +74,25 @@ public class GuardianQuerydslRepository {
                 .fetch();
     }
 
+    public List<Long> findPetIdsByUserId(String userId) {
+        return queryFactory
+                .select(guardian.pet.id)
+                .from(guardian)
+                .where(hasUserIdInGuardian(userId))
+                .fetch();
+    }
+
+    public Map<Long, GuardianRole> findGuardianRolesByUserId(String userId) {
+        List<Tuple> roles = queryFactory
+                .select(guardian.pet.id, guardian.guardianRole)
+                .from(guardian)
+                .where(hasUserIdInGuardian(userId))
+                .fetch();
+        return roles.stream()
+                .collect(Collectors.toMap(tuple -> tuple.get(guardian.pet.id), tuple -> tuple.get(guardian.guardianRole),
+                        (role, duplicatedRole) -> GuardianRole.LEADER.equals(role) ? role : duplicatedRole));
+    }
+
     private BooleanExpression hasUserIdInGuardian(String userId) {
         return guardian.user.id.eq(userId);
     }
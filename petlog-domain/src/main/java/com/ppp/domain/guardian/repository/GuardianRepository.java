@@ -4,6 +4,7 @@ import com.ppp.domain.guardian.Guardian;
 import com.ppp.domain.guardian.constant.GuardianRole;
 import com.ppp.domain.guardian.constant.RepStatus;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -17,6 +18,7 @@ public interface GuardianRepository extends JpaRepository<Guardian, Long> {
 
     boolean existsByPetIdAndGuardianRole(Long petId, GuardianRole guardianRole);
 
+    @EntityGraph(attributePaths = {"user"}, type = EntityGraph.EntityGraphType.FETCH)
     List<Guardian> findAllByPetIdOrderByCreatedAtDesc(Long petId);
 
     Optional<Guardian> findByUserIdAndPetId(String userId, Long petId);
@@ -26,5 +26,10 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, Long
 
     List<Subscription> findBySubscriberId(String userId);
 
+    @Query("select s.subscriber.id from Subscription s where s.pet.id = ?1 and s.status = 'ACTIVE'")
+    List<String> findActiveSubscriberIdsByPetId(Long petId);
+
+    long countByPetIdAndStatus(Long petId, Status status);
+
     Optional<Subscription> findBySubscriberIdAndPetId(String userId, Long petId);
 }
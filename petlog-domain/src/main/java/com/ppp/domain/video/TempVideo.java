@@ -1,5 +1,6 @@
 package com.ppp.domain.video;
 
+import com.ppp.domain.video.constant.TranscodeStatus;
 import jakarta.persistence.Column;
 import jakarta.persistence.Id;
 import lombok.Builder;
@@ -15,11 +16,51 @@ public class TempVideo {
     private String filePath;
     @Column
     private String userId;
+    @Column
+    private String sourcePath;
+    @Column
+    private TranscodeStatus status;
 
     @Builder
-    public TempVideo(String id, String filePath, String userId) {
+    public TempVideo(String id, String filePath, String userId, String sourcePath, TranscodeStatus status) {
         this.id = id;
         this.filePath = filePath;
         this.userId = userId;
+        this.sourcePath = sourcePath;
+        this.status = status;
+    }
+
+    // 변환 작업이 도입되기 전에 저장된 영상은 상태가 없으므로 변환이 끝난 것으로 본다.
+    public boolean isCompleted() {
+        return status == null || status == TranscodeStatus.COMPLETED;
+    }
+
+    public boolean isFailed() {
+        return status == TranscodeStatus.FAILED;
+    }
+
+    public boolean isPending() {
+        return status == TranscodeStatus.PENDING;
+    }
+
+    public boolean isProcessing() {
+        return status == TranscodeStatus.PROCESSING;
+    }
+
+    public void start() {
+        this.status = TranscodeStatus.PROCESSING;
+    }
+
+    public void retry() {
+        this.status = TranscodeStatus.PENDING;
+    }
+
+    public void complete(String filePath) {
+        this.filePath = filePath;
+        this.status = TranscodeStatus.COMPLETED;
+    }
+
+    public void fail() {
+        this.status = TranscodeStatus.FAILED;
     }
 }
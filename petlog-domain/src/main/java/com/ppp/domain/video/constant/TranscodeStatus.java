@@ -0,0 +1,8 @@
+package com.ppp.domain.video.constant;
+
+public enum TranscodeStatus {
+    PENDING,
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}